@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.internal.builder.conf;
+
+import java.io.File;
+
+/**
+ * A class for the compilation cache directory configuration. I.e., for the directory
+ * where Drools will keep the bytecode compiled out of the generated code, so that it can
+ * be reused by the following builds as long as neither the generated code nor the classes
+ * it depends on change. If this option is not set, all code is compiled at each build.
+ */
+public class CompilationCacheDirOption implements SingleValueKnowledgeBuilderOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property name for the drools compilation cache directory configuration
+     */
+    public static final String PROPERTY_NAME = "drools.compilationCache.dir";
+
+    /**
+     * directory reference
+     */
+    private final File dir;
+
+    /**
+     * Private constructor to enforce the use of the factory method
+     * @param dir directory to set
+     */
+    private CompilationCacheDirOption( File dir ) {
+        this.dir = dir;
+    }
+
+    /**
+     * This is a factory method for this CompilationCacheDirOption configuration.
+     *
+     * @param dir the directory in which drools will cache the compiled code
+     *
+     * @return the actual type safe compilation cache directory configuration.
+     */
+    public static CompilationCacheDirOption get( File dir ) {
+        return new CompilationCacheDirOption( dir );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    /**
+     * Returns the directory in which drools should cache the compiled code
+     *
+     * @return
+     */
+    public File getDirectory() {
+        return dir;
+    }
+
+    @Override
+    public String toString() {
+        return "CompilationCacheDirOption( directory="+((dir == null) ? "" : dir.toString())+" )";
+    }
+
+    @Override
+    public int hashCode() {
+        final int prime = 31;
+        int result = 1;
+        result = prime * result + ((dir == null) ? 0 : dir.hashCode());
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if ( this == obj ) { return true; }
+        if ( obj == null ) { return false; }
+        if ( getClass() != obj.getClass() ) { return false; }
+        CompilationCacheDirOption other = (CompilationCacheDirOption) obj;
+        if ( dir == null ) {
+            if ( other.dir != null ) { return false; }
+        } else if ( !dir.equals( other.dir ) ) {
+            return false;
+        }
+
+        return true;
+    }
+
+}
@@ -18,6 +18,7 @@ package org.kie.internal.event.rule;
 
 import java.util.EventListener;
 
+import org.kie.api.definition.rule.Rule;
 import org.kie.api.runtime.rule.Match;
 
 public interface RuleEventListener extends EventListener {
@@ -28,6 +29,9 @@ public interface RuleEventListener extends EventListener {
     default void onDeleteMatch(Match match) {}
     default void onUpdateMatch(Match match) {}
 
+    default void onBeforeRuleEvaluation(Rule rule) {}
+    default void onAfterRuleEvaluation(Rule rule) {}
+
 //    to add later
 //    void onAllFiring(Rule rule);
 //    void onAllFired(Rule rule);
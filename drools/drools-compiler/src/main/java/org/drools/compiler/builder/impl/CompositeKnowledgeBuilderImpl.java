@@ -20,7 +20,10 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.drools.compiler.lang.descr.CompositePackageDescr;
 import org.drools.compiler.lang.descr.PackageDescr;
@@ -30,6 +33,7 @@ import org.kie.api.io.ResourceType;
 import org.kie.api.io.ResourceWithConfiguration;
 import org.kie.internal.builder.ChangeType;
 import org.kie.internal.builder.CompositeKnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderResult;
 import org.kie.internal.builder.ResourceChange;
 import org.kie.internal.builder.ResourceChangeSet;
 import org.kie.internal.io.ResourceWithConfigurationImpl;
@@ -173,40 +177,87 @@ public class CompositeKnowledgeBuilderImpl implements CompositeKnowledgeBuilder
 
     private Collection<CompositePackageDescr> buildPackageDescr() {
         Map<String, CompositePackageDescr> packages = new HashMap<>();
-        buildResource(packages, ResourceType.DRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.GDRL,ResourceToPkgDescrMapper. DRL_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.RDRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.DESCR, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.DSLR, ResourceToPkgDescrMapper.DSLR_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.RDSLR, ResourceToPkgDescrMapper.DSLR_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.XDRL, ResourceToPkgDescrMapper.XML_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.DTABLE, ResourceToPkgDescrMapper.DTABLE_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.TDRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.TEMPLATE, ResourceToPkgDescrMapper.TEMPLATE_TO_PKG_DESCR);
-        buildResource(packages, ResourceType.GDST, ResourceToPkgDescrMapper.GUIDED_DTABLE_TO_PKG_DESCR);
+        buildResource(packages, ResourceType.DRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.GDRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.RDRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.DESCR, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.DSLR, ResourceToPkgDescrMapper.DSLR_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.RDSLR, ResourceToPkgDescrMapper.DSLR_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.XDRL, ResourceToPkgDescrMapper.XML_TO_PKG_DESCR, false);
+        buildResource(packages, ResourceType.DTABLE, ResourceToPkgDescrMapper.DTABLE_TO_PKG_DESCR, false);
+        buildResource(packages, ResourceType.TDRL, ResourceToPkgDescrMapper.DRL_TO_PKG_DESCR, true);
+        buildResource(packages, ResourceType.TEMPLATE, ResourceToPkgDescrMapper.TEMPLATE_TO_PKG_DESCR, false);
+        buildResource(packages, ResourceType.GDST, ResourceToPkgDescrMapper.GUIDED_DTABLE_TO_PKG_DESCR, false);
         this.resourcesByType.remove(ResourceType.DRT); // drt is a template for dtables but doesn't have to be built on its own
         return packages.values();
     }
 
-    private void buildResource(Map<String, CompositePackageDescr> packages, ResourceType resourceType, ResourceToPkgDescrMapper mapper) {
+    private void buildResource(Map<String, CompositePackageDescr> packages, ResourceType resourceType, ResourceToPkgDescrMapper mapper, boolean parallelizable) {
         List<ResourceDescr> resourcesByType = this.resourcesByType.remove(resourceType);
         if (resourcesByType != null) {
+            int threshold = kBuilder.getBuilderConfiguration().getParallelRulesBuildThreshold();
+            if (parallelizable && threshold != -1 && resourcesByType.size() > threshold) {
+                buildResourceInParallel(packages, resourcesByType, mapper);
+                return;
+            }
             for (ResourceDescr resourceDescr : resourcesByType) {
+                List<KnowledgeBuilderResult> results = new ArrayList<>();
                 try {
-                    registerPackageDescr(resourceDescr, packages, resourceDescr.resource, mapper.map(kBuilder, resourceDescr));
-                } catch (RuntimeException e) {
-                    if (buildException == null) {
-                        buildException = e;
-                    }
+                    registerPackageDescr(resourceDescr, packages, resourceDescr.resource, mapper.map(kBuilder, resourceDescr, results));
                 } catch (Exception e) {
-                    if (buildException == null) {
-                        buildException = new RuntimeException( e );
-                    }
+                    recordBuildException(e);
+                } finally {
+                    results.forEach(kBuilder::addBuilderResult);
                 }
             }
         }
     }
 
+    /**
+     * Parses the given resources concurrently, each one collecting its own errors, and then registers
+     * the parsed packages and reports the errors in the order of the resources, so that the outcome
+     * is the same of the sequential parsing
+     */
+    private void buildResourceInParallel(Map<String, CompositePackageDescr> packages, List<ResourceDescr> resourceDescrs, ResourceToPkgDescrMapper mapper) {
+        int size = resourceDescrs.size();
+        PackageDescr[] packageDescrs = new PackageDescr[size];
+        List<KnowledgeBuilderResult>[] results = new List[size];
+        Exception[] exceptions = new Exception[size];
+
+        ForkJoinPool pool = new ForkJoinPool(); // avoid common pool
+        try {
+            pool.submit(() ->
+                IntStream.range(0, size).parallel().forEach(i -> {
+                    results[i] = new ArrayList<>();
+                    try {
+                        packageDescrs[i] = mapper.map(kBuilder, resourceDescrs.get(i), results[i]);
+                    } catch (Exception e) {
+                        exceptions[i] = e;
+                    }
+                })
+            ).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Rules parsing failed or interrupted", e);
+        } finally {
+            pool.shutdown();
+        }
+
+        for (int i = 0; i < size; i++) {
+            results[i].forEach(kBuilder::addBuilderResult);
+            if (exceptions[i] != null) {
+                recordBuildException(exceptions[i]);
+            } else {
+                registerPackageDescr(resourceDescrs.get(i), packages, resourceDescrs.get(i).resource, packageDescrs[i]);
+            }
+        }
+    }
+
+    private void recordBuildException(Exception e) {
+        if (buildException == null) {
+            buildException = e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException( e );
+        }
+    }
+
     private void registerPackageDescr(ResourceDescr resourceDescr, Map<String, CompositePackageDescr> packages, Resource resource, PackageDescr packageDescr) {
         if (packageDescr != null) {
             CompositePackageDescr compositePackageDescr = packages.get(packageDescr.getNamespace());
@@ -311,13 +362,17 @@ public class CompositeKnowledgeBuilderImpl implements CompositeKnowledgeBuilder
 
     @FunctionalInterface
     private interface ResourceToPkgDescrMapper {
-        PackageDescr map(KnowledgeBuilderImpl kBuilder, ResourceDescr resourceDescr) throws Exception;
-
-        ResourceToPkgDescrMapper DRL_TO_PKG_DESCR = ( kBuilder, resourceDescr ) -> kBuilder.drlToPackageDescr(resourceDescr.resource);
-        ResourceToPkgDescrMapper TEMPLATE_TO_PKG_DESCR = ( kBuilder, resourceDescr ) -> kBuilder.templateToPackageDescr( resourceDescr.resource);
-        ResourceToPkgDescrMapper DSLR_TO_PKG_DESCR = ( kBuilder, resourceDescr ) -> kBuilder.dslrToPackageDescr(resourceDescr.resource);
-        ResourceToPkgDescrMapper XML_TO_PKG_DESCR = ( kBuilder, resourceDescr ) -> kBuilder.xmlToPackageDescr(resourceDescr.resource);
-        ResourceToPkgDescrMapper DTABLE_TO_PKG_DESCR = ( kBuilder, resourceDescr ) -> kBuilder.decisionTableToPackageDescr(resourceDescr.resource, resourceDescr.configuration);
-        ResourceToPkgDescrMapper GUIDED_DTABLE_TO_PKG_DESCR = ( kBuilder, resourceDescr ) -> kBuilder.guidedDecisionTableToPackageDescr(resourceDescr.resource);
+        /**
+         * Maps the given resource to its package, adding to the given results the errors found while parsing it
+         * instead of reporting them to the builder, as only the calling thread is allowed to do that
+         */
+        PackageDescr map(KnowledgeBuilderImpl kBuilder, ResourceDescr resourceDescr, List<KnowledgeBuilderResult> results) throws Exception;
+
+        ResourceToPkgDescrMapper DRL_TO_PKG_DESCR = ( kBuilder, resourceDescr, results ) -> kBuilder.drlToPackageDescr(resourceDescr.resource, results);
+        ResourceToPkgDescrMapper TEMPLATE_TO_PKG_DESCR = ( kBuilder, resourceDescr, results ) -> kBuilder.templateToPackageDescr( resourceDescr.resource);
+        ResourceToPkgDescrMapper DSLR_TO_PKG_DESCR = ( kBuilder, resourceDescr, results ) -> kBuilder.dslrToPackageDescr(resourceDescr.resource, results);
+        ResourceToPkgDescrMapper XML_TO_PKG_DESCR = ( kBuilder, resourceDescr, results ) -> kBuilder.xmlToPackageDescr(resourceDescr.resource);
+        ResourceToPkgDescrMapper DTABLE_TO_PKG_DESCR = ( kBuilder, resourceDescr, results ) -> kBuilder.decisionTableToPackageDescr(resourceDescr.resource, resourceDescr.configuration);
+        ResourceToPkgDescrMapper GUIDED_DTABLE_TO_PKG_DESCR = ( kBuilder, resourceDescr, results ) -> kBuilder.guidedDecisionTableToPackageDescr(resourceDescr.resource);
     }
 }
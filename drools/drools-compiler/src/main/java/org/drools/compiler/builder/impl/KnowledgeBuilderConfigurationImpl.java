@@ -53,6 +53,7 @@ import org.kie.internal.builder.KnowledgeBuilderConfiguration;
 import org.kie.internal.builder.ResultSeverity;
 import org.kie.internal.builder.conf.AccumulateFunctionOption;
 import org.kie.internal.builder.conf.ClassLoaderCacheOption;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
 import org.kie.internal.builder.conf.DefaultDialectOption;
 import org.kie.internal.builder.conf.DefaultPackageNameOption;
 import org.kie.internal.builder.conf.DumpDirOption;
@@ -83,6 +84,7 @@ import org.slf4j.LoggerFactory;
  * drools.accumulate.function.<function name> = <qualified class>
  * drools.evaluator.<ident> = <qualified class>
  * drools.dump.dir = <String>
+ * drools.compilationCache.dir = <String>
  * drools.classLoaderCacheEnabled = true|false
  * drools.parallelRulesBuildThreshold = <int>
  *
@@ -124,6 +126,8 @@ public class KnowledgeBuilderConfigurationImpl
 
     private File                              dumpDirectory;
 
+    private File                              compilationCacheDirectory;
+
     private boolean                           processStringEscapes    = true;
     private boolean                           classLoaderCache        = true;
     private boolean                           groupDRLsInKieBasesByFolder       = false;
@@ -234,6 +238,8 @@ public class KnowledgeBuilderConfigurationImpl
 
         buildDumpDirectory();
 
+        buildCompilationCacheDirectory();
+
         buildSeverityMap();
 
         setProperty(ProcessStringEscapesOption.PROPERTY_NAME,
@@ -280,6 +286,8 @@ public class KnowledgeBuilderConfigurationImpl
             this.evaluatorRegistry.addEvaluatorDefinition(value);
         } else if (name.equals(DumpDirOption.PROPERTY_NAME)) {
             buildDumpDirectory(value);
+        } else if (name.equals(CompilationCacheDirOption.PROPERTY_NAME)) {
+            buildCompilationCacheDirectory(value);
         } else if (name.equals(DefaultPackageNameOption.PROPERTY_NAME)) {
             setDefaultPackageName(value);
         } else if (name.equals(ProcessStringEscapesOption.PROPERTY_NAME)) {
@@ -333,6 +341,8 @@ public class KnowledgeBuilderConfigurationImpl
             return evalDef != null ? evalDef.getClass().getName() : null;
         } else if (name.equals(DumpDirOption.PROPERTY_NAME)) {
             return this.dumpDirectory != null ? this.dumpDirectory.toString() : null;
+        } else if (name.equals(CompilationCacheDirOption.PROPERTY_NAME)) {
+            return this.compilationCacheDirectory != null ? this.compilationCacheDirectory.toString() : null;
         } else if (name.equals(ProcessStringEscapesOption.PROPERTY_NAME)) {
             return String.valueOf(isProcessStringEscapes());
         } else if (name.equals(ClassLoaderCacheOption.PROPERTY_NAME)) {
@@ -636,6 +646,32 @@ public class KnowledgeBuilderConfigurationImpl
         this.dumpDirectory = dumpDir;
     }
 
+    private void buildCompilationCacheDirectory() {
+        String cacheStr = this.chainedProperties.getProperty(CompilationCacheDirOption.PROPERTY_NAME,
+                null);
+        buildCompilationCacheDirectory(cacheStr);
+    }
+
+    private void buildCompilationCacheDirectory(String cacheStr) {
+        if (cacheStr != null) {
+            setCompilationCacheDir(new File(cacheStr));
+        }
+    }
+
+    public File getCompilationCacheDir() {
+        return this.compilationCacheDirectory;
+    }
+
+    public void setCompilationCacheDir(File compilationCacheDir) {
+        if (compilationCacheDir != null) {
+            compilationCacheDir.mkdirs();
+            if (!compilationCacheDir.isDirectory() || !compilationCacheDir.canWrite() || !compilationCacheDir.canRead()) {
+                throw new RuntimeException("Drools compilation cache directory is not accessible: " + compilationCacheDir.toString());
+            }
+        }
+        this.compilationCacheDirectory = compilationCacheDir;
+    }
+
     public boolean isProcessStringEscapes() {
         return processStringEscapes;
     }
@@ -716,6 +752,8 @@ public class KnowledgeBuilderConfigurationImpl
             return (T) this.defaultDialect;
         } else if (DumpDirOption.class.equals(option)) {
             return (T) DumpDirOption.get(this.dumpDirectory);
+        } else if (CompilationCacheDirOption.class.equals(option)) {
+            return (T) CompilationCacheDirOption.get(this.compilationCacheDirectory);
         } else if (ProcessStringEscapesOption.class.equals(option)) {
             return (T) (this.processStringEscapes ? ProcessStringEscapesOption.YES : ProcessStringEscapesOption.NO);
         } else if (DefaultPackageNameOption.class.equals(option)) {
@@ -769,6 +807,8 @@ public class KnowledgeBuilderConfigurationImpl
                     ((AccumulateFunctionOption) option).getFunction());
         } else if (option instanceof DumpDirOption) {
             this.dumpDirectory = ((DumpDirOption) option).getDirectory();
+        } else if (option instanceof CompilationCacheDirOption) {
+            setCompilationCacheDir(((CompilationCacheDirOption) option).getDirectory());
         } else if (option instanceof EvaluatorOption) {
             this.evaluatorRegistry.addEvaluatorDefinition((EvaluatorDefinition) ((EvaluatorOption) option).getEvaluatorDefinition());
         } else if (option instanceof ProcessStringEscapesOption) {
@@ -530,6 +530,15 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
 
     PackageDescr drlToPackageDescr(Resource resource) throws DroolsParserException,
             IOException {
+        return drlToPackageDescr(resource, this.results);
+    }
+
+    /**
+     * Parses the given resource collecting the errors in the given results, so that
+     * it can be invoked concurrently for different resources
+     */
+    PackageDescr drlToPackageDescr(Resource resource, Collection<KnowledgeBuilderResult> results) throws DroolsParserException,
+            IOException {
         PackageDescr pkg;
         boolean hasErrors = false;
         if (resource instanceof DescrResource) {
@@ -537,9 +546,9 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
         } else {
             final DrlParser parser = new DrlParser(configuration.getLanguageLevel());
             pkg = parser.parse(resource);
-            this.results.addAll(parser.getErrors());
+            results.addAll(parser.getErrors());
             if (pkg == null) {
-                addBuilderResult(new ParserError(resource, "Parser returned a null Package", 0, 0));
+                results.add(new ParserError(resource, "Parser returned a null Package", 0, 0));
             }
             hasErrors = parser.hasErrors();
         }
@@ -631,10 +640,23 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
 
     PackageDescr dslrToPackageDescr(Resource resource) throws DroolsParserException,
             IOException {
-        return dslrReaderToPackageDescr(resource, resource.getReader());
+        return dslrToPackageDescr(resource, this.results);
+    }
+
+    /**
+     * Expands and parses the given resource collecting the errors in the given results, so that
+     * it can be invoked concurrently for different resources
+     */
+    PackageDescr dslrToPackageDescr(Resource resource, Collection<KnowledgeBuilderResult> results) throws DroolsParserException,
+            IOException {
+        return dslrReaderToPackageDescr(resource, resource.getReader(), results);
     }
 
     private PackageDescr dslrReaderToPackageDescr(Resource resource, Reader dslrReader) throws DroolsParserException {
+        return dslrReaderToPackageDescr(resource, dslrReader, this.results);
+    }
+
+    private PackageDescr dslrReaderToPackageDescr(Resource resource, Reader dslrReader, Collection<KnowledgeBuilderResult> results) throws DroolsParserException {
         boolean hasErrors;
         PackageDescr pkg;
 
@@ -649,12 +671,12 @@ public class KnowledgeBuilderImpl implements KnowledgeBuilder,
             if (expander.hasErrors()) {
                 for (ExpanderException error : expander.getErrors()) {
                     error.setResource(resource);
-                    addBuilderResult(error);
+                    results.add(error);
                 }
             }
 
             pkg = parser.parse(resource, str);
-            this.results.addAll(parser.getErrors());
+            results.addAll(parser.getErrors());
             hasErrors = parser.hasErrors();
         } catch (IOException e) {
             throw new RuntimeException(e);
@@ -37,7 +37,7 @@ public interface InternalKieModuleProvider {
 
         @Override
         public InternalKieModule createKieModule( ReleaseId releaseId, KieModuleModel kieProject, File file ) {
-            return file.isDirectory() ? new FileKieModule( releaseId, kieProject, file ) : new ZipKieModule( releaseId, kieProject, file );
+            return file.isDirectory() ? new FileKieModule( releaseId, kieProject, file ) : ZipKieModule.create( releaseId, kieProject, file );
         }
 
         @Override
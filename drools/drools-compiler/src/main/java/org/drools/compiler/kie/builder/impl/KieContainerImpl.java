@@ -39,7 +39,7 @@ import org.drools.compiler.kproject.models.KieBaseModelImpl;
 import org.drools.compiler.kproject.models.KieSessionModelImpl;
 import org.drools.compiler.management.KieContainerMonitor;
 import org.drools.compiler.reteoo.compiled.ObjectTypeNodeCompiler;
-import org.drools.core.InitialFact;
+import org.drools.compiler.reteoo.compiled.PrecompiledAlphaNetworks;
 import org.drools.core.SessionConfiguration;
 import org.drools.core.SessionConfigurationImpl;
 import org.drools.core.impl.InternalKieContainer;
@@ -51,6 +51,7 @@ import org.drools.core.impl.StatefulSessionPool;
 import org.drools.core.impl.StatelessKnowledgeSessionImpl;
 import org.drools.core.management.DroolsManagementAgent;
 import org.drools.core.management.DroolsManagementAgent.CBSKey;
+import org.drools.core.reteoo.ObjectTypeNode;
 import org.drools.reflective.classloader.ProjectClassLoader;
 import org.kie.api.KieBase;
 import org.kie.api.KieBaseConfiguration;
@@ -268,7 +269,10 @@ public class KieContainerImpl
         }
 
         for (String kbaseToRemove : kbasesToRemove) {
-            kBases.remove(kbaseToRemove);
+            KieBase removedKBase = kBases.remove(kbaseToRemove);
+            if (removedKBase != null) {
+                ((InternalKnowledgeBase) removedKBase).shutdownOneShotSessionsPools();
+            }
         }
 
         // remove sessions that no longer exist
@@ -422,11 +426,12 @@ public class KieContainerImpl
         final String configurationProperty = kBaseModel.getKModule().getConfigurationProperty(ALPHA_NETWORK_COMPILER_OPTION);
         final Boolean isAlphaNetworkEnabled = Boolean.valueOf(configurationProperty);
         if (isAlphaNetworkEnabled) {
-            KnowledgeBuilder kbuilder = kModule.getKnowledgeBuilderForKieBase(kBaseModel.getName());
-            kBase.getRete().getEntryPointNodes().values().stream()
-                    .flatMap(ep -> ep.getObjectTypeNodes().values().stream())
-                    .filter(f -> !InitialFact.class.isAssignableFrom(f.getObjectType().getClassType()))
-                    .forEach(otn -> otn.setCompiledNetwork(ObjectTypeNodeCompiler.compile(((KnowledgeBuilderImpl) kbuilder), otn)));
+            // the networks compiled together with the kjar are wired as they are, only the other ones are compiled here
+            Collection<ObjectTypeNode> notPrecompiled = PrecompiledAlphaNetworks.wire(kBase, kModule, kBaseModel.getName());
+            if (!notPrecompiled.isEmpty()) {
+                KnowledgeBuilder kbuilder = kModule.getKnowledgeBuilderForKieBase(kBaseModel.getName());
+                notPrecompiled.forEach(otn -> otn.setCompiledNetwork(ObjectTypeNodeCompiler.compile(((KnowledgeBuilderImpl) kbuilder), otn)));
+            }
         }
     }
 
@@ -671,7 +676,10 @@ public class KieContainerImpl
 
     public void dispose() {
         sessionConfsCache.clear();
-        kBases.values().forEach( kb -> ( (InternalKnowledgeBase) kb ).setKieContainer( null ) );
+        kBases.values().forEach( kb -> {
+            ( (InternalKnowledgeBase) kb ).setKieContainer( null );
+            ( (InternalKnowledgeBase) kb ).shutdownOneShotSessionsPools();
+        } );
 
         Set<DroolsManagementAgent.CBSKey> cbskeys = new HashSet<DroolsManagementAgent.CBSKey>();
         if ( isMBeanOptionEnabled() ) {
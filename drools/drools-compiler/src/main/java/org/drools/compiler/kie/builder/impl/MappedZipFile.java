@@ -0,0 +1,252 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.kie.builder.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * A jar file mapped in memory, whose entries are indexed from its central directory and inflated only when requested.
+ *
+ * The same file, as long as it isn't modified, is mapped only once and shared by all the kie modules reading it, that
+ * also share the bytecode of its classes, which is then retained by this file instead of being copied by each of them.
+ * The other entries are never retained and are read from the mapping, that lives outside of the heap, at each request.
+ * Since the mapping reflects any later change of the file, each read first checks that the file still has the
+ * modification time and length it had when mapped, and fails with an {@link IllegalStateException} otherwise.
+ */
+class MappedZipFile {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+
+    private static final int STORED = 0;
+    private static final int DEFLATED = 8;
+
+    private static final Map<String, WeakReference<MappedZipFile>> mappedFiles = new ConcurrentHashMap<>();
+
+    private final File file;
+    private final long lastModified;
+    private final long length;
+    private final ByteBuffer buffer;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+    private final List<String> fileNames = new ArrayList<>();
+    private final Map<String, byte[]> folders = new HashMap<>();
+
+    private final Map<String, byte[]> classes = new ConcurrentHashMap<>();
+
+    private MappedZipFile(File file, long lastModified, long length) throws IOException {
+        this.file = file;
+        this.lastModified = lastModified;
+        this.length = length;
+        if (length > Integer.MAX_VALUE) {
+            throw new ZipException("Unable to map a file larger than 2GB: " + file);
+        }
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            this.buffer = mapped.order(ByteOrder.LITTLE_ENDIAN);
+        }
+        indexEntries();
+    }
+
+    static MappedZipFile get(File file) throws IOException {
+        long lastModified = file.lastModified();
+        long length = file.length();
+        String key = file.getCanonicalPath() + ":" + lastModified + ":" + length;
+        WeakReference<MappedZipFile> ref = mappedFiles.get(key);
+        MappedZipFile mappedFile = ref != null ? ref.get() : null;
+        if (mappedFile == null) {
+            synchronized (mappedFiles) {
+                ref = mappedFiles.get(key);
+                mappedFile = ref != null ? ref.get() : null;
+                if (mappedFile == null) {
+                    mappedFiles.values().removeIf(r -> r.get() == null);
+                    mappedFile = new MappedZipFile(file, lastModified, length);
+                    mappedFiles.put(key, new WeakReference<>(mappedFile));
+                }
+            }
+        }
+        return mappedFile;
+    }
+
+    boolean isAvailable(String name) {
+        return entries.containsKey(name) || folders.containsKey(name);
+    }
+
+    List<String> getFileNames() {
+        return fileNames;
+    }
+
+    byte[] getBytes(String name) {
+        byte[] folder = folders.get(name);
+        if (folder != null) {
+            return folder;
+        }
+        Entry entry = entries.get(name);
+        if (entry == null) {
+            return null;
+        }
+        return name.endsWith(".class") ? classes.computeIfAbsent(name, n -> read(entry)) : read(entry);
+    }
+
+    private void indexEntries() throws IOException {
+        int endOfCentralDirectory = findEndOfCentralDirectory();
+        int entriesCount = buffer.getShort(endOfCentralDirectory + 10) & 0xFFFF;
+        int offset = buffer.getInt(endOfCentralDirectory + 16);
+        if (entriesCount == 0xFFFF || offset == -1) {
+            throw new ZipException("Zip64 archives are not supported");
+        }
+
+        Map<String, List<String>> folderChildren = new HashMap<>();
+        for (int i = 0; i < entriesCount; i++) {
+            if (buffer.getInt(offset) != CENTRAL_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory header at " + offset);
+            }
+            int method = buffer.getShort(offset + 10) & 0xFFFF;
+            int compressedSize = buffer.getInt(offset + 20);
+            int size = buffer.getInt(offset + 24);
+            int nameLength = buffer.getShort(offset + 28) & 0xFFFF;
+            int extraLength = buffer.getShort(offset + 30) & 0xFFFF;
+            int commentLength = buffer.getShort(offset + 32) & 0xFFFF;
+            int localHeaderOffset = buffer.getInt(offset + 42);
+            String entryName = readName(offset + CENTRAL_HEADER_SIZE, nameLength);
+            offset += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+            if (entryName.endsWith(".dex")) {
+                continue; //avoid out of memory error, it is useless anyway
+            }
+            if (entryName.endsWith("/")) {
+                entryName = entryName.substring(0, entryName.length() - 1);
+            } else {
+                if (compressedSize == -1 || size == -1 || localHeaderOffset == -1) {
+                    throw new ZipException("Zip64 archives are not supported");
+                }
+                entries.put(entryName, new Entry(method, compressedSize, size, localHeaderOffset));
+                fileNames.add(entryName);
+            }
+            int lastSlashPos = entryName.lastIndexOf('/');
+            String folderName = lastSlashPos < 0 ? "" : entryName.substring(0, lastSlashPos);
+            folderChildren.computeIfAbsent(folderName, f -> new ArrayList<>())
+                    .add(lastSlashPos < 0 ? entryName : entryName.substring(lastSlashPos + 1));
+        }
+
+        for (Map.Entry<String, List<String>> folder : folderChildren.entrySet()) {
+            StringBuilder sb = new StringBuilder();
+            for (String child : folder.getValue()) {
+                sb.append(child).append("\n");
+            }
+            folders.put(folder.getKey(), sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private int findEndOfCentralDirectory() throws ZipException {
+        // the record is followed only by a comment of at most 64K
+        int minPosition = Math.max(0, buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE - 0xFFFF);
+        for (int position = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= minPosition; position--) {
+            if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new ZipException("End of central directory not found");
+    }
+
+    private String readName(int position, int length) {
+        byte[] name = new byte[length];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(position);
+        slice.get(name);
+        return new String(name, StandardCharsets.UTF_8);
+    }
+
+    private byte[] read(Entry entry) {
+        if (file.lastModified() != lastModified || file.length() != length) {
+            throw new IllegalStateException("The file " + file + " has been modified after being mapped in memory");
+        }
+        // the buffer is shared among threads, so its position is never moved
+        ByteBuffer data = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int header = entry.localHeaderOffset;
+        if (data.getInt(header) != LOCAL_HEADER_SIGNATURE) {
+            throw new RuntimeException("Invalid local header at " + header);
+        }
+        int dataStart = header + LOCAL_HEADER_SIZE + (data.getShort(header + 26) & 0xFFFF) + (data.getShort(header + 28) & 0xFFFF);
+        data.position(dataStart);
+
+        byte[] bytes = new byte[entry.size];
+        if (entry.method == STORED) {
+            data.get(bytes);
+            return bytes;
+        }
+        if (entry.method != DEFLATED) {
+            throw new RuntimeException("Unsupported compression method " + entry.method);
+        }
+
+        // an extra dummy byte is required by the inflater when the zlib header and checksum are omitted
+        byte[] compressed = new byte[entry.compressedSize + 1];
+        data.get(compressed, 0, entry.compressedSize);
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < bytes.length) {
+                int count = inflater.inflate(bytes, inflated, bytes.length - inflated);
+                if (count == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new ZipException("Truncated entry");
+                }
+                inflated += count;
+            }
+            return bytes;
+        } catch (DataFormatException | ZipException e) {
+            throw new RuntimeException("Unable to inflate entry at " + header, e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static class Entry {
+        private final int method;
+        private final int compressedSize;
+        private final int size;
+        private final int localHeaderOffset;
+
+        private Entry(int method, int compressedSize, int size, int localHeaderOffset) {
+            this.method = method;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+    }
+}
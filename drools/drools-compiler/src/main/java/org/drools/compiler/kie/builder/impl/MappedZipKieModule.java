@@ -0,0 +1,81 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.kie.builder.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+
+/**
+ * A kie module reading the entries of its jar from a memory mapping of it, shared with all the other kie modules of
+ * the same jar, instead of holding a copy of all of them.
+ */
+public class MappedZipKieModule extends ZipKieModule {
+
+    /**
+     * Whether the kjars are mapped in memory instead of being copied on the heap. A mapped jar must not be modified
+     * while any kie module reading it is still in use: the entries not read yet, and the resources other than classes,
+     * are read from the mapping at each request, which fails as soon as the file is found to be changed.
+     */
+    static final boolean ENABLED = Boolean.parseBoolean( System.getProperty( "drools.kjar.memoryMapped", "false" ) );
+
+    private transient MappedZipFile zipFile;
+
+    public MappedZipKieModule() { }
+
+    public MappedZipKieModule(ReleaseId releaseId,
+                              KieModuleModel kieProject,
+                              File file) throws IOException {
+        super( releaseId, kieProject, file, false );
+        this.zipFile = MappedZipFile.get( file );
+    }
+
+    private MappedZipFile getZipFile() {
+        if (zipFile == null) {
+            // this module has been deserialized
+            try {
+                zipFile = MappedZipFile.get( getFile() );
+            } catch (IOException e) {
+                throw new RuntimeException( "Unable to map in memory " + getFile(), e );
+            }
+        }
+        return zipFile;
+    }
+
+    @Override
+    public boolean isAvailable(String name) {
+        return getZipFile().isAvailable( name );
+    }
+
+    @Override
+    public byte[] getBytes(String name) {
+        return getZipFile().getBytes( name );
+    }
+
+    @Override
+    public Collection<String> getFileNames() {
+        return getZipFile().getFileNames();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedZipKieModule[releaseId=" + getReleaseId() + ",file=" + getFile() + "]";
+    }
+}
@@ -32,8 +32,13 @@ import java.util.zip.ZipFile;
 
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.builder.model.KieModuleModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class ZipKieModule extends AbstractKieModule implements InternalKieModule, Serializable {
+
+    private static final Logger log = LoggerFactory.getLogger(ZipKieModule.class);
+
     private File file;
     private Map<String, byte[]> zipEntries;
     private List<String> fileNames;
@@ -43,9 +48,34 @@ public class ZipKieModule extends AbstractKieModule implements InternalKieModule
     public ZipKieModule(ReleaseId releaseId,
                         KieModuleModel kieProject,
                         File file) {
+        this( releaseId, kieProject, file, true );
+    }
+
+    protected ZipKieModule(ReleaseId releaseId,
+                           KieModuleModel kieProject,
+                           File file,
+                           boolean index) {
         super(releaseId, kieProject );
         this.file = file;
-        indexZipFile( file );
+        if (index) {
+            indexZipFile( file );
+        }
+    }
+
+    /**
+     * Creates the kie module of the given jar, mapping it in memory when enabled by the drools.kjar.memoryMapped property
+     */
+    public static ZipKieModule create(ReleaseId releaseId,
+                                      KieModuleModel kieProject,
+                                      File file) {
+        if (MappedZipKieModule.ENABLED) {
+            try {
+                return new MappedZipKieModule( releaseId, kieProject, file );
+            } catch (IOException e) {
+                log.debug( "Unable to map " + file + " in memory, reading all its entries", e );
+            }
+        }
+        return new ZipKieModule( releaseId, kieProject, file );
     }
 
     @Override
@@ -52,12 +52,16 @@ import org.slf4j.LoggerFactory;
 public class ObjectTypeNodeCompiler {
     private static final String NEWLINE = "\n";
     private static final String PACKAGE_NAME = "org.drools.core.reteoo.compiled";
-    private static final String BINARY_PACKAGE_NAME = PACKAGE_NAME.replace('.', '/');
     /**
      * This field hold the fully qualified class name that the {@link ObjectTypeNode} is representing.
      */
     private String className;
 
+    /**
+     * This field will hold the package of the generated class
+     */
+    private String packageName;
+
     /**
      * This field will hold the "simple" name of the generated class
      */
@@ -74,25 +78,35 @@ public class ObjectTypeNodeCompiler {
 
 
     private ObjectTypeNodeCompiler(ObjectTypeNode objectTypeNode) {
+        this(objectTypeNode, PACKAGE_NAME, UUID.randomUUID().toString().replace("-", ""));
+    }
+
+    private ObjectTypeNodeCompiler(ObjectTypeNode objectTypeNode, String packageName, String suffix) {
         this.objectTypeNode = objectTypeNode;
+        this.packageName = packageName;
 
         ClassObjectType classObjectType = (ClassObjectType) objectTypeNode.getObjectType();
         this.className = classObjectType.getClassName().replace("$", ".");
         final String classObjectTypeName = classObjectType.getClassName().replace('.', '_');
-        final String randomId = UUID.randomUUID().toString().replace("-", "");
         generatedClassSimpleName = String.format("Compiled%sNetwork%d%s"
                 , classObjectTypeName
                 , objectTypeNode.getId()
-                , randomId);
+                , suffix);
     }
 
     public static class SourceGenerated {
         public final String source;
         public final IndexableConstraint indexableConstraint;
+        public final String className;
 
         public SourceGenerated(String source, IndexableConstraint indexableConstraint) {
+            this(source, indexableConstraint, null);
+        }
+
+        public SourceGenerated(String source, IndexableConstraint indexableConstraint, String className) {
             this.source = source;
             this.indexableConstraint = indexableConstraint;
+            this.className = className;
         }
     }
 
@@ -127,14 +141,14 @@ public class ObjectTypeNodeCompiler {
         // end of class
         builder.append("}").append(NEWLINE);
 
-        return new SourceGenerated(builder.toString(), parser.getIndexableConstraint());
+        return new SourceGenerated(builder.toString(), parser.getIndexableConstraint(), getName());
     }
 
     /**
      * This method will output the package statement, followed by the opening of the class declaration
      */
     private void createClassDeclaration() {
-        builder.append("package ").append(PACKAGE_NAME).append(";").append(NEWLINE);
+        builder.append("package ").append(packageName).append(";").append(NEWLINE);
         builder.append("public class ").append(generatedClassSimpleName).append(" extends ").
                 append(CompiledNetwork.class.getName()).append("{ ").append(NEWLINE);
 
@@ -205,7 +219,7 @@ public class ObjectTypeNodeCompiler {
      * @return binary name of generated class
      */
     private String getBinaryName() {
-        return BINARY_PACKAGE_NAME + "/" + generatedClassSimpleName + ".class";
+        return packageName.replace('.', '/') + "/" + generatedClassSimpleName + ".class";
     }
 
     /**
@@ -214,11 +228,11 @@ public class ObjectTypeNodeCompiler {
      * @return binary name of generated class
      */
     private String getSourceName() {
-        return BINARY_PACKAGE_NAME + "/" + generatedClassSimpleName + ".java";
+        return packageName.replace('.', '/') + "/" + generatedClassSimpleName + ".java";
     }
 
     private String getPackageName() {
-        return PACKAGE_NAME;
+        return packageName;
     }
 
     private static final JavaCompiler JAVA_COMPILER = JavaCompilerFactory.getInstance().loadCompiler(JavaDialectConfiguration.CompilerType.NATIVE, "1.8");
@@ -265,15 +279,31 @@ public class ObjectTypeNodeCompiler {
 
         rootClassLoader.defineClass(compiler.getName(), trg.getBytes(compiler.getBinaryName()));
 
-        CompiledNetwork network;
         try {
-            final Class<?> aClass = Class.forName(compiler.getName(), true, rootClassLoader);
-            final IndexableConstraint indexableConstraint = source.indexableConstraint;
-            network = (CompiledNetwork) aClass.getConstructor(InternalReadAccessor.class).newInstance(indexableConstraint != null ? indexableConstraint.getFieldExtractor(): null);
+            return newCompiledNetwork(Class.forName(compiler.getName(), true, rootClassLoader), source);
         } catch (Exception e) {
             throw new RuntimeException("This is a bug. Please contact the development team", e);
         }
+    }
 
-        return network;
+    /**
+     * Generates the source of the {@link CompiledNetwork} for the specified {@link ObjectTypeNode} without compiling it,
+     * so that it can be compiled ahead of time together with the rest of a kjar.
+     *
+     * @param objectTypeNode OTN we are generating a compiled network for
+     * @param packageName    package of the generated class
+     * @param suffix         suffix of the simple name of the generated class, making it unique in its package
+     * @return the generated source, along with the name of its class
+     */
+    public static SourceGenerated generateSource(ObjectTypeNode objectTypeNode, String packageName, String suffix) {
+        return new ObjectTypeNodeCompiler(objectTypeNode, packageName, suffix).generateSource();
+    }
+
+    /**
+     * Instantiates a {@link CompiledNetwork} out of the class compiled from the given source
+     */
+    public static CompiledNetwork newCompiledNetwork(Class<?> networkClass, SourceGenerated source) throws ReflectiveOperationException {
+        final IndexableConstraint indexableConstraint = source.indexableConstraint;
+        return (CompiledNetwork) networkClass.getConstructor(InternalReadAccessor.class).newInstance(indexableConstraint != null ? indexableConstraint.getFieldExtractor(): null);
     }
 }
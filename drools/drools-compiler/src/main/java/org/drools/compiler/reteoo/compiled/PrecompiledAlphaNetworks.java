@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.reteoo.compiled;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.compiler.reteoo.compiled.ObjectTypeNodeCompiler.SourceGenerated;
+import org.drools.core.InitialFact;
+import org.drools.core.base.ClassObjectType;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates the sources of the compiled alpha networks of a kie base while building its kjar, and wires the classes
+ * compiled out of them into the same kie base at runtime, without generating or compiling any class.
+ *
+ * The networks of a kie base are listed in a resource of the kjar, mapping each {@link ObjectTypeNode} to the name
+ * of the class of its network and to the hash of its source. At runtime the source is generated again out of the
+ * {@link ObjectTypeNode}, which is cheap compared to its compilation, and the precompiled class is used only when
+ * the two hashes match, that is when the network has been built exactly in the same way at build time.
+ */
+public class PrecompiledAlphaNetworks {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledAlphaNetworks.class);
+
+    private static final String REGISTRY_FOLDER = "META-INF/alpha-networks/";
+
+    private PrecompiledAlphaNetworks() {
+        // only static methods
+    }
+
+    /**
+     * Returns the path of the resource listing the precompiled networks of the given kie base
+     */
+    public static String getRegistryPath(String kBaseName) {
+        return REGISTRY_FOLDER + kBaseName + ".properties";
+    }
+
+    /**
+     * Returns the object type nodes of the given kie base that can have a compiled network
+     */
+    public static List<ObjectTypeNode> getCompilableObjectTypeNodes(InternalKnowledgeBase kBase) {
+        return kBase.getRete().getEntryPointNodes().values().stream()
+                .flatMap(ep -> ep.getObjectTypeNodes().values().stream())
+                .filter(otn -> otn.getObjectType() instanceof ClassObjectType)
+                .filter(otn -> !InitialFact.class.isAssignableFrom(otn.getObjectType().getClassType()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Generates the sources of the compiled networks of the given kie base.
+     *
+     * @param kBaseName   name of the kie base, making the generated classes unique in the kjar
+     * @param kBase       kie base built out of the kjar
+     * @param packageName package of the generated classes
+     * @param sources     receives the generated sources, by the path of their file
+     * @return the content of the resource listing the generated networks, to be stored at {@link #getRegistryPath(String)}
+     */
+    public static String generateSources(String kBaseName, InternalKnowledgeBase kBase, String packageName, Map<String, String> sources) {
+        Properties registry = new Properties();
+        for (ObjectTypeNode otn : getCompilableObjectTypeNodes(kBase)) {
+            SourceGenerated source = ObjectTypeNodeCompiler.generateSource(otn, packageName, getSuffix(kBaseName));
+            sources.put(source.className.replace('.', '/') + ".java", source.source);
+            registry.setProperty(getKey(otn), source.className + "," + hash(source.source));
+        }
+        StringWriter writer = new StringWriter();
+        try {
+            registry.store(writer, "Compiled alpha networks of the kie base " + kBaseName);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Wires into the given kie base the networks that have been compiled with its kjar.
+     *
+     * @return the object type nodes that are left without a compiled network, either because their network hasn't been
+     * generated at build time or because it is no longer the same
+     */
+    public static Collection<ObjectTypeNode> wire(InternalKnowledgeBase kBase, InternalKieModule kModule, String kBaseName) {
+        List<ObjectTypeNode> otns = getCompilableObjectTypeNodes(kBase);
+        String registryPath = getRegistryPath(kBaseName);
+        if (!kModule.isAvailable(registryPath)) {
+            return otns;
+        }
+
+        Properties registry = new Properties();
+        try {
+            registry.load(new ByteArrayInputStream(kModule.getBytes(registryPath)));
+        } catch (IOException e) {
+            logger.warn("Unable to read the compiled alpha networks of the kie base " + kBaseName, e);
+            return otns;
+        }
+
+        List<ObjectTypeNode> notWired = new ArrayList<>();
+        for (ObjectTypeNode otn : otns) {
+            if (!wire(kBase, kBaseName, otn, registry.getProperty(getKey(otn)))) {
+                notWired.add(otn);
+            }
+        }
+        return notWired;
+    }
+
+    private static boolean wire(InternalKnowledgeBase kBase, String kBaseName, ObjectTypeNode otn, String entry) {
+        if (entry == null) {
+            return false;
+        }
+        int separator = entry.lastIndexOf(',');
+        String className = entry.substring(0, separator);
+
+        SourceGenerated source = ObjectTypeNodeCompiler.generateSource(otn, className.substring(0, className.lastIndexOf('.')), getSuffix(kBaseName));
+        if (!source.className.equals(className) || !hash(source.source).equals(entry.substring(separator + 1))) {
+            logger.debug("The compiled alpha network " + className + " doesn't match the current network of " + otn);
+            return false;
+        }
+        try {
+            otn.setCompiledNetwork(ObjectTypeNodeCompiler.newCompiledNetwork(Class.forName(className, true, kBase.getRootClassLoader()), source));
+            return true;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            logger.warn("Unable to load the compiled alpha network " + className, e);
+            return false;
+        }
+    }
+
+    private static String getKey(ObjectTypeNode otn) {
+        return otn.getEntryPoint().getEntryPointId() + "/" + ((ClassObjectType) otn.getObjectType()).getClassName() + "#" + otn.getId();
+    }
+
+    private static String getSuffix(String kBaseName) {
+        return "_" + toIdentifier(kBaseName);
+    }
+
+    /**
+     * Replaces with an underscore all the characters of the given name that are not allowed in a java identifier,
+     * prefixing it with an underscore when it doesn't start with a character allowed at the beginning of an identifier
+     */
+    public static String toIdentifier(String name) {
+        StringBuilder identifier = new StringBuilder(name.length() + 1);
+        if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0))) {
+            identifier.append('_');
+        }
+        for (char c : name.toCharArray()) {
+            identifier.append(Character.isJavaIdentifierPart(c) ? c : '_');
+        }
+        return identifier.toString();
+    }
+
+    private static String hash(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -44,7 +44,10 @@ import org.drools.compiler.rule.builder.dialect.java.parser.JavaLocalDeclaration
 import org.drools.compiler.rule.builder.dialect.mvel.MVELExprAnalyzer;
 import org.drools.compiler.rule.builder.util.AccumulateUtil;
 import org.drools.compiler.rule.builder.util.PackageBuilderUtil;
+import org.drools.core.base.accumulators.DoubleAccumulateFunction;
+import org.drools.core.base.accumulators.IntAccumulateFunction;
 import org.drools.core.base.accumulators.JavaAccumulatorFunctionExecutor;
+import org.drools.core.base.accumulators.LongAccumulateFunction;
 import org.drools.core.base.extractors.ArrayElementReader;
 import org.drools.core.base.extractors.SelfReferenceClassFieldReader;
 import org.drools.core.reteoo.RuleTerminalNode;
@@ -161,7 +164,7 @@ public class JavaAccumulateBuilder
                 }
 
                 bindReaderToDeclaration(context, accumDescr, pattern, fc, new ArrayElementReader(reader, index, function.getResultType()), function.getResultType(), index);
-                accumulators[index++] = buildAccumulator(context, accumDescr, declsInScope, declCls, readLocalsFromTuple, sourceDeclArr, requiredDecl, fc, function);
+                accumulators[index++] = buildAccumulator(context, accumDescr, source, declsInScope, declCls, readLocalsFromTuple, sourceDeclArr, requiredDecl, fc, function);
             }
 
             return new MultiAccumulate( source,
@@ -185,7 +188,7 @@ public class JavaAccumulateBuilder
             }
 
             bindReaderToDeclaration(context, accumDescr, pattern, fc, new SelfReferenceClassFieldReader( function.getResultType() ), function.getResultType(), -1);
-            Accumulator accumulator = buildAccumulator(context, accumDescr, declsInScope, declCls, readLocalsFromTuple, sourceDeclArr, requiredDecl, fc, function);
+            Accumulator accumulator = buildAccumulator(context, accumDescr, source, declsInScope, declCls, readLocalsFromTuple, sourceDeclArr, requiredDecl, fc, function);
 
             return new SingleAccumulate( source,
                                          requiredDecl.toArray(new Declaration[requiredDecl.size()]),
@@ -248,7 +251,7 @@ public class JavaAccumulateBuilder
         return function;
     }
 
-    private Accumulator buildAccumulator(RuleBuildContext context, AccumulateDescr accumDescr, Map<String, Declaration> declsInScope, Map<String, Class<?>> declCls, boolean readLocalsFromTuple, Declaration[] sourceDeclArr, Set<Declaration> requiredDecl, AccumulateFunctionCallDescr fc, AccumulateFunction function) {
+    private Accumulator buildAccumulator(RuleBuildContext context, AccumulateDescr accumDescr, RuleConditionElement source, Map<String, Declaration> declsInScope, Map<String, Class<?>> declCls, boolean readLocalsFromTuple, Declaration[] sourceDeclArr, Set<Declaration> requiredDecl, AccumulateFunctionCallDescr fc, AccumulateFunction function) {
         // analyze the expression
         final JavaAnalysisResult analysis = (JavaAnalysisResult) context.getDialect().analyzeBlock( context,
                                                                                                     accumDescr,
@@ -267,17 +270,27 @@ public class JavaAccumulateBuilder
                                                                                 requiredDecl,
                                                                                 usedIdentifiers );
 
+        // the expression type is only needed by the functions that can accumulate unboxed values
+        Class<?> expressionType = fc.getParams().length > 0 && isPrimitiveAccumulateFunction( function ) ?
+                                  MVELExprAnalyzer.getExpressionType( context, declCls, source, fc.getParams()[0] ) :
+                                  null;
+
         // generate the code template
         return generateFunctionCallCodeTemplate( context,
                                                  accumDescr,
                                                  sourceDeclArr,
                                                  fc,
                                                  function,
+                                                 expressionType,
                                                  usedIdentifiers,
                                                  previousDeclarations,
                                                  readLocalsFromTuple );
     }
 
+    private static boolean isPrimitiveAccumulateFunction( AccumulateFunction function ) {
+        return function instanceof IntAccumulateFunction || function instanceof LongAccumulateFunction || function instanceof DoubleAccumulateFunction;
+    }
+
     private Declaration[] collectRequiredDeclarations( Map<String, Declaration> declsInScope,
                                                        Set<Declaration> requiredDecl,
                                                        final BoundIdentifiers usedIdentifiers ) {
@@ -296,6 +309,7 @@ public class JavaAccumulateBuilder
                                                                               final Declaration[] sourceDeclArr,
                                                                               AccumulateFunctionCallDescr fc,
                                                                               AccumulateFunction function,
+                                                                              Class<?> expressionType,
                                                                               final BoundIdentifiers usedIdentifiers,
                                                                               final Declaration[] previousDeclarations,
                                                                               final boolean readLocalsFromTuple ) {
@@ -310,7 +324,7 @@ public class JavaAccumulateBuilder
         map.put( "readLocalsFromTuple",
                  readLocalsFromTuple ? Boolean.TRUE : Boolean.FALSE );
 
-        JavaAccumulatorFunctionExecutor accumulator = new JavaAccumulatorFunctionExecutor( function );
+        JavaAccumulatorFunctionExecutor accumulator = new JavaAccumulatorFunctionExecutor( function, expressionType );
 
         generateTemplates("returnValueMethod",
                 "returnValueInvoker",
@@ -25,6 +25,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
@@ -101,6 +102,7 @@ import org.drools.core.rule.Function;
 import org.drools.core.rule.JavaDialectRuntimeData;
 import org.drools.core.rule.LineMappings;
 import org.drools.core.spi.Wireable;
+import org.drools.core.util.Drools;
 import org.drools.core.util.IoUtils;
 import org.drools.core.util.StringUtils;
 import org.kie.api.io.Resource;
@@ -155,6 +157,7 @@ public class JavaDialect
     private final ClassLoader rootClassLoader;
     private final KnowledgeBuilderConfigurationImpl pkgConf;
     private final List<String> generatedClassList;
+    private final Set<String> cacheableSources;
     private final MemoryResourceReader src;
     private final PackageStore packageStoreWrapper;
     private final Map<String, ErrorHandler> errorHandlers;
@@ -179,6 +182,7 @@ public class JavaDialect
         this.src = new MemoryResourceReader();
 
         this.generatedClassList = Collections.synchronizedList(new ArrayList<String>());
+        this.cacheableSources = ConcurrentHashMap.newKeySet();
 
         JavaDialectRuntimeData data = (JavaDialectRuntimeData) pkg.getDialectRuntimeRegistry().getDialectData(ID);
 
@@ -417,10 +421,14 @@ public class JavaDialect
                           dumpDir);
         }
 
-        final CompilationResult result = this.compiler.compile(classes,
-                                                               this.src,
-                                                               this.packageStoreWrapper,
-                                                               rootClassLoader);
+        File cacheDir = this.configuration.getPackageBuilderConfiguration().getCompilationCacheDir();
+        final CompilationResult result = cacheDir != null ?
+                new PersistentCompilationCache(cacheDir, getCompilerFingerprint(), this.packageStoreWrapper, rootClassLoader)
+                        .compile(this.compiler, classes, "", this.src, this.cacheableSources::contains) :
+                this.compiler.compile(classes,
+                                      this.src,
+                                      this.packageStoreWrapper,
+                                      rootClassLoader);
 
 
         //this will sort out the errors based on what class/file they happened in
@@ -442,9 +450,20 @@ public class JavaDialect
 
         // We've compiled everthing, so clear it for the next set of additions
         this.generatedClassList.clear();
+        this.cacheableSources.clear();
         this.errorHandlers.clear();
     }
 
+    /**
+     * The settings affecting the bytecode compiled out of the same source
+     */
+    private String getCompilerFingerprint() {
+        return this.configuration.getCompiler() + "|" +
+                this.configuration.getJavaLanguageLevel() + "|" +
+                System.getProperty("java.version") + "|" +
+                Drools.getFullVersion();
+    }
+
     /**
      * @param classes
      * @param dumpDir
@@ -620,6 +639,8 @@ public class JavaDialect
         } else {
             this.src.add(fileName,
                          text.getBytes(IoUtils.UTF8_CHARSET));
+            // only the classes generated by the dialect are cached, since each one is compiled out of its own source
+            this.cacheableSources.add(fileName);
         }
 
         this.errorHandlers.put(fileName,
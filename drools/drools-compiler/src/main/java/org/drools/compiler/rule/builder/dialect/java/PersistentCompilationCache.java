@@ -0,0 +1,630 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.rule.builder.dialect.java;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.drools.compiler.commons.jci.compilers.CompilationResult;
+import org.drools.compiler.commons.jci.compilers.JavaCompiler;
+import org.drools.compiler.commons.jci.readers.ResourceReader;
+import org.drools.compiler.commons.jci.stores.ResourceStore;
+import org.kie.internal.jci.CompilationProblem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A content addressed cache on disk of the classes compiled out of the sources generated by the {@link JavaDialect}
+ * and by the executable model compiler.
+ *
+ * Each source is stored under the hash of its content, together with the settings of the compiler, and each entry
+ * records, along with the compiled classes, the hash of the bytecode of all the classes they refer to. An entry is
+ * reused only when none of those classes changed since it has been stored, because the bytecode compiled out of
+ * the same source depends on the signatures of the classes it invokes. Besides the classes referred by the
+ * bytecode, the ones named by the source are recorded too, since the compile-time constants they define are
+ * inlined without leaving any reference to them. The classes of the JDK are not checked, the version of the JDK
+ * being part of the settings of the compiler.
+ *
+ * The size of the directory is bounded by {@link #MAX_SIZE_PROPERTY}: once a compilation stored new entries making
+ * it exceed that size, the least recently used entries are evicted.
+ *
+ * An instance is meant to be used for a single compilation, since it caches the hashes of the referenced classes.
+ */
+public class PersistentCompilationCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PersistentCompilationCache.class);
+
+    /**
+     * The property setting the maximum size, in megabytes, of the directory of the cache
+     */
+    public static final String MAX_SIZE_PROPERTY = "drools.compilationCache.maxSize";
+
+    private static final long DEFAULT_MAX_SIZE_MB = 512;
+
+    // the eviction leaves some room, so that the following compilations don't have to evict again right away
+    private static final double EVICTION_TARGET_RATIO = 0.8;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String ABSENT = "";
+    private static final String UNREADABLE = "?";
+
+    private static final Pattern PACKAGE = Pattern.compile("^\\s*package\\s+([\\w.$]+)\\s*;", Pattern.MULTILINE);
+    private static final Pattern WILDCARD_IMPORT = Pattern.compile("^\\s*import\\s+([\\w.$]+?)\\s*\\.\\s*\\*\\s*;", Pattern.MULTILINE);
+    private static final Pattern QUALIFIED_NAME = Pattern.compile("\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*(?:\\s*\\.\\s*\\p{javaJavaIdentifierStart}\\p{javaJavaIdentifierPart}*)*");
+
+    private final File directory;
+    private final String fingerprint;
+    private final ResourceStore store;
+    private final ClassLoader classLoader;
+    private final long maxSize;
+
+    private final Map<String, String> hashByClass = new HashMap<>();
+
+    public PersistentCompilationCache(File directory, String fingerprint, ResourceStore store, ClassLoader classLoader) {
+        this(directory, fingerprint, store, classLoader, Long.getLong(MAX_SIZE_PROPERTY, DEFAULT_MAX_SIZE_MB) * 1024 * 1024);
+    }
+
+    public PersistentCompilationCache(File directory, String fingerprint, ResourceStore store, ClassLoader classLoader, long maxSize) {
+        this.directory = directory;
+        this.fingerprint = fingerprint;
+        this.store = store;
+        this.classLoader = classLoader;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * The classes compiled out of a source, along with the hashes of the classes they refer to
+     */
+    public static class Entry {
+        private final Map<String, byte[]> classes;
+        private final Map<String, String> dependencies;
+
+        private Entry(Map<String, byte[]> classes, Map<String, String> dependencies) {
+            this.classes = classes;
+            this.dependencies = dependencies;
+        }
+
+        public Map<String, byte[]> getClasses() {
+            return classes;
+        }
+    }
+
+    /**
+     * Compiles the given sources into the store of this cache, restoring from the cache the classes of the sources
+     * that didn't change, and compiling only the other ones, whose classes are then stored in the cache.
+     *
+     * @param sourcePrefix the folder of the given sources, that is not part of the names of their classes
+     * @param cacheable    tells which of the given sources can be restored from and stored in the cache
+     */
+    public CompilationResult compile(JavaCompiler compiler, String[] sources, String sourcePrefix, ResourceReader src, Predicate<String> cacheable) {
+        Map<String, Entry> hits = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        for (String sourceName : sources) {
+            Entry entry = cacheable.test(sourceName) ? lookup(sourceName, src.getBytes(sourceName)) : null;
+            if (entry != null) {
+                hits.put(sourceName, entry);
+            } else {
+                misses.add(sourceName);
+            }
+        }
+
+        // an entry referring to the classes of a source that has to be compiled again must be compiled again as well
+        Set<String> pendingSources = new HashSet<>();
+        for (String sourceName : misses) {
+            pendingSources.add(sourceName.substring(sourcePrefix.length()));
+        }
+        Map<String, byte[]> batchClasses = new HashMap<>();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            batchClasses.clear();
+            for (Entry entry : hits.values()) {
+                batchClasses.putAll(entry.getClasses());
+            }
+            for (Iterator<Map.Entry<String, Entry>> i = hits.entrySet().iterator(); i.hasNext(); ) {
+                Map.Entry<String, Entry> hit = i.next();
+                if (!isUpToDate(hit.getValue(), batchClasses, pendingSources)) {
+                    i.remove();
+                    misses.add(hit.getKey());
+                    pendingSources.add(hit.getKey().substring(sourcePrefix.length()));
+                    changed = true;
+                }
+            }
+        }
+
+        for (Map.Entry<String, byte[]> restored : batchClasses.entrySet()) {
+            store.write(restored.getKey(), restored.getValue());
+        }
+        if (misses.isEmpty()) {
+            return new CompilationResult(new CompilationProblem[0]);
+        }
+
+        Map<String, byte[]> compiledClasses = new HashMap<>();
+        CompilationResult result = compiler.compile(misses.toArray(new String[misses.size()]),
+                                                    src,
+                                                    new ResourceStore() {
+                                                        public void write(String resourceName, byte[] resourceData) {
+                                                            compiledClasses.put(resourceName, resourceData);
+                                                            store.write(resourceName, resourceData);
+                                                        }
+
+                                                        public void write(String resourceName, byte[] resourceData, boolean createFolder) {
+                                                            write(resourceName, resourceData);
+                                                        }
+
+                                                        public byte[] read(String resourceName) {
+                                                            return store.read(resourceName);
+                                                        }
+
+                                                        public void remove(String resourceName) {
+                                                            compiledClasses.remove(resourceName);
+                                                            store.remove(resourceName);
+                                                        }
+                                                    },
+                                                    classLoader);
+
+        Set<String> sourcesInError = new HashSet<>();
+        for (CompilationProblem error : result.getErrors()) {
+            sourcesInError.add(error.getFileName());
+        }
+        Map<String, Map<String, byte[]>> classesBySource = new HashMap<>();
+        for (Map.Entry<String, byte[]> compiled : compiledClasses.entrySet()) {
+            classesBySource.computeIfAbsent(sourcePrefix + getSourceName(compiled.getKey()), k -> new HashMap<>())
+                    .put(compiled.getKey(), compiled.getValue());
+        }
+        batchClasses.putAll(compiledClasses);
+        boolean saved = false;
+        for (String sourceName : misses) {
+            Map<String, byte[]> sourceClasses = classesBySource.get(sourceName);
+            if (sourceClasses != null && cacheable.test(sourceName) && !sourcesInError.contains(sourceName)) {
+                saved |= save(sourceName, src.getBytes(sourceName), sourceClasses, batchClasses);
+            }
+        }
+        if (saved) {
+            evict();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the entry stored for the given source, or null if there is none
+     */
+    public Entry lookup(String sourceName, byte[] source) {
+        Path path = getPath(sourceName, source);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(path)))) {
+            if (in.readInt() != FORMAT_VERSION || !in.readUTF().equals(sourceName)) {
+                return null;
+            }
+            Map<String, byte[]> classes = new LinkedHashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                String name = in.readUTF();
+                byte[] bytecode = new byte[in.readInt()];
+                in.readFully(bytecode);
+                classes.put(name, bytecode);
+            }
+            Map<String, String> dependencies = new HashMap<>();
+            for (int i = in.readInt(); i > 0; i--) {
+                dependencies.put(in.readUTF(), in.readUTF());
+            }
+            touch(path);
+            return new Entry(classes, dependencies);
+        } catch (IOException e) {
+            logger.debug("Unable to read the compilation cache entry " + path, e);
+            return null;
+        }
+    }
+
+    /**
+     * Checks that none of the classes referred by the given entry changed since it has been stored.
+     *
+     * @param batchClasses   the classes compiled or restored together with the entry, taking precedence over the ones
+     *                       of the store and of the class loader
+     * @param pendingSources the sources that have still to be compiled, whose classes are not known yet
+     */
+    public boolean isUpToDate(Entry entry, Map<String, byte[]> batchClasses, Set<String> pendingSources) {
+        for (Map.Entry<String, String> dependency : entry.dependencies.entrySet()) {
+            if (pendingSources.contains(getSourceName(dependency.getKey()))) {
+                return false;
+            }
+            String hash = hashClass(dependency.getKey(), batchClasses);
+            if (hash == UNREADABLE || !dependency.getValue().equals(hash)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stores the classes compiled out of the given source, returning true if they have been stored.
+     *
+     * @param batchClasses the classes compiled or restored together with the given ones
+     */
+    public boolean save(String sourceName, byte[] source, Map<String, byte[]> classes, Map<String, byte[]> batchClasses) {
+        Map<String, String> dependencies = new HashMap<>();
+        for (Map.Entry<String, byte[]> clazz : classes.entrySet()) {
+            Collection<String> referencedClasses;
+            try {
+                referencedClasses = getReferencedClasses(clazz.getValue());
+            } catch (IllegalArgumentException e) {
+                logger.debug("Unable to read the class " + clazz.getKey(), e);
+                return false;
+            }
+            for (String dependency : referencedClasses) {
+                String resourceName = dependency + ".class";
+                if (!classes.containsKey(resourceName) && !dependencies.containsKey(resourceName)) {
+                    String hash = hashClass(resourceName, batchClasses);
+                    if (hash == UNREADABLE) {
+                        // the entry could never be checked
+                        return false;
+                    }
+                    dependencies.put(resourceName, hash);
+                }
+            }
+        }
+        for (String namedClass : getNamedClasses(new String(source, StandardCharsets.UTF_8))) {
+            String resourceName = namedClass + ".class";
+            if (!classes.containsKey(resourceName) && !dependencies.containsKey(resourceName)) {
+                // most of the names are not classes, and are just skipped
+                String hash = hashClass(resourceName, batchClasses);
+                if (hash != ABSENT && hash != UNREADABLE) {
+                    dependencies.put(resourceName, hash);
+                }
+            }
+        }
+
+        Path path = getPath(sourceName, source);
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(sourceName);
+                out.writeInt(classes.size());
+                for (Map.Entry<String, byte[]> clazz : classes.entrySet()) {
+                    out.writeUTF(clazz.getKey());
+                    out.writeInt(clazz.getValue().length);
+                    out.write(clazz.getValue());
+                }
+                out.writeInt(dependencies.size());
+                for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+                    out.writeUTF(dependency.getKey());
+                    out.writeUTF(dependency.getValue());
+                }
+            }
+            // concurrent builds may store the same entry, that is written aside and then moved in place
+            Files.createDirectories(path.getParent());
+            Path tmp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            Files.write(tmp, bytes.toByteArray());
+            try {
+                Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.debug("Unable to write the compilation cache entry " + path, e);
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the least recently used entries, if the directory of this cache exceeds its maximum size
+     */
+    public void evict() {
+        List<Path> entries = new ArrayList<>();
+        Map<Path, FileTime> lastUses = new HashMap<>();
+        long size = 0;
+        try (Stream<Path> paths = Files.walk(directory.toPath(), 2)) {
+            for (Iterator<Path> i = paths.iterator(); i.hasNext(); ) {
+                Path path = i.next();
+                if (path.getFileName().toString().endsWith(".bin") && Files.isRegularFile(path)) {
+                    entries.add(path);
+                    lastUses.put(path, Files.getLastModifiedTime(path));
+                    size += Files.size(path);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Unable to read the compilation cache directory " + directory, e);
+            return;
+        }
+        if (size <= maxSize) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(lastUses::get));
+        long targetSize = (long) (maxSize * EVICTION_TARGET_RATIO);
+        for (Path entry : entries) {
+            if (size <= targetSize) {
+                break;
+            }
+            try {
+                long entrySize = Files.size(entry);
+                if (Files.deleteIfExists(entry)) {
+                    size -= entrySize;
+                }
+            } catch (IOException e) {
+                // probably already evicted by a concurrent build
+                logger.debug("Unable to evict the compilation cache entry " + entry, e);
+            }
+        }
+    }
+
+    private static void touch(Path path) {
+        // the last modified time of an entry is the time of its last use, driving the eviction
+        try {
+            Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            logger.debug("Unable to touch the compilation cache entry " + path, e);
+        }
+    }
+
+    /**
+     * Returns the name of the source out of which the class with the given resource name has been compiled
+     */
+    public static String getSourceName(String classResourceName) {
+        String className = classResourceName.endsWith(".class") ?
+                classResourceName.substring(0, classResourceName.length() - ".class".length()) :
+                classResourceName;
+        int innerClassSeparator = className.indexOf('$', className.lastIndexOf('/') + 1);
+        return (innerClassSeparator < 0 ? className : className.substring(0, innerClassSeparator)) + ".java";
+    }
+
+    private String hashClass(String resourceName, Map<String, byte[]> batchClasses) {
+        byte[] bytecode = batchClasses.get(resourceName);
+        if (bytecode != null) {
+            return hash(bytecode);
+        }
+        return hashByClass.computeIfAbsent(resourceName, this::hashExternalClass);
+    }
+
+    private String hashExternalClass(String resourceName) {
+        byte[] bytecode = store.read(resourceName);
+        if (bytecode == null) {
+            try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+                if (in == null) {
+                    return ABSENT;
+                }
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[8192];
+                for (int count = in.read(buffer); count > 0; count = in.read(buffer)) {
+                    out.write(buffer, 0, count);
+                }
+                bytecode = out.toByteArray();
+            } catch (IOException e) {
+                logger.debug("Unable to read the class " + resourceName, e);
+                return UNREADABLE;
+            }
+        }
+        return hash(bytecode);
+    }
+
+    private Path getPath(String sourceName, byte[] source) {
+        MessageDigest digest = newDigest();
+        digest.update(fingerprint.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(sourceName.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        String key = toHex(digest.digest(source));
+        return directory.toPath().resolve(key.substring(0, 2)).resolve(key + ".bin");
+    }
+
+    /**
+     * Returns the internal names of all the classes, but the ones of the JDK, referred by the given class, either
+     * directly by the class constants of its pool or through the descriptors of its fields, of its methods and of the
+     * members and method types it refers to. The other utf8 constants, like the values of the string literals, are
+     * never parsed as descriptors.
+     */
+    static Collection<String> getReferencedClasses(byte[] bytecode) {
+        Set<String> classes = new TreeSet<>();
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytecode))) {
+            in.readInt(); // magic
+            in.readUnsignedShort(); // minor version
+            in.readUnsignedShort(); // major version
+            int count = in.readUnsignedShort();
+            String[] utf8 = new String[count];
+            int[] classIndexes = new int[count];
+            int classCount = 0;
+            List<Integer> descriptorIndexes = new ArrayList<>();
+            for (int i = 1; i < count; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1: // Utf8
+                        utf8[i] = in.readUTF();
+                        break;
+                    case 7: // Class
+                        classIndexes[classCount++] = in.readUnsignedShort();
+                        break;
+                    case 16: // MethodType
+                        descriptorIndexes.add(in.readUnsignedShort());
+                        break;
+                    case 12: // NameAndType, referred by the field, method and dynamic constants
+                        in.skipBytes(2);
+                        descriptorIndexes.add(in.readUnsignedShort());
+                        break;
+                    case 8: // String
+                    case 19: // Module
+                    case 20: // Package
+                        in.skipBytes(2);
+                        break;
+                    case 15: // MethodHandle
+                        in.skipBytes(3);
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        in.skipBytes(4);
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        in.skipBytes(8);
+                        i++;
+                        break;
+                    default:
+                        throw new IOException("Unknown constant pool tag " + tag);
+                }
+            }
+            for (int i = 0; i < classCount; i++) {
+                String name = utf8[classIndexes[i]];
+                if (name.startsWith("[")) {
+                    addDescriptorClasses(name, classes);
+                } else {
+                    addClass(name, classes);
+                }
+            }
+
+            in.skipBytes(6); // access flags, this class and super class, already among the class constants
+            in.skipBytes(2 * in.readUnsignedShort()); // interfaces, as well
+            for (int members = 0; members < 2; members++) { // fields, then methods
+                for (int i = in.readUnsignedShort(); i > 0; i--) {
+                    in.skipBytes(4); // access flags and name
+                    descriptorIndexes.add(in.readUnsignedShort());
+                    skipAttributes(in);
+                }
+            }
+
+            for (int descriptorIndex : descriptorIndexes) {
+                addDescriptorClasses(utf8[descriptorIndex], classes);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid class file", e);
+        }
+        return classes;
+    }
+
+    /**
+     * Returns the internal names of the classes, but the ones of the JDK, that the given source could be naming,
+     * through its imports and through the qualified or simple names in its body. A simple name is looked up in the
+     * package of the source and in the packages imported on demand, and in a dotted name the segments following one
+     * starting with an upper case letter are taken as nested classes. Only the ones that actually exist are classes.
+     */
+    static Collection<String> getNamedClasses(String source) {
+        List<String> packages = new ArrayList<>();
+        Matcher pkg = PACKAGE.matcher(source);
+        if (pkg.find()) {
+            packages.add(pkg.group(1).replace('.', '/') + "/");
+        }
+        Matcher wildcardImport = WILDCARD_IMPORT.matcher(source);
+        while (wildcardImport.find()) {
+            packages.add(wildcardImport.group(1).replace('.', '/') + "/");
+        }
+
+        Set<String> classes = new LinkedHashSet<>();
+        Matcher qualifiedName = QUALIFIED_NAME.matcher(source);
+        while (qualifiedName.find()) {
+            String[] segments = qualifiedName.group().split("\\s*\\.\\s*");
+            addNamedClasses("", segments, classes);
+            if (Character.isUpperCase(segments[0].charAt(0))) {
+                for (String packagePath : packages) {
+                    addNamedClasses(packagePath, segments, classes);
+                }
+            }
+        }
+        return classes;
+    }
+
+    private static void addNamedClasses(String packagePath, String[] segments, Set<String> classes) {
+        StringBuilder name = new StringBuilder(packagePath).append(segments[0]);
+        addClass(name.toString(), classes);
+        for (int i = 1; i < segments.length; i++) {
+            name.append(Character.isUpperCase(segments[i - 1].charAt(0)) ? '$' : '/').append(segments[i]);
+            addClass(name.toString(), classes);
+        }
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        for (int i = in.readUnsignedShort(); i > 0; i--) {
+            in.skipBytes(2); // name
+            in.skipBytes(in.readInt());
+        }
+    }
+
+    private static void addDescriptorClasses(String descriptor, Set<String> classes) {
+        for (int start = descriptor.indexOf('L'); start >= 0; start = descriptor.indexOf('L', start + 1)) {
+            int end = start + 1;
+            while (end < descriptor.length() && descriptor.charAt(end) != ';' && descriptor.charAt(end) != '<') {
+                end++;
+            }
+            if (end == descriptor.length()) {
+                return;
+            }
+            addClass(descriptor.substring(start + 1, end), classes);
+            start = end - 1;
+        }
+    }
+
+    private static void addClass(String name, Set<String> classes) {
+        if (!name.isEmpty() && !name.startsWith("java/") && !name.startsWith("javax/")) {
+            classes.add(name);
+        }
+    }
+
+    private static String hash(byte[] bytes) {
+        return toHex(newDigest().digest(bytes));
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHex(byte[] digest) {
+        StringBuilder hex = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.builder.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.io.Resource;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.builder.CompositeKnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderError;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.ParallelRulesBuildThresholdOption;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public class CompositeKnowledgeBuilderParallelParsingTest {
+
+    private static final int RESOURCES = 40;
+
+    @Test
+    public void testParallelParsingBuildsTheSameRules() {
+        KnowledgeBuilder sequential = build(-1, false);
+        KnowledgeBuilder parallel = build(1, false);
+
+        assertFalse(parallel.getErrors().toString(), parallel.hasErrors());
+        assertThat(getRuleNames(parallel), is(getRuleNames(sequential)));
+        assertThat(getRuleNames(parallel).size(), is(RESOURCES * 2));
+    }
+
+    @Test
+    public void testParallelParsingReportsErrorsInResourceOrder() {
+        List<String> sequentialErrors = getErrors(build(-1, true));
+        assertFalse(sequentialErrors.isEmpty());
+        for (int i = 0; i < 5; i++) {
+            assertThat(getErrors(build(1, true)), is(sequentialErrors));
+        }
+    }
+
+    private static KnowledgeBuilder build(int parallelThreshold, boolean withErrors) {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(ParallelRulesBuildThresholdOption.get(parallelThreshold));
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        CompositeKnowledgeBuilder batch = kbuilder.batch();
+        for (int i = 0; i < RESOURCES; i++) {
+            batch.add(createDrl(i, withErrors && i % 3 == 0), ResourceType.DRL);
+        }
+        try {
+            batch.build();
+        } catch (RuntimeException e) {
+            // the errors are checked on the builder
+        }
+        return kbuilder;
+    }
+
+    private static Resource createDrl(int index, boolean withError) {
+        String drl =
+                "package org.drools.parallel" + (index % 4) + "\n" +
+                "rule R" + index + "_1 when\n" +
+                "    String( length > " + index + " )\n" +
+                "then end\n" +
+                "rule R" + index + "_2 when\n" +
+                (withError ? "    Integer( intValue > )\n" : "    Integer( intValue > " + index + " )\n") +
+                "then end\n";
+        return ResourceFactory.newByteArrayResource(drl.getBytes()).setSourcePath("src/main/resources/r" + index + ".drl");
+    }
+
+    private static TreeSet<String> getRuleNames(KnowledgeBuilder kbuilder) {
+        TreeSet<String> names = new TreeSet<>();
+        for (KiePackage pkg : kbuilder.getKnowledgePackages()) {
+            for (Rule rule : pkg.getRules()) {
+                names.add(pkg.getName() + "." + rule.getName());
+            }
+        }
+        return names;
+    }
+
+    private static List<String> getErrors(KnowledgeBuilder kbuilder) {
+        List<String> errors = new ArrayList<>();
+        for (KnowledgeBuilderError error : kbuilder.getErrors()) {
+            errors.add(error.toString());
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.RuleBaseConfiguration;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.management.KieBaseUpdateStats;
+import org.junit.Test;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.KieBaseConfiguration;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class KieBaseUpdateStatsTest {
+
+    private static final String BLOCKING_RULE =
+            "package org.drools.test\n" +
+            "import " + CountDownLatch.class.getCanonicalName() + ";\n" +
+            "global CountDownLatch started\n" +
+            "global CountDownLatch released\n" +
+            "rule R1 when\n" +
+            "    String()\n" +
+            "then\n" +
+            "    started.countDown();\n" +
+            "    released.await();\n" +
+            "end\n";
+
+    private static final String ADDED_RULE =
+            "package org.drools.test\n" +
+            "rule R2 when\n" +
+            "    Integer()\n" +
+            "then\n" +
+            "end\n";
+
+    @Test
+    public void testUpdateOfIdleSessions() {
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        KieSession ksession = kbase.newKieSession();
+        try {
+            kbase.addPackages(buildPackages(ADDED_RULE));
+            assertThat(kbase.getRule("org.drools.test", "R2"), notNullValue());
+
+            KieBaseUpdateStats stats = kbase.getUpdateStats();
+            assertThat(stats.getUpdateLatency().getCount(), is(1L));
+            assertThat(stats.getSessionPause().getCount(), is(1L));
+            assertThat(stats.getDeferredFlushes(), is(0L));
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    @Test(timeout = 10000)
+    public void testUpdateDeferredToTheEndOfTheFiring() throws Exception {
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages(buildPackages(BLOCKING_RULE));
+        KieBaseUpdateStats stats = kbase.getUpdateStats();
+        long updates = stats.getUpdateLatency().getCount();
+
+        KieSession ksession = kbase.newKieSession();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        ksession.setGlobal("started", started);
+        ksession.setGlobal("released", released);
+        ksession.insert("test");
+
+        Thread firing = new Thread(ksession::fireAllRules);
+        firing.start();
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // the session is firing, so the new rule is queued and the flush doesn't wait for it
+            kbase.addPackages(buildPackages(ADDED_RULE));
+            assertFalse(kbase.flushModifications());
+            assertThat(kbase.getRule("org.drools.test", "R2"), nullValue());
+            assertThat(stats.getDeferredFlushes(), is(1L));
+            assertThat(stats.getUpdateLatency().getCount(), is(updates));
+        } finally {
+            released.countDown();
+            firing.join();
+        }
+
+        // the update is applied by the session itself, when it is done firing
+        assertThat(kbase.getRule("org.drools.test", "R2"), notNullValue());
+        assertThat(stats.getUpdateLatency().getCount(), is(updates + 1));
+        assertThat(stats.getForcedFlushes(), is(0L));
+        ksession.dispose();
+    }
+
+    @Test(timeout = 10000)
+    public void testOverdueUpdateForcedWithoutFireBoundaries() throws Exception {
+        KieBaseConfiguration conf = KnowledgeBaseFactory.newKnowledgeBaseConfiguration();
+        conf.setProperty(RuleBaseConfiguration.MAX_MODIFICATION_DELAY_PROPERTY_NAME, "100");
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase(conf);
+        kbase.addPackages(buildPackages(BLOCKING_RULE));
+        KieBaseUpdateStats stats = kbase.getUpdateStats();
+
+        KieSession ksession = kbase.newKieSession();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch released = new CountDownLatch(1);
+        ksession.setGlobal("started", started);
+        ksession.setGlobal("released", released);
+        ksession.insert("test");
+
+        Thread firing = new Thread(ksession::fireAllRules);
+        firing.start();
+        try {
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+
+            // nobody flushes the queued update, so it is forced once overdue, waiting for the session to end its firing
+            kbase.addPackages(buildPackages(ADDED_RULE));
+            while (stats.getForcedFlushes() == 0L) {
+                Thread.sleep(10);
+            }
+            assertThat(kbase.getRule("org.drools.test", "R2"), nullValue());
+        } finally {
+            released.countDown();
+            firing.join();
+        }
+
+        while (kbase.getRule("org.drools.test", "R2") == null) {
+            Thread.sleep(10);
+        }
+        assertThat(stats.getForcedFlushes(), is(1L));
+        ksession.dispose();
+    }
+
+    private Collection<KiePackage> buildPackages(String drl) {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add(ResourceFactory.newByteArrayResource(drl.getBytes()), ResourceType.DRL);
+        assertFalse(kbuilder.getErrors().toString(), kbuilder.hasErrors());
+        return kbuilder.getKnowledgePackages();
+    }
+}
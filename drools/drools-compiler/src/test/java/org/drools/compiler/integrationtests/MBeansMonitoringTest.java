@@ -23,6 +23,7 @@ import static org.junit.Assert.assertTrue;
 import java.lang.management.ManagementFactory;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.util.List;
 
 import javax.management.JMX;
 import javax.management.MBeanServer;
@@ -34,6 +35,7 @@ import org.drools.core.ClockType;
 import org.drools.core.impl.InternalKieContainer;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.management.RuleExecutionMonitoringMXBean;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -341,6 +343,10 @@ public class MBeansMonitoringTest extends CommonTestMethodBase {
         checkStatsForRule(aggrMonitor,"ND2",1,0,1);
         checkStatsByRule(aggrMonitor,"ND" ,1,1,0);
         checkStatsByRule(aggrMonitor,"ND2",1,0,1);
+        checkRuleExecutionStats(JMX.newMXBeanProxy(
+                mbserver,
+                DroolsManagementAgent.createObjectNameBy(containerId, KBASE1, KieSessionType.STATEFUL, KSESSION1),
+                RuleExecutionMonitoringMXBean.class));
         
         ksession.fireAllRules();
         print(aggrMonitor);
@@ -447,6 +453,20 @@ public class MBeansMonitoringTest extends CommonTestMethodBase {
         assertEquals(mFired       , mb.getStatsByRule().get(ruleName).getMatchesFired()     );
     }
 
+    private void checkRuleExecutionStats(RuleExecutionMonitoringMXBean mb) {
+        RuleExecutionMonitoringMXBean.IRuleExecutionStatsData nd2 = mb.getRuleExecutionStats().get("ND2");
+        assertEquals(1, nd2.getMatchesFired());
+        // the consequence of ND2 sleeps for 10ms
+        assertTrue(nd2.getConsequenceMaxTime() >= 10_000_000L);
+        assertTrue(nd2.getEvaluations() > 0);
+
+        List<RuleExecutionMonitoringMXBean.IRuleExecutionStatsData> top = mb.getTopRulesByConsequenceTime(1);
+        assertEquals(1, top.size());
+        assertEquals("ND2", top.get(0).getRuleName());
+        assertEquals("ND", mb.getTopRulesByMatchesChurn(1).get(0).getRuleName());
+        assertTrue(mb.getHotRulesReport(10).contains("ND2"));
+    }
+
     private void checkStatsForRule(GenericKieSessionMonitoringMXBean mb, String ruleName, long mCreated, long mCancelled, long mFired) {
         assertEquals(mCreated     , mb.getStatsForRule(ruleName).getMatchesCreated()   );
         assertEquals(mCancelled   , mb.getStatsForRule(ruleName).getMatchesCancelled() );
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.integrationtests;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.compiler.Person;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.drools.core.management.RuleFootprintReport;
+import org.drools.core.rule.Pattern;
+import org.junit.Test;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.io.ResourceFactory;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class RuleBaseInterningTest {
+
+    private static final String DRL =
+            "package org.drools.test\n" +
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "global java.util.List list\n" +
+            "rule R1 @Owner(\"team\") when\n" +
+            "    $p : Person( age > 18 )\n" +
+            "then\n" +
+            "    list.add( \"R1\" );\n" +
+            "end\n" +
+            "rule R2 @Owner(\"team\") when\n" +
+            "    $p : Person( age > 18 )\n" +
+            "then\n" +
+            "    list.add( \"R2\" );\n" +
+            "end\n";
+
+    @Test
+    public void testSharedRuleDefinitions() {
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages(buildPackages(DRL));
+
+        RuleImpl r1 = (RuleImpl) kbase.getRule("org.drools.test", "R1");
+        RuleImpl r2 = (RuleImpl) kbase.getRule("org.drools.test", "R2");
+        assertThat(getMetaKey(r2.getMetaData()), sameInstance(getMetaKey(r1.getMetaData())));
+        assertThat(r2.getMetaData().get("Owner"), sameInstance(r1.getMetaData().get("Owner")));
+        assertThat(r2.getDeclaration("$p").getIdentifier(), sameInstance(r1.getDeclaration("$p").getIdentifier()));
+
+        Pattern p1 = (Pattern) r1.getLhs().getChildren().get(0);
+        Pattern p2 = (Pattern) r2.getLhs().getChildren().get(0);
+        assertThat(p2.getConstraints().get(0), sameInstance(p1.getConstraints().get(0)));
+
+        // the shared constraints are still evaluated for both rules
+        KieSession ksession = kbase.newKieSession();
+        List<String> list = new ArrayList<>();
+        ksession.setGlobal("list", list);
+        ksession.insert(new Person("Mario", 40));
+        ksession.insert(new Person("Sofia", 10));
+        assertThat(ksession.fireAllRules(), is(2));
+        assertTrue(list.contains("R1"));
+        assertTrue(list.contains("R2"));
+        ksession.dispose();
+    }
+
+    @Test
+    public void testFootprintReport() {
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages(buildPackages(DRL));
+
+        RuleFootprintReport report = RuleFootprintReport.of(kbase);
+        Map<String, Long> retainedSizes = report.getRetainedSizes();
+        assertThat(retainedSizes.size(), is(2));
+        assertTrue(retainedSizes.get("org.drools.test.R1") > 0);
+        assertTrue(retainedSizes.get("org.drools.test.R2") > 0);
+        assertTrue(report.getSharedSize() > 0);
+    }
+
+    private static String getMetaKey(Map<String, Object> metaData) {
+        return metaData.keySet().iterator().next();
+    }
+
+    private Collection<KiePackage> buildPackages(String drl) {
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add(ResourceFactory.newByteArrayResource(drl.getBytes()), ResourceType.DRL);
+        assertFalse(kbuilder.getErrors().toString(), kbuilder.hasErrors());
+        return kbuilder.getKnowledgePackages();
+    }
+}
@@ -2130,5 +2130,50 @@ public class TruthMaintenanceTest extends CommonTestMethodBase {
             ksession.dispose();
         }
     }
-}
 
+    @Test
+    public void testLogicalInsertChurnReleasesEqualityKeys() {
+        String drl =
+                "rule R when\n" +
+                "    $i : Integer()\n" +
+                "then\n" +
+                "    insertLogical( \"s\" + $i ); \n" +
+                "    insertLogical( \"s\" + ($i % 10) ); \n" +
+                "end\n";
+
+        KieSession ksession = new KieHelper().addContent( drl, ResourceType.DRL )
+                                             .build()
+                                             .newKieSession();
+        try {
+            TruthMaintenanceSystem tms = ( (NamedEntryPoint) ksession.getEntryPoint( EntryPointId.DEFAULT.getEntryPointId() ) ).getTruthMaintenanceSystem();
+
+            for ( int round = 0; round < 3; round++ ) {
+                List<FactHandle> handles = new ArrayList<FactHandle>();
+                for ( int i = 0; i < 10000; i++ ) {
+                    handles.add( ksession.insert( i ) );
+                }
+                ksession.fireAllRules();
+
+                TruthMaintenanceSystem.Stats stats = tms.getStats();
+                assertEquals( 10000, stats.getEqualityKeys() );
+                assertEquals( 10000, stats.getJustifiedKeys() );
+                assertEquals( 10000, stats.getBeliefSets() );
+                // 10 of the keys are justified both by their own Integer and by the ones with the same remainder
+                assertEquals( 20000, stats.getLogicalDependencies() );
+
+                for ( FactHandle handle : handles ) {
+                    ksession.delete( handle );
+                }
+                ksession.fireAllRules();
+
+                stats = tms.getStats();
+                assertEquals( 0, stats.getEqualityKeys() );
+                assertEquals( 0, stats.getLogicalDependencies() );
+                assertTrue( stats.getEqualityKeyMapCapacity() <= 16 );
+                assertEquals( 0, ksession.getFactCount() );
+            }
+        } finally {
+            ksession.dispose();
+        }
+    }
+}
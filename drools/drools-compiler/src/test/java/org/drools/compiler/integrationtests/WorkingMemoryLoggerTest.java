@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.io.File;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -27,10 +28,13 @@ import org.drools.compiler.Cheese;
 import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.Message;
 import org.drools.core.WorkingMemory;
+import org.drools.core.audit.BinaryWorkingMemoryFileLogger;
+import org.drools.core.audit.BinaryWorkingMemoryLogReader;
 import org.drools.core.audit.WorkingMemoryFileLogger;
 import org.drools.core.audit.WorkingMemoryInMemoryLogger;
 import org.drools.core.audit.event.ActivationLogEvent;
 import org.drools.core.audit.event.LogEvent;
+import org.drools.core.audit.event.ObjectLogEvent;
 import org.drools.core.event.ProcessNodeLeftEventImpl;
 import org.junit.Test;
 import org.kie.api.KieBase;
@@ -89,6 +93,86 @@ public class WorkingMemoryLoggerTest extends CommonTestMethodBase {
         }
     }
 
+    @Test
+    public void testBinaryLoggerWithSampling() throws Exception {
+        final String drl =
+                "rule R1 when\n" +
+                "    Integer()\n" +
+                "then\n" +
+                "end\n" +
+                "rule R2 when\n" +
+                "    String()\n" +
+                "then\n" +
+                "end\n";
+
+        final KieSession ksession = new KieHelper().addContent( drl, ResourceType.DRL )
+                                                   .build()
+                                                   .newKieSession();
+
+        final File logFile = File.createTempFile( "audit", "" );
+        logFile.deleteOnExit();
+        final BinaryWorkingMemoryFileLogger logger = new BinaryWorkingMemoryFileLogger( ksession, logFile.getAbsolutePath(), 256, 10 );
+        logger.setSamplingRate( "R1", 2 );
+        logger.setSamplingRate( "R2", 0 );
+
+        for (int i = 0; i < 10; i++) {
+            ksession.insert( i );
+            ksession.insert( "" + i );
+        }
+        assertEquals( 20, ksession.fireAllRules() );
+        logger.close();
+        ksession.dispose();
+
+        final String binaryFile = logFile.getAbsolutePath() + BinaryWorkingMemoryFileLogger.FILE_EXTENSION;
+        new File( binaryFile ).deleteOnExit();
+        final List<LogEvent> events = BinaryWorkingMemoryLogReader.read( binaryFile ).getEvents();
+        assertEquals( logger.getLoggedEventsCount(), events.size() );
+
+        int inserted = 0;
+        int created = 0;
+        for (final LogEvent event : events) {
+            if (event.getType() == LogEvent.INSERTED) {
+                assertTrue( event instanceof ObjectLogEvent );
+                inserted++;
+            } else if (event.getType() == LogEvent.ACTIVATION_CREATED) {
+                assertEquals( "R1", ( (ActivationLogEvent) event ).getRule() );
+                created++;
+            }
+        }
+        assertEquals( 20, inserted );
+        assertTrue( created > 0 && created < 10 );
+    }
+
+    @Test(timeout = 20000)
+    public void testBinaryLoggerWithoutFlusher() throws Exception {
+        final KieSession ksession = new KieHelper().addContent( "rule R when Integer() then end", ResourceType.DRL )
+                                                   .build()
+                                                   .newKieSession();
+
+        final File logFile = File.createTempFile( "audit", "" );
+        logFile.deleteOnExit();
+        final BinaryWorkingMemoryFileLogger logger = new BinaryWorkingMemoryFileLogger( ksession, logFile.getAbsolutePath(), 256, 10 );
+
+        // once the flusher is gone the filled buffers are written by the thread generating the events
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().equals( "drools-audit-flusher-" + logFile.getAbsolutePath() )) {
+                thread.interrupt();
+                thread.join();
+            }
+        }
+
+        for (int i = 0; i < 100; i++) {
+            ksession.insert( i );
+        }
+        assertEquals( 100, ksession.fireAllRules() );
+        logger.close();
+        ksession.dispose();
+
+        final String binaryFile = logFile.getAbsolutePath() + BinaryWorkingMemoryFileLogger.FILE_EXTENSION;
+        new File( binaryFile ).deleteOnExit();
+        assertEquals( logger.getLoggedEventsCount(), BinaryWorkingMemoryLogReader.read( binaryFile ).getEvents().size() );
+    }
+
     public static class AnyType {
         private Integer typeId = 1;
         private String typeName = "test";
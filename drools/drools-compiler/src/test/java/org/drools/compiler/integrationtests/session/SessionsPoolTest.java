@@ -31,6 +31,8 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.drools.core.impl.AbstractKieSessionsPool;
+import org.drools.core.management.SessionsPoolStats;
 import org.junit.Test;
 import org.kie.api.KieBase;
 import org.kie.api.command.Command;
@@ -141,6 +143,27 @@ public class SessionsPoolTest {
         assertEquals(1, list.size());
     }
 
+    @Test
+    public void testPoolStats() {
+        KieContainerSessionsPool pool = getKieContainer().newKieSessionsPool( 1 );
+        StatelessKieSession session = pool.newStatelessKieSession();
+
+        List<String> list = new ArrayList<>();
+        session.setGlobal( "list", list );
+        for (int i = 0; i < 10; i++) {
+            session.execute( "test" );
+        }
+        assertEquals(10, list.size());
+
+        SessionsPoolStats stats = ((AbstractKieSessionsPool) pool).getStats().get( "DEFAULT_STATELESS" );
+        assertEquals(10, stats.getBorrowLatency().getCount());
+        assertEquals(10, stats.getResetTime().getCount());
+        // a session is created only when the pool is empty, and each execution gives it back before the next one
+        assertTrue(stats.getExhaustions() <= 1);
+
+        pool.shutdown();
+    }
+
     private KieContainer getKieContainer() {
         String drl =
                 "global java.util.List list\n" +
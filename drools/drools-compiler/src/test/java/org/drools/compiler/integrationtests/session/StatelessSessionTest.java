@@ -33,6 +33,7 @@ import org.drools.compiler.Cheese;
 import org.drools.compiler.Cheesery;
 import org.drools.compiler.CommonTestMethodBase;
 import org.drools.compiler.integrationtests.SerializationHelper;
+import org.drools.core.SessionConfiguration;
 import org.drools.core.command.runtime.BatchExecutionCommandImpl;
 import org.drools.core.impl.InternalKnowledgeBase;
 import org.drools.core.impl.KnowledgeBaseFactory;
@@ -40,12 +41,15 @@ import org.junit.Test;
 import org.kie.api.KieBase;
 import org.kie.api.KieBaseConfiguration;
 import org.kie.api.command.Command;
+import org.kie.api.conf.EqualityBehaviorOption;
 import org.kie.api.command.ExecutableCommand;
 import org.kie.api.definition.KiePackage;
+import org.kie.api.event.rule.AgendaEventListener;
 import org.kie.api.io.Resource;
 import org.kie.api.io.ResourceType;
 import org.kie.api.runtime.Channel;
 import org.kie.api.runtime.ExecutionResults;
+import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.StatelessKieSession;
 import org.kie.internal.builder.KnowledgeBuilder;
 import org.kie.internal.builder.KnowledgeBuilderFactory;
@@ -293,6 +297,90 @@ public class StatelessSessionTest extends CommonTestMethodBase {
         assertNull(ksession.getChannels().get("x"));
     }
 
+    @Test
+    public void testOneShotExecution() throws Exception {
+        String str = "";
+        str += "package org.kie \n";
+        str += "import org.drools.compiler.Cheese \n";
+        str += "global java.util.List list \n";
+        str += "rule rule1 \n";
+        str += "  when \n";
+        str += "    $c1 : Cheese() \n";
+        str += "    $c2 : Cheese( this != $c1, price > $c1.price ) \n";
+        str += "  then \n";
+        str += "    list.add( $c2.getType() + \">\" + $c1.getType() ); \n";
+        str += "end\n";
+
+        final KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add( ResourceFactory.newByteArrayResource( str.getBytes() ), ResourceType.DRL );
+        assertFalse( kbuilder.getErrors().toString(), kbuilder.hasErrors() );
+        final InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase();
+        kbase.addPackages( kbuilder.getKnowledgePackages() );
+
+        final KieSessionConfiguration conf = KnowledgeBaseFactory.newKnowledgeSessionConfiguration();
+        conf.setProperty( SessionConfiguration.ONE_SHOT_PROPERTY_NAME, "true" );
+        final Cheese stilton = new Cheese( "stilton", 10 );
+        final Cheese brie = new Cheese( "brie", 5 );
+
+        final List<AgendaEventListener> listeners = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final StatelessKieSession ksession = kbase.newStatelessKieSession( conf );
+            final List<String> results = new ArrayList<>();
+            ksession.setGlobal( "list", results );
+            final AgendaEventListener listener = Mockito.mock( AgendaEventListener.class );
+            ksession.addEventListener( listener );
+            listeners.add( listener );
+
+            ksession.execute( Arrays.asList( stilton, brie ) );
+
+            assertEquals( Arrays.asList( "stilton>brie" ), results );
+        }
+        // the recycled working memories don't notify the listeners of the previous executions
+        for (AgendaEventListener listener : listeners) {
+            Mockito.verify( listener ).afterMatchFired( Mockito.any() );
+        }
+
+        // the same object inserted twice is a single fact, as in the usual stateless execution
+        final StatelessKieSession ksession = kbase.newStatelessKieSession( conf );
+        final List<String> results = new ArrayList<>();
+        ksession.setGlobal( "list", results );
+        ksession.execute( Arrays.asList( stilton, brie, brie ) );
+        assertEquals( Arrays.asList( "stilton>brie" ), results );
+    }
+
+    @Test
+    public void testOneShotExecutionWithEqualityBehaviour() throws Exception {
+        String str = "";
+        str += "package org.kie \n";
+        str += "import org.drools.compiler.Cheese \n";
+        str += "global java.util.List list \n";
+        str += "rule rule1 \n";
+        str += "  when \n";
+        str += "    $c1 : Cheese() \n";
+        str += "    $c2 : Cheese( this != $c1, price > $c1.price ) \n";
+        str += "  then \n";
+        str += "    list.add( $c2.getType() + \">\" + $c1.getType() ); \n";
+        str += "end\n";
+
+        final KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder();
+        kbuilder.add( ResourceFactory.newByteArrayResource( str.getBytes() ), ResourceType.DRL );
+        assertFalse( kbuilder.getErrors().toString(), kbuilder.hasErrors() );
+        final KieBaseConfiguration kbaseConf = KnowledgeBaseFactory.newKnowledgeBaseConfiguration();
+        kbaseConf.setOption( EqualityBehaviorOption.EQUALITY );
+        final InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase( kbaseConf );
+        kbase.addPackages( kbuilder.getKnowledgePackages() );
+
+        final KieSessionConfiguration conf = KnowledgeBaseFactory.newKnowledgeSessionConfiguration();
+        conf.setProperty( SessionConfiguration.ONE_SHOT_PROPERTY_NAME, "true" );
+
+        // the equal facts are merged, as in the usual stateless execution
+        final StatelessKieSession ksession = kbase.newStatelessKieSession( conf );
+        final List<String> results = new ArrayList<>();
+        ksession.setGlobal( "list", results );
+        ksession.execute( Arrays.asList( new Cheese( "stilton", 10 ), new Cheese( "brie", 5 ), new Cheese( "brie", 5 ) ) );
+        assertEquals( Arrays.asList( "stilton>brie" ), results );
+    }
+
     private StatelessKieSession getSession2(final String fileName) throws Exception {
         return getSession2( ResourceFactory.newClassPathResource( fileName, getClass() ) );
     }
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.kie.builder.impl;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.Message;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class MappedZipKieModuleTest {
+
+    private static final String DRL =
+            "package org.drools.test\n" +
+            "global java.util.List list\n" +
+            "declare Message\n" +
+            "    text : String\n" +
+            "end\n" +
+            "rule Init when\n" +
+            "then\n" +
+            "    insert(new Message(\"Hello\"));\n" +
+            "end\n" +
+            "rule Hello when\n" +
+            "    Message( $text : text )\n" +
+            "then\n" +
+            "    list.add($text);\n" +
+            "end\n";
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void testSameEntriesOfZipKieModule() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.drools.test", "mapped-kjar", "1.0");
+        InternalKieModule kieModule = buildKieModule(ks, releaseId);
+        File jar = writeJar(kieModule);
+
+        ZipKieModule zipKieModule = new ZipKieModule(releaseId, kieModule.getKieModuleModel(), jar);
+        MappedZipKieModule mappedKieModule = new MappedZipKieModule(releaseId, kieModule.getKieModuleModel(), jar);
+
+        assertEquals(new ArrayList<>(zipKieModule.getFileNames()), new ArrayList<>(mappedKieModule.getFileNames()));
+        assertTrue(mappedKieModule.getFileNames().stream().anyMatch(name -> name.endsWith(".class")));
+        for (String fileName : zipKieModule.getFileNames()) {
+            assertTrue(fileName, mappedKieModule.isAvailable(fileName));
+            assertArrayEquals(fileName, zipKieModule.getBytes(fileName), mappedKieModule.getBytes(fileName));
+        }
+        assertEquals(new String(zipKieModule.getBytes("META-INF")), new String(mappedKieModule.getBytes("META-INF")));
+        assertFalse(mappedKieModule.isAvailable("org/drools/test/Missing.class"));
+    }
+
+    @Test
+    public void testShareMappingOfSameJar() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.drools.test", "mapped-kjar-shared", "1.0");
+        InternalKieModule kieModule = buildKieModule(ks, releaseId);
+        File jar = writeJar(kieModule);
+
+        MappedZipKieModule first = new MappedZipKieModule(releaseId, kieModule.getKieModuleModel(), jar);
+        MappedZipKieModule second = new MappedZipKieModule(releaseId, kieModule.getKieModuleModel(), jar);
+        String className = "org/drools/test/Message.class";
+        // the bytecode of the classes is held once, whatever the number of modules and of class loaders storing it
+        assertSame(first.getBytes(className), second.getBytes(className));
+
+        ks.getRepository().addKieModule(second);
+        for (int i = 0; i < 3; i++) {
+            KieContainer kieContainer = ks.newKieContainer(releaseId);
+            KieSession ksession = kieContainer.newKieSession();
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            ksession.fireAllRules();
+            assertEquals(1, list.size());
+            assertEquals("Hello", list.get(0));
+            ksession.dispose();
+            kieContainer.dispose();
+        }
+    }
+
+    @Test
+    public void testFailOnModifiedJar() throws Exception {
+        KieServices ks = KieServices.Factory.get();
+        ReleaseId releaseId = ks.newReleaseId("org.drools.test", "mapped-kjar-modified", "1.0");
+        InternalKieModule kieModule = buildKieModule(ks, releaseId);
+        File jar = writeJar(kieModule);
+
+        MappedZipKieModule mappedKieModule = new MappedZipKieModule(releaseId, kieModule.getKieModuleModel(), jar);
+        String resourceName = "META-INF/kmodule.xml";
+        assertArrayEquals(kieModule.getBytes(resourceName), mappedKieModule.getBytes(resourceName));
+
+        assertTrue(jar.setLastModified(jar.lastModified() - 60_000));
+        try {
+            mappedKieModule.getBytes(resourceName);
+            fail("A resource must not be read from the mapping of a modified jar");
+        } catch (IllegalStateException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains(jar.toString()));
+        }
+    }
+
+    private InternalKieModule buildKieModule(KieServices ks, ReleaseId releaseId) {
+        KieFileSystem kfs = ks.newKieFileSystem().generateAndWritePomXML(releaseId);
+        kfs.write("src/main/resources/org/drools/test/rules.drl", DRL);
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll();
+        assertFalse(kieBuilder.getResults().getMessages().toString(), kieBuilder.getResults().hasMessages(Message.Level.ERROR));
+        return (InternalKieModule) kieBuilder.getKieModule();
+    }
+
+    private File writeJar(InternalKieModule kieModule) throws Exception {
+        File jar = temp.newFile("kjar.jar");
+        Files.write(jar.toPath(), kieModule.getBytes());
+        return jar;
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.compiler.rule.builder.dialect.java;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.impl.KnowledgeBaseFactory;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.api.definition.type.FactType;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
+import org.kie.internal.io.ResourceFactory;
+import org.mvel2.asm.ClassWriter;
+import org.mvel2.asm.Opcodes;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class PersistentCompilationCacheTest {
+
+    // a string literal looking like a descriptor, which must not be taken as a reference to a class
+    private static final String DESCRIPTOR_LIKE_LITERAL = "Lorg/test/NotReferenced;";
+
+    private static final String LIMITS_CLASS = "org/drools/compiler/test/constants/Limits";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testOnlyChangedRulesAreCompiledAgain() throws Exception {
+        File cacheDir = folder.newFolder();
+        String drl = getDrl("int", 10);
+
+        assertEquals(11L, fire(build(drl, cacheDir), "int", 1));
+        long entries = countEntries(cacheDir);
+        assertTrue(entries > 0);
+
+        // nothing changed, all the classes are restored from the cache
+        assertEquals(11L, fire(build(drl, cacheDir), "int", 1));
+        assertEquals(entries, countEntries(cacheDir));
+
+        // only the classes of the changed rule are compiled and cached
+        assertEquals(21L, fire(build(getDrl("int", 20), cacheDir), "int", 1));
+        long changedEntries = countEntries(cacheDir) - entries;
+        assertTrue(changedEntries > 0);
+        assertTrue(changedEntries < entries);
+    }
+
+    @Test
+    public void testEntriesReferringToChangedClassesAreNotReused() throws Exception {
+        File cacheDir = folder.newFolder();
+
+        assertEquals(11L, fire(build(getDrl("int", 10), cacheDir), "int", 1));
+        // the generated sources are the same, but the accessor of the declared type returns a long now
+        assertEquals(11L, fire(build(getDrl("long", 10), cacheDir), "long", 1L));
+    }
+
+    @Test
+    public void testRulesInliningChangedConstantsAreCompiledAgain() throws Exception {
+        File cacheDir = folder.newFolder();
+        String drl = getDrl("int", "Limits.INCREMENT", "import " + LIMITS_CLASS.replace('/', '.') + "\n");
+
+        assertEquals(11L, fire(build(drl, cacheDir, newLimitsClassLoader(10)), "int", 1));
+        // the source of the rule is the same, but the constant inlined in its bytecode changed
+        assertEquals(21L, fire(build(drl, cacheDir, newLimitsClassLoader(20)), "int", 1));
+    }
+
+    @Test
+    public void testNamedClasses() {
+        Collection<String> classes = PersistentCompilationCache.getNamedClasses("package org.test;\n" +
+                                                                                "import org.other.*;\n" +
+                                                                                "import static org.test.Consts.MAX;\n" +
+                                                                                "class R { int f() { return Limits.INCREMENT + org.test.Outer.Inner.X + java.lang.Math.abs(MAX); } }");
+        assertTrue(classes.contains("org/test/Consts"));
+        assertTrue(classes.contains("org/test/Limits"));
+        assertTrue(classes.contains("org/other/Limits"));
+        assertTrue(classes.contains("org/test/Outer$Inner"));
+        assertFalse(classes.contains("java/lang/Math"));
+    }
+
+    @Test
+    public void testReferencedClasses() throws IOException {
+        byte[] bytecode = Files.readAllBytes(new File(getClass().getResource("PersistentCompilationCacheTest.class").getFile()).toPath());
+        Collection<String> classes = PersistentCompilationCache.getReferencedClasses(bytecode);
+        assertTrue(classes.contains("org/junit/rules/TemporaryFolder"));
+        assertTrue(classes.contains("org/kie/internal/builder/conf/CompilationCacheDirOption"));
+        assertTrue(classes.contains("org/kie/api/runtime/KieSession"));
+        assertFalse(classes.contains("java/lang/String"));
+        assertFalse(DESCRIPTOR_LIKE_LITERAL, classes.contains("org/test/NotReferenced"));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEntriesAreEvicted() throws Exception {
+        File cacheDir = folder.newFolder();
+        assertEquals(11L, fire(build(getDrl("int", 10), cacheDir), "int", 1));
+        long size = getSize(cacheDir);
+        long entries = countEntries(cacheDir);
+
+        // within the bound nothing is evicted
+        new PersistentCompilationCache(cacheDir, "", null, null, size).evict();
+        assertEquals(entries, countEntries(cacheDir));
+
+        new PersistentCompilationCache(cacheDir, "", null, null, size / 2).evict();
+        assertTrue(countEntries(cacheDir) < entries);
+        assertTrue(getSize(cacheDir) <= size / 2);
+
+        // the evicted entries are just compiled again
+        assertEquals(11L, fire(build(getDrl("int", 10), cacheDir), "int", 1));
+        assertEquals(entries, countEntries(cacheDir));
+    }
+
+    @Test
+    public void testSourceName() {
+        assertEquals("org/test/Rule_R0.java", PersistentCompilationCache.getSourceName("org/test/Rule_R0.class"));
+        assertEquals("org/test/Rule_R0.java", PersistentCompilationCache.getSourceName("org/test/Rule_R0$1.class"));
+        assertEquals("org/te$t/Rule_R0.java", PersistentCompilationCache.getSourceName("org/te$t/Rule_R0$Inner.class"));
+    }
+
+    private static String getDrl(String valueType, int increment) {
+        return getDrl(valueType, String.valueOf(increment), "");
+    }
+
+    private static String getDrl(String valueType, String increment, String imports) {
+        StringBuilder drl = new StringBuilder();
+        drl.append("package org.drools.compiler.test\n");
+        drl.append(imports);
+        drl.append("global java.util.List list\n");
+        drl.append("declare Counter\n");
+        drl.append("    value : ").append(valueType).append("\n");
+        drl.append("end\n");
+        drl.append("rule Changed when\n");
+        drl.append("    $c : Counter()\n");
+        drl.append("then\n");
+        drl.append("    list.add( $c.getValue() + ").append(increment).append(" );\n");
+        drl.append("end\n");
+        for (int i = 0; i < 5; i++) {
+            drl.append("rule Unchanged").append(i).append(" when\n");
+            drl.append("    Counter( value > 100 )\n");
+            drl.append("then\n");
+            drl.append("    list.add( drools.getRule().getName() );\n");
+            drl.append("end\n");
+        }
+        return drl.toString();
+    }
+
+    private static InternalKnowledgeBase build(String drl, File cacheDir) {
+        return build(drl, cacheDir, PersistentCompilationCacheTest.class.getClassLoader());
+    }
+
+    private static InternalKnowledgeBase build(String drl, File cacheDir, ClassLoader classLoader) {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration(null, classLoader);
+        conf.setOption(CompilationCacheDirOption.get(cacheDir));
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        kbuilder.add(ResourceFactory.newByteArrayResource(drl.getBytes()), ResourceType.DRL);
+        if (kbuilder.hasErrors()) {
+            fail(kbuilder.getErrors().toString());
+        }
+        InternalKnowledgeBase kbase = KnowledgeBaseFactory.newKnowledgeBase(KnowledgeBaseFactory.newKnowledgeBaseConfiguration(null, classLoader));
+        kbase.addPackages(kbuilder.getKnowledgePackages());
+        return kbase;
+    }
+
+    /**
+     * Returns a class loader defining a Limits class with the given value of its INCREMENT compile-time constant
+     */
+    private ClassLoader newLimitsClassLoader(int increment) throws IOException {
+        ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | Opcodes.ACC_SUPER, LIMITS_CLASS, null, "java/lang/Object", null);
+        cw.visitField(Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC | Opcodes.ACC_FINAL, "INCREMENT", "I", null, increment).visitEnd();
+        cw.visitEnd();
+
+        File classesDir = folder.newFolder();
+        Path classFile = classesDir.toPath().resolve(LIMITS_CLASS + ".class");
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, cw.toByteArray());
+        return new URLClassLoader(new URL[] {classesDir.toURI().toURL()}, PersistentCompilationCacheTest.class.getClassLoader());
+    }
+
+    private static long fire(InternalKnowledgeBase kbase, String valueType, Object value) throws Exception {
+        FactType counterType = kbase.getFactType("org.drools.compiler.test", "Counter");
+        Object counter = counterType.newInstance();
+        counterType.set(counter, "value", value);
+
+        List<Object> list = new ArrayList<>();
+        KieSession ksession = kbase.newKieSession();
+        try {
+            ksession.setGlobal("list", list);
+            ksession.insert(counter);
+            ksession.fireAllRules();
+        } finally {
+            ksession.dispose();
+        }
+        assertEquals(1, list.size());
+        assertEquals(valueType.equals("int") ? Integer.class : Long.class, list.get(0).getClass());
+        return ((Number) list.get(0)).longValue();
+    }
+
+    private static long countEntries(File cacheDir) throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+            return files.filter(p -> p.toString().endsWith(".bin")).count();
+        }
+    }
+
+    private static long getSize(File cacheDir) throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+            return files.filter(p -> p.toString().endsWith(".bin")).mapToLong(p -> p.toFile().length()).sum();
+        }
+    }
+}
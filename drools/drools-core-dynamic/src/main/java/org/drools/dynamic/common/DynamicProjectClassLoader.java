@@ -91,7 +91,11 @@ public class DynamicProjectClassLoader extends ProjectClassLoader {
             if (lastDot > 0) {
                 String pkgName = name.substring(0, lastDot);
                 if (getPackage(pkgName) == null) {
-                    definePackage(pkgName, "", "", "", "", "", "", null);
+                    try {
+                        definePackage(pkgName, "", "", "", "", "", "", null);
+                    } catch (IllegalArgumentException e) {
+                        // the package has been concurrently defined by another thread
+                    }
                 }
             }
             return defineClass(name, bytecode, 0, bytecode.length);
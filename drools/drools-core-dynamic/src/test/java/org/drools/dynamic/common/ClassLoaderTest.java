@@ -16,16 +16,24 @@
 
 package org.drools.dynamic.common;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.drools.reflective.classloader.ProjectClassLoader;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 public class ClassLoaderTest {
 
     @Test(timeout = 20000)
@@ -74,4 +82,135 @@ public class ClassLoaderTest {
         }
     }
 
+    @Test(timeout = 20000)
+    public void testParallelClassDefinition() throws Exception {
+        final int THREAD_COUNT = 16;
+        final int CLASS_COUNT = 200;
+
+        final ProjectClassLoader projectClassLoader = ProjectClassLoader.createProjectClassLoader();
+        final CountDownLatch start = new CountDownLatch(1);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            final List<Future<Class<?>[]>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                final int offset = i * CLASS_COUNT / THREAD_COUNT;
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    final Class<?>[] classes = new Class<?>[CLASS_COUNT];
+                    // each thread defines all the classes, starting from a different one, and loads back the others
+                    for (int j = 0; j < CLASS_COUNT; j++) {
+                        final int index = (offset + j) % CLASS_COUNT;
+                        final String name = "org.drools.dynamic.generated.Type" + index;
+                        if (j % 2 == 0) {
+                            classes[index] = projectClassLoader.defineClass(name, generateClass(name));
+                        } else {
+                            projectClassLoader.storeClass(name, generateClass(name));
+                            classes[index] = Class.forName(name, true, projectClassLoader);
+                        }
+                    }
+                    return classes;
+                }));
+            }
+            start.countDown();
+
+            final Class<?>[] expected = futures.get(0).get();
+            for (int i = 0; i < CLASS_COUNT; i++) {
+                assertEquals("org.drools.dynamic.generated.Type" + i, expected[i].getName());
+                assertSame(expected[i], projectClassLoader.loadClass(expected[i].getName()));
+            }
+            for (Future<Class<?>[]> future : futures) {
+                final Class<?>[] classes = future.get();
+                for (int i = 0; i < CLASS_COUNT; i++) {
+                    assertSame(expected[i], classes[i]);
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(timeout = 20000)
+    public void testReinitTypesDuringClassDefinition() throws Exception {
+        final int THREAD_COUNT = 8;
+        final int CLASS_COUNT = 50;
+        final int ROUNDS = 20;
+
+        final ProjectClassLoader projectClassLoader = ProjectClassLoader.createProjectClassLoader();
+        final byte[][] bytecodes = new byte[CLASS_COUNT][];
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            bytecodes[i] = generateClass("org.drools.dynamic.reinit.Type" + i);
+        }
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final AtomicBoolean defining = new AtomicBoolean(true);
+        final ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT + 1);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executorService.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (int j = 0; j < CLASS_COUNT; j++) {
+                            projectClassLoader.defineClass("org.drools.dynamic.reinit.Type" + j, bytecodes[j]);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            // discards the internal types class loader, and the classes it defined, while the other threads define them
+            final Future<?> reinit = executorService.submit(() -> {
+                start.await();
+                while (defining.get()) {
+                    projectClassLoader.reinitTypes();
+                    Thread.yield();
+                }
+                return null;
+            });
+            start.countDown();
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            defining.set(false);
+            reinit.get();
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // no class of a discarded types class loader survived a reinit: they all come from the current one
+        final ClassLoader typesClassLoader = projectClassLoader.defineClass("org.drools.dynamic.reinit.Type0", bytecodes[0]).getClassLoader();
+        for (int i = 0; i < CLASS_COUNT; i++) {
+            assertSame(typesClassLoader, projectClassLoader.loadClass("org.drools.dynamic.reinit.Type" + i).getClassLoader());
+        }
+    }
+
+    /**
+     * Generates the bytecode of an empty class, extending Object, with the given name
+     */
+    private static byte[] generateClass(String name) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(0xCAFEBABE);
+        out.writeShort(0); // minor version
+        out.writeShort(52); // major version, java 8
+        out.writeShort(5); // constant pool count, plus one
+        out.writeByte(1); // #1 utf8
+        out.writeUTF(name.replace('.', '/'));
+        out.writeByte(7); // #2 class #1
+        out.writeShort(1);
+        out.writeByte(1); // #3 utf8
+        out.writeUTF("java/lang/Object");
+        out.writeByte(7); // #4 class #3
+        out.writeShort(3);
+        out.writeShort(0x0021); // public super
+        out.writeShort(2); // this class
+        out.writeShort(4); // super class
+        out.writeShort(0); // interfaces
+        out.writeShort(0); // fields
+        out.writeShort(0); // methods
+        out.writeShort(0); // attributes
+        out.flush();
+        return bytes.toByteArray();
+    }
 }
@@ -21,16 +21,25 @@ import java.io.InputStream;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.drools.reflective.ComponentsFactory;
 import org.drools.reflective.ResourceProvider;
 import org.drools.reflective.util.ClassUtils;
 import org.kie.internal.utils.KieTypeResolver;
 
+/**
+ * The class loader of a kie project, defining the classes generated or compiled by its builds.
+ *
+ * It is parallel capable: the stores are concurrent maps and the definition of a class is serialized only with the ones
+ * of the same class name, through its class loading lock, so that the threads of a parallel build, or of concurrent
+ * container updates, don't contend on the whole class loader. Those definitions share the read lock of the types,
+ * while discarding the internal types class loader takes its write lock, so that no class defined by a discarded
+ * loader can be cached after it.
+ */
 public abstract class ProjectClassLoader extends ClassLoader implements KieTypeResolver {
 
     private static final boolean CACHE_NON_EXISTING_CLASSES = true;
@@ -42,18 +51,21 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
         registerAsParallelCapable();
     }
 
-    private Map<String, byte[]> store;
+    private volatile Map<String, byte[]> store;
 
-    private Map<String, ClassBytecode> definedTypes;
+    private final Map<String, ClassBytecode> definedTypes = new ConcurrentHashMap<String, ClassBytecode>();
 
     private final Set<String> nonExistingClasses = ConcurrentHashMap.newKeySet();
 
     private ClassLoader droolsClassLoader;
 
-    private InternalTypesClassLoader typesClassLoader;
+    private volatile InternalTypesClassLoader typesClassLoader;
 
     private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<String, Class<?>>();
 
+    // always acquired before the class loading lock of a name, never upgraded
+    private final ReentrantReadWriteLock typesLock = new ReentrantReadWriteLock();
+
     private ResourceProvider resourceProvider;
 
     protected ProjectClassLoader( ClassLoader parent, ResourceProvider resourceProvider) {
@@ -103,7 +115,7 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
 
     public static ProjectClassLoader createProjectClassLoader(ClassLoader parent, Map<String, byte[]> store) {
         ProjectClassLoader projectClassLoader = createProjectClassLoader(parent);
-        projectClassLoader.store = store;
+        projectClassLoader.store = store == null ? null : new ConcurrentHashMap<String, byte[]>(store);
         return projectClassLoader;
     }
 
@@ -113,13 +125,18 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
         if (cls != null) {
             return cls;
         }
+        typesLock.readLock().lock();
         try {
-            cls = internalLoadClass(name, resolve);
-        } catch (ClassNotFoundException e2) {
-            cls = loadType(name, resolve);
+            try {
+                cls = internalLoadClass(name, resolve);
+            } catch (ClassNotFoundException e2) {
+                cls = loadType(name, resolve);
+            }
+            loadedClasses.put(name, cls);
+            return cls;
+        } finally {
+            typesLock.readLock().unlock();
         }
-        loadedClasses.put(name, cls);
-        return cls;
     }
 
     // This method has to be public because is also used by the android ClassLoader
@@ -164,41 +181,68 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
         return defineType(name, bytecode);
     }
 
-    private synchronized Class<?> defineType(String name, byte[] bytecode) {
-        if (definedTypes == null) {
-            definedTypes = new HashMap<String, ClassBytecode>();
-        } else {
-            ClassBytecode existingClass = definedTypes.get(name);
-            if (existingClass != null && Arrays.equals(bytecode, existingClass.bytes)) {
-                return existingClass.clazz;
+    private Class<?> defineType(String name, byte[] bytecode) {
+        typesLock.readLock().lock();
+        try {
+            synchronized (getClassLoadingLock(name)) {
+                ClassBytecode existingClass = definedTypes.get(name);
+                if (existingClass != null && Arrays.equals(bytecode, existingClass.bytes)) {
+                    return existingClass.clazz;
+                }
+
+                Class<?> clazz = getOrCreateTypesClassLoader().defineClass(name, bytecode);
+                definedTypes.put(name, new ClassBytecode(clazz, bytecode));
+                loadedClasses.put(name, clazz);
+                return clazz;
             }
+        } finally {
+            typesLock.readLock().unlock();
         }
+    }
 
-        if (typesClassLoader == null) {
-            typesClassLoader = makeClassLoader();
+    private InternalTypesClassLoader getOrCreateTypesClassLoader() {
+        InternalTypesClassLoader classLoader = typesClassLoader;
+        if (classLoader == null) {
+            synchronized (this) {
+                classLoader = typesClassLoader;
+                if (classLoader == null) {
+                    classLoader = makeClassLoader();
+                    typesClassLoader = classLoader;
+                }
+            }
         }
-        Class<?> clazz = typesClassLoader.defineClass(name, bytecode);
-        definedTypes.put(name, new ClassBytecode(clazz, bytecode));
-        loadedClasses.put(name, clazz);
-        return clazz;
+        return classLoader;
     }
 
     public Class<?> defineClass(String name, byte[] bytecode) {
         return defineClass(name, ClassUtils.convertClassToResourcePath(name), bytecode);
     }
 
-    public synchronized Class<?> defineClass(String name, String resourceName, byte[] bytecode) {
-        storeClass(name, resourceName, bytecode);
-        return defineType(name, bytecode);
+    public Class<?> defineClass(String name, String resourceName, byte[] bytecode) {
+        typesLock.readLock().lock();
+        try {
+            synchronized (getClassLoadingLock(name)) {
+                storeClass(name, resourceName, bytecode);
+                return defineType(name, bytecode);
+            }
+        } finally {
+            typesLock.readLock().unlock();
+        }
     }
 
-    public synchronized void undefineClass(String name) {
+    public void undefineClass(String name) {
         String resourceName = ClassUtils.convertClassToResourcePath(name);
-        if (store.remove(resourceName) != null) {
-            if (CACHE_NON_EXISTING_CLASSES) {
-                nonExistingClasses.add(name);
+        typesLock.writeLock().lock();
+        try {
+            Map<String, byte[]> currentStore = store;
+            if (currentStore != null && currentStore.remove(resourceName) != null) {
+                if (CACHE_NON_EXISTING_CLASSES) {
+                    nonExistingClasses.add(name);
+                }
+                typesClassLoader = null;
             }
-            typesClassLoader = null;
+        } finally {
+            typesLock.writeLock().unlock();
         }
     }
 
@@ -217,10 +261,7 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
     }
 
     public void storeClass(String name, String resourceName, byte[] bytecode) {
-        if (store == null) {
-            store = new HashMap<String, byte[]>();
-        }
-        store.put(resourceName, bytecode);
+        getOrCreateStore().put(resourceName, bytecode);
         if (CACHE_NON_EXISTING_CLASSES) {
             nonExistingClasses.remove(name);
         }
@@ -303,7 +344,22 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
     }
 
     public byte[] getBytecode(String resourceName) {
-        return store == null ? null : store.get(resourceName);
+        Map<String, byte[]> currentStore = store;
+        return currentStore == null ? null : currentStore.get(resourceName);
+    }
+
+    private Map<String, byte[]> getOrCreateStore() {
+        Map<String, byte[]> currentStore = store;
+        if (currentStore == null) {
+            synchronized (this) {
+                currentStore = store;
+                if (currentStore == null) {
+                    currentStore = new ConcurrentHashMap<String, byte[]>();
+                    store = currentStore;
+                }
+            }
+        }
+        return currentStore;
     }
 
     public Map<String, byte[]> getStore() {
@@ -332,10 +388,7 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
 
     public void initFrom(ProjectClassLoader other) {
         if (other.store != null) {
-            if (store == null) {
-                store = new HashMap<String, byte[]>();
-            }
-            store.putAll(other.store);
+            getOrCreateStore().putAll(other.store);
         }
         nonExistingClasses.addAll(other.nonExistingClasses);
     }
@@ -384,12 +437,15 @@ public abstract class ProjectClassLoader extends ClassLoader implements KieTypeR
         Class<?> loadType( String name, boolean resolve ) throws ClassNotFoundException;
     }
 
-    public synchronized void reinitTypes() {
-        typesClassLoader = null;
-        nonExistingClasses.clear();
-        loadedClasses.clear();
-        if (definedTypes != null) {
+    public void reinitTypes() {
+        typesLock.writeLock().lock();
+        try {
+            typesClassLoader = null;
+            nonExistingClasses.clear();
+            loadedClasses.clear();
             definedTypes.clear();
+        } finally {
+            typesLock.writeLock().unlock();
         }
     }
 
@@ -105,6 +105,7 @@ import org.slf4j.LoggerFactory;
  * drools.declarativeAgendaEnabled =  &lt;true|false&gt; 
  * drools.permgenThreshold = &lt;1...n&gt;
  * drools.jittingThreshold = &lt;1...n&gt;
+ * drools.kbase.maxModificationDelay = &lt;0...n milliseconds&gt;
  * </pre>
  */
 public class RuleBaseConfiguration
@@ -118,6 +119,9 @@ public class RuleBaseConfiguration
 
     public static final String DEFAULT_SIGN_ON_SERIALIZATION = "false";
 
+    public static final String MAX_MODIFICATION_DELAY_PROPERTY_NAME = "drools.kbase.maxModificationDelay";
+    public static final long DEFAULT_MAX_MODIFICATION_DELAY = 1000L;
+
     protected static final transient Logger logger = LoggerFactory.getLogger(RuleBaseConfiguration.class);
 
     private ChainedProperties chainedProperties;
@@ -165,6 +169,9 @@ public class RuleBaseConfiguration
     private List<Map<String, Object>> workDefinitions;
     private boolean                   advancedProcessRuleIntegration;
 
+    // not serialized, in order to keep the wire format: it is read again from the chained properties when deserializing
+    private transient long maxModificationDelay;
+
     private transient ClassLoader classLoader;
 
     private KieComponentFactory componentFactory;
@@ -236,6 +243,7 @@ public class RuleBaseConfiguration
         phreakEnabled = in.readBoolean();
         declarativeAgenda = in.readBoolean();
         componentFactory = (KieComponentFactory) in.readObject();
+        maxModificationDelay = parseMaxModificationDelay( chainedProperties.getProperty( MAX_MODIFICATION_DELAY_PROPERTY_NAME, null ) );
     }
 
     /**
@@ -315,6 +323,8 @@ public class RuleBaseConfiguration
             setRuleBaseUpdateHandler( StringUtils.isEmpty( value ) ? "" : value);
         } else if ( name.equals( "drools.advancedProcessRuleIntegration" ) ) {
             setAdvancedProcessRuleIntegration( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
+        } else if ( name.equals( MAX_MODIFICATION_DELAY_PROPERTY_NAME ) ) {
+            setMaxModificationDelay( parseMaxModificationDelay( value ) );
         } else if ( name.equals( MultithreadEvaluationOption.PROPERTY_NAME ) ) {
             setMultithreadEvaluation( StringUtils.isEmpty( value ) ? false : Boolean.valueOf(value));
         } else if ( name.equals( MaxThreadsOption.PROPERTY_NAME ) ) {
@@ -366,6 +376,8 @@ public class RuleBaseConfiguration
             return getRuleBaseUpdateHandler();
         } else if ( name.equals( "drools.advancedProcessRuleIntegration" ) ) {
             return Boolean.toString(isAdvancedProcessRuleIntegration());
+        } else if ( name.equals( MAX_MODIFICATION_DELAY_PROPERTY_NAME ) ) {
+            return Long.toString( getMaxModificationDelay() );
         } else if ( name.equals( MultithreadEvaluationOption.PROPERTY_NAME ) ) {
             return Boolean.toString( isMultithreadEvaluation() );
         } else if ( name.equals( MaxThreadsOption.PROPERTY_NAME ) ) {
@@ -447,6 +459,8 @@ public class RuleBaseConfiguration
         setAdvancedProcessRuleIntegration( Boolean.valueOf( this.chainedProperties.getProperty( "drools.advancedProcessRuleIntegration",
                                                                                                 "false" ) ).booleanValue() );
 
+        setMaxModificationDelay( parseMaxModificationDelay( this.chainedProperties.getProperty( MAX_MODIFICATION_DELAY_PROPERTY_NAME, null ) ) );
+
         setMultithreadEvaluation( Boolean.valueOf( this.chainedProperties.getProperty( MultithreadEvaluationOption.PROPERTY_NAME,
                                                                                        "false" ) ).booleanValue() );
 
@@ -788,6 +802,39 @@ public class RuleBaseConfiguration
     public void setAdvancedProcessRuleIntegration(boolean advancedProcessRuleIntegration) {
         this.advancedProcessRuleIntegration = advancedProcessRuleIntegration;
     }
+
+    /**
+     * The milliseconds a pending modification of the kie base can wait for its sessions to stop firing,
+     * before they are forcibly deactivated in order to apply it.
+     */
+    public long getMaxModificationDelay() {
+        return maxModificationDelay;
+    }
+
+    public void setMaxModificationDelay(long maxModificationDelay) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        if ( maxModificationDelay < 0 ) {
+            throw new IllegalArgumentException( MAX_MODIFICATION_DELAY_PROPERTY_NAME + " cannot be negative: " + maxModificationDelay );
+        }
+        this.maxModificationDelay = maxModificationDelay;
+    }
+
+    private static long parseMaxModificationDelay(String value) {
+        if ( StringUtils.isEmpty( value ) ) {
+            return DEFAULT_MAX_MODIFICATION_DELAY;
+        }
+        try {
+            long delay = Long.parseLong( value.trim() );
+            if ( delay >= 0 ) {
+                return delay;
+            }
+        } catch (NumberFormatException e) {
+            // falls back to the default
+        }
+        logger.warn( "Invalid value " + value + " for " + MAX_MODIFICATION_DELAY_PROPERTY_NAME +
+                     ", using the default of " + DEFAULT_MAX_MODIFICATION_DELAY + "ms" );
+        return DEFAULT_MAX_MODIFICATION_DELAY;
+    }
     
     public void addActivationListener(String name, ActivationListenerFactory factory) {
         if ( this.activationListeners == null ) {
@@ -45,6 +45,11 @@ import org.kie.internal.runtime.conf.ForceEagerActivationOption;
 
 public abstract class SessionConfiguration implements KieSessionConfiguration, Externalizable {
 
+    /**
+     * The property enabling the one-shot execution of the stateless sessions, see {@link #isOneShot()}
+     */
+    public static final String ONE_SHOT_PROPERTY_NAME = "drools.stateless.oneShot";
+
     public static SessionConfiguration newInstance() {
         return new SessionConfigurationImpl();
     }
@@ -56,6 +61,16 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     public abstract void setKeepReference(boolean keepReference);
     public abstract boolean isKeepReference();
 
+    public abstract void setOneShot(boolean oneShot);
+
+    /**
+     * When true, the stateless sessions execute each request on a working memory recycled from the previous ones, that
+     * keeps the node memories already allocated, and insert the given facts without taking the entry point lock nor
+     * maintaining their equality keys. The same instance inserted more than once is still a single fact, and the kie
+     * bases with equality assert behaviour keep the usual insertion, so equal facts are still merged.
+     */
+    public abstract boolean isOneShot();
+
     public abstract void setForceEagerActivationFilter(ForceEagerActivationFilter forceEagerActivationFilter);
     public abstract ForceEagerActivationFilter getForceEagerActivationFilter();
 
@@ -157,6 +172,8 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
 
         if ( name.equals( KeepReferenceOption.PROPERTY_NAME ) ) {
             setKeepReference(StringUtils.isEmpty(value) || Boolean.parseBoolean(value));
+        } else if ( name.equals( ONE_SHOT_PROPERTY_NAME ) ) {
+            setOneShot(Boolean.parseBoolean(value));
         } else if ( name.equals( ForceEagerActivationOption.PROPERTY_NAME ) ) {
             setForceEagerActivationFilter(ForceEagerActivationOption.resolve(StringUtils.isEmpty(value) ? "false" : value).getFilter());
         } else if ( name.equals( TimedRuleExecutionOption.PROPERTY_NAME ) ) {
@@ -181,6 +198,8 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
 
         if ( name.equals( KeepReferenceOption.PROPERTY_NAME ) ) {
             return Boolean.toString(isKeepReference());
+        } else if ( name.equals( ONE_SHOT_PROPERTY_NAME ) ) {
+            return Boolean.toString(isOneShot());
         } else if ( name.equals( ClockTypeOption.PROPERTY_NAME ) ) {
             return getClockType().toExternalForm();
         } else if ( name.equals( TimerJobFactoryOption.PROPERTY_NAME ) ) {
@@ -201,6 +220,7 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
         SessionConfiguration that = (SessionConfiguration) o;
 
         return isKeepReference() == that.isKeepReference() &&
+               isOneShot() == that.isOneShot() &&
                getBeliefSystemType() == that.getBeliefSystemType() &&
                getClockType() == that.getClockType() &&
                getTimerJobFactoryType() == that.getTimerJobFactoryType();
@@ -209,6 +229,7 @@ public abstract class SessionConfiguration implements KieSessionConfiguration, E
     @Override
     public final int hashCode() {
         int result = (isKeepReference() ? 1 : 0);
+        result = 31 * result + (isOneShot() ? 1 : 0);
         result = 31 * result + getClockType().hashCode();
         result = 31 * result + getBeliefSystemType().hashCode();
         result = 31 * result + getTimerJobFactoryType().hashCode();
@@ -61,6 +61,7 @@ import org.kie.internal.utils.ChainedProperties;
  * 
  * 
  * drools.keepReference = <true|false>
+ * drools.stateless.oneShot = <true|false>
  * drools.clockType = <pseudo|realtime|heartbeat|implicit>
  */
 public class SessionConfigurationImpl extends SessionConfiguration {
@@ -73,6 +74,8 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
     private boolean                        keepReference;
 
+    private boolean                        oneShot;
+
     private ForceEagerActivationFilter     forceEagerActivationFilter;
     private TimedRuleExecutionFilter       timedRuleExecutionFilter;
 
@@ -158,6 +161,8 @@ public class SessionConfigurationImpl extends SessionConfiguration {
 
         setKeepReference(Boolean.valueOf(this.chainedProperties.getProperty(KeepReferenceOption.PROPERTY_NAME, "true")));
 
+        setOneShot(Boolean.valueOf(this.chainedProperties.getProperty(ONE_SHOT_PROPERTY_NAME, "false")));
+
         setForceEagerActivationFilter(ForceEagerActivationOption.resolve(this.chainedProperties.getProperty(ForceEagerActivationOption.PROPERTY_NAME,
                                                                                                             "false")).getFilter());
 
@@ -220,6 +225,15 @@ public class SessionConfigurationImpl extends SessionConfiguration {
         return this.keepReference;
     }
 
+    public void setOneShot(boolean oneShot) {
+        checkCanChange(); // throws an exception if a change isn't possible;
+        this.oneShot = oneShot;
+    }
+
+    public boolean isOneShot() {
+        return this.oneShot;
+    }
+
     public void setForceEagerActivationFilter(ForceEagerActivationFilter forceEagerActivationFilter) {
         checkCanChange(); // throws an exception if a change isn't possible;
         this.forceEagerActivationFilter = forceEagerActivationFilter;
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.audit;
+
+import java.nio.ByteBuffer;
+
+import org.drools.core.audit.event.ActivationLogEvent;
+import org.drools.core.audit.event.LogEvent;
+import org.drools.core.audit.event.ObjectLogEvent;
+import org.drools.core.audit.event.RuleBaseLogEvent;
+import org.drools.core.audit.event.RuleFlowGroupLogEvent;
+import org.drools.core.audit.event.RuleFlowLogEvent;
+import org.drools.core.audit.event.RuleFlowNodeLogEvent;
+import org.drools.core.audit.event.RuleFlowVariableLogEvent;
+
+import static org.drools.core.util.IoUtils.UTF8_CHARSET;
+
+/**
+ * Encodes and decodes the LogEvents in the compact binary format used by the BinaryWorkingMemoryFileLogger.
+ * Every record is made of its length, a byte identifying the class of the event, the event type
+ * and the event fields.
+ */
+public final class BinaryLogEventCodec {
+
+    public static final int MAGIC = 0x44524C41; // "DRLA"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+
+    private static final byte OBJECT_EVENT = 1;
+    private static final byte ACTIVATION_EVENT = 2;
+    private static final byte RULEBASE_EVENT = 3;
+    private static final byte RULEFLOW_GROUP_EVENT = 4;
+    private static final byte RULEFLOW_EVENT = 5;
+    private static final byte RULEFLOW_NODE_EVENT = 6;
+    private static final byte RULEFLOW_VARIABLE_EVENT = 7;
+
+    private BinaryLogEventCodec() { }
+
+    public static void writeHeader( ByteBuffer buffer ) {
+        buffer.putInt( MAGIC );
+        buffer.putInt( VERSION );
+    }
+
+    public static void readHeader( ByteBuffer buffer ) {
+        if ( buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC ) {
+            throw new IllegalArgumentException( "Not a binary audit log" );
+        }
+        int version = buffer.getInt();
+        if ( version != VERSION ) {
+            throw new IllegalArgumentException( "Unsupported binary audit log version: " + version );
+        }
+    }
+
+    /**
+     * Appends the given event to the buffer.
+     *
+     * @throws java.nio.BufferOverflowException if the buffer doesn't have enough space for the whole record,
+     * in which case the buffer content before the current position is left untouched.
+     */
+    public static void encode( LogEvent event, ByteBuffer buffer ) {
+        int start = buffer.position();
+        buffer.putInt( 0 ); // placeholder for the record length
+        if ( event instanceof ActivationLogEvent ) {
+            ActivationLogEvent e = (ActivationLogEvent) event;
+            buffer.put( ACTIVATION_EVENT ).putInt( e.getType() );
+            putString( buffer, e.getActivationId() );
+            putString( buffer, e.getRule() );
+            putString( buffer, e.getDeclarations() );
+            putString( buffer, e.getRuleFlowGroup() );
+            putString( buffer, e.getFactHandleIds() );
+        } else if ( event instanceof ObjectLogEvent ) {
+            ObjectLogEvent e = (ObjectLogEvent) event;
+            buffer.put( OBJECT_EVENT ).putInt( e.getType() ).putLong( e.getFactId() );
+            putString( buffer, e.getObjectToString() );
+        } else if ( event instanceof RuleBaseLogEvent ) {
+            RuleBaseLogEvent e = (RuleBaseLogEvent) event;
+            buffer.put( RULEBASE_EVENT ).putInt( e.getType() );
+            putString( buffer, e.getPackageName() );
+            putString( buffer, e.getRuleName() );
+        } else if ( event instanceof RuleFlowGroupLogEvent ) {
+            RuleFlowGroupLogEvent e = (RuleFlowGroupLogEvent) event;
+            buffer.put( RULEFLOW_GROUP_EVENT ).putInt( e.getType() );
+            putString( buffer, e.getGroupName() );
+            buffer.putInt( e.getSize() );
+        } else if ( event instanceof RuleFlowNodeLogEvent ) {
+            RuleFlowNodeLogEvent e = (RuleFlowNodeLogEvent) event;
+            buffer.put( RULEFLOW_NODE_EVENT ).putInt( e.getType() );
+            putRuleFlow( buffer, e );
+            putString( buffer, e.getNodeId() );
+            putString( buffer, e.getNodeName() );
+            putString( buffer, e.getNodeInstanceId() );
+        } else if ( event instanceof RuleFlowVariableLogEvent ) {
+            RuleFlowVariableLogEvent e = (RuleFlowVariableLogEvent) event;
+            buffer.put( RULEFLOW_VARIABLE_EVENT ).putInt( e.getType() );
+            putRuleFlow( buffer, e );
+            putString( buffer, e.getVariableId() );
+            putString( buffer, e.getVariableInstanceId() );
+            putString( buffer, e.getObjectToString() );
+        } else if ( event instanceof RuleFlowLogEvent ) {
+            buffer.put( RULEFLOW_EVENT ).putInt( event.getType() );
+            putRuleFlow( buffer, (RuleFlowLogEvent) event );
+        } else {
+            buffer.position( start );
+            throw new IllegalArgumentException( "Unknown log event: " + event.getClass().getName() );
+        }
+        buffer.putInt( start, buffer.position() - start );
+    }
+
+    /**
+     * Reads the next event from the buffer or returns null if the buffer doesn't contain any other complete record.
+     */
+    public static LogEvent decode( ByteBuffer buffer ) {
+        if ( buffer.remaining() < 4 ) {
+            return null;
+        }
+        int length = buffer.getInt( buffer.position() );
+        if ( length <= 4 || length > buffer.remaining() ) {
+            return null;
+        }
+        buffer.getInt();
+        byte kind = buffer.get();
+        int type = buffer.getInt();
+        switch ( kind ) {
+            case ACTIVATION_EVENT:
+                return new ActivationLogEvent( type, getString( buffer ), getString( buffer ), getString( buffer ), getString( buffer ), getString( buffer ) );
+            case OBJECT_EVENT:
+                return new ObjectLogEvent( type, buffer.getLong(), getString( buffer ) );
+            case RULEBASE_EVENT:
+                return new RuleBaseLogEvent( type, getString( buffer ), getString( buffer ) );
+            case RULEFLOW_GROUP_EVENT:
+                return new RuleFlowGroupLogEvent( type, getString( buffer ), buffer.getInt() );
+            case RULEFLOW_NODE_EVENT: {
+                String processId = getString( buffer );
+                String processName = getString( buffer );
+                long processInstanceId = buffer.getLong();
+                return new RuleFlowNodeLogEvent( type, getString( buffer ), getString( buffer ), getString( buffer ), processId, processName, processInstanceId );
+            }
+            case RULEFLOW_VARIABLE_EVENT: {
+                String processId = getString( buffer );
+                String processName = getString( buffer );
+                long processInstanceId = buffer.getLong();
+                return new RuleFlowVariableLogEvent( type, getString( buffer ), getString( buffer ), processId, processName, processInstanceId, getString( buffer ) );
+            }
+            case RULEFLOW_EVENT:
+                return new RuleFlowLogEvent( type, getString( buffer ), getString( buffer ), buffer.getLong() );
+            default:
+                throw new IllegalArgumentException( "Unknown log event kind: " + kind );
+        }
+    }
+
+    private static void putRuleFlow( ByteBuffer buffer, RuleFlowLogEvent event ) {
+        putString( buffer, event.getProcessId() );
+        putString( buffer, event.getProcessName() );
+        buffer.putLong( event.getProcessInstanceId() );
+    }
+
+    private static void putString( ByteBuffer buffer, String s ) {
+        if ( s == null ) {
+            buffer.putInt( -1 );
+            return;
+        }
+        byte[] bytes = s.getBytes( UTF8_CHARSET );
+        buffer.putInt( bytes.length ).put( bytes );
+    }
+
+    private static String getString( ByteBuffer buffer ) {
+        int length = buffer.getInt();
+        if ( length < 0 ) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get( bytes );
+        return new String( bytes, UTF8_CHARSET );
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.audit;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.drools.core.audit.event.LogEvent;
+import org.drools.core.spi.Activation;
+import org.kie.api.event.KieRuntimeEventManager;
+import org.kie.api.logger.KieRuntimeLogger;
+import org.kie.api.runtime.rule.Match;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A low overhead alternative to the WorkingMemoryFileLogger. The events are encoded in a compact binary
+ * format into pre-sized buffers owned by the threads generating them, and a background thread appends
+ * the filled buffers to a memory-mapped file. The matches can be sampled, per rule or globally, by logging
+ * only one activation every N, so that the audit can be kept on also in production. Should the background thread
+ * die, the threads generating the events write the filled buffers to the file by themselves.
+ *
+ * The resulting file can be converted in the usual XML format with the BinaryWorkingMemoryLogReader.
+ */
+public class BinaryWorkingMemoryFileLogger extends WorkingMemoryLogger implements KieRuntimeLogger {
+
+    protected static final transient Logger logger = LoggerFactory.getLogger(BinaryWorkingMemoryFileLogger.class);
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+    public static final int DEFAULT_FLUSH_INTERVAL = 1000;
+
+    private static final int MAPPED_REGION_SIZE = 16 * 1024 * 1024;
+
+    private static final ByteBuffer END_OF_LOG = ByteBuffer.allocate( 0 );
+
+    private final int bufferSize;
+    private final int flushInterval;
+
+    private final ThreadLocal<ThreadBuffer> threadBuffer = ThreadLocal.withInitial( ThreadBuffer::new );
+    // the buffers holding events, the ones of the threads that didn't log since the last flush are given back
+    private final Set<ThreadBuffer> threadBuffers = new HashSet<>();
+
+    private final BlockingQueue<ByteBuffer> filledBuffers = new LinkedBlockingQueue<>();
+    private final ConcurrentLinkedQueue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+
+    // guards the mapped region, written by the flusher or, once it is gone, by the threads generating the events
+    private final Object writeLock = new Object();
+    private final FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long mappedPosition;
+    private boolean closed;
+
+    private final Thread flusher;
+    private volatile boolean flusherAlive = true;
+    private volatile boolean terminate = false;
+
+    private final AtomicLong loggedEvents = new AtomicLong();
+
+    private volatile int defaultSamplingRate = 1;
+    private final Map<String, Integer> ruleSamplingRates = new ConcurrentHashMap<>();
+
+    public BinaryWorkingMemoryFileLogger(KieRuntimeEventManager session, String fileName) {
+        this( session, fileName, DEFAULT_BUFFER_SIZE, DEFAULT_FLUSH_INTERVAL );
+    }
+
+    /**
+     * Creates a new BinaryWorkingMemoryFileLogger for the given session.
+     *
+     * @param fileName The name of the file the events are logged in, without the extension that is automatically appended.
+     * @param bufferSize The size of the buffer preallocated for each thread generating events.
+     * @param flushInterval The maximum number of milliseconds an event can wait in a partially filled buffer before being written.
+     */
+    public BinaryWorkingMemoryFileLogger(KieRuntimeEventManager session, String fileName, int bufferSize, int flushInterval) {
+        super( session );
+        this.bufferSize = bufferSize;
+        this.flushInterval = flushInterval;
+        try {
+            this.channel = FileChannel.open( Paths.get( fileName + FILE_EXTENSION ),
+                                             StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                             StandardOpenOption.READ, StandardOpenOption.WRITE );
+            this.mapped = channel.map( FileChannel.MapMode.READ_WRITE, 0, MAPPED_REGION_SIZE );
+        } catch (IOException e) {
+            throw new RuntimeException( "Could not create the log file " + fileName + FILE_EXTENSION, e );
+        }
+        BinaryLogEventCodec.writeHeader( mapped );
+
+        this.flusher = new Thread( this::flushLoop, "drools-audit-flusher-" + fileName );
+        this.flusher.setDaemon( true );
+        this.flusher.start();
+    }
+
+    /**
+     * Logs only one activation every samplingRate for the rules without a specific sampling rate.
+     * A sampling rate of 0 disables the logging of all the activations.
+     */
+    public void setSamplingRate(int samplingRate) {
+        this.defaultSamplingRate = samplingRate;
+    }
+
+    /**
+     * Logs only one activation every samplingRate for the rule with the given name.
+     * A sampling rate of 0 disables the logging of the activations of this rule.
+     */
+    public void setSamplingRate(String ruleName, int samplingRate) {
+        this.ruleSamplingRates.put( ruleName, samplingRate );
+    }
+
+    @Override
+    protected boolean isMatchLogged(Match match) {
+        int rate = ruleSamplingRates.isEmpty() ? defaultSamplingRate : ruleSamplingRates.getOrDefault( match.getRule().getName(), defaultSamplingRate );
+        // the sampling is done on the activation number, so all the events of a sampled activation are logged
+        return rate == 1 || ( rate > 1 && ((Activation) match).getActivationNumber() % rate == 0 );
+    }
+
+    public long getLoggedEventsCount() {
+        return loggedEvents.get();
+    }
+
+    @Override
+    public void logEventCreated(LogEvent logEvent) {
+        if ( terminate ) {
+            return;
+        }
+        ThreadBuffer tb = threadBuffer.get();
+        boolean filled = false;
+        synchronized (tb) {
+            if ( tb.buffer == null ) {
+                tb.attach();
+            }
+            if ( !tb.append( logEvent ) ) {
+                tb.swap();
+                filled = true;
+                if ( !tb.append( logEvent ) ) {
+                    filledBuffers.add( encodeOversized( logEvent ) );
+                }
+            }
+        }
+        loggedEvents.incrementAndGet();
+        if ( filled && !flusherAlive ) {
+            // nobody else would write the filled buffers, that would pile up in memory
+            writeFilledBuffers();
+        }
+    }
+
+    private ByteBuffer encodeOversized(LogEvent logEvent) {
+        for (int size = bufferSize * 2;; size *= 2) {
+            ByteBuffer buffer = ByteBuffer.allocate( size );
+            try {
+                BinaryLogEventCodec.encode( logEvent, buffer );
+                return buffer;
+            } catch (BufferOverflowException e) {
+                // retry with a bigger buffer
+            }
+        }
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = freeBuffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocate( bufferSize );
+    }
+
+    private void collectThreadBuffers() {
+        List<ThreadBuffer> buffers;
+        synchronized (threadBuffers) {
+            buffers = new ArrayList<>( threadBuffers );
+        }
+        for (ThreadBuffer tb : buffers) {
+            tb.detach();
+        }
+    }
+
+    private void flushLoop() {
+        try {
+            while ( !terminate ) {
+                ByteBuffer buffer = filledBuffers.poll( flushInterval, TimeUnit.MILLISECONDS );
+                if ( buffer == END_OF_LOG ) {
+                    break;
+                }
+                try {
+                    if ( buffer == null ) {
+                        collectThreadBuffers();
+                    } else {
+                        write( buffer );
+                    }
+                } catch (Throwable t) {
+                    // the buffer is lost, but the flusher has to keep draining the following ones
+                    logger.error( "Unable to write the audit log events", t );
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flusherAlive = false;
+            if ( !terminate ) {
+                logger.warn( "The audit log flusher stopped, the events will be written synchronously" );
+                writeFilledBuffers();
+            }
+        }
+    }
+
+    private void writeFilledBuffers() {
+        for (ByteBuffer buffer = filledBuffers.poll(); buffer != null; buffer = filledBuffers.poll()) {
+            if ( buffer != END_OF_LOG ) {
+                try {
+                    write( buffer );
+                } catch (IOException e) {
+                    logger.error( "Unable to write the audit log events", e );
+                }
+            }
+        }
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        synchronized (writeLock) {
+            if ( closed ) {
+                // an event logged while stopping, when the file may be already truncated
+                return;
+            }
+            buffer.flip();
+            while ( buffer.remaining() > mapped.remaining() ) {
+                ByteBuffer slice = buffer.duplicate();
+                slice.limit( slice.position() + mapped.remaining() );
+                mapped.put( slice );
+                buffer.position( slice.position() );
+                mappedPosition += mapped.position();
+                mapped = channel.map( FileChannel.MapMode.READ_WRITE, mappedPosition, MAPPED_REGION_SIZE );
+            }
+            mapped.put( buffer );
+        }
+        if ( buffer.capacity() == bufferSize ) {
+            buffer.clear();
+            freeBuffers.add( buffer );
+        }
+    }
+
+    public void stop() {
+        if ( terminate ) {
+            return;
+        }
+        terminate = true;
+        try {
+            // the flusher can't be interrupted, since that would also close the channel it's writing to
+            filledBuffers.add( END_OF_LOG );
+            flusher.join();
+            collectThreadBuffers();
+            writeFilledBuffers();
+            synchronized (writeLock) {
+                closed = true;
+                mapped.force();
+                channel.truncate( mappedPosition + mapped.position() );
+                channel.close();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.error( "Unable to complete the audit log file", e );
+        }
+    }
+
+    @Override
+    public void close() {
+        stop();
+    }
+
+    private class ThreadBuffer {
+        private ByteBuffer buffer;
+
+        // always called holding the lock of this ThreadBuffer, that is taken before the one of threadBuffers
+        private void attach() {
+            buffer = acquireBuffer();
+            synchronized (threadBuffers) {
+                threadBuffers.add( this );
+            }
+        }
+
+        /**
+         * Hands the events over to the flusher and gives the buffer back, so that the threads that are idle or gone
+         * don't keep a buffer each
+         */
+        private synchronized void detach() {
+            if ( buffer == null ) {
+                return;
+            }
+            if ( buffer.position() > 0 ) {
+                filledBuffers.add( buffer );
+            } else {
+                freeBuffers.add( buffer );
+            }
+            buffer = null;
+            synchronized (threadBuffers) {
+                threadBuffers.remove( this );
+            }
+        }
+
+        private boolean append( LogEvent logEvent ) {
+            int start = buffer.position();
+            try {
+                BinaryLogEventCodec.encode( logEvent, buffer );
+                return true;
+            } catch (BufferOverflowException e) {
+                buffer.position( start );
+                return false;
+            }
+        }
+
+        private void swap() {
+            filledBuffers.add( buffer );
+            buffer = acquireBuffer();
+        }
+    }
+}
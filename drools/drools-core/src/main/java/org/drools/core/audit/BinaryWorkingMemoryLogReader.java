@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.audit;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.audit.event.LogEvent;
+import org.drools.core.util.IoUtils;
+
+import com.thoughtworks.xstream.XStream;
+
+/**
+ * Offline tool reading the binary audit log written by a BinaryWorkingMemoryFileLogger and converting it
+ * in a WorkingMemoryLog, optionally saved in the same XML format produced by the WorkingMemoryFileLogger.
+ *
+ * Usage: BinaryWorkingMemoryLogReader &lt;binary log file&gt; &lt;xml log file name without extension&gt;
+ */
+public class BinaryWorkingMemoryLogReader {
+
+    public static WorkingMemoryLog read(String fileName) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap( Files.readAllBytes( Paths.get( fileName ) ) );
+        BinaryLogEventCodec.readHeader( buffer );
+        List<LogEvent> events = new ArrayList<LogEvent>();
+        for (LogEvent event = BinaryLogEventCodec.decode( buffer ); event != null; event = BinaryLogEventCodec.decode( buffer )) {
+            events.add( event );
+        }
+        return new WorkingMemoryLog( events );
+    }
+
+    public static void convertToXml(String binaryFileName, String xmlFileName) throws IOException {
+        WorkingMemoryLog log = read( binaryFileName );
+        try (Writer writer = new OutputStreamWriter( new FileOutputStream( xmlFileName + ".log" ), IoUtils.UTF8_CHARSET )) {
+            writer.append( "<object-stream>\n" );
+            writer.write( new XStream().toXML( log ) + "\n" );
+            writer.append( "</object-stream>\n" );
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if ( args.length != 2 ) {
+            System.err.println( "Usage: BinaryWorkingMemoryLogReader <binary log file> <xml log file name without extension>" );
+            System.exit( 1 );
+        }
+        convertToXml( args[0], args[1] );
+    }
+}
@@ -205,6 +205,16 @@ public abstract class WorkingMemoryLogger
         logEventCreated( logEvent );
     }
 
+    /**
+     * Allows subclasses to skip the logging of the events related to a given match
+     * before the corresponding log events are created. By default all matches are logged.
+     *
+     * @param match The match the event to be logged refers to
+     */
+    protected boolean isMatchLogged(Match match) {
+        return true;
+    }
+
     /**
      * Adds the given filter to the list of filters for this event log.
      * A log event must be accepted by all the filters to be entered in
@@ -268,6 +278,9 @@ public abstract class WorkingMemoryLogger
      * @see org.kie.api.event.rule.AgendaEventListener
      */
     public void matchCreated(MatchCreatedEvent event) {
+        if ( !isMatchLogged( event.getMatch() ) ) {
+            return;
+        }
         filterLogEvent( new ActivationLogEvent( LogEvent.ACTIVATION_CREATED,
                                                 getActivationId( event.getMatch() ),
                                                 event.getMatch().getRule().getName(),
@@ -280,6 +293,9 @@ public abstract class WorkingMemoryLogger
      * @see org.kie.api.event.rule.AgendaEventListener
      */
     public void matchCancelled(MatchCancelledEvent event) {
+        if ( !isMatchLogged( event.getMatch() ) ) {
+            return;
+        }
         filterLogEvent( new ActivationLogEvent( LogEvent.ACTIVATION_CANCELLED,
                                                 getActivationId( event.getMatch() ),
                                                 event.getMatch().getRule().getName(),
@@ -292,6 +308,9 @@ public abstract class WorkingMemoryLogger
      * @see org.kie.api.event.rule.AgendaEventListener
      */
     public void beforeMatchFired(BeforeMatchFiredEvent event) {
+        if ( !isMatchLogged( event.getMatch() ) ) {
+            return;
+        }
         filterLogEvent( new ActivationLogEvent( LogEvent.BEFORE_ACTIVATION_FIRE,
                                                 getActivationId( event.getMatch() ),
                                                 event.getMatch().getRule().getName(),
@@ -304,6 +323,9 @@ public abstract class WorkingMemoryLogger
      * @see org.kie.api.event.rule.AgendaEventListener
      */
     public void afterMatchFired(final AfterMatchFiredEvent event) {
+        if ( !isMatchLogged( event.getMatch() ) ) {
+            return;
+        }
         filterLogEvent( new ActivationLogEvent( LogEvent.AFTER_ACTIVATION_FIRE,
                                                 getActivationId( event.getMatch() ),
                                                 event.getMatch().getRule().getName(),
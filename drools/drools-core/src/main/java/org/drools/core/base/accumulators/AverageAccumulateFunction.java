@@ -24,7 +24,8 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of calculating average values
  */
-public class AverageAccumulateFunction extends AbstractAccumulateFunction<AverageAccumulateFunction.AverageData> {
+public class AverageAccumulateFunction extends AbstractAccumulateFunction<AverageAccumulateFunction.AverageData>
+        implements DoubleAccumulateFunction<AverageAccumulateFunction.AverageData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
 
@@ -89,6 +90,16 @@ public class AverageAccumulateFunction extends AbstractAccumulateFunction<Averag
         }
     }
 
+    public void accumulateDouble(AverageData data, double value) {
+        data.count++;
+        data.total += value;
+    }
+
+    public void reverseDouble(AverageData data, double value) {
+        data.count--;
+        data.total -= value;
+    }
+
     /* (non-Javadoc)
      * @see org.kie.base.accumulators.AccumulateFunction#getResult(java.lang.Object)
      */
@@ -0,0 +1,32 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Serializable;
+
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+/**
+ * An AccumulateFunction also able to accumulate double values without boxing them.
+ * The compilers use these methods when the accumulated expression has a primitive type.
+ */
+public interface DoubleAccumulateFunction<C extends Serializable> extends AccumulateFunction<C> {
+
+    void accumulateDouble(C context, double value);
+
+    void reverseDouble(C context, double value);
+}
@@ -21,7 +21,8 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
-public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<IntegerSumAccumulateFunction.SumData> {
+public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<IntegerSumAccumulateFunction.SumData>
+        implements IntAccumulateFunction<IntegerSumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException { }
 
@@ -61,6 +62,14 @@ public class IntegerSumAccumulateFunction extends AbstractAccumulateFunction<Int
         }
     }
 
+    public void accumulateInt(SumData data, int value) {
+        data.total += value;
+    }
+
+    public void reverseInt(SumData data, int value) {
+        data.total -= value;
+    }
+
     public Object getResult(SumData data) {
         return data.total;
     }
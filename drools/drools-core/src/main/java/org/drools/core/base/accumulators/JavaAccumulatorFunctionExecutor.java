@@ -21,8 +21,10 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.drools.core.WorkingMemory;
@@ -30,6 +32,7 @@ import org.drools.core.common.InternalFactHandle;
 import org.drools.core.rule.Declaration;
 import org.drools.core.spi.Accumulator;
 import org.drools.core.spi.CompiledInvoker;
+import org.drools.core.spi.FieldValue;
 import org.drools.core.spi.ReturnValueExpression;
 import org.drools.core.spi.ReturnValueExpression.SafeReturnValueExpression;
 import org.drools.core.spi.Tuple;
@@ -49,6 +52,8 @@ public class JavaAccumulatorFunctionExecutor
 
     private ReturnValueExpression expression;
     private org.kie.api.runtime.rule.AccumulateFunction    function;
+    // not serialized, to keep the wire format: a deserialized executor passes the values to the function as objects
+    private transient PrimitiveAccumulation primitiveAccumulation;
 
     public JavaAccumulatorFunctionExecutor() {
 
@@ -59,6 +64,16 @@ public class JavaAccumulatorFunctionExecutor
         this.function = function;
     }
 
+    /**
+     * @param expressionType the type of the accumulated expression: when it's a numeric one and the function
+     *                       has a matching primitive contract, the values are passed to the function unboxed
+     */
+    public JavaAccumulatorFunctionExecutor(final org.kie.api.runtime.rule.AccumulateFunction function,
+                                           final Class<?> expressionType) {
+        this( function );
+        this.primitiveAccumulation = PrimitiveAccumulation.resolve( function, expressionType );
+    }
+
     public void readExternal(ObjectInput in) throws IOException,
                                             ClassNotFoundException {
         expression = (ReturnValueExpression) in.readObject();
@@ -107,12 +122,25 @@ public class JavaAccumulatorFunctionExecutor
                            Declaration[] declarations,
                            Declaration[] innerDeclarations,
                            WorkingMemory workingMemory) throws Exception {
-        final Object value = this.expression.evaluate( handle,
-                                                       leftTuple,
-                                                       declarations,
-                                                       innerDeclarations,
-                                                       workingMemory,
-                                                       workingMemoryContext ).getValue();
+        final FieldValue fieldValue = this.expression.evaluate( handle,
+                                                                leftTuple,
+                                                                declarations,
+                                                                innerDeclarations,
+                                                                workingMemory,
+                                                                workingMemoryContext );
+        if ( this.primitiveAccumulation != null && !fieldValue.isNull() ) {
+            // the FieldValue already holds the primitive, so it's kept for the reverse instead of boxing it
+            if ( this.function.supportsReverse() ) {
+                ((JavaAccumulatorFunctionContext) context).primitive = true;
+                ((JavaAccumulatorFunctionContext) context).reverseSupport.put( handle.getId(),
+                                                                               fieldValue );
+            }
+            this.primitiveAccumulation.accumulate( this.function,
+                                                   ((JavaAccumulatorFunctionContext) context).context,
+                                                   fieldValue );
+            return;
+        }
+        final Object value = fieldValue.getValue();
         if ( this.function.supportsReverse() ) {
             ((JavaAccumulatorFunctionContext) context).reverseSupport.put( handle.getId(),
                                                                            value );
@@ -130,6 +158,12 @@ public class JavaAccumulatorFunctionExecutor
                         WorkingMemory workingMemory) throws Exception {
 
         final Object value = ((JavaAccumulatorFunctionContext) context).reverseSupport.remove(handle.getId());
+        if ( value instanceof FieldValue ) {
+            this.primitiveAccumulation.reverse( this.function,
+                                                ((JavaAccumulatorFunctionContext) context).context,
+                                                (FieldValue) value );
+            return;
+        }
         this.function.reverse( ((JavaAccumulatorFunctionContext) context).context,
                                value );
     }
@@ -188,6 +222,8 @@ public class JavaAccumulatorFunctionExecutor
         Externalizable {
         public Serializable               context;
         public Map<Integer, Object>       reverseSupport;
+        // true once some values are kept for the reverse as FieldValues
+        public boolean                    primitive;
 
         public JavaAccumulatorFunctionContext() {
         }
@@ -201,11 +237,31 @@ public class JavaAccumulatorFunctionExecutor
 
         public void writeExternal(ObjectOutput out) throws IOException {
             out.writeObject( context );
-            out.writeObject( reverseSupport );
+            // the values kept as FieldValues are written boxed, in the same format of the ones accumulated as objects
+            out.writeObject( primitive ? boxReverseSupport() : reverseSupport );
+        }
+
+        private Map<Integer, Object> boxReverseSupport() {
+            Map<Integer, Object> boxed = new HashMap<Integer, Object>( reverseSupport.size() );
+            for ( Map.Entry<Integer, Object> entry : reverseSupport.entrySet() ) {
+                Object value = entry.getValue();
+                boxed.put( entry.getKey(), value instanceof FieldValue ? ((FieldValue) value).getValue() : value );
+            }
+            return boxed;
         }
 
         public Collection<Object> getAccumulatedObjects() {
-            return reverseSupport == null ? null : reverseSupport.values();
+            if ( reverseSupport == null ) {
+                return null;
+            }
+            if ( primitive ) {
+                List<Object> values = new ArrayList<Object>( reverseSupport.size() );
+                for ( Object value : reverseSupport.values() ) {
+                    values.add( value instanceof FieldValue ? ((FieldValue) value).getValue() : value );
+                }
+                return values;
+            }
+            return reverseSupport.values();
         }
 
         @Override
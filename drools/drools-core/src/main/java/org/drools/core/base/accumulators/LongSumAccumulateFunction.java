@@ -21,7 +21,8 @@ import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
 
-public class LongSumAccumulateFunction extends AbstractAccumulateFunction<LongSumAccumulateFunction.SumData> {
+public class LongSumAccumulateFunction extends AbstractAccumulateFunction<LongSumAccumulateFunction.SumData>
+        implements LongAccumulateFunction<LongSumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in ) throws IOException, ClassNotFoundException { }
 
@@ -61,6 +62,14 @@ public class LongSumAccumulateFunction extends AbstractAccumulateFunction<LongSu
         }
     }
 
+    public void accumulateLong(SumData data, long value) {
+        data.total += value;
+    }
+
+    public void reverseLong(SumData data, long value) {
+        data.total -= value;
+    }
+
     public Object getResult(SumData data) {
         return data.total;
     }
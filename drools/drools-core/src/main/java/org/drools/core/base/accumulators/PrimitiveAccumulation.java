@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.Serializable;
+
+import org.drools.core.spi.FieldValue;
+import org.kie.api.runtime.rule.AccumulateFunction;
+
+/**
+ * The primitive contract through which an accumulate function is fed, chosen at build time
+ * from the type of the accumulated expression.
+ */
+public enum PrimitiveAccumulation {
+
+    INT {
+        @Override
+        public void accumulate( AccumulateFunction function, Serializable context, FieldValue value ) {
+            ( (IntAccumulateFunction) function ).accumulateInt( context, value.getIntValue() );
+        }
+
+        @Override
+        public void reverse( AccumulateFunction function, Serializable context, FieldValue value ) {
+            ( (IntAccumulateFunction) function ).reverseInt( context, value.getIntValue() );
+        }
+
+        @Override
+        public void accumulate( AccumulateFunction function, Serializable context, Number value ) {
+            ( (IntAccumulateFunction) function ).accumulateInt( context, value.intValue() );
+        }
+
+        @Override
+        public void reverse( AccumulateFunction function, Serializable context, Number value ) {
+            ( (IntAccumulateFunction) function ).reverseInt( context, value.intValue() );
+        }
+    },
+
+    LONG {
+        @Override
+        public void accumulate( AccumulateFunction function, Serializable context, FieldValue value ) {
+            ( (LongAccumulateFunction) function ).accumulateLong( context, value.getLongValue() );
+        }
+
+        @Override
+        public void reverse( AccumulateFunction function, Serializable context, FieldValue value ) {
+            ( (LongAccumulateFunction) function ).reverseLong( context, value.getLongValue() );
+        }
+
+        @Override
+        public void accumulate( AccumulateFunction function, Serializable context, Number value ) {
+            ( (LongAccumulateFunction) function ).accumulateLong( context, value.longValue() );
+        }
+
+        @Override
+        public void reverse( AccumulateFunction function, Serializable context, Number value ) {
+            ( (LongAccumulateFunction) function ).reverseLong( context, value.longValue() );
+        }
+    },
+
+    DOUBLE {
+        @Override
+        public void accumulate( AccumulateFunction function, Serializable context, FieldValue value ) {
+            ( (DoubleAccumulateFunction) function ).accumulateDouble( context, value.getDoubleValue() );
+        }
+
+        @Override
+        public void reverse( AccumulateFunction function, Serializable context, FieldValue value ) {
+            ( (DoubleAccumulateFunction) function ).reverseDouble( context, value.getDoubleValue() );
+        }
+
+        @Override
+        public void accumulate( AccumulateFunction function, Serializable context, Number value ) {
+            ( (DoubleAccumulateFunction) function ).accumulateDouble( context, value.doubleValue() );
+        }
+
+        @Override
+        public void reverse( AccumulateFunction function, Serializable context, Number value ) {
+            ( (DoubleAccumulateFunction) function ).reverseDouble( context, value.doubleValue() );
+        }
+    };
+
+    public abstract void accumulate( AccumulateFunction function, Serializable context, FieldValue value );
+
+    public abstract void reverse( AccumulateFunction function, Serializable context, FieldValue value );
+
+    public abstract void accumulate( AccumulateFunction function, Serializable context, Number value );
+
+    public abstract void reverse( AccumulateFunction function, Serializable context, Number value );
+
+    /**
+     * Returns the primitive contract of the given function able to accept values of the given type
+     * without loss of precision, or null if the values have to be passed as objects.
+     * Both primitive and boxed types are accepted, since the executable model only deals with the latter.
+     */
+    public static PrimitiveAccumulation resolve( AccumulateFunction function, Class<?> type ) {
+        if ( type == null ) {
+            return null;
+        }
+        boolean isInt = type == int.class || type == Integer.class || type == short.class || type == Short.class ||
+                        type == byte.class || type == Byte.class;
+        if ( isInt && function instanceof IntAccumulateFunction ) {
+            return INT;
+        }
+        boolean isLong = isInt || type == long.class || type == Long.class;
+        if ( isLong && function instanceof LongAccumulateFunction ) {
+            return LONG;
+        }
+        boolean isDouble = isLong || type == double.class || type == Double.class || type == float.class || type == Float.class;
+        if ( isDouble && function instanceof DoubleAccumulateFunction ) {
+            return DOUBLE;
+        }
+        return null;
+    }
+}
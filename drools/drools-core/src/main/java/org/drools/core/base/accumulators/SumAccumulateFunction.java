@@ -24,7 +24,8 @@ import java.io.ObjectOutput;
 /**
  * An implementation of an accumulator capable of calculating sum of values
  */
-public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumulateFunction.SumData> {
+public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumulateFunction.SumData>
+        implements DoubleAccumulateFunction<SumAccumulateFunction.SumData> {
 
     public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException { }
 
@@ -67,6 +68,14 @@ public class SumAccumulateFunction extends AbstractAccumulateFunction<SumAccumul
         data.total -= ((Number) value).doubleValue();
     }
 
+    public void accumulateDouble(SumData data, double value) {
+        data.total += value;
+    }
+
+    public void reverseDouble(SumData data, double value) {
+        data.total -= value;
+    }
+
     public Object getResult(SumData data) {
         return data.total;
     }
@@ -39,10 +39,7 @@ public class JTMSBeliefSetImpl<M extends JTMSMode<M>> extends LinkedList<M> impl
     }
 
     public void add( M node ) {
-        JTMSMode mode = node;
-        String value = mode.getValue();
-        boolean neg = MODE.NEGATIVE.getId().equals( value );
-        if ( neg ) {
+        if ( node.isNegative() ) {
             super.addLast( node ); //we add negatives to end
             negCounter++;
         } else {
@@ -54,11 +51,7 @@ public class JTMSBeliefSetImpl<M extends JTMSMode<M>> extends LinkedList<M> impl
     public void remove( M node ) {
         super.remove(node);
 
-        JTMSMode mode = node;
-        String value = mode.getValue();
-
-        boolean neg = MODE.NEGATIVE.getId().equals( value );
-        if ( neg ) {
+        if ( node.isNegative() ) {
             negCounter--;
         } else {
             posCounter--;
@@ -150,7 +150,7 @@ public class JTMSBeliefSystem<M extends JTMSMode<M>>
                     value = MODE.NEGATIVE.getId();
                     // Find the new node, and update the handle to it, Negatives iterate from the last
                     for ( JTMSMode entry = (JTMSMode) jtmsBeliefSet.getLast(); entry != null; entry = (JTMSMode) entry.getPrevious() ) {
-                        if ( entry.getValue().equals( value ) ) {
+                        if ( entry.isNegative() ) {
                             object = entry.getLogicalDependency().getObject();
                             break;
                         }
@@ -24,17 +24,18 @@ import org.kie.api.internal.runtime.beliefs.Mode;
 public class JTMSMode<M extends JTMSMode<M>> extends AbstractBaseLinkedListNode<M> implements ModedAssertion<M> {
     private BeliefSystem<M> bs;
     private String value;
+    private boolean negative;
     private LogicalDependency<M> dep;
     private Mode nextMode;
 
     public JTMSMode(String value, BeliefSystem bs) {
         this.value = value;
+        this.negative = JTMSBeliefSetImpl.MODE.NEGATIVE.getId().equals( value );
         this.bs = bs;
     }
 
     public JTMSMode(String value, BeliefSystem bs,  Mode nextMode) {
-        this.value = value;
-        this.bs = bs;
+        this( value, bs );
         this.nextMode = nextMode;
     }
 
@@ -47,6 +48,13 @@ public class JTMSMode<M extends JTMSMode<M>> extends AbstractBaseLinkedListNode<
         return value;
     }
 
+    /**
+     * The polarity is resolved once here, so that the belief sets don't compare the mode value at each add and remove
+     */
+    public boolean isNegative() {
+        return negative;
+    }
+
     public LogicalDependency<M> getLogicalDependency() {
         return dep;
     }
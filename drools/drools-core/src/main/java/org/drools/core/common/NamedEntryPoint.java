@@ -188,14 +188,7 @@ public class NamedEntryPoint
                                                                                                     null,
                                                                                                     entryPoint);
             if ( this.wm.isSequential() ) {
-                InternalFactHandle handle = createHandle( object, typeConf );
-                propagationContext.setFactHandle(handle);
-                insert( handle,
-                        object,
-                        rule,
-                        typeConf,
-                        propagationContext );
-                return handle;
+                return insertWithoutLookup( object, rule, typeConf, propagationContext );
             }
 
             InternalFactHandle handle;
@@ -264,6 +257,54 @@ public class NamedEntryPoint
 
     }
 
+    /**
+     * Inserts a fact of a one-shot stateless execution without taking the entry point lock, that is only possible
+     * while the working memory is confined to the calling thread. The existing handle of the same instance is still
+     * looked up, since that is a single probe of the object store, but no equality key is maintained. The facts of a
+     * kie base with equality assert behaviour, and the ones of the types with the truth maintenance enabled or with
+     * property change support, follow the usual insertion, since their identity is given by the equality lookup.
+     */
+    public FactHandle insertFresh(Object object) {
+        if ( object == null ) {
+            return null;
+        }
+        if ( !AssertBehaviour.IDENTITY.equals( this.kBase.getConfiguration().getAssertBehaviour() ) ) {
+            return insert( object );
+        }
+        ObjectTypeConf typeConf = getObjectTypeConfigurationRegistry().getObjectTypeConf( this.entryPoint, object );
+        if ( typeConf.isTMSEnabled() || typeConf.isDynamic() ) {
+            return insert( object );
+        }
+
+        try {
+            this.wm.startOperation();
+            InternalFactHandle handle = this.objectStore.getHandleForObject( object );
+            if ( handle != null ) {
+                return handle;
+            }
+            PropagationContext propagationContext = this.pctxFactory.createPropagationContext(this.wm.getNextPropagationIdCounter(),
+                                                                                              PropagationContext.Type.INSERTION,
+                                                                                              null,
+                                                                                              null,
+                                                                                              null,
+                                                                                              entryPoint);
+            return insertWithoutLookup( object, null, typeConf, propagationContext );
+        } finally {
+            this.wm.endOperation();
+        }
+    }
+
+    private InternalFactHandle insertWithoutLookup(Object object, RuleImpl rule, ObjectTypeConf typeConf, PropagationContext propagationContext) {
+        InternalFactHandle handle = createHandle( object, typeConf );
+        propagationContext.setFactHandle(handle);
+        insert( handle,
+                object,
+                rule,
+                typeConf,
+                propagationContext );
+        return handle;
+    }
+
     public void insert(InternalFactHandle handle,
                        Object object,
                        RuleImpl rule,
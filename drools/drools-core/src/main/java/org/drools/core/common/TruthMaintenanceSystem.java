@@ -42,6 +42,8 @@ import org.kie.api.runtime.rule.FactHandle;
  */
 public class TruthMaintenanceSystem {
 
+    private static final int MIN_EQUALITY_MAP_CAPACITY = 16;
+
     private InternalWorkingMemoryEntryPoint ep;
 
     private ObjectTypeConfigurationRegistry typeConfReg;
@@ -172,7 +174,10 @@ public class TruthMaintenanceSystem {
     }
 
     public EqualityKey remove(final EqualityKey key) {
-        return (EqualityKey) this.equalityKeyMap.remove( key );
+        EqualityKey removed = (EqualityKey) this.equalityKeyMap.remove( key );
+        // after a burst of logical insertions the map would otherwise keep its peak capacity forever
+        this.equalityKeyMap.shrink( MIN_EQUALITY_MAP_CAPACITY );
+        return removed;
     }
 
     /**
@@ -246,6 +251,71 @@ public class TruthMaintenanceSystem {
         this.equalityKeyMap.clear();
     }
 
+    /**
+     * Walks the equality map counting the keys, the belief sets and the logical dependencies currently
+     * retained by this TMS. It is linear in the number of keys, so it's meant for monitoring and not for
+     * being called at each insertion.
+     */
+    public Stats getStats() {
+        Stats stats = new Stats( equalityKeyMap.getTable().length );
+        org.drools.core.util.Iterator it = equalityKeyMap.newIterator();
+        for ( ObjectHashMap.ObjectEntry entry = (ObjectHashMap.ObjectEntry) it.next(); entry != null; entry = (ObjectHashMap.ObjectEntry) it.next() ) {
+            EqualityKey key = (EqualityKey) entry.getKey();
+            stats.equalityKeys++;
+            if ( key.getStatus() == EqualityKey.JUSTIFIED ) {
+                stats.justifiedKeys++;
+            }
+            BeliefSet beliefSet = key.getBeliefSet();
+            if ( beliefSet != null ) {
+                stats.beliefSets++;
+                stats.logicalDependencies += beliefSet.size();
+            }
+        }
+        return stats;
+    }
+
+    public static class Stats {
+        private final int equalityKeyMapCapacity;
+        private int equalityKeys;
+        private int justifiedKeys;
+        private int beliefSets;
+        private long logicalDependencies;
+
+        private Stats( int equalityKeyMapCapacity ) {
+            this.equalityKeyMapCapacity = equalityKeyMapCapacity;
+        }
+
+        public int getEqualityKeyMapCapacity() {
+            return equalityKeyMapCapacity;
+        }
+
+        public int getEqualityKeys() {
+            return equalityKeys;
+        }
+
+        public int getJustifiedKeys() {
+            return justifiedKeys;
+        }
+
+        public int getStatedKeys() {
+            return equalityKeys - justifiedKeys;
+        }
+
+        public int getBeliefSets() {
+            return beliefSets;
+        }
+
+        public long getLogicalDependencies() {
+            return logicalDependencies;
+        }
+
+        @Override
+        public String toString() {
+            return "TMS stats: equalityKeys=" + equalityKeys + " (justified=" + justifiedKeys + ") capacity=" + equalityKeyMapCapacity +
+                   " beliefSets=" + beliefSets + " logicalDependencies=" + logicalDependencies;
+        }
+    }
+
     public BeliefSystem getBeliefSystem() {
         return defaultBeliefSystem;
     }
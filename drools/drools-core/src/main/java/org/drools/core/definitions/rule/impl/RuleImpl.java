@@ -38,6 +38,7 @@ import org.drools.core.WorkingMemory;
 import org.drools.core.base.EnabledBoolean;
 import org.drools.core.base.SalienceInteger;
 import org.drools.core.reteoo.RuleTerminalNode;
+import org.drools.core.reteoo.builder.RuleBaseInterner;
 import org.drools.core.rule.ConsequenceMetaData;
 import org.drools.core.rule.Declaration;
 import org.drools.core.rule.Dialectable;
@@ -497,6 +498,10 @@ public class RuleImpl implements Externalizable,
     }
 
     public void setRequiredDeclarationsForConsequence(String consequenceName, String[] requiredDeclarations) {
+        if (this.requiredDeclarations.isEmpty()) {
+            // it may be the shared empty map installed by the interning
+            this.requiredDeclarations = new HashMap<String, String[]>();
+        }
         this.requiredDeclarations.put(consequenceName, requiredDeclarations);
     }
 
@@ -790,6 +795,10 @@ public class RuleImpl implements Externalizable,
 
     public void addMetaAttribute(String key,
                                  Object value) {
+        if ( this.metaAttributes.isEmpty() ) {
+            // it may be the shared empty map installed by the interning
+            this.metaAttributes = new HashMap<String, Object>();
+        }
         this.metaAttributes.put( key,
                                  value );
     }
@@ -802,6 +811,32 @@ public class RuleImpl implements Externalizable,
         this.activationListener = activationListener;
     }
 
+    /**
+     * Replaces the strings and the empty maps held by this rule with the instances shared by the whole rule base
+     */
+    public void intern(RuleBaseInterner interner) {
+        this.pkg = interner.intern( this.pkg );
+        this.dialect = interner.intern( this.dialect );
+        this.agendaGroup = interner.intern( this.agendaGroup );
+        this.activationGroup = interner.intern( this.activationGroup );
+        this.ruleFlowGroup = interner.intern( this.ruleFlowGroup );
+
+        if ( this.requiredDeclarations.isEmpty() ) {
+            this.requiredDeclarations = Collections.emptyMap();
+        }
+        if ( this.metaAttributes.isEmpty() ) {
+            this.metaAttributes = Collections.emptyMap();
+        } else {
+            Map<String, Object> interned = new HashMap<String, Object>( this.metaAttributes.size() * 2 );
+            for ( Map.Entry<String, Object> entry : this.metaAttributes.entrySet() ) {
+                Object value = entry.getValue();
+                interned.put( interner.intern( entry.getKey() ),
+                              value instanceof String ? interner.intern( (String) value ) : value );
+            }
+            this.metaAttributes = interned;
+        }
+    }
+
     public Map<String, Object> getMetaData() {
         return Collections.unmodifiableMap(metaAttributes);
     }
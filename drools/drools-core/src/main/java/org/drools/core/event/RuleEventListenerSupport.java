@@ -16,6 +16,7 @@
 
 package org.drools.core.event;
 
+import org.kie.api.definition.rule.Rule;
 import org.kie.api.runtime.rule.Match;
 import org.kie.internal.event.rule.RuleEventListener;
 
@@ -36,4 +37,12 @@ public class RuleEventListenerSupport extends AbstractEventSupport<RuleEventList
     public void onUpdateMatch(Match match) {
         notifyAllListeners( l -> l.onUpdateMatch(match) );
     }
+
+    public void onBeforeRuleEvaluation(Rule rule) {
+        notifyAllListeners( l -> l.onBeforeRuleEvaluation(rule) );
+    }
+
+    public void onAfterRuleEvaluation(Rule rule) {
+        notifyAllListeners( l -> l.onAfterRuleEvaluation(rule) );
+    }
 }
@@ -16,9 +16,11 @@
 
 package org.drools.core.impl;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.drools.core.management.SessionsPoolStats;
 import org.kie.api.runtime.Environment;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.KieSessionsPool;
@@ -44,6 +46,15 @@ public abstract class AbstractKieSessionsPool implements KieSessionsPool {
         pools.clear();
     }
 
+    /**
+     * Returns the statistics of each of the pools created so far, indexed by the key identifying their sessions
+     */
+    public Map<String, SessionsPoolStats> getStats() {
+        Map<String, SessionsPoolStats> stats = new HashMap<>();
+        pools.forEach( (key, pool) -> stats.put( key, pool.getStats() ) );
+        return stats;
+    }
+
     protected StatefulSessionPool getPool( KieSessionConfiguration conf, boolean stateless) {
         return getPool( null, conf, stateless);
     }
@@ -31,6 +31,7 @@ import org.drools.core.common.RuleBasePartitionId;
 import org.drools.core.definitions.InternalKnowledgePackage;
 import org.drools.core.definitions.rule.impl.RuleImpl;
 import org.drools.core.factmodel.traits.TraitRegistry;
+import org.drools.core.management.KieBaseUpdateStats;
 import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.EntryPointNode;
 import org.drools.core.reteoo.LeftTupleNode;
@@ -66,6 +67,8 @@ public interface InternalKnowledgeBase extends KieBase {
     void enqueueModification(Runnable modification);
     boolean flushModifications();
 
+    KieBaseUpdateStats getUpdateStats();
+
     int nextWorkingMemoryCounter();
 
     int getWorkingMemoryCounter();
@@ -141,6 +144,12 @@ public interface InternalKnowledgeBase extends KieBase {
 	String getContainerId();
 	void setContainerId(String containerId);
     void setKieContainer( InternalKieContainer kieContainer );
+
+    /**
+     * Disposes the working memories recycled by the one-shot stateless executions, when this kie base is no longer used
+     */
+    void shutdownOneShotSessionsPools();
+
 	void initMBeans();
 
     RuleUnitDescriptionRegistry getRuleUnitDescriptionRegistry();
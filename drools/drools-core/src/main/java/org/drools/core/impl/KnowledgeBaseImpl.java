@@ -35,7 +35,11 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -46,6 +50,7 @@ import org.drools.core.SessionConfigurationImpl;
 import org.drools.core.base.ClassFieldAccessorCache;
 import org.drools.core.base.ClassObjectType;
 import org.drools.core.common.BaseNode;
+import org.drools.core.concurrent.ExecutorProviderImpl;
 import org.drools.core.common.DroolsObjectInput;
 import org.drools.core.common.DroolsObjectInputStream;
 import org.drools.core.common.DroolsObjectOutputStream;
@@ -59,6 +64,7 @@ import org.drools.core.event.KieBaseEventSupport;
 import org.drools.core.factmodel.ClassDefinition;
 import org.drools.core.factmodel.traits.TraitRegistry;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.management.KieBaseUpdateStats;
 import org.drools.core.reteoo.AsyncReceiveNode;
 import org.drools.core.reteoo.BetaNode;
 import org.drools.core.reteoo.CompositePartitionAwareObjectSinkAdapter;
@@ -76,6 +82,7 @@ import org.drools.core.reteoo.SegmentMemory;
 import org.drools.core.reteoo.Sink;
 import org.drools.core.reteoo.builder.BuildContext;
 import org.drools.core.reteoo.builder.NodeFactory;
+import org.drools.core.reteoo.builder.RuleBaseInterner;
 import org.drools.core.rule.DialectRuntimeRegistry;
 import org.drools.core.rule.EntryPointId;
 import org.drools.core.rule.Function;
@@ -107,6 +114,7 @@ import org.kie.api.runtime.KieSession;
 import org.kie.api.runtime.KieSessionConfiguration;
 import org.kie.api.runtime.KieSessionsPool;
 import org.kie.api.runtime.StatelessKieSession;
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -172,10 +180,17 @@ public class KnowledgeBaseImpl
 
     public final Set<KieBaseEventListener> kieBaseListeners = Collections.newSetFromMap(new ConcurrentHashMap<KieBaseEventListener, Boolean>());
 
-    private transient Queue<Runnable> kbaseModificationsQueue = new ConcurrentLinkedQueue<Runnable>();
+    private transient Queue<PendingModification> kbaseModificationsQueue = new ConcurrentLinkedQueue<PendingModification>();
 
     private transient AtomicInteger sessionDeactivationsCounter = new AtomicInteger();
     private transient AtomicBoolean flushingUpdates = new AtomicBoolean( false );
+    private transient AtomicBoolean flushRequested = new AtomicBoolean( false );
+    private transient AtomicBoolean forcedFlushScheduled = new AtomicBoolean( false );
+    private transient long sessionsDeactivatedAt;
+
+    private transient KieBaseUpdateStats updateStats = new KieBaseUpdateStats();
+
+    private final transient Map<SessionConfiguration, StatefulSessionPool> oneShotSessionsPools = new ConcurrentHashMap<>();
 
     private transient InternalKieContainer kieContainer;
 
@@ -324,6 +339,24 @@ public class KnowledgeBaseImpl
         return new KieSessionsPoolImpl(this, initialSize);
     }
 
+    /**
+     * Returns the pool recycling the working memories of the one-shot stateless executions with the given configuration.
+     * The pools are shared by the equal configurations, so a configuration created for each request doesn't add a new
+     * one. A pool has no initial sessions, so it only holds as many of them as the executions that ran concurrently so far.
+     */
+    StatefulSessionPool getOneShotSessionsPool( SessionConfiguration conf ) {
+        return oneShotSessionsPools.computeIfAbsent( conf, c -> {
+            Environment environment = EnvironmentFactory.newEnvironment();
+            return new StatefulSessionPool( this, 0, () -> internalCreateStatefulKnowledgeSession( environment, c ).setStateless( true ) );
+        } );
+    }
+
+    @Override
+    public void shutdownOneShotSessionsPools() {
+        oneShotSessionsPools.values().forEach( StatefulSessionPool::shutdown );
+        oneShotSessionsPools.clear();
+    }
+
     public KieSession newKieSession() {
         return newKieSession(null, EnvironmentFactory.newEnvironment());
     }
@@ -726,39 +759,87 @@ public class KnowledgeBaseImpl
     }
 
     public void enqueueModification(Runnable modification) {
+        PendingModification pending = new PendingModification( modification );
         if ( tryLockAndDeactivate() ) {
             try {
-                modification.run();
+                pending.run();
             } finally {
                 unlockAndActivate();
             }
         } else {
-            kbaseModificationsQueue.offer(modification);
+            kbaseModificationsQueue.offer(pending);
+            scheduleForcedFlush( TimeUnit.MILLISECONDS.toNanos( config.getMaxModificationDelay() ) );
         }
     }
 
+    /**
+     * Applies the pending modifications, if any, without waiting for the sessions that are still firing: in this case the
+     * modifications are left to the flush performed by those sessions at the end of their firing. Once the oldest of them
+     * has been waiting for longer than the configured max modification delay, the flush waits for the firing sessions
+     * instead, and a flush forcing them is anyway scheduled at that deadline, so that the modifications are applied
+     * even if no session reaches a fire boundary, like when they are idle or firing until halt.
+     */
     public boolean flushModifications() {
-        if (!flushingUpdates.compareAndSet( false, true )) {
-            return false;
+        boolean flushed = false;
+        // a flush requested while another thread is flushing is taken over by that thread before it leaves
+        flushRequested.set( true );
+        while (flushRequested.get() && flushingUpdates.compareAndSet( false, true )) {
+            try {
+                flushRequested.set( false );
+                flushed |= tryFlushModifications();
+            } finally {
+                flushingUpdates.set( false );
+            }
         }
+        return flushed;
+    }
 
-        if (kbaseModificationsQueue.isEmpty()) {
-            flushingUpdates.set( false );
+    private boolean tryFlushModifications() {
+        PendingModification oldest = kbaseModificationsQueue.peek();
+        if (oldest == null) {
             return false;
         }
 
-        try {
+        if (!tryLockAndDeactivate()) {
+            long remainingDelay = oldest.enqueuedAt + TimeUnit.MILLISECONDS.toNanos( config.getMaxModificationDelay() ) - System.nanoTime();
+            if (remainingDelay > 0) {
+                updateStats.recordDeferredFlush();
+                scheduleForcedFlush( remainingDelay );
+                return false;
+            }
+            updateStats.recordForcedFlush();
             lockAndDeactivate();
+        }
+
+        try {
             while (!kbaseModificationsQueue.isEmpty()) {
                 kbaseModificationsQueue.poll().run();
             }
         } finally {
-            flushingUpdates.set( false );
             unlockAndActivate();
         }
         return true;
     }
 
+    private void scheduleForcedFlush(long delayNanos) {
+        if (forcedFlushScheduled.compareAndSet( false, true )) {
+            // the scheduler only hands the flush over to the shared executor, since it may have to wait for the firing sessions
+            ForcedFlushScheduler.scheduler.schedule( () -> ForcedFlushScheduler.executor.execute( () -> {
+                forcedFlushScheduled.set( false );
+                flushModifications();
+            } ), delayNanos, TimeUnit.NANOSECONDS );
+        }
+    }
+
+    private static class ForcedFlushScheduler {
+        private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor( new ExecutorProviderImpl.DaemonThreadFactory() );
+        private static final Executor executor = ExecutorProviderFactory.getExecutorProvider().getExecutor();
+    }
+
+    public KieBaseUpdateStats getUpdateStats() {
+        return updateStats;
+    }
+
     private void lockAndDeactivate() {
         lock();
         deactivateAllSessions();
@@ -785,6 +866,7 @@ public class KnowledgeBaseImpl
                 return false;
             }
         }
+        sessionsDeactivatedAt = System.nanoTime();
         return true;
     }
 
@@ -812,17 +894,39 @@ public class KnowledgeBaseImpl
             for ( InternalWorkingMemory wm : getWorkingMemories() ) {
                 wm.deactivate();
             }
+            sessionsDeactivatedAt = System.nanoTime();
         }
     }
 
     private void activateAllSessions() {
         if ( sessionDeactivationsCounter.decrementAndGet() == 0 ) {
+            // still holding the write lock, so the stats are never recorded concurrently
+            updateStats.recordSessionPause( System.nanoTime() - sessionsDeactivatedAt );
             for ( InternalWorkingMemory wm : getWorkingMemories() ) {
                 wm.activate();
             }
         }
     }
 
+    private class PendingModification implements Runnable {
+
+        private final Runnable modification;
+        private final long enqueuedAt = System.nanoTime();
+
+        private PendingModification(Runnable modification) {
+            this.modification = modification;
+        }
+
+        @Override
+        public void run() {
+            try {
+                modification.run();
+            } finally {
+                updateStats.recordUpdate( System.nanoTime() - enqueuedAt );
+            }
+        }
+    }
+
     private void internalAddPackages(Collection<InternalKnowledgePackage> clonedPkgs) {
         for ( InternalWorkingMemory wm : getWorkingMemories() ) {
             wm.flushPropagations();
@@ -888,6 +992,7 @@ public class KnowledgeBaseImpl
         }
 
 
+        RuleBaseInterner interner = RuleBaseInterner.isEnabled() ? new RuleBaseInterner() : null;
         for (InternalKnowledgePackage newPkg : clonedPkgs) {
             InternalKnowledgePackage pkg = this.pkgs.get( newPkg.getName() );
 
@@ -909,7 +1014,7 @@ public class KnowledgeBaseImpl
             for ( Rule r : newPkg.getRules() ) {
                 RuleImpl rule = (RuleImpl)r;
                 checkMultithreadedEvaluation( rule );
-                internalAddRule( rule );
+                internalAddRule( rule, interner );
             }
 
             // add the flows to the RuleBase
@@ -1511,15 +1616,20 @@ public class KnowledgeBaseImpl
 
     public void addRules( Collection<RuleImpl> rules ) throws InvalidPatternException {
         enqueueModification( () -> {
+            RuleBaseInterner interner = RuleBaseInterner.isEnabled() ? new RuleBaseInterner() : null;
             for (RuleImpl rule : rules) {
-                internalAddRule( rule );
+                internalAddRule( rule, interner );
             }
         });
     }
 
-    private void internalAddRule( RuleImpl rule ) {
+    private void internalAddRule( RuleImpl rule, RuleBaseInterner interner ) {
         this.eventSupport.fireBeforeRuleAdded( rule );
         this.reteooBuilder.addRule(rule);
+        if ( interner != null ) {
+            // after the rule is in the network, so the shared alpha constraints are the ones of its nodes
+            interner.intern( rule );
+        }
         this.eventSupport.fireAfterRuleAdded( rule );
     }
 
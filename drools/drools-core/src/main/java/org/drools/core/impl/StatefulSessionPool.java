@@ -18,16 +18,25 @@ package org.drools.core.impl;
 
 import java.util.function.Supplier;
 
+import org.drools.core.management.SessionsPoolStats;
 import org.drools.core.util.ScalablePool;
 
 public class StatefulSessionPool {
 
     private final KnowledgeBaseImpl kbase;
     private final ScalablePool<StatefulKnowledgeSessionImpl> pool;
+    private final SessionsPoolStats stats = new SessionsPoolStats();
 
     public StatefulSessionPool( KnowledgeBaseImpl kbase, int initialSize, Supplier<StatefulKnowledgeSessionImpl> supplier ) {
         this.kbase = kbase;
-        this.pool = new ScalablePool<>(initialSize, supplier, s -> s.reset(), s -> s.fromPool(null).dispose());
+        // the initial sessions are created in background, so the first borrower doesn't have to wait for all of them
+        this.pool = new ScalablePool<>(initialSize, true, supplier, this::reset, s -> s.fromPool(null).dispose());
+    }
+
+    private void reset(StatefulKnowledgeSessionImpl session) {
+        long start = System.nanoTime();
+        session.reset();
+        stats.recordReset( System.nanoTime() - start );
     }
 
     public KnowledgeBaseImpl getKieBase() {
@@ -35,7 +44,18 @@ public class StatefulSessionPool {
     }
 
     public StatefulKnowledgeSessionImpl get() {
-        return pool.get().fromPool( this );
+        long start = System.nanoTime();
+        StatefulKnowledgeSessionImpl session = pool.poll();
+        if (session == null) {
+            stats.recordExhaustion();
+            session = pool.create();
+        }
+        stats.recordBorrow( System.nanoTime() - start );
+        return session.fromPool( this );
+    }
+
+    public SessionsPoolStats getStats() {
+        return stats;
     }
 
     public void release(StatefulKnowledgeSessionImpl session) {
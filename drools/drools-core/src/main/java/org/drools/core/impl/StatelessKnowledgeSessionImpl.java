@@ -33,7 +33,9 @@ import org.drools.core.command.impl.ContextImpl;
 import org.drools.core.command.runtime.BatchExecutionCommandImpl;
 import org.drools.core.command.runtime.rule.FireAllRulesCommand;
 import org.drools.core.common.InternalFactHandle;
+import org.drools.core.common.NamedEntryPoint;
 import org.drools.core.management.DroolsManagementAgent;
+import org.drools.core.rule.EntryPointId;
 import org.drools.core.runtime.impl.ExecutionResultImpl;
 import org.kie.api.KieBase;
 import org.kie.api.command.BatchExecutionCommand;
@@ -74,8 +76,12 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
 
     private final StatefulSessionPool pool;
 
+    // the working memories recycled by the one-shot executions, when enabled by the configuration
+    private final StatefulSessionPool oneShotPool;
+
     public StatelessKnowledgeSessionImpl() {
         pool = null;
+        oneShotPool = null;
         wmCreated = new AtomicLong(0);
     }
 
@@ -85,6 +91,10 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         this.conf = conf != null ? (SessionConfiguration) conf : kBase.getSessionConfiguration();
         this.environment = EnvironmentFactory.newEnvironment();
         this.pool = null;
+        // a sequential rule base already inserts and fires in a single pass without any lookup
+        this.oneShotPool = this.conf.isOneShot() && !this.kBase.getConfiguration().isSequential() ?
+                           this.kBase.getOneShotSessionsPool( this.conf ) :
+                           null;
         wmCreated = new AtomicLong(0);
     }
 
@@ -94,6 +104,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         this.conf = conf != null ? (SessionConfiguration) conf : kBase.getSessionConfiguration();
         this.environment = null;
         this.pool = pool;
+        this.oneShotPool = null;
         wmCreated = new AtomicLong(1);
     }
 
@@ -102,7 +113,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
     }
 
     private StatefulKnowledgeSession newWorkingMemory() {
-        StatefulKnowledgeSessionImpl ksession = pool != null ? pool.get() : createWorkingMemory();
+        StatefulKnowledgeSessionImpl ksession = pool != null ? pool.get() : oneShotPool != null ? oneShotPool.get() : createWorkingMemory();
 
         ((Globals ) ksession.getGlobalResolver()).setDelegate(this.sessionGlobals);
 
@@ -158,6 +169,22 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         }
     }
 
+    private void unregisterListeners( StatefulKnowledgeSessionImpl wm ) {
+        for (ListnerHolder listnerHolder : listeners ) {
+            switch (listnerHolder.type) {
+                case AGENDA:
+                    wm.removeEventListener( (AgendaEventListener)listnerHolder.listener );
+                    break;
+                case RUNTIME:
+                    wm.removeEventListener( (RuleRuntimeEventListener)listnerHolder.listener );
+                    break;
+                case PROCESS:
+                    wm.removeEventListener( (ProcessEventListener)listnerHolder.listener );
+                    break;
+            }
+        }
+    }
+
     public void addEventListener(AgendaEventListener listener) {
         listeners.add( new ListnerHolder( ListnerHolder.Type.AGENDA, listener ) );
     }
@@ -278,7 +305,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
     public void execute(Object object) {
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
-            ksession.insert( object );
+            insert( ksession, object );
             ksession.fireAllRules();
         } finally {
             dispose(ksession);
@@ -289,7 +316,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
             for ( Object object : objects ) {
-                ksession.insert( object );
+                insert( ksession, object );
             }
             ksession.fireAllRules();
         } finally {
@@ -302,7 +329,7 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         StatefulKnowledgeSession ksession = newWorkingMemory();
         try {
             for ( Object object : objects ) {
-                ksession.insert( object );
+                insert( ksession, object );
             }
             ksession.fireAllRules();
             for (FactHandle fh : ksession.getFactHandles(filter)) {
@@ -314,7 +341,26 @@ public class StatelessKnowledgeSessionImpl extends AbstractRuntime
         return list;
     }
 
+    private void insert(StatefulKnowledgeSession ksession, Object object) {
+        if ( oneShotPool != null ) {
+            // the working memory is not visible to anybody else until the end of the execution
+            NamedEntryPoint ep = (NamedEntryPoint) ksession.getEntryPoint( EntryPointId.DEFAULT.getEntryPointId() );
+            ep.insertFresh( object );
+        } else {
+            ksession.insert( object );
+        }
+    }
+
     private void dispose(StatefulKnowledgeSession ksession) {
+        if ( oneShotPool != null ) {
+            // the recycled working memory must not refer to the listeners, channels and globals of this session
+            // when used by another one
+            unregisterListeners( (StatefulKnowledgeSessionImpl) ksession );
+            for ( String channel : this.channels.keySet() ) {
+                ksession.unregisterChannel( channel );
+            }
+            ((Globals) ((StatefulKnowledgeSessionImpl) ksession).getGlobalResolver()).setDelegate( null );
+        }
         ksession.dispose();
     }
 
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the latency of the dynamic updates of a kie base, from the moment they are requested to the one they
+ * are applied to the network, and the duration of the pauses that the updates imposed to its sessions.
+ *
+ * The updates are applied, and then recorded, while holding the write lock of the kie base, so that the histograms
+ * always have a single writer at a time.
+ */
+public class KieBaseUpdateStats {
+
+    private final LatencyHistogram updateLatency = new LatencyHistogram();
+    private final LatencyHistogram sessionPause = new LatencyHistogram();
+    private final AtomicLong deferredFlushes = new AtomicLong();
+    private final AtomicLong forcedFlushes = new AtomicLong();
+
+    public void recordUpdate( long latencyNanos ) {
+        updateLatency.record( latencyNanos );
+    }
+
+    public void recordSessionPause( long pauseNanos ) {
+        sessionPause.record( pauseNanos );
+    }
+
+    public void recordDeferredFlush() {
+        deferredFlushes.incrementAndGet();
+    }
+
+    public void recordForcedFlush() {
+        forcedFlushes.incrementAndGet();
+    }
+
+    /**
+     * The nanoseconds elapsed between the request of each update and its application
+     */
+    public LatencyHistogram.Snapshot getUpdateLatency() {
+        return new LatencyHistogram.Snapshot().add( updateLatency );
+    }
+
+    /**
+     * The nanoseconds during which each session has been deactivated to apply the updates
+     */
+    public LatencyHistogram.Snapshot getSessionPause() {
+        return new LatencyHistogram.Snapshot().add( sessionPause );
+    }
+
+    /**
+     * The number of times the pending updates have been left to the next fire boundary because a session was firing
+     */
+    public long getDeferredFlushes() {
+        return deferredFlushes.get();
+    }
+
+    /**
+     * The number of times the pending updates have been applied waiting for the firing sessions, since they were overdue
+     */
+    public long getForcedFlushes() {
+        return forcedFlushes.get();
+    }
+}
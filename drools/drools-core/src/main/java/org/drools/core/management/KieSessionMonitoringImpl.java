@@ -1,22 +1,68 @@
 package org.drools.core.management;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import javax.management.ObjectName;
 
 import org.drools.core.common.InternalWorkingMemoryActions;
 import org.kie.api.builder.model.KieSessionModel.KieSessionType;
 import org.kie.api.event.KieRuntimeEventManager;
-import org.kie.api.management.KieSessionMonitoringMXBean;
+import org.kie.internal.event.rule.RuleEventManager;
 
-public class KieSessionMonitoringImpl extends GenericKieSessionMonitoringImpl implements KieSessionMonitoringMXBean {
+public class KieSessionMonitoringImpl extends GenericKieSessionMonitoringImpl implements RuleExecutionMonitoringMXBean {
     
     private ObjectName name;
 
+    private final RuleExecutionStats ruleExecutionStats = new RuleExecutionStats();
+
     public KieSessionMonitoringImpl(String containerId, String kbaseId, String ksessionName) {
         super(containerId, kbaseId, ksessionName);
         
         this.name = DroolsManagementAgent.createObjectNameBy(containerId, kbaseId, KieSessionType.STATEFUL, ksessionName);
     }
     
+    @Override
+    public void attach(KieRuntimeEventManager ksession) {
+        super.attach( ksession );
+        ksession.addEventListener( ruleExecutionStats );
+        if (ksession instanceof RuleEventManager) {
+            ((RuleEventManager) ksession).addEventListener( ruleExecutionStats );
+        }
+    }
+
+    @Override
+    public void detach(KieRuntimeEventManager ksession) {
+        super.detach( ksession );
+        removeRuleExecutionStats( ksession );
+    }
+
+    @Override
+    public void dispose() {
+        for (KieRuntimeEventManager ksession : ksessions) {
+            removeRuleExecutionStats( ksession );
+        }
+        super.dispose();
+    }
+
+    private void removeRuleExecutionStats(KieRuntimeEventManager ksession) {
+        ksession.removeEventListener( ruleExecutionStats );
+        if (ksession instanceof RuleEventManager) {
+            ((RuleEventManager) ksession).removeEventListener( ruleExecutionStats );
+        }
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        this.ruleExecutionStats.reset();
+    }
+
+    public RuleExecutionStats getRuleExecutionStatsCollector() {
+        return ruleExecutionStats;
+    }
+
     @Override
     public ObjectName getName() {
         return this.name;
@@ -35,4 +81,29 @@ public class KieSessionMonitoringImpl extends GenericKieSessionMonitoringImpl im
         }
         return result;
     }
+
+    @Override
+    public Map<String, IRuleExecutionStatsData> getRuleExecutionStats() {
+        return Collections.unmodifiableMap( ruleExecutionStats.snapshot() );
+    }
+
+    @Override
+    public List<IRuleExecutionStatsData> getTopRulesByConsequenceTime(int n) {
+        return ruleExecutionStats.topRules( n, RuleExecutionStats.BY_CONSEQUENCE_TIME );
+    }
+
+    @Override
+    public List<IRuleExecutionStatsData> getTopRulesByEvaluationTime(int n) {
+        return ruleExecutionStats.topRules( n, RuleExecutionStats.BY_EVALUATION_TIME );
+    }
+
+    @Override
+    public List<IRuleExecutionStatsData> getTopRulesByMatchesChurn(int n) {
+        return ruleExecutionStats.topRules( n, RuleExecutionStats.BY_MATCHES_CHURN );
+    }
+
+    @Override
+    public String getHotRulesReport(int n) {
+        return ruleExecutionStats.report( n );
+    }
 }
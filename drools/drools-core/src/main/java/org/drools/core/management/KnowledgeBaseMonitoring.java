@@ -71,6 +71,9 @@ public class KnowledgeBaseMonitoring
     private static final String ATTR_GLOBALS       = "Globals";
     private static final String ATTR_SESSION_COUNT = "SessionCount";
     private static final String ATTR_ID            = "Id";
+    private static final String ATTR_UPDATE_COUNT  = "UpdateCount";
+    private static final String ATTR_UPDATE_LATENCY_P99 = "UpdateLatency99thPercentile";
+    private static final String ATTR_SESSION_PAUSE_P99  = "SessionPause99thPercentile";
 
     private static final String OP_STOP_INTERNAL_MBEANS  = "stopInternalMBeans";
     private static final String OP_START_INTERNAL_MBEANS = "startInternalMBeans";
@@ -123,7 +126,7 @@ public class KnowledgeBaseMonitoring
      *  Initialize the open mbean metadata
      */
     private void initOpenMBeanInfo() {
-        OpenMBeanAttributeInfoSupport[] attributes = new OpenMBeanAttributeInfoSupport[4];
+        OpenMBeanAttributeInfoSupport[] attributes = new OpenMBeanAttributeInfoSupport[7];
         OpenMBeanConstructorInfoSupport[] constructors = new OpenMBeanConstructorInfoSupport[1];
         OpenMBeanOperationInfoSupport[] operations = new OpenMBeanOperationInfoSupport[2];
         MBeanNotificationInfo[] notifications = new MBeanNotificationInfo[0];
@@ -155,6 +158,24 @@ public class KnowledgeBaseMonitoring
                                                                true,
                                                                false,
                                                                false );
+            attributes[4] = new OpenMBeanAttributeInfoSupport( ATTR_UPDATE_COUNT,
+                                                               "Number of modifications applied to this Knowledge Base after its creation",
+                                                               SimpleType.LONG,
+                                                               true,
+                                                               false,
+                                                               false );
+            attributes[5] = new OpenMBeanAttributeInfoSupport( ATTR_UPDATE_LATENCY_P99,
+                                                               "99th percentile of the nanoseconds elapsed between the request of a modification and its application",
+                                                               SimpleType.LONG,
+                                                               true,
+                                                               false,
+                                                               false );
+            attributes[6] = new OpenMBeanAttributeInfoSupport( ATTR_SESSION_PAUSE_P99,
+                                                               "99th percentile of the nanoseconds a session has been paused to apply the modifications",
+                                                               SimpleType.LONG,
+                                                               true,
+                                                               false,
+                                                               false );
             //No arg constructor                
             constructors[0] = new OpenMBeanConstructorInfoSupport( "KnowledgeBaseMonitoringMXBean",
                                                                    "Constructs a KnowledgeBaseMonitoringMXBean instance.",
@@ -225,6 +246,18 @@ public class KnowledgeBaseMonitoring
         return kbase.getWorkingMemoryCounter();
     }
 
+    public long getUpdateCount() {
+        return kbase.getUpdateStats().getUpdateLatency().getCount();
+    }
+
+    public long getUpdateLatency99thPercentile() {
+        return kbase.getUpdateStats().getUpdateLatency().getPercentile( 99 );
+    }
+
+    public long getSessionPause99thPercentile() {
+        return kbase.getUpdateStats().getSessionPause().getPercentile( 99 );
+    }
+
     public void startInternalMBeans() {
         for ( EntryPointNode epn : kbase.getRete().getEntryPointNodes().values() ) {
             for ( ObjectTypeNode otn : epn.getObjectTypeNodes().values() ) {
@@ -276,6 +309,12 @@ public class KnowledgeBaseMonitoring
             }
         } else if ( attributeName.equals( ATTR_PACKAGES ) ) {
             return getPackages();
+        } else if ( attributeName.equals( ATTR_UPDATE_COUNT ) ) {
+            return Long.valueOf( getUpdateCount() );
+        } else if ( attributeName.equals( ATTR_UPDATE_LATENCY_P99 ) ) {
+            return Long.valueOf( getUpdateLatency99thPercentile() );
+        } else if ( attributeName.equals( ATTR_SESSION_PAUSE_P99 ) ) {
+            return Long.valueOf( getSessionPause99thPercentile() );
         }
         throw new AttributeNotFoundException( "Cannot find " + attributeName + " attribute " );
     }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A log-linear histogram of durations expressed in nanoseconds, keeping 16 linear sub-buckets
+ * for each power of 2, so that every recorded value is approximated with an error lower than 7%.
+ *
+ * Any number of threads can record values concurrently: as a LongAdder does, the histogram starts with a single
+ * stripe of buckets and, when two threads contend the same stripe, spreads the writers over more stripes. The values
+ * can be safely read and merged into a Snapshot by any other thread.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int BUCKET_COUNT = ( 64 - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT;
+
+    private static final int TOTAL = BUCKET_COUNT;
+    private static final int MAX = BUCKET_COUNT + 1;
+
+    private static final int MAX_STRIPES = Integer.highestOneBit( Math.min( 16, Runtime.getRuntime().availableProcessors() ) );
+
+    // each stripe holds the buckets followed by the sum and the max of the values recorded in it
+    private volatile AtomicLongArray[] stripes = { newStripe() };
+
+    private static AtomicLongArray newStripe() {
+        return new AtomicLongArray( BUCKET_COUNT + 2 );
+    }
+
+    public void record( long value ) {
+        if ( value < 0 ) {
+            value = 0;
+        }
+        int index = bucketIndex( value );
+        AtomicLongArray[] current = stripes;
+        AtomicLongArray stripe = current[ stripeIndex( current.length ) ];
+        long count = stripe.get( index );
+        if ( !stripe.compareAndSet( index, count, count + 1 ) ) {
+            current = expand( current );
+            stripe = current[ stripeIndex( current.length ) ];
+            stripe.incrementAndGet( index );
+        }
+        stripe.addAndGet( TOTAL, value );
+        for (long max = stripe.get( MAX ); value > max; max = stripe.get( MAX )) {
+            if ( stripe.compareAndSet( MAX, max, value ) ) {
+                break;
+            }
+        }
+    }
+
+    private static int stripeIndex( int stripesCount ) {
+        long id = Thread.currentThread().getId();
+        return (int) ( ( id * 0x9E3779B97F4A7C15L ) >>> 32 ) & ( stripesCount - 1 );
+    }
+
+    private AtomicLongArray[] expand( AtomicLongArray[] current ) {
+        if ( current.length >= MAX_STRIPES ) {
+            return current;
+        }
+        synchronized (this) {
+            if ( stripes == current ) {
+                AtomicLongArray[] expanded = Arrays.copyOf( current, current.length * 2 );
+                for (int i = current.length; i < expanded.length; i++) {
+                    expanded[i] = newStripe();
+                }
+                stripes = expanded;
+            }
+            return stripes;
+        }
+    }
+
+    static int bucketIndex( long value ) {
+        if ( value < SUB_BUCKET_COUNT ) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros( value );
+        int subBucket = (int) ( value >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKET_COUNT - 1 );
+        return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketLowerBound( int index ) {
+        if ( index < SUB_BUCKET_COUNT ) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKET_COUNT;
+        return ( (long) ( SUB_BUCKET_COUNT + subBucket ) ) << ( exponent - SUB_BUCKET_BITS );
+    }
+
+    public static class Snapshot {
+
+        private final long[] counts = new long[BUCKET_COUNT];
+        private long count;
+        private long total;
+        private long max;
+
+        public Snapshot add( LatencyHistogram histogram ) {
+            for (AtomicLongArray stripe : histogram.stripes) {
+                for (int i = 0; i < BUCKET_COUNT; i++) {
+                    long c = stripe.get( i );
+                    counts[i] += c;
+                    count += c;
+                }
+                total += stripe.get( TOTAL );
+                max = Math.max( max, stripe.get( MAX ) );
+            }
+            return this;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public long getMin() {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if ( counts[i] > 0 ) {
+                    return bucketLowerBound( i );
+                }
+            }
+            return 0;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) total / count;
+        }
+
+        /**
+         * Returns the approximated value below which the given percentage (between 0 and 100) of the recorded values fall
+         */
+        public long getPercentile( double percentile ) {
+            if ( count == 0 ) {
+                return 0;
+            }
+            long threshold = Math.max( 1, (long) Math.ceil( count * percentile / 100.0 ) );
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += counts[i];
+                if ( seen >= threshold ) {
+                    return Math.min( bucketLowerBound( i ), max );
+                }
+            }
+            return max;
+        }
+    }
+}
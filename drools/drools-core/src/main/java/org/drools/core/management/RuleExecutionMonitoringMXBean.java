@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.List;
+import java.util.Map;
+
+import org.kie.api.management.KieSessionMonitoringMXBean;
+
+/**
+ * An MBean interface for {@link org.kie.api.runtime.KieSession} monitoring, adding to the standard one the latency
+ * distributions of the rules fired or evaluated in the session
+ */
+public interface RuleExecutionMonitoringMXBean extends KieSessionMonitoringMXBean {
+
+    /**
+     * The latency distribution of the consequences and of the network evaluations of a single rule.
+     * All the times are expressed in nanoseconds.
+     */
+    public static interface IRuleExecutionStatsData {
+        String getRuleName();
+        long getMatchesCreated();
+        long getMatchesCancelled();
+        long getMatchesFired();
+        long getConsequenceTotalTime();
+        double getConsequenceMeanTime();
+        long getConsequenceMedianTime();
+        long getConsequence90thPercentileTime();
+        long getConsequence99thPercentileTime();
+        long getConsequenceMaxTime();
+        long getEvaluations();
+        long getEvaluationTotalTime();
+        double getEvaluationMeanTime();
+        long getEvaluation99thPercentileTime();
+        long getEvaluationMaxTime();
+    }
+
+    /**
+     * @return the latency distributions of all the rules fired or evaluated in this session
+     */
+    Map<String, IRuleExecutionStatsData> getRuleExecutionStats();
+
+    /**
+     * @return the n rules that spent most time executing their consequences
+     */
+    List<IRuleExecutionStatsData> getTopRulesByConsequenceTime(int n);
+
+    /**
+     * @return the n rules that spent most time evaluating their left hand side
+     */
+    List<IRuleExecutionStatsData> getTopRulesByEvaluationTime(int n);
+
+    /**
+     * @return the n rules with the highest number of matches created and cancelled
+     */
+    List<IRuleExecutionStatsData> getTopRulesByMatchesChurn(int n);
+
+    /**
+     * @return a human readable report of the n rules that spent most time executing their consequences
+     */
+    String getHotRulesReport(int n);
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.drools.core.management.RuleExecutionMonitoringMXBean.IRuleExecutionStatsData;
+import org.kie.api.definition.rule.Rule;
+import org.kie.api.event.rule.AfterMatchFiredEvent;
+import org.kie.api.event.rule.AgendaEventListener;
+import org.kie.api.event.rule.AgendaGroupPoppedEvent;
+import org.kie.api.event.rule.AgendaGroupPushedEvent;
+import org.kie.api.event.rule.BeforeMatchFiredEvent;
+import org.kie.api.event.rule.MatchCancelledEvent;
+import org.kie.api.event.rule.MatchCreatedEvent;
+import org.kie.api.event.rule.RuleFlowGroupActivatedEvent;
+import org.kie.api.event.rule.RuleFlowGroupDeactivatedEvent;
+import org.kie.internal.event.rule.RuleEventListener;
+
+/**
+ * Collects, for each rule, the latency distribution of its consequences and of the evaluations of its network,
+ * together with the number of matches created, cancelled and fired.
+ *
+ * The collection is lock-free: the counters are LongAdders and the histograms spread the concurrent writers over
+ * different stripes, so that the threads notifying events don't contend the same memory locations.
+ */
+public class RuleExecutionStats implements AgendaEventListener, RuleEventListener {
+
+    // consequences can trigger the evaluation of other rules, so the clocks have to be nested. They are shared by all
+    // the instances, so that a thread doesn't keep a stack for every monitored session it ever notified events for.
+    private static final ThreadLocal<Clocks> CLOCKS = ThreadLocal.withInitial( Clocks::new );
+
+    private final ConcurrentMap<String, RuleRecorder> rules = new ConcurrentHashMap<>();
+
+    public void reset() {
+        rules.clear();
+    }
+
+    private RuleRecorder getRuleRecorder( String ruleName ) {
+        RuleRecorder ruleRecorder = rules.get( ruleName );
+        return ruleRecorder != null ? ruleRecorder : rules.computeIfAbsent( ruleName, name -> new RuleRecorder() );
+    }
+
+    @Override
+    public void matchCreated( MatchCreatedEvent event ) {
+        getRuleRecorder( event.getMatch().getRule().getName() ).matchesCreated.increment();
+    }
+
+    @Override
+    public void matchCancelled( MatchCancelledEvent event ) {
+        getRuleRecorder( event.getMatch().getRule().getName() ).matchesCancelled.increment();
+    }
+
+    @Override
+    public void beforeMatchFired( BeforeMatchFiredEvent event ) {
+        CLOCKS.get().push();
+    }
+
+    @Override
+    public void afterMatchFired( AfterMatchFiredEvent event ) {
+        long elapsed = CLOCKS.get().pop();
+        RuleRecorder ruleRecorder = getRuleRecorder( event.getMatch().getRule().getName() );
+        ruleRecorder.matchesFired.increment();
+        if ( elapsed >= 0 ) {
+            ruleRecorder.consequence.record( elapsed );
+        }
+    }
+
+    @Override
+    public void onBeforeRuleEvaluation( Rule rule ) {
+        CLOCKS.get().push();
+    }
+
+    @Override
+    public void onAfterRuleEvaluation( Rule rule ) {
+        long elapsed = CLOCKS.get().pop();
+        if ( elapsed >= 0 ) {
+            getRuleRecorder( rule.getName() ).evaluation.record( elapsed );
+        }
+    }
+
+    @Override
+    public void agendaGroupPopped( AgendaGroupPoppedEvent event ) { }
+
+    @Override
+    public void agendaGroupPushed( AgendaGroupPushedEvent event ) { }
+
+    @Override
+    public void beforeRuleFlowGroupActivated( RuleFlowGroupActivatedEvent event ) { }
+
+    @Override
+    public void afterRuleFlowGroupActivated( RuleFlowGroupActivatedEvent event ) { }
+
+    @Override
+    public void beforeRuleFlowGroupDeactivated( RuleFlowGroupDeactivatedEvent event ) { }
+
+    @Override
+    public void afterRuleFlowGroupDeactivated( RuleFlowGroupDeactivatedEvent event ) { }
+
+    /**
+     * Returns a point in time view of the statistics of each rule
+     */
+    public Map<String, RuleExecutionStatsData> snapshot() {
+        Map<String, RuleExecutionStatsData> snapshot = new HashMap<>();
+        for (Map.Entry<String, RuleRecorder> entry : rules.entrySet()) {
+            snapshot.put( entry.getKey(), new RuleExecutionStatsData( entry.getKey(), entry.getValue() ) );
+        }
+        return snapshot;
+    }
+
+    public List<IRuleExecutionStatsData> topRules( int n, Comparator<RuleExecutionStatsData> comparator ) {
+        List<RuleExecutionStatsData> stats = new ArrayList<>( snapshot().values() );
+        stats.sort( comparator );
+        return new ArrayList<>( stats.subList( 0, Math.min( n, stats.size() ) ) );
+    }
+
+    public static final Comparator<RuleExecutionStatsData> BY_CONSEQUENCE_TIME =
+            Comparator.comparingLong( RuleExecutionStatsData::getConsequenceTotalTime ).reversed();
+
+    public static final Comparator<RuleExecutionStatsData> BY_EVALUATION_TIME =
+            Comparator.comparingLong( RuleExecutionStatsData::getEvaluationTotalTime ).reversed();
+
+    public static final Comparator<RuleExecutionStatsData> BY_MATCHES_CHURN =
+            Comparator.comparingLong( ( RuleExecutionStatsData d ) -> d.getMatchesCreated() + d.getMatchesCancelled() ).reversed();
+
+    public String report( int n ) {
+        StringBuilder sb = new StringBuilder();
+        sb.append( String.format( "%-40s %10s %14s %12s %12s %12s %12s %14s%n",
+                                  "rule", "fired", "total(ms)", "mean(us)", "p50(us)", "p99(us)", "max(us)", "lhs total(ms)" ) );
+        for (IRuleExecutionStatsData data : topRules( n, BY_CONSEQUENCE_TIME )) {
+            sb.append( String.format( "%-40s %10d %14.3f %12.1f %12.1f %12.1f %12.1f %14.3f%n",
+                                      data.getRuleName(),
+                                      data.getMatchesFired(),
+                                      data.getConsequenceTotalTime() / 1_000_000.0,
+                                      data.getConsequenceMeanTime() / 1_000.0,
+                                      data.getConsequenceMedianTime() / 1_000.0,
+                                      data.getConsequence99thPercentileTime() / 1_000.0,
+                                      data.getConsequenceMaxTime() / 1_000.0,
+                                      data.getEvaluationTotalTime() / 1_000_000.0 ) );
+        }
+        return sb.toString();
+    }
+
+    private static class Clocks {
+        private long[] clocks = new long[4];
+        private int depth = 0;
+
+        private void push() {
+            if ( depth == clocks.length ) {
+                long[] newClocks = new long[clocks.length * 2];
+                System.arraycopy( clocks, 0, newClocks, 0, clocks.length );
+                clocks = newClocks;
+            }
+            clocks[depth++] = System.nanoTime();
+        }
+
+        private long pop() {
+            return depth == 0 ? -1 : System.nanoTime() - clocks[--depth];
+        }
+    }
+
+    private static class RuleRecorder {
+        private final LongAdder matchesCreated = new LongAdder();
+        private final LongAdder matchesCancelled = new LongAdder();
+        private final LongAdder matchesFired = new LongAdder();
+        private final LatencyHistogram consequence = new LatencyHistogram();
+        private final LatencyHistogram evaluation = new LatencyHistogram();
+    }
+
+    public static class RuleExecutionStatsData implements IRuleExecutionStatsData {
+
+        private final String ruleName;
+        private final long matchesCreated;
+        private final long matchesCancelled;
+        private final long matchesFired;
+        private final LatencyHistogram.Snapshot consequence;
+        private final LatencyHistogram.Snapshot evaluation;
+
+        private RuleExecutionStatsData( String ruleName, RuleRecorder recorder ) {
+            this.ruleName = ruleName;
+            this.matchesCreated = recorder.matchesCreated.sum();
+            this.matchesCancelled = recorder.matchesCancelled.sum();
+            this.matchesFired = recorder.matchesFired.sum();
+            this.consequence = new LatencyHistogram.Snapshot().add( recorder.consequence );
+            this.evaluation = new LatencyHistogram.Snapshot().add( recorder.evaluation );
+        }
+
+        public LatencyHistogram.Snapshot getConsequenceHistogram() {
+            return consequence;
+        }
+
+        public LatencyHistogram.Snapshot getEvaluationHistogram() {
+            return evaluation;
+        }
+
+        @Override
+        public String getRuleName() {
+            return ruleName;
+        }
+
+        @Override
+        public long getMatchesCreated() {
+            return matchesCreated;
+        }
+
+        @Override
+        public long getMatchesCancelled() {
+            return matchesCancelled;
+        }
+
+        @Override
+        public long getMatchesFired() {
+            return matchesFired;
+        }
+
+        @Override
+        public long getConsequenceTotalTime() {
+            return consequence.getTotal();
+        }
+
+        @Override
+        public double getConsequenceMeanTime() {
+            return consequence.getMean();
+        }
+
+        @Override
+        public long getConsequenceMedianTime() {
+            return consequence.getPercentile( 50 );
+        }
+
+        @Override
+        public long getConsequence90thPercentileTime() {
+            return consequence.getPercentile( 90 );
+        }
+
+        @Override
+        public long getConsequence99thPercentileTime() {
+            return consequence.getPercentile( 99 );
+        }
+
+        @Override
+        public long getConsequenceMaxTime() {
+            return consequence.getMax();
+        }
+
+        @Override
+        public long getEvaluations() {
+            return evaluation.getCount();
+        }
+
+        @Override
+        public long getEvaluationTotalTime() {
+            return evaluation.getTotal();
+        }
+
+        @Override
+        public double getEvaluationMeanTime() {
+            return evaluation.getMean();
+        }
+
+        @Override
+        public long getEvaluation99thPercentileTime() {
+            return evaluation.getPercentile( 99 );
+        }
+
+        @Override
+        public long getEvaluationMaxTime() {
+            return evaluation.getMax();
+        }
+
+        @Override
+        public String toString() {
+            return ruleName + ": matchesCreated=" + matchesCreated + " matchesCancelled=" + matchesCancelled +
+                   " matchesFired=" + matchesFired + " consequenceTime=" + getConsequenceTotalTime() +
+                   "ns evaluationTime=" + getEvaluationTotalTime() + "ns";
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.io.PrintStream;
+import java.lang.ref.Reference;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.common.NetworkNode;
+import org.drools.core.definitions.InternalKnowledgePackage;
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.kie.api.KieBase;
+import org.kie.api.definition.KiePackage;
+import org.kie.api.definition.rule.Rule;
+
+/**
+ * Estimates the heap retained by each rule of a kie base, that is the size of the objects reachable from its
+ * definition and not from the one of any other rule, together with the size of the objects shared among them.
+ *
+ * The sizes are estimated from the fields of each object, assuming a 64 bits JVM with compressed references. The walk
+ * stops at the classes, the class loaders, the kie base, its packages and its network nodes, that belong to the whole
+ * rule base rather than to a single rule, and doesn't follow the fields it isn't allowed to access. Since it walks
+ * the whole object graph of every rule, it is meant to be used to investigate the footprint of a kie base, not to
+ * monitor it.
+ */
+public class RuleFootprintReport {
+
+    private static final int OBJECT_HEADER_SIZE = 12;
+    private static final int ARRAY_HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int ALIGNMENT = 8;
+
+    private static final Integer SHARED = -1;
+
+    private static final Class<?>[] BOUNDARIES = {
+            Class.class, ClassLoader.class, Thread.class, Reference.class,
+            InternalKnowledgeBase.class, InternalKnowledgePackage.class, NetworkNode.class, InternalWorkingMemory.class
+    };
+
+    private final Map<Class<?>, ClassLayout> layouts = new HashMap<>();
+
+    private final Map<String, Long> retainedSizes;
+    private final long sharedSize;
+
+    private RuleFootprintReport(List<RuleImpl> rules) {
+        Map<Object, Integer> owners = new IdentityHashMap<>();
+        for ( int i = 0; i < rules.size(); i++ ) {
+            walk( rules.get( i ), i, owners );
+        }
+
+        long[] sizes = new long[rules.size()];
+        long shared = 0;
+        for ( Map.Entry<Object, Integer> entry : owners.entrySet() ) {
+            long size = sizeOf( entry.getKey() );
+            if ( SHARED.equals( entry.getValue() ) ) {
+                shared += size;
+            } else {
+                sizes[entry.getValue()] += size;
+            }
+        }
+        this.sharedSize = shared;
+
+        List<Integer> order = new ArrayList<>( rules.size() );
+        for ( int i = 0; i < rules.size(); i++ ) {
+            order.add( i );
+        }
+        order.sort( (i1, i2) -> Long.compare( sizes[i2], sizes[i1] ) );
+        this.retainedSizes = new LinkedHashMap<>();
+        for ( int i : order ) {
+            retainedSizes.put( rules.get( i ).getFullyQualifiedName(), sizes[i] );
+        }
+    }
+
+    public static RuleFootprintReport of(KieBase kieBase) {
+        List<RuleImpl> rules = new ArrayList<>();
+        for ( KiePackage pkg : kieBase.getKiePackages() ) {
+            for ( Rule rule : pkg.getRules() ) {
+                rules.add( (RuleImpl) rule );
+            }
+        }
+        return new RuleFootprintReport( rules );
+    }
+
+    /**
+     * The bytes retained by each rule, indexed by its fully qualified name, from the largest to the smallest
+     */
+    public Map<String, Long> getRetainedSizes() {
+        return retainedSizes;
+    }
+
+    /**
+     * The bytes reachable from more than one rule
+     */
+    public long getSharedSize() {
+        return sharedSize;
+    }
+
+    public long getTotalRetainedSize() {
+        long total = 0;
+        for ( long size : retainedSizes.values() ) {
+            total += size;
+        }
+        return total;
+    }
+
+    /**
+     * Prints the totals and the given number of rules retaining the most memory
+     */
+    public void print( PrintStream out, int maxRules ) {
+        out.println( String.format( "%d rules retaining %d KB, %d KB shared among them",
+                                    retainedSizes.size(), getTotalRetainedSize() / 1024, sharedSize / 1024 ) );
+        int printed = 0;
+        for ( Map.Entry<String, Long> entry : retainedSizes.entrySet() ) {
+            if ( printed++ == maxRules ) {
+                break;
+            }
+            out.println( String.format( "%10d bytes  %s", entry.getValue(), entry.getKey() ) );
+        }
+    }
+
+    private void walk( RuleImpl rule, Integer index, Map<Object, Integer> owners ) {
+        Deque<Object> stack = new ArrayDeque<>();
+        stack.push( rule );
+        while ( !stack.isEmpty() ) {
+            Object object = stack.pop();
+            Integer owner = owners.get( object );
+            if ( owner == null ) {
+                owners.put( object, index );
+            } else if ( owner.equals( index ) || owner.equals( SHARED ) ) {
+                // already visited from this rule, or shared with all the objects reachable from it
+                continue;
+            } else {
+                owners.put( object, SHARED );
+            }
+            pushReferences( object, rule, stack );
+        }
+    }
+
+    private void pushReferences( Object object, RuleImpl rule, Deque<Object> stack ) {
+        Class<?> type = object.getClass();
+        if ( type.isArray() ) {
+            if ( !type.getComponentType().isPrimitive() ) {
+                for ( int i = 0, length = Array.getLength( object ); i < length; i++ ) {
+                    push( Array.get( object, i ), rule, stack );
+                }
+            }
+            return;
+        }
+        for ( Field field : layoutOf( type ).references ) {
+            try {
+                push( field.get( object ), rule, stack );
+            } catch ( IllegalAccessException e ) {
+                // not followed
+            }
+        }
+    }
+
+    private static void push( Object reference, RuleImpl rule, Deque<Object> stack ) {
+        if ( reference == null || ( reference instanceof RuleImpl && reference != rule ) ) {
+            return;
+        }
+        for ( Class<?> boundary : BOUNDARIES ) {
+            if ( boundary.isInstance( reference ) ) {
+                return;
+            }
+        }
+        stack.push( reference );
+    }
+
+    private long sizeOf( Object object ) {
+        Class<?> type = object.getClass();
+        if ( type.isArray() ) {
+            Class<?> componentType = type.getComponentType();
+            int elementSize = componentType.isPrimitive() ? primitiveSize( componentType ) : REFERENCE_SIZE;
+            return align( ARRAY_HEADER_SIZE + (long) Array.getLength( object ) * elementSize );
+        }
+        return layoutOf( type ).size;
+    }
+
+    private ClassLayout layoutOf( Class<?> type ) {
+        return layouts.computeIfAbsent( type, ClassLayout::new );
+    }
+
+    private static long align( long size ) {
+        return ( size + ALIGNMENT - 1 ) / ALIGNMENT * ALIGNMENT;
+    }
+
+    private static int primitiveSize( Class<?> type ) {
+        if ( type == long.class || type == double.class ) {
+            return 8;
+        }
+        if ( type == int.class || type == float.class ) {
+            return 4;
+        }
+        if ( type == short.class || type == char.class ) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private static class ClassLayout {
+
+        private final long size;
+        private final List<Field> references = new ArrayList<>();
+
+        private ClassLayout( Class<?> type ) {
+            long fieldsSize = 0;
+            for ( Class<?> c = type; c != null; c = c.getSuperclass() ) {
+                for ( Field field : c.getDeclaredFields() ) {
+                    if ( Modifier.isStatic( field.getModifiers() ) ) {
+                        continue;
+                    }
+                    if ( field.getType().isPrimitive() ) {
+                        fieldsSize += primitiveSize( field.getType() );
+                        continue;
+                    }
+                    fieldsSize += REFERENCE_SIZE;
+                    try {
+                        field.setAccessible( true );
+                        references.add( field );
+                    } catch ( RuntimeException e ) {
+                        // the field is counted, but the object it refers to is not followed
+                    }
+                }
+            }
+            this.size = align( OBJECT_HEADER_SIZE + fieldsSize );
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the latency of the borrowings of the sessions from a pool, the time spent to reset them when they are
+ * given back, and the number of times the pool was exhausted, forcing a borrower to create a new session.
+ *
+ * The histograms are shared by all the threads borrowing or releasing sessions: being striped, they don't make the
+ * threads contend the same memory locations and don't retain anything of the threads that used the pool.
+ */
+public class SessionsPoolStats {
+
+    private final LatencyHistogram borrow = new LatencyHistogram();
+    private final LatencyHistogram reset = new LatencyHistogram();
+
+    private final LongAdder exhaustions = new LongAdder();
+
+    public void recordBorrow( long latencyNanos ) {
+        borrow.record( latencyNanos );
+    }
+
+    public void recordReset( long resetNanos ) {
+        reset.record( resetNanos );
+    }
+
+    public void recordExhaustion() {
+        exhaustions.increment();
+    }
+
+    /**
+     * The nanoseconds spent to obtain each session from the pool, including the creation of the ones not available in it
+     */
+    public LatencyHistogram.Snapshot getBorrowLatency() {
+        return new LatencyHistogram.Snapshot().add( borrow );
+    }
+
+    /**
+     * The nanoseconds spent to reset each session given back to the pool
+     */
+    public LatencyHistogram.Snapshot getResetTime() {
+        return new LatencyHistogram.Snapshot().add( reset );
+    }
+
+    /**
+     * The number of sessions created because the pool had none available when they were requested
+     */
+    public long getExhaustions() {
+        return exhaustions.sum();
+    }
+}
@@ -27,6 +27,7 @@ import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.conflict.PhreakConflictResolver;
 import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.event.RuleEventListenerSupport;
 import org.drools.core.reteoo.PathMemory;
 import org.drools.core.reteoo.RuleTerminalNode;
 import org.drools.core.reteoo.RuleTerminalNodeLeftTuple;
@@ -68,7 +69,7 @@ public class RuleExecutor {
     }
 
     public void evaluateNetwork(InternalAgenda agenda) {
-        RuleNetworkEvaluator.INSTANCE.evaluateNetwork( pmem, this, agenda );
+        doEvaluateNetwork( agenda );
         setDirty( false );
     }
 
@@ -209,7 +210,22 @@ public class RuleExecutor {
     public void reEvaluateNetwork(InternalAgenda agenda) {
         if ( isDirty() ) {
             setDirty(false);
-            RuleNetworkEvaluator.INSTANCE.evaluateNetwork(pmem, this, agenda);
+            doEvaluateNetwork( agenda );
+        }
+    }
+
+    private void doEvaluateNetwork(InternalAgenda agenda) {
+        RuleEventListenerSupport ruleEventSupport = agenda.getWorkingMemory().getRuleEventSupport();
+        if ( ruleEventSupport.isEmpty() ) {
+            RuleNetworkEvaluator.INSTANCE.evaluateNetwork( pmem, this, agenda );
+            return;
+        }
+        RuleImpl rule = ruleAgendaItem.getRule();
+        ruleEventSupport.onBeforeRuleEvaluation( rule );
+        try {
+            RuleNetworkEvaluator.INSTANCE.evaluateNetwork( pmem, this, agenda );
+        } finally {
+            ruleEventSupport.onAfterRuleEvaluation( rule );
         }
     }
 
@@ -22,10 +22,12 @@ public class AsyncMessage {
 
     private final InternalWorkingMemory workingMemory;
     private final Object object;
+    private final long timestamp;
 
     public AsyncMessage( InternalWorkingMemory workingMemory, Object object ) {
         this.workingMemory = workingMemory;
         this.object = object;
+        this.timestamp = System.nanoTime();
     }
 
     public InternalWorkingMemory getWorkingMemory() {
@@ -35,4 +37,8 @@ public class AsyncMessage {
     public Object getObject() {
         return object;
     }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
 }
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The channel through which the messages sent by an AsyncSendNode reach the AsyncReceiveNodes
+ * registered for the same message id. Every receiver owns a bounded queue, so a slow session
+ * never slows down the delivery to the other ones, and the messages are handed to the receiving
+ * session in batches through a single propagation entry.
+ */
+public class AsyncMessageChannel {
+
+    private static final Logger logger = LoggerFactory.getLogger( AsyncMessageChannel.class );
+
+    public enum OverflowPolicy {
+        /**
+         * The sender waits, at most for the block timeout of the channel, until the receiver frees a slot in its queue,
+         * then the message is discarded. The sender never waits for a queue owned by its own session, since it is the
+         * only one that could free it.
+         */
+        BLOCK,
+        /** The message is discarded for the receivers whose queue is full */
+        DROP
+    }
+
+    public static final String OVERFLOW_POLICY_PROPERTY = "drools.asyncChannel.overflowPolicy";
+
+    public static final int DEFAULT_CAPACITY = Integer.getInteger( "drools.asyncChannel.capacity", 1024 );
+    public static final int DEFAULT_BATCH_SIZE = Integer.getInteger( "drools.asyncChannel.batchSize", 64 );
+    public static final long DEFAULT_BLOCK_TIMEOUT_MILLIS = Long.getLong( "drools.asyncChannel.blockTimeout", 100L );
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = parseOverflowPolicy( System.getProperty( OVERFLOW_POLICY_PROPERTY ) );
+
+    private final String messageId;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private volatile int capacity;
+    private volatile int batchSize;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile long blockTimeoutMillis = DEFAULT_BLOCK_TIMEOUT_MILLIS;
+
+    private final long creationTime = System.nanoTime();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong totalDeliveryLatency = new AtomicLong();
+    private final AtomicLong maxDeliveryLatency = new AtomicLong();
+
+    public AsyncMessageChannel( String messageId ) {
+        this( messageId, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE, DEFAULT_OVERFLOW_POLICY );
+    }
+
+    public AsyncMessageChannel( String messageId, int capacity, int batchSize, OverflowPolicy overflowPolicy ) {
+        this.messageId = messageId;
+        configure( capacity, batchSize, overflowPolicy );
+    }
+
+    /**
+     * Changes the configuration of this channel. The new capacity is only applied to the receivers registered afterwards.
+     */
+    public void configure( int capacity, int batchSize, OverflowPolicy overflowPolicy ) {
+        if ( capacity <= 0 || batchSize <= 0 ) {
+            throw new IllegalArgumentException( "Capacity and batch size of channel " + messageId + " must be positive" );
+        }
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    public String getMessageId() {
+        return messageId;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public long getBlockTimeoutMillis() {
+        return blockTimeoutMillis;
+    }
+
+    /**
+     * Sets the longest time a sender waits for a full queue when the overflow policy is BLOCK
+     */
+    public void setBlockTimeoutMillis( long blockTimeoutMillis ) {
+        if ( blockTimeoutMillis < 0 ) {
+            throw new IllegalArgumentException( "Block timeout of channel " + messageId + " cannot be negative" );
+        }
+        this.blockTimeoutMillis = blockTimeoutMillis;
+    }
+
+    static OverflowPolicy parseOverflowPolicy( String value ) {
+        if ( value == null ) {
+            return OverflowPolicy.DROP;
+        }
+        try {
+            return OverflowPolicy.valueOf( value.trim().toUpperCase() );
+        } catch (IllegalArgumentException e) {
+            logger.warn( "Unknown value {} for {}, using {}", value, OVERFLOW_POLICY_PROPERTY, OverflowPolicy.DROP );
+            return OverflowPolicy.DROP;
+        }
+    }
+
+    Subscription subscribe( Object receiver, Consumer<Subscription> scheduler ) {
+        Subscription subscription = new Subscription( receiver, scheduler, capacity );
+        subscriptions.add( subscription );
+        return subscription;
+    }
+
+    boolean unsubscribe( Subscription subscription ) {
+        subscription.close();
+        subscriptions.remove( subscription );
+        return subscriptions.isEmpty();
+    }
+
+    boolean hasSubscriptions() {
+        return !subscriptions.isEmpty();
+    }
+
+    public int getReceiversCount() {
+        return subscriptions.size();
+    }
+
+    public void send( AsyncMessage message ) {
+        sentCount.incrementAndGet();
+        for (Subscription subscription : subscriptions) {
+            if ( subscription.enqueue( message, overflowPolicy, blockTimeoutMillis ) ) {
+                subscription.scheduleDelivery();
+            } else {
+                droppedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void recordDelivery( AsyncMessage message, long now ) {
+        deliveredCount.incrementAndGet();
+        long latency = now - message.getTimestamp();
+        totalDeliveryLatency.addAndGet( latency );
+        long max = maxDeliveryLatency.get();
+        while ( latency > max && !maxDeliveryLatency.compareAndSet( max, latency ) ) {
+            max = maxDeliveryLatency.get();
+        }
+    }
+
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Returns the number of messages enqueued and not yet delivered to their receiving session
+     */
+    public long getLag() {
+        long lag = 0;
+        for (Subscription subscription : subscriptions) {
+            lag += subscription.queue.size();
+        }
+        return lag;
+    }
+
+    public long getAverageDeliveryLatencyNanos() {
+        long delivered = deliveredCount.get();
+        return delivered == 0 ? 0 : totalDeliveryLatency.get() / delivered;
+    }
+
+    public long getMaxDeliveryLatencyNanos() {
+        return maxDeliveryLatency.get();
+    }
+
+    /**
+     * Returns the number of messages delivered per second since the creation of this channel
+     */
+    public double getThroughput() {
+        long elapsed = System.nanoTime() - creationTime;
+        return elapsed == 0 ? 0 : deliveredCount.get() * 1_000_000_000.0 / elapsed;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncMessageChannel[" + messageId + "]: sent=" + getSentCount() + ", delivered=" + getDeliveredCount() +
+                ", dropped=" + getDroppedCount() + ", lag=" + getLag();
+    }
+
+    public class Subscription {
+
+        private final ArrayBlockingQueue<AsyncMessage> queue;
+        private final Object receiver;
+        private final Consumer<Subscription> scheduler;
+        private final AtomicBoolean scheduled = new AtomicBoolean( false );
+        private volatile boolean closed;
+
+        private Subscription( Object receiver, Consumer<Subscription> scheduler, int capacity ) {
+            this.receiver = receiver;
+            this.scheduler = scheduler;
+            this.queue = new ArrayBlockingQueue<>( capacity );
+        }
+
+        public AsyncMessageChannel getChannel() {
+            return AsyncMessageChannel.this;
+        }
+
+        private boolean enqueue( AsyncMessage message, OverflowPolicy policy, long timeoutMillis ) {
+            // the sender runs on the engine thread of its session: waiting for its own queue would never end
+            if ( policy == OverflowPolicy.DROP || timeoutMillis == 0 || message.getWorkingMemory() == receiver ) {
+                return queue.offer( message );
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( timeoutMillis );
+            try {
+                long remaining;
+                while ( !closed && ( remaining = deadline - System.nanoTime() ) > 0 ) {
+                    // wakes up periodically to give up as soon as the receiver is closed
+                    if ( queue.offer( message, Math.min( remaining, TimeUnit.MILLISECONDS.toNanos( 100 ) ), TimeUnit.NANOSECONDS ) ) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        private void close() {
+            closed = true;
+            queue.clear();
+        }
+
+        private void scheduleDelivery() {
+            if ( scheduled.compareAndSet( false, true ) ) {
+                scheduler.accept( this );
+            }
+        }
+
+        /**
+         * Moves at most one batch of pending messages to the given consumer. Must be invoked by the receiving
+         * session while executing the propagation entry scheduled for this subscription.
+         */
+        public int drainTo( Consumer<Object> consumer ) {
+            long now = System.nanoTime();
+            int count = 0;
+            int max = batchSize;
+            while ( count < max ) {
+                AsyncMessage message = queue.poll();
+                if ( message == null ) {
+                    break;
+                }
+                consumer.accept( message.getObject() );
+                recordDelivery( message, now );
+                count++;
+            }
+            return count;
+        }
+
+        /**
+         * Notifies that the batch scheduled for this subscription has been consumed, scheduling another one
+         * if there are still pending messages.
+         */
+        public void batchDelivered() {
+            scheduled.set( false );
+            if ( !queue.isEmpty() ) {
+                scheduleDelivery();
+            }
+        }
+
+        public int getPendingMessagesCount() {
+            return queue.size();
+        }
+    }
+}
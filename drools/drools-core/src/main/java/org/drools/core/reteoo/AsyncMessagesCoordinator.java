@@ -16,13 +16,15 @@
 
 package org.drools.core.reteoo;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
+import org.drools.core.reteoo.AsyncMessageChannel.OverflowPolicy;
+import org.drools.core.reteoo.AsyncMessageChannel.Subscription;
+
 public class AsyncMessagesCoordinator {
 
     private AsyncMessagesCoordinator() { }
@@ -35,25 +37,46 @@ public class AsyncMessagesCoordinator {
         return Holder.INSTANCE;
     }
 
-    private final Map<String, List<Consumer<AsyncMessage>>> listeners = new HashMap<>();
+    private final Map<String, AsyncMessageChannel> channels = new ConcurrentHashMap<>();
+
+    // channels explicitly configured are kept, together with their metrics, also when they don't have any receiver
+    private final Set<String> configuredChannels = new HashSet<>();
+
+    public void propagate(String messageId, AsyncMessage message) {
+        AsyncMessageChannel channel = channels.get( messageId );
+        if (channel != null) {
+            channel.send( message );
+        }
+    }
 
-    public void propagate(String messageId, AsyncMessage leftTuple) {
-        listeners.getOrDefault( messageId, Collections.emptyList() ).forEach( c -> c.accept( leftTuple ) );
+    public synchronized AsyncMessageChannel configureChannel(String messageId, int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        configuredChannels.add( messageId );
+        AsyncMessageChannel channel = channels.get( messageId );
+        if (channel == null) {
+            channel = new AsyncMessageChannel( messageId, capacity, batchSize, overflowPolicy );
+            channels.put( messageId, channel );
+        } else {
+            channel.configure( capacity, batchSize, overflowPolicy );
+        }
+        return channel;
     }
 
-    synchronized void registerReceiver(String messageId, Consumer<AsyncMessage> receiver) {
-        listeners.computeIfAbsent( messageId, s -> new ArrayList<>() ).add( receiver );
+    synchronized Subscription registerReceiver(String messageId, Object receiver, Consumer<Subscription> scheduler) {
+        return channels.computeIfAbsent( messageId, AsyncMessageChannel::new ).subscribe( receiver, scheduler );
     }
 
-    synchronized void deregisterReceiver(String messageId, Consumer<AsyncMessage> receiver) {
-        List<Consumer<AsyncMessage>> consumers = listeners.get( messageId );
-        consumers.remove( receiver );
-        if (consumers.isEmpty()) {
-            listeners.remove( messageId );
+    synchronized void deregisterReceiver(String messageId, Subscription subscription) {
+        AsyncMessageChannel channel = channels.get( messageId );
+        if (channel != null && channel.unsubscribe( subscription ) && !configuredChannels.contains( messageId )) {
+            channels.remove( messageId );
         }
     }
 
-    public Map<String, List<Consumer<AsyncMessage>>> getListeners() {
-        return listeners;
+    public AsyncMessageChannel getChannel(String messageId) {
+        return channels.get( messageId );
+    }
+
+    public Map<String, AsyncMessageChannel> getChannels() {
+        return channels;
     }
 }
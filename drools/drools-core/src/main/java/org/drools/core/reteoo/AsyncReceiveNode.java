@@ -21,7 +21,6 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Consumer;
 
 import org.drools.core.RuleBaseConfiguration;
 import org.drools.core.common.BetaConstraints;
@@ -33,6 +32,7 @@ import org.drools.core.common.Memory;
 import org.drools.core.common.MemoryFactory;
 import org.drools.core.common.UpdateContext;
 import org.drools.core.phreak.PropagationEntry;
+import org.drools.core.reteoo.AsyncMessageChannel.Subscription;
 import org.drools.core.reteoo.builder.BuildContext;
 import org.drools.core.rule.AsyncReceive;
 import org.drools.core.rule.Pattern;
@@ -130,17 +130,25 @@ public class AsyncReceiveNode extends LeftTupleSource
     public static class AsyncReceiveAction extends PropagationEntry.AbstractPropagationEntry {
 
         private final AsyncReceiveNode asyncReceiveNode;
-        private final Object object;
+        private final Subscription subscription;
 
-        private AsyncReceiveAction( AsyncReceiveNode asyncReceiveNode, Object object ) {
+        private AsyncReceiveAction( AsyncReceiveNode asyncReceiveNode, Subscription subscription ) {
             this.asyncReceiveNode = asyncReceiveNode;
-            this.object = object;
+            this.subscription = subscription;
         }
 
         @Override
         public void execute( final InternalWorkingMemory wm ) {
             AsyncReceiveMemory memory = wm.getNodeMemory( asyncReceiveNode );
-            memory.addMessage( object );
+            int received;
+            try {
+                received = subscription.drainTo( memory::addMessage );
+            } finally {
+                subscription.batchDelivered();
+            }
+            if (received == 0) {
+                return;
+            }
             memory.setNodeDirtyWithoutNotify();
 
             for (final PathMemory pmem : memory.getSegmentMemory().getPathMemories()) {
@@ -297,7 +305,7 @@ public class AsyncReceiveNode extends LeftTupleSource
 
         private static final long serialVersionUID = 510l;
 
-        private final Consumer<AsyncMessage> receiver;
+        private final Subscription subscription;
         private final String messageId;
 
         private final TupleList insertOrUpdateLeftTuples = new TupleList();
@@ -308,8 +316,11 @@ public class AsyncReceiveNode extends LeftTupleSource
 
         public AsyncReceiveMemory(AsyncReceiveNode node, InternalWorkingMemory wm) {
             this.messageId = node.messageId;
-            this.receiver = asyncMessage -> wm.addPropagation( new AsyncReceiveAction( node, asyncMessage.getObject() ) );
-            AsyncMessagesCoordinator.get().registerReceiver( node.messageId, receiver );
+            this.subscription = AsyncMessagesCoordinator.get().registerReceiver( node.messageId, wm, s -> wm.addPropagation( new AsyncReceiveAction( node, s ) ) );
+        }
+
+        public Subscription getSubscription() {
+            return subscription;
         }
 
         public void addMessage(Object message) {
@@ -365,7 +376,7 @@ public class AsyncReceiveNode extends LeftTupleSource
         }
 
         public void dispose() {
-            AsyncMessagesCoordinator.get().deregisterReceiver( messageId, receiver );
+            AsyncMessagesCoordinator.get().deregisterReceiver( messageId, subscription );
         }
     }
 }
\ No newline at end of file
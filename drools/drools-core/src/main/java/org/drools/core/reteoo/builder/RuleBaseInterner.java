@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo.builder;
+
+import java.util.HashMap;
+import java.util.ListIterator;
+import java.util.Map;
+
+import org.drools.core.definitions.rule.impl.RuleImpl;
+import org.drools.core.rule.Declaration;
+import org.drools.core.rule.Pattern;
+import org.drools.core.rule.RuleConditionElement;
+import org.drools.core.spi.Constraint;
+import org.drools.core.spi.ObjectType;
+
+/**
+ * Shares among the rules added to a kie base in the same batch the equal strings, empty maps and alpha constraints
+ * that each of them would otherwise hold its own copy of.
+ *
+ * The strings are interned in the string pool of the JVM, so they are also shared with the other kie bases. An alpha
+ * constraint is replaced with an equal one found on a pattern of the same object type in the same package, whose
+ * imports resolve its expression in the same way, which is safe since the network builder clones the constraints
+ * already used by another node. The patterns having a source are left alone, since their constraints are used as
+ * they are by the node of their rule. The field readers are not interned here, since the accessor store of the kie base
+ * already hands out a single reader for each field.
+ */
+public class RuleBaseInterner {
+
+    /**
+     * The system property disabling the interning, enabled by default
+     */
+    public static final String PROPERTY_NAME = "drools.kbase.interning";
+
+    private final Map<String, Map<ObjectType, Map<Constraint, Constraint>>> alphaConstraints = new HashMap<>();
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean( System.getProperty( PROPERTY_NAME, "true" ) );
+    }
+
+    public String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+
+    public void intern(RuleImpl rule) {
+        rule.intern( this );
+        intern( rule.getLhs(), alphaConstraints.computeIfAbsent( rule.getPackageName(), p -> new HashMap<>() ) );
+    }
+
+    private void intern(RuleConditionElement element, Map<ObjectType, Map<Constraint, Constraint>> packageAlphaConstraints) {
+        if ( element instanceof Pattern ) {
+            Pattern pattern = (Pattern) element;
+            for ( Declaration declaration : pattern.getDeclarations().values() ) {
+                declaration.intern( this );
+            }
+            if ( pattern.getSource() == null && pattern.getObjectType() != null ) {
+                internAlphaConstraints( pattern, packageAlphaConstraints.computeIfAbsent( pattern.getObjectType(), t -> new HashMap<>() ) );
+            }
+        }
+        for ( RuleConditionElement nested : element.getNestedElements() ) {
+            intern( nested, packageAlphaConstraints );
+        }
+    }
+
+    private void internAlphaConstraints(Pattern pattern, Map<Constraint, Constraint> canonicals) {
+        for ( ListIterator<Constraint> i = pattern.getConstraints().listIterator(); i.hasNext(); ) {
+            Constraint constraint = i.next();
+            if ( constraint.getType() == Constraint.ConstraintType.ALPHA ) {
+                Constraint canonical = canonicals.putIfAbsent( constraint, constraint );
+                if ( canonical != null && canonical != constraint ) {
+                    i.set( canonical );
+                }
+            }
+        }
+    }
+}
@@ -28,6 +28,7 @@ import org.drools.core.base.ClassFieldReader;
 import org.drools.core.base.ValueType;
 import org.drools.core.common.DroolsObjectInputStream;
 import org.drools.core.common.InternalWorkingMemory;
+import org.drools.core.reteoo.builder.RuleBaseInterner;
 import org.drools.core.spi.AcceptsReadAccessor;
 import org.drools.core.spi.InternalReadAccessor;
 
@@ -166,6 +167,14 @@ public class Declaration
         this.bindingName = bindingName;
     }
 
+    /**
+     * Replaces the names of this declaration with the instances shared by the whole rule base
+     */
+    public void intern(RuleBaseInterner interner) {
+        this.identifier = interner.intern( this.identifier );
+        this.bindingName = interner.intern( this.bindingName );
+    }
+
     /**
      * Retrieve the <code>ValueType</code>.
      *
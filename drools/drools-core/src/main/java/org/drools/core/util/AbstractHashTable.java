@@ -20,6 +20,7 @@ import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.util.Arrays;
 import java.util.Objects;
 
 import org.drools.core.rule.Declaration;
@@ -119,6 +120,20 @@ public abstract class AbstractHashTable
         }
     }
 
+    /**
+     * Halves the capacity of this table, never going below minCapacity, while it is less than a quarter full.
+     * The gap with the growing threshold avoids resizing back and forth when the size oscillates.
+     */
+    public void shrink(int minCapacity) {
+        int newCapacity = this.table.length;
+        while ( newCapacity > minCapacity && this.size < ( newCapacity >> 2 ) * this.loadFactor ) {
+            newCapacity >>= 1;
+        }
+        if ( newCapacity < this.table.length ) {
+            resize( newCapacity );
+        }
+    }
+
     protected void resize(final int newCapacity) {
         final Entry[] oldTable = this.table;
         final int oldCapacity = oldTable.length;
@@ -750,8 +765,12 @@ public abstract class AbstractHashTable
     }
 
     public void clear() {
-        this.table = new Entry[Math.min( this.table.length,
-                                         16 )];
+        if ( this.table.length <= 16 ) {
+            // already at its minimum size, the table is reused, sparing an allocation at each reset of a pooled session
+            Arrays.fill( this.table, null );
+        } else {
+            this.table = new Entry[16];
+        }
         this.threshold = (int) (this.table.length * this.loadFactor);
         this.size = 0;
         this.iterator = null;
@@ -17,59 +17,134 @@
 package org.drools.core.util;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.kie.internal.concurrent.ExecutorProviderFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * A pool of reusable resources, creating new ones when all the pooled ones are in use.
+ *
+ * The resources given back to the pool are borrowed again before the ones never used, so that the pool keeps
+ * reusing the ones still hot in cache. The initial resources can be created in background, by the shared drools
+ * executor, without making the first borrowers wait for all of them.
+ */
 public class ScalablePool<T> {
 
     private static final Logger log = LoggerFactory.getLogger(ScalablePool.class);
 
-    private final java.util.Queue<T> pool = new ConcurrentLinkedQueue<T>();
-    private final List<T> resources = Collections.synchronizedList( new ArrayList<>() );
+    private final Deque<T> pool = new ConcurrentLinkedDeque<T>();
+    private final List<T> resources = new ArrayList<>();
 
     private final Supplier<? extends T> supplier;
     private final Consumer<? super T> resetter;
     private final Consumer<? super T> disposer;
 
+    private final AtomicInteger created = new AtomicInteger();
+    private boolean alive = true;
+
     public ScalablePool( int initialSize, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
+        this( initialSize, false, supplier, resetter, disposer );
+    }
+
+    public ScalablePool( int initialSize, boolean warmUpInBackground, Supplier<? extends T> supplier, Consumer<? super T> resetter, Consumer<? super T> disposer ) {
         this.supplier = supplier;
         this.resetter = resetter;
         this.disposer = disposer;
 
-        for (int i = 0; i < initialSize; i++) {
+        if (warmUpInBackground && initialSize > 0) {
+            warmUpInBackground( initialSize );
+        } else {
+            warmUp( initialSize );
+        }
+    }
+
+    private void warmUpInBackground( int initialSize ) {
+        // the resources are created with the class loader of the caller, as when they are created by the borrowers
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            ExecutorProviderFactory.getExecutorProvider().getExecutor().execute( () -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader previousClassLoader = thread.getContextClassLoader();
+                thread.setContextClassLoader( contextClassLoader );
+                try {
+                    warmUp( initialSize );
+                } catch (RuntimeException e) {
+                    log.warn( "Unable to create the initial resources of the pool", e );
+                } finally {
+                    thread.setContextClassLoader( previousClassLoader );
+                }
+            } );
+        } catch (RejectedExecutionException e) {
+            warmUp( initialSize );
+        }
+    }
+
+    private void warmUp( int initialSize ) {
+        // the resources created by the borrowers while warming up count towards the initial size
+        while (created.getAndIncrement() < initialSize) {
             T t = this.supplier.get();
-            pool.offer( t );
-            resources.add( t );
+            if (!track( t )) {
+                return;
+            }
+            pool.offerLast( t );
         }
     }
 
-    public T get() {
-        T t = pool.poll();
-        if (t != null) {
-            return t;
+    private boolean track( T t ) {
+        synchronized (resources) {
+            if (alive) {
+                resources.add( t );
+                return true;
+            }
         }
+        // the pool has been shut down while creating the resource
+        disposer.accept( t );
+        return false;
+    }
+
+    public T get() {
+        T t = poll();
+        return t != null ? t : create();
+    }
+
+    /**
+     * Returns a pooled resource, or null if none is available
+     */
+    public T poll() {
+        return pool.pollFirst();
+    }
 
-        t = this.supplier.get();
-        resources.add( t );
+    /**
+     * Creates a new resource, that will be pooled when released
+     */
+    public T create() {
+        created.incrementAndGet();
+        T t = this.supplier.get();
+        track( t );
         return t;
     }
 
     public void release(T t) {
         resetter.accept( t );
-        pool.offer( t );
+        pool.offerFirst( t );
     }
 
     public void shutdown() {
-        for (T t : resources) {
-            disposer.accept( t );
+        synchronized (resources) {
+            alive = false;
+            for (T t : resources) {
+                disposer.accept( t );
+            }
+            resources.clear();
         }
         pool.clear();
-        resources.clear();
     }
 }
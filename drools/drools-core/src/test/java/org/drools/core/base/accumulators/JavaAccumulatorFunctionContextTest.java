@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.base.accumulators;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.HashMap;
+
+import org.drools.core.base.accumulators.JavaAccumulatorFunctionExecutor.JavaAccumulatorFunctionContext;
+import org.drools.core.base.field.LongFieldImpl;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class JavaAccumulatorFunctionContextTest {
+
+    @Test
+    public void testPrimitiveValuesAreWrittenBoxed() throws Exception {
+        LongSumAccumulateFunction function = new LongSumAccumulateFunction();
+        JavaAccumulatorFunctionContext context = new JavaAccumulatorFunctionContext();
+        context.context = function.createContext();
+        context.reverseSupport = new HashMap<Integer, Object>();
+        context.reverseSupport.put( 1, new LongFieldImpl( 5 ) );
+        context.reverseSupport.put( 2, 7L );
+        context.primitive = true;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream( bytes )) {
+            out.writeObject( context );
+        }
+        JavaAccumulatorFunctionContext read;
+        try (ObjectInputStream in = new ObjectInputStream( new ByteArrayInputStream( bytes.toByteArray() ) )) {
+            read = (JavaAccumulatorFunctionContext) in.readObject();
+        }
+
+        // the format is the one of the contexts fed only with objects
+        assertFalse( read.primitive );
+        assertEquals( 5L, read.reverseSupport.get( 1 ) );
+        assertEquals( 7L, read.reverseSupport.get( 2 ) );
+    }
+}
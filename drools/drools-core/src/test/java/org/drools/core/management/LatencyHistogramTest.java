@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.management;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 100, 1_000, 123_456_789L, Long.MAX_VALUE }) {
+            long lowerBound = LatencyHistogram.bucketLowerBound( LatencyHistogram.bucketIndex( value ) );
+            assertTrue( lowerBound <= value );
+            // the error introduced by the bucketing is lower than 1/16 of the value
+            assertTrue( value - lowerBound <= value / 16 );
+        }
+        assertTrue( LatencyHistogram.bucketIndex( Long.MAX_VALUE ) < LatencyHistogram.BUCKET_COUNT );
+    }
+
+    @Test
+    public void testMergedPercentiles() {
+        LatencyHistogram h1 = new LatencyHistogram();
+        LatencyHistogram h2 = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            ( i % 2 == 0 ? h1 : h2 ).record( i * 1000L );
+        }
+
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram.Snapshot().add( h1 ).add( h2 );
+        assertEquals( 100, snapshot.getCount() );
+        assertEquals( 5_050_000L, snapshot.getTotal() );
+        assertEquals( 100_000L, snapshot.getMax() );
+        assertEquals( 50_500.0, snapshot.getMean(), 0.1 );
+
+        long median = snapshot.getPercentile( 50 );
+        assertTrue( median <= 50_000L && median >= 50_000L * 15 / 16 );
+        long p99 = snapshot.getPercentile( 99 );
+        assertTrue( p99 <= 99_000L && p99 >= 99_000L * 15 / 16 );
+        assertTrue( snapshot.getMin() <= 1000L );
+    }
+
+    @Test(timeout = 20000)
+    public void testConcurrentWriters() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        int threadsCount = 8;
+        int recordsPerThread = 100_000;
+        CountDownLatch start = new CountDownLatch( 1 );
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < threadsCount; t++) {
+            long value = ( t + 1 ) * 1000L;
+            Thread thread = new Thread( () -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException( e );
+                }
+                for (int i = 0; i < recordsPerThread; i++) {
+                    histogram.record( value );
+                }
+            } );
+            thread.start();
+            threads.add( thread );
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // no update is lost, even when the threads contend the same stripe of buckets
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram.Snapshot().add( histogram );
+        assertEquals( (long) threadsCount * recordsPerThread, snapshot.getCount() );
+        assertEquals( 36_000L * recordsPerThread, snapshot.getTotal() );
+        assertEquals( 8_000L, snapshot.getMax() );
+    }
+}
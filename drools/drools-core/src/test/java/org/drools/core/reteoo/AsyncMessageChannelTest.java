@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.core.reteoo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.drools.core.reteoo.AsyncMessageChannel.OverflowPolicy;
+import org.drools.core.reteoo.AsyncMessageChannel.Subscription;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncMessageChannelTest {
+
+    @Test
+    public void testBatchedDelivery() {
+        AsyncMessageChannel channel = new AsyncMessageChannel( "test", 16, 3, OverflowPolicy.BLOCK );
+        List<Subscription> scheduled = new ArrayList<>();
+        channel.subscribe( null, scheduled::add );
+
+        for (int i = 0; i < 5; i++) {
+            channel.send( new AsyncMessage( null, i ) );
+        }
+
+        // only one delivery is scheduled until the pending batch is consumed
+        assertEquals( 1, scheduled.size() );
+        assertEquals( 5, channel.getLag() );
+
+        List<Object> received = new ArrayList<>();
+        Subscription subscription = scheduled.remove( 0 );
+        assertEquals( 3, subscription.drainTo( received::add ) );
+        subscription.batchDelivered();
+
+        // the remaining messages cause a further delivery to be scheduled
+        assertEquals( 1, scheduled.size() );
+        assertEquals( 2, scheduled.remove( 0 ).drainTo( received::add ) );
+        subscription.batchDelivered();
+
+        assertEquals( 0, scheduled.size() );
+        assertEquals( 5, received.size() );
+        assertEquals( 5, channel.getSentCount() );
+        assertEquals( 5, channel.getDeliveredCount() );
+        assertEquals( 0, channel.getLag() );
+    }
+
+    @Test
+    public void testDropOnOverflow() {
+        AsyncMessageChannel channel = new AsyncMessageChannel( "test", 2, 10, OverflowPolicy.DROP );
+        List<Subscription> scheduled = new ArrayList<>();
+        channel.subscribe( null, scheduled::add );
+
+        for (int i = 0; i < 4; i++) {
+            channel.send( new AsyncMessage( null, i ) );
+        }
+
+        assertEquals( 4, channel.getSentCount() );
+        assertEquals( 2, channel.getDroppedCount() );
+        assertEquals( 2, channel.getLag() );
+
+        List<Object> received = new ArrayList<>();
+        scheduled.get( 0 ).drainTo( received::add );
+        assertEquals( 0, received.get( 0 ) );
+        assertEquals( 1, received.get( 1 ) );
+    }
+
+    @Test(timeout = 5000)
+    public void testBoundedBlockOnOverflow() {
+        AsyncMessageChannel channel = new AsyncMessageChannel( "test", 1, 10, OverflowPolicy.BLOCK );
+        channel.setBlockTimeoutMillis( 50 );
+        channel.subscribe( new Object(), s -> { } );
+
+        channel.send( new AsyncMessage( null, 0 ) );
+        long start = System.nanoTime();
+        channel.send( new AsyncMessage( null, 1 ) );
+
+        // the sender waited for the timeout, then gave up
+        assertTrue( System.nanoTime() - start >= 50_000_000L );
+        assertEquals( 1, channel.getDroppedCount() );
+        assertEquals( 1, channel.getLag() );
+    }
+
+    @Test(timeout = 5000)
+    public void testNoBlockOnOwnQueue() {
+        AsyncMessageChannel channel = new AsyncMessageChannel( "test", 1, 10, OverflowPolicy.BLOCK );
+        channel.setBlockTimeoutMillis( 60_000 );
+        channel.subscribe( null, s -> { } );
+
+        // the messages come from the receiving session itself (both null here), so waiting would never end
+        channel.send( new AsyncMessage( null, 0 ) );
+        channel.send( new AsyncMessage( null, 1 ) );
+
+        assertEquals( 1, channel.getDroppedCount() );
+    }
+
+    @Test
+    public void testInvalidOverflowPolicy() {
+        assertEquals( OverflowPolicy.BLOCK, AsyncMessageChannel.parseOverflowPolicy( "block" ) );
+        assertEquals( OverflowPolicy.DROP, AsyncMessageChannel.parseOverflowPolicy( "wait" ) );
+        assertEquals( OverflowPolicy.DROP, AsyncMessageChannel.parseOverflowPolicy( null ) );
+    }
+
+    @Test
+    public void testDeregisterReceiver() {
+        AsyncMessagesCoordinator coordinator = AsyncMessagesCoordinator.get();
+        Subscription subscription = coordinator.registerReceiver( "deregister", null, s -> { } );
+        assertEquals( 1, coordinator.getChannel( "deregister" ).getReceiversCount() );
+
+        coordinator.deregisterReceiver( "deregister", subscription );
+        assertEquals( null, coordinator.getChannel( "deregister" ) );
+    }
+}
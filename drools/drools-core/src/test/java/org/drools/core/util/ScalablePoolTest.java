@@ -19,6 +19,11 @@ package org.drools.core.util;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Test;
 
 public class ScalablePoolTest {
@@ -108,6 +113,55 @@ public class ScalablePoolTest {
         check( monitor, 5, 2, 5 );
     }
 
+    @Test(timeout = 10000)
+    public void testWarmUpInBackground() throws Exception {
+        Monitor monitor = new Monitor();
+        List<ClassLoader> classLoaders = new ArrayList<>();
+        ClassLoader callerClassLoader = new URLClassLoader( new URL[0], getClass().getClassLoader() );
+        ClassLoader previousClassLoader = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader( callerClassLoader );
+        ScalablePool<PooledResource> pool = new ScalablePool<>( 3, true, () -> {
+            synchronized (monitor) {
+                classLoaders.add( Thread.currentThread().getContextClassLoader() );
+                return new PooledResource( monitor );
+            }
+        }, PooledResource::reset, PooledResource::dispose );
+
+        PooledResource resource1;
+        List<PooledResource> warmedUp = new ArrayList<>();
+        try {
+            // the resources are created by another thread, the borrowers only create them when none is available
+            resource1 = pool.get();
+            while (warmedUp.size() < 2) {
+                PooledResource resource = pool.poll();
+                if (resource != null) {
+                    warmedUp.add( resource );
+                } else {
+                    Thread.sleep( 10 );
+                }
+            }
+        } finally {
+            Thread.currentThread().setContextClassLoader( previousClassLoader );
+        }
+        synchronized (monitor) {
+            // the resources created by the borrowers count towards the initial size
+            check( monitor, 3, 0, 0 );
+            // all of them are created with the class loader of the thread creating the pool
+            for (ClassLoader classLoader : classLoaders) {
+                assertSame( callerClassLoader, classLoader );
+            }
+        }
+
+        warmedUp.forEach( pool::release );
+        pool.release( resource1 );
+        check( monitor, 3, 3, 0 );
+        // the released resources are reused before the others
+        assertSame( resource1, pool.get() );
+
+        pool.shutdown();
+        check( monitor, 3, 3, 3 );
+    }
+
     private void check( Monitor monitor, int expectedNew, int expectedReset, int expectedDispose ) {
         assertEquals(expectedNew, monitor.newCounter);
         assertEquals(expectedReset, monitor.resetCounter);
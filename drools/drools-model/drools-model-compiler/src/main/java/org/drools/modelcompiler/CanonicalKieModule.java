@@ -113,7 +113,7 @@ public class CanonicalKieModule implements InternalKieModule {
     }
 
     public CanonicalKieModule( ReleaseId releaseId, KieModuleModel kieProject, File file, Collection<String> ruleClassesNames ) {
-        this( file.isDirectory() ? new FileKieModule( releaseId, kieProject, file ) : new ZipKieModule( releaseId, kieProject, file ), ruleClassesNames );
+        this( file.isDirectory() ? new FileKieModule( releaseId, kieProject, file ) : ZipKieModule.create( releaseId, kieProject, file ), ruleClassesNames );
     }
 
     public CanonicalKieModule( InternalKieModule internalKieModule ) {
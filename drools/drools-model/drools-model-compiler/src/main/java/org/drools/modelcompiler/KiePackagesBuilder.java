@@ -741,10 +741,17 @@ public class KiePackagesBuilder {
 
     private Accumulator createAccumulator(List<String> usedVariableName, BindingEvaluator binding, Class<?> functionClass, AccumulateFunction accFunction) {
         if (accFunction.isFixedValue()) {
-            return new LambdaAccumulator.FixedValueAcc(getAccumulateFunction( functionClass ), (( Value ) accFunction.getSource()).getValue());
+            Object value = (( Value ) accFunction.getSource()).getValue();
+            LambdaAccumulator accumulator = new LambdaAccumulator.FixedValueAcc(getAccumulateFunction( functionClass ), value);
+            accumulator.setSourceType( value != null ? value.getClass() : null );
+            return accumulator;
         }
         if (org.kie.api.runtime.rule.AccumulateFunction.class.isAssignableFrom(functionClass)) {
-            return createLambdaAccumulator(usedVariableName, binding, functionClass);
+            LambdaAccumulator accumulator = createLambdaAccumulator(usedVariableName, binding, functionClass);
+            if (accFunction.getSource() instanceof Variable) {
+                accumulator.setSourceType( (( Variable ) accFunction.getSource()).getType() );
+            }
+            return accumulator;
         }
         if (Accumulator.class.isAssignableFrom(functionClass)) {
             return createLegacyAccumulator(functionClass);
@@ -762,7 +769,7 @@ public class KiePackagesBuilder {
         return accumulator;
     }
 
-    private Accumulator createLambdaAccumulator(List<String> usedVariableName, BindingEvaluator binding, Class<?> functionClass) {
+    private LambdaAccumulator createLambdaAccumulator(List<String> usedVariableName, BindingEvaluator binding, Class<?> functionClass) {
         if (binding == null) {
             return new LambdaAccumulator.NotBindingAcc(getAccumulateFunction( functionClass ), usedVariableName);
         } else {
@@ -22,6 +22,7 @@ import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
 import org.drools.compiler.commons.jci.compilers.CompilationResult;
 import org.drools.compiler.compiler.io.File;
 import org.drools.compiler.compiler.io.memory.MemoryFile;
@@ -42,6 +43,7 @@ import static java.util.stream.Collectors.groupingBy;
 import static org.drools.modelcompiler.CanonicalKieModule.MODEL_FILE;
 import static org.drools.modelcompiler.CanonicalKieModule.MODEL_VERSION;
 import static org.drools.modelcompiler.CanonicalKieModule.createFromClassLoader;
+import static org.drools.modelcompiler.builder.JavaParserCompiler.compile;
 import static org.drools.modelcompiler.builder.JavaParserCompiler.getCompiler;
 
 public class CanonicalModelKieProject extends KieModuleKieProject {
@@ -71,7 +73,12 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
 
     @Override
     protected KnowledgeBuilder createKnowledgeBuilder(KieBaseModelImpl kBaseModel, InternalKieModule kModule) {
-        ModelBuilderImpl modelBuilder = new ModelBuilderImpl(getBuilderConfiguration(kBaseModel, kModule), isPattern);
+        KnowledgeBuilderConfigurationImpl builderConf = getBuilderConfiguration(kBaseModel, kModule);
+        // the classes generated out of unchanged rules can be restored from the compilation cache only if their names are stable
+        String namesSeed = builderConf.getCompilationCacheDir() != null ?
+                kModule.getReleaseId().getGroupId() + ":" + kModule.getReleaseId().getArtifactId() + ":" + kBaseModel.getName() :
+                null;
+        ModelBuilderImpl modelBuilder = new ModelBuilderImpl(builderConf, isPattern, namesSeed);
         modelBuilders.add(modelBuilder);
         return modelBuilder;
     }
@@ -106,7 +113,7 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
             srcMfs.write(PROJECT_RUNTIME_SOURCE, projectSourceClass.getBytes());
             sources[sources.length - 1] = PROJECT_RUNTIME_SOURCE;
 
-            CompilationResult res = getCompiler().compile(sources, srcMfs, trgMfs, getClassLoader());
+            CompilationResult res = compile(sources, srcMfs, trgMfs, getClassLoader(), getCompilationCacheDir());
 
             Stream.of(res.getErrors()).collect(groupingBy(CompilationProblem::getFileName))
                     .forEach((name, errors) -> {
@@ -131,6 +138,10 @@ public class CanonicalModelKieProject extends KieModuleKieProject {
         writeModelFile(modelFiles, trgMfs);
     }
 
+    private java.io.File getCompilationCacheDir() {
+        return modelBuilders.isEmpty() ? null : modelBuilders.get(0).getBuilderConfiguration().getCompilationCacheDir();
+    }
+
     protected void writeModelFile(List<String> modelSources, MemoryFileSystem trgMfs) {
         String pkgNames = MODEL_VERSION + Drools.getFullVersion() + "\n";
         if (!modelSources.isEmpty()) {
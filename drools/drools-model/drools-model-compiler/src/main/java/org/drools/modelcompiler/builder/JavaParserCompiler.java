@@ -16,6 +16,7 @@
 
 package org.drools.modelcompiler.builder;
 
+import java.io.File;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
@@ -30,8 +31,11 @@ import org.drools.compiler.commons.jci.compilers.CompilationResult;
 import org.drools.compiler.commons.jci.compilers.EclipseJavaCompiler;
 import org.drools.compiler.commons.jci.compilers.JavaCompiler;
 import org.drools.compiler.commons.jci.compilers.JavaCompilerFactory;
+import org.drools.compiler.commons.jci.compilers.JavaCompilerSettings;
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.compiler.rule.builder.dialect.java.JavaDialectConfiguration;
+import org.drools.compiler.rule.builder.dialect.java.PersistentCompilationCache;
+import org.drools.core.util.Drools;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.printer.PrettyPrinter;
@@ -74,6 +78,27 @@ public class JavaParserCompiler {
         throw new RuntimeException( "Unknown compiler: " + compilerType );
     }
 
+    /**
+     * Compiles the given sources, reusing from the compilation cache in the given directory, when not null, the classes
+     * of the sources that didn't change since a previous build, so that only the modified ones are passed to the compiler
+     */
+    public static CompilationResult compile(String[] sources, MemoryFileSystem srcMfs, MemoryFileSystem trgMfs, ClassLoader classLoader, File cacheDir) {
+        JavaCompiler compiler = getCompiler();
+        if (cacheDir == null) {
+            return compiler.compile(sources, srcMfs, trgMfs, classLoader);
+        }
+        return new PersistentCompilationCache(cacheDir, getCompilerFingerprint(compiler), trgMfs, classLoader).compile(compiler, sources, "src/main/java/", srcMfs, source -> true);
+    }
+
+    private static String getCompilerFingerprint(JavaCompiler compiler) {
+        JavaCompilerSettings settings = compiler.createDefaultSettings();
+        return compiler.getClass().getName() + "|" +
+                settings.getSourceVersion() + "|" +
+                settings.getTargetVersion() + "|" +
+                System.getProperty("java.version") + "|" +
+                Drools.getFullVersion();
+    }
+
     private static PrettyPrinter createPrettyPrinter() {
         PrettyPrinterConfiguration config = new PrettyPrinterConfiguration();
         config.setColumnAlignParameters( true );
@@ -16,22 +16,30 @@
 
 package org.drools.modelcompiler.builder;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
 import org.drools.compiler.builder.impl.KnowledgeBuilderImpl;
 import org.drools.compiler.builder.impl.TypeDeclarationFactory;
 import org.drools.compiler.compiler.DialectCompiletimeRegistry;
 import org.drools.compiler.compiler.PackageRegistry;
+import org.drools.compiler.lang.descr.BaseDescr;
 import org.drools.compiler.lang.descr.CompositePackageDescr;
 import org.drools.compiler.lang.descr.PackageDescr;
 import org.drools.compiler.lang.descr.TypeDeclarationDescr;
 import org.drools.core.definitions.InternalKnowledgePackage;
+import org.drools.core.io.internal.InternalResource;
 import org.drools.core.rule.TypeDeclaration;
 import org.drools.modelcompiler.builder.generator.DRLIdGenerator;
 import org.drools.modelcompiler.builder.generator.DrlxParseUtil;
@@ -47,10 +55,19 @@ public class ModelBuilderImpl extends KnowledgeBuilderImpl {
 
     private final Map<String, PackageModel> packageModels = new HashMap<>();
     private boolean isPattern = false;
+    private final String namesSeed;
 
     public ModelBuilderImpl(KnowledgeBuilderConfigurationImpl configuration, boolean isPattern) {
+        this(configuration, isPattern, null);
+    }
+
+    /**
+     * @param namesSeed when not null, the seed from which the names of the generated classes are derived, see {@link PackageModel}
+     */
+    public ModelBuilderImpl(KnowledgeBuilderConfigurationImpl configuration, boolean isPattern, String namesSeed) {
         super(configuration);
         this.isPattern = isPattern;
+        this.namesSeed = namesSeed;
     }
 
     @Override
@@ -126,7 +143,7 @@ public class ModelBuilderImpl extends KnowledgeBuilderImpl {
         String pkgName = pkg.getName();
         PackageModel model = packageModels.computeIfAbsent(pkgName, s -> {
             final DialectCompiletimeRegistry dialectCompiletimeRegistry = pkgRegistry.getDialectCompiletimeRegistry();
-            return new PackageModel(pkgName, this.getBuilderConfiguration(), isPattern, dialectCompiletimeRegistry, exprIdGenerator);
+            return new PackageModel(pkgName, this.getBuilderConfiguration(), isPattern, dialectCompiletimeRegistry, exprIdGenerator, getNamesSeed(packageDescr));
         });
         model.addImports(pkg.getTypeResolver().getImports());
         generatePOJO(this, pkg, packageDescr, model);
@@ -139,11 +156,39 @@ public class ModelBuilderImpl extends KnowledgeBuilderImpl {
         String pkgName = pkg.getName();
         PackageModel model = packageModels.computeIfAbsent(pkgName, s -> {
             final DialectCompiletimeRegistry dialectCompiletimeRegistry = pkgRegistry.getDialectCompiletimeRegistry();
-            return new PackageModel(pkgName, this.getBuilderConfiguration(), isPattern, dialectCompiletimeRegistry, exprIdGenerator);
+            return new PackageModel(pkgName, this.getBuilderConfiguration(), isPattern, dialectCompiletimeRegistry, exprIdGenerator, getNamesSeed(packageDescr));
         });
         generateModel(this, pkg, packageDescr, model, isPattern);
     }
 
+    /**
+     * The names of the classes generated for a package also depend on the content of its resources: a kjar update
+     * changing the package defines new classes instead of redefining the ones of the previous version, that could
+     * be already in use, and thus keeps the update of the kie base incremental.
+     */
+    private String getNamesSeed(PackageDescr packageDescr) {
+        if (namesSeed == null) {
+            return null;
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Stream.<Collection<? extends BaseDescr>>of(packageDescr.getImports(), packageDescr.getFunctionImports(), packageDescr.getAccumulateImports(),
+                                                   packageDescr.getAttributes(), packageDescr.getGlobals(), packageDescr.getFunctions(),
+                                                   packageDescr.getRules(), packageDescr.getTypeDeclarations(), packageDescr.getEnumDeclarations(),
+                                                   packageDescr.getEntryPointDeclarations(), packageDescr.getWindowDeclarations())
+                .flatMap(Collection::stream)
+                .map(BaseDescr::getResource)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted(Comparator.comparing(resource -> String.valueOf(resource.getSourcePath())))
+                .forEach(resource -> {
+                    byte[] path = String.valueOf(resource.getSourcePath()).getBytes(StandardCharsets.UTF_8);
+                    content.write(path, 0, path.length);
+                    byte[] bytes = ((InternalResource) resource).getBytes();
+                    content.write(bytes, 0, bytes.length);
+                });
+        return namesSeed + ":" + UUID.nameUUIDFromBytes(content.toByteArray());
+    }
+
     public List<PackageModel> getPackageModels() {
         return new ArrayList<>(packageModels.values());
     }
@@ -3,6 +3,10 @@ package org.drools.modelcompiler.builder;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import com.github.javaparser.ast.CompilationUnit;
@@ -28,42 +32,65 @@ public class ModelWriter {
 
         PrettyPrinter prettyPrinter = getPrettyPrinter();
 
+        ForkJoinPool pool = new ForkJoinPool(); // avoid common pool
+        try {
+            writePackages( srcMfs, packageModels, sourceFiles, modelFiles, prettyPrinter, pool );
+        } finally {
+            pool.shutdown();
+        }
+
+        return new Result(sourceFiles, modelFiles);
+    }
+
+    private void writePackages( MemoryFileSystem srcMfs, Collection<PackageModel> packageModels, List<String> sourceFiles, List<String> modelFiles,
+                                PrettyPrinter prettyPrinter, ForkJoinPool pool ) {
         for (PackageModel pkgModel : packageModels) {
             String pkgName = pkgModel.getName();
             String folderName = pkgName.replace( '.', '/' );
 
+            // the sources are rendered concurrently and then written in a deterministic order
+            List<SourceToPrint> sourcesToPrint = new ArrayList<>();
+
             for (ClassOrInterfaceDeclaration generatedPojo : pkgModel.getGeneratedPOJOsSource()) {
-                final String source = JavaParserCompiler.toPojoSource( pkgModel.getName(), pkgModel.getImports(), pkgModel.getStaticImports(), generatedPojo );
                 String pojoSourceName = "src/main/java/" + folderName + "/" + generatedPojo.getName() + ".java";
-                addSource( srcMfs, sourceFiles, pkgModel, pojoSourceName, source );
+                sourcesToPrint.add( new SourceToPrint( pojoSourceName, () -> JavaParserCompiler.toPojoSource( pkgModel.getName(), pkgModel.getImports(), pkgModel.getStaticImports(), generatedPojo ) ) );
             }
 
             for (GeneratedClassWithPackage generatedPojo : pkgModel.getGeneratedAccumulateClasses()) {
-                final String source = JavaParserCompiler.toPojoSource( pkgModel.getName(), generatedPojo.getImports(), pkgModel.getStaticImports(), generatedPojo.getGeneratedClass() );
                 String pojoSourceName = "src/main/java/" + folderName + "/" + generatedPojo.getGeneratedClass().getName() + ".java";
-                addSource( srcMfs, sourceFiles, pkgModel, pojoSourceName, source );
+                sourcesToPrint.add( new SourceToPrint( pojoSourceName, () -> JavaParserCompiler.toPojoSource( pkgModel.getName(), generatedPojo.getImports(), pkgModel.getStaticImports(), generatedPojo.getGeneratedClass() ) ) );
             }
 
             RuleSourceResult rulesSourceResult = pkgModel.getRulesSource();
             // main rules file:
             String rulesFileName = pkgModel.getRulesFileName();
             String rulesSourceName = "src/main/java/" + folderName + "/" + rulesFileName + ".java";
-            String rulesSource = prettyPrinter.print( rulesSourceResult.getMainRuleClass() );
-            addSource( srcMfs, sourceFiles, pkgModel, rulesSourceName, rulesSource );
+            sourcesToPrint.add( new SourceToPrint( rulesSourceName, () -> prettyPrinter.print( rulesSourceResult.getMainRuleClass() ) ) );
             modelFiles.add( pkgName + "." + rulesFileName );
             // manage additional classes, please notice to not add to modelFiles.
             for (CompilationUnit cu : rulesSourceResult.getSplitted()) {
                 String addFileName = cu.findFirst( ClassOrInterfaceDeclaration.class ).get().getNameAsString();
                 String sourceName = "src/main/java/" + folderName + "/" + addFileName + ".java";
-                addSource( srcMfs, sourceFiles, pkgModel, sourceName, prettyPrinter.print( cu ) );
+                sourcesToPrint.add( new SourceToPrint( sourceName, () -> prettyPrinter.print( cu ) ) );
+            }
+
+            List<String> sources = printSources( sourcesToPrint, pool );
+            for (int i = 0; i < sourcesToPrint.size(); i++) {
+                addSource( srcMfs, sourceFiles, pkgModel, sourcesToPrint.get( i ).sourceName, sources.get( i ) );
             }
 
             String sourceName = "src/main/java/" + folderName + "/" + DOMAIN_CLASSESS_METADATA_FILE_NAME + pkgModel.getPackageUUID() + ".java";
             addSource( srcMfs, sourceFiles, pkgModel, sourceName, pkgModel.getDomainClassesMetadataSource() );
             pkgModel.getModuleGenerator().withCdi(hasCdi).write(srcMfs);
         }
+    }
 
-        return new Result(sourceFiles, modelFiles);
+    private List<String> printSources( List<SourceToPrint> sourcesToPrint, ForkJoinPool pool ) {
+        try {
+            return pool.submit( () -> sourcesToPrint.parallelStream().map( SourceToPrint::print ).collect( Collectors.toList() ) ).get();
+        } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException("Sources generation failed or interrupted", e);
+        }
     }
 
     private void addSource( MemoryFileSystem srcMfs, List<String> sourceFiles, PackageModel pkgModel, String sourceName, String source ) {
@@ -72,6 +99,20 @@ public class ModelWriter {
         sourceFiles.add( sourceName );
     }
 
+    private static class SourceToPrint {
+        private final String sourceName;
+        private final Supplier<String> printer;
+
+        private SourceToPrint( String sourceName, Supplier<String> printer ) {
+            this.sourceName = sourceName;
+            this.printer = printer;
+        }
+
+        private String print() {
+            return printer.get();
+        }
+    }
+
     public static class Result {
         private final List<String> sourceFiles;
         private final List<String> modelFiles;
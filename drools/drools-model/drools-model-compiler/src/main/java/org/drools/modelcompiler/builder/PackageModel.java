@@ -17,10 +17,12 @@
 package org.drools.modelcompiler.builder;
 
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -28,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import com.github.javaparser.JavaParser;
@@ -53,6 +56,7 @@ import org.drools.compiler.builder.impl.KnowledgeBuilderConfigurationImpl;
 import org.drools.compiler.compiler.DialectCompiletimeRegistry;
 import org.drools.compiler.lang.descr.EntryPointDeclarationDescr;
 import org.drools.core.definitions.InternalKnowledgePackage;
+import org.drools.core.util.StringUtils;
 import org.drools.model.DomainClassMetadata;
 import org.drools.model.Global;
 import org.drools.model.Model;
@@ -72,7 +76,6 @@ import static java.util.stream.Collectors.joining;
 import static com.github.javaparser.ast.Modifier.finalModifier;
 import static com.github.javaparser.ast.Modifier.publicModifier;
 import static com.github.javaparser.ast.Modifier.staticModifier;
-import static org.drools.core.util.StringUtils.generateUUID;
 import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.toClassOrInterfaceType;
 import static org.drools.modelcompiler.builder.generator.DrlxParseUtil.toVar;
 import static org.drools.modelcompiler.builder.generator.DslMethodNames.GLOBAL_OF_CALL;
@@ -132,12 +135,21 @@ public class PackageModel {
     private InternalKnowledgePackage pkg;
     private ModuleSourceClass moduleGenerator;
 
-    private final String pkgUUID = generateUUID();
+    private final String pkgUUID;
 
     public PackageModel(String name, KnowledgeBuilderConfigurationImpl configuration, boolean isPattern, DialectCompiletimeRegistry dialectCompiletimeRegistry, DRLIdGenerator exprIdGenerator) {
+        this(name, configuration, isPattern, dialectCompiletimeRegistry, exprIdGenerator, null);
+    }
+
+    /**
+     * @param namesSeed when not null, the names of the generated classes are derived from it instead of being random,
+     *                  so that the same package built again out of the same rules generates the same sources
+     */
+    public PackageModel(String name, KnowledgeBuilderConfigurationImpl configuration, boolean isPattern, DialectCompiletimeRegistry dialectCompiletimeRegistry, DRLIdGenerator exprIdGenerator, String namesSeed) {
         this.name = name;
         this.isPattern = isPattern;
-        this.rulesFileName = generateRulesFileName();
+        this.pkgUUID = generateUUID(namesSeed, "package");
+        this.rulesFileName = RULES_FILE_NAME + generateUUID(namesSeed, "rules");
         this.configuration = configuration;
         this.exprIdGenerator = exprIdGenerator;
         this.dialectCompiletimeRegistry = dialectCompiletimeRegistry;
@@ -151,8 +163,12 @@ public class PackageModel {
         return rulesFileName;
     }
 
-    private String generateRulesFileName() {
-        return RULES_FILE_NAME + generateUUID();
+    private String generateUUID(String namesSeed, String kind) {
+        if (namesSeed == null) {
+            return StringUtils.generateUUID();
+        }
+        String uuid = UUID.nameUUIDFromBytes((namesSeed + ":" + name + ":" + kind).getBytes(StandardCharsets.UTF_8)).toString();
+        return uuid.replace("-", "");
     }
 
     public KnowledgeBuilderConfigurationImpl getConfiguration() {
@@ -656,7 +672,10 @@ public class PackageModel {
                 "package " + name + ";\n" +
                 "public class " + DOMAIN_CLASSESS_METADATA_FILE_NAME  + pkgUUID + " {\n\n"
         );
-        for (Class<?> domainClass : domainClasses) {
+        // sorted to generate the same source out of the same rules
+        List<Class<?>> sortedDomainClasses = new ArrayList<>( domainClasses );
+        sortedDomainClasses.sort( Comparator.comparing( Class::getName ) );
+        for (Class<?> domainClass : sortedDomainClasses) {
             String domainClassSourceName = asJavaSourceName( domainClass );
             List<String> accessibleProperties = getAccessibleProperties( domainClass );
             sb.append( "    public static final " + DomainClassMetadata.class.getCanonicalName() + " " + domainClassSourceName + DOMAIN_CLASS_METADATA_INSTANCE + " = new " + domainClassSourceName+ "_Metadata();\n" );
@@ -8,6 +8,7 @@ import java.util.Map;
 import java.util.Objects;
 
 import org.drools.core.WorkingMemory;
+import org.drools.core.base.accumulators.PrimitiveAccumulation;
 import org.drools.core.common.InternalFactHandle;
 import org.drools.core.common.InternalWorkingMemory;
 import org.drools.core.reteoo.SubnetworkTuple;
@@ -39,6 +40,7 @@ public abstract class LambdaAccumulator implements Accumulator {
     private final org.kie.api.runtime.rule.AccumulateFunction accumulateFunction;
     protected final List<String> sourceVariables;
     private Map<Integer, Object> reverseSupport;
+    private PrimitiveAccumulation primitiveAccumulation;
 
 
     protected LambdaAccumulator(org.kie.api.runtime.rule.AccumulateFunction accumulateFunction, List<String> sourceVariables) {
@@ -46,6 +48,13 @@ public abstract class LambdaAccumulator implements Accumulator {
         this.sourceVariables = sourceVariables;
     }
 
+    /**
+     * Lets the numeric values of the given type be passed unboxed to the accumulate function, when it supports it
+     */
+    public void setSourceType(Class<?> sourceType) {
+        this.primitiveAccumulation = PrimitiveAccumulation.resolve(accumulateFunction, sourceType);
+    }
+
     @Override
     public Object createWorkingMemoryContext() {
         // no working memory context needed
@@ -75,7 +84,11 @@ public abstract class LambdaAccumulator implements Accumulator {
         if (supportsReverse()) {
             reverseSupport.put(handle.getId(), accumulatedObject);
         }
-        accumulateFunction.accumulate((Serializable) context, accumulatedObject);
+        if (primitiveAccumulation != null && accumulatedObject instanceof Number) {
+            primitiveAccumulation.accumulate(accumulateFunction, (Serializable) context, (Number) accumulatedObject);
+        } else {
+            accumulateFunction.accumulate((Serializable) context, accumulatedObject);
+        }
     }
 
     protected abstract Object getAccumulatedObject( Declaration[] declarations, Declaration[] innerDeclarations, InternalFactHandle handle, Tuple tuple, InternalWorkingMemory wm );
@@ -87,10 +100,12 @@ public abstract class LambdaAccumulator implements Accumulator {
 
     @Override
     public void reverse(Object workingMemoryContext, Object context, Tuple leftTuple, InternalFactHandle handle, Declaration[] declarations, Declaration[] innerDeclarations, WorkingMemory workingMemory) throws Exception {
-        final Object accumulatedObject = reverseSupport.remove(handle.getId());
+        Object accumulatedObject = reverseSupport.remove(handle.getId());
         if(accumulatedObject == null) {
-            final Object accumulatedObject2 = getAccumulatedObject(declarations, innerDeclarations, handle, leftTuple, (InternalWorkingMemory) workingMemory);
-            accumulateFunction.reverse((Serializable) context, accumulatedObject2);
+            accumulatedObject = getAccumulatedObject(declarations, innerDeclarations, handle, leftTuple, (InternalWorkingMemory) workingMemory);
+        }
+        if (primitiveAccumulation != null && accumulatedObject instanceof Number) {
+            primitiveAccumulation.reverse(accumulateFunction, (Serializable) context, (Number) accumulatedObject);
         } else {
             accumulateFunction.reverse((Serializable) context, accumulatedObject);
         }
@@ -1146,4 +1146,43 @@ public class AccumulateTest extends BaseModelTest {
         assertEquals(5, list.get(0).intValue());
     }
 
+    @Test
+    public void testPrimitiveAccumulateWithReverse() {
+        String str =
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule X when\n" +
+                "  accumulate ( Person ( $age : age ); \n" +
+                "                $sum : sum( $age ), \n" +
+                "                $avg : average( $age ) \n" +
+                "              )\n" +
+                "then\n" +
+                "  list.add( $sum );\n" +
+                "  list.add( $avg );\n" +
+                "end";
+
+        KieSession ksession = getKieSession( str );
+
+        List<Number> list = new ArrayList<>();
+        ksession.setGlobal( "list", list );
+
+        Person mark = new Person( "Mark", 37 );
+        FactHandle markFH = ksession.insert( mark );
+        FactHandle edsonFH = ksession.insert( new Person( "Edson", 35 ) );
+        ksession.insert( new Person( "Mario", 42 ) );
+        ksession.fireAllRules();
+
+        assertEquals( 114, list.get( 0 ).intValue() );
+        assertEquals( 38.0, list.get( 1 ).doubleValue(), 0.0 );
+        list.clear();
+
+        // the old value has to be reversed, not the modified one
+        mark.setAge( 40 );
+        ksession.update( markFH, mark );
+        ksession.delete( edsonFH );
+        ksession.fireAllRules();
+
+        assertEquals( 82, list.get( 0 ).intValue() );
+        assertEquals( 41.0, list.get( 1 ).doubleValue(), 0.0 );
+    }
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.drools.modelcompiler.domain.Person;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class CompilationCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private static String getDrl(String pkg, String name) {
+        return "package " + pkg + "\n" +
+                "import " + Person.class.getCanonicalName() + ";\n" +
+                "global java.util.List list;\n" +
+                "rule R when\n" +
+                "  $p : Person( name == \"" + name + "\" )\n" +
+                "then\n" +
+                "  list.add( $p.getName() );\n" +
+                "end\n";
+    }
+
+    @Test
+    public void testUnchangedSourcesAreNotCompiledAgain() throws Exception {
+        File cacheDir = temporaryFolder.newFolder();
+        KieServices ks = KieServices.get();
+
+        ReleaseId releaseId1 = ks.newReleaseId("org.kie", "compilation-cache-test", "1.0");
+        buildKJar(ks, releaseId1, cacheDir, getDrl("org.test.a", "Mario"), getDrl("org.test.b", "Luca"));
+        long entries = countEntries(cacheDir);
+        assertTrue(entries > 0);
+
+        // the same rules generate the same sources, all of them restored from the cache
+        buildKJar(ks, ks.newReleaseId("org.kie", "compilation-cache-test", "1.0"), cacheDir, getDrl("org.test.a", "Mario"), getDrl("org.test.b", "Luca"));
+        assertEquals(entries, countEntries(cacheDir));
+
+        // only the classes of the modified package, and the ones referring to the release, are compiled again
+        ReleaseId releaseId2 = ks.newReleaseId("org.kie", "compilation-cache-test", "1.1");
+        buildKJar(ks, releaseId2, cacheDir, getDrl("org.test.a", "Edson"), getDrl("org.test.b", "Luca"));
+        long newEntries = countEntries(cacheDir) - entries;
+        assertTrue(newEntries > 0);
+        assertTrue(newEntries < entries);
+
+        KieContainer kieContainer = ks.newKieContainer(releaseId1);
+        assertEquals(2, fireRules(kieContainer).size());
+
+        kieContainer.updateToVersion(releaseId2);
+        List<String> names = fireRules(kieContainer);
+        assertEquals(2, names.size());
+        assertTrue(names.contains("Edson"));
+        assertTrue(names.contains("Luca"));
+    }
+
+    @Test
+    public void testUpdateOfCachedBuildIsIncremental() throws Exception {
+        File cacheDir = temporaryFolder.newFolder();
+        KieServices ks = KieServices.get();
+
+        ReleaseId releaseId1 = ks.newReleaseId("org.kie", "compilation-cache-update-test", "1.0");
+        buildKJar(ks, releaseId1, cacheDir, getDrl("org.test.a", "Mario"), getDrl("org.test.b", "Luca"));
+        ReleaseId releaseId2 = ks.newReleaseId("org.kie", "compilation-cache-update-test", "1.1");
+        buildKJar(ks, releaseId2, cacheDir, getDrl("org.test.a", "Edson"), getDrl("org.test.b", "Luca"));
+
+        KieContainer kieContainer = ks.newKieContainer(releaseId1);
+        KieSession ksession = kieContainer.newKieSession();
+        try {
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            ksession.insert(new Person("Mario", 40));
+            ksession.insert(new Person("Luca", 30));
+            ksession.insert(new Person("Edson", 35));
+            assertEquals(2, ksession.fireAllRules());
+            org.kie.api.definition.rule.Rule unchangedRule = kieContainer.getKieBase().getRule("org.test.b", "R");
+
+            // the modified package generates new classes, so the ones in use are not redefined and
+            // only the modified rule is replaced, without firing again the unchanged one
+            kieContainer.updateToVersion(releaseId2);
+            assertSame(unchangedRule, kieContainer.getKieBase().getRule("org.test.b", "R"));
+            list.clear();
+            assertEquals(1, ksession.fireAllRules());
+            assertEquals(Collections.singletonList("Edson"), list);
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static List<String> fireRules(KieContainer kieContainer) {
+        KieSession ksession = kieContainer.newKieSession();
+        try {
+            List<String> list = new ArrayList<>();
+            ksession.setGlobal("list", list);
+            ksession.insert(new Person("Mario", 40));
+            ksession.insert(new Person("Luca", 30));
+            ksession.insert(new Person("Edson", 35));
+            ksession.fireAllRules();
+            return list;
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    private static void buildKJar(KieServices ks, ReleaseId releaseId, File cacheDir, String... drls) {
+        KieModuleModel kproj = ks.newKieModuleModel();
+        kproj.setConfigurationProperty(CompilationCacheDirOption.PROPERTY_NAME, cacheDir.getAbsolutePath());
+        kproj.newKieBaseModel("kbase").setDefault(true).newKieSessionModel("ksession").setDefault(true);
+
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.writeKModuleXML(kproj.toXML());
+        kfs.writePomXML(KJARUtils.getPom(releaseId));
+        for (int i = 0; i < drls.length; i++) {
+            kfs.write("src/main/resources/r" + i + ".drl", drls[i]);
+        }
+
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll(ExecutableModelProject.class);
+        assertTrue(kieBuilder.getResults().getMessages().toString(), kieBuilder.getResults().getMessages().isEmpty());
+    }
+
+    private static long countEntries(File cacheDir) throws IOException {
+        try (Stream<java.nio.file.Path> files = Files.walk(cacheDir.toPath())) {
+            return files.filter(path -> path.toString().endsWith(".bin")).count();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.alphaNetworkCompiler;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
+import org.drools.compiler.reteoo.compiled.PrecompiledAlphaNetworks;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.core.reteoo.ObjectTypeNode;
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.drools.modelcompiler.KJARUtils;
+import org.drools.modelcompiler.domain.Person;
+import org.drools.modelcompiler.domain.Result;
+import org.junit.Test;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieContainer;
+import org.kie.api.runtime.KieSession;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class PrecompiledAlphaNetworksTest {
+
+    private static final String PACKAGE_NAME = "org.drools.modelcompiler.test.alphanetworks";
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";" +
+            "import " + Result.class.getCanonicalName() + ";" +
+            "rule Young when\n" +
+            "  Person( age < 18 )\n" +
+            "then\n" +
+            "  insert( new Result( \"young\" ) );\n" +
+            "end\n" +
+            "rule Luca when\n" +
+            "  $p : Person( name == \"Luca\" )\n" +
+            "then\n" +
+            "  insert( new Result( $p.getName() ) );\n" +
+            "end\n" +
+            "rule Mario when\n" +
+            "  $p : Person( name == \"Mario\" )\n" +
+            "then\n" +
+            "  insert( new Result( $p.getName() ) );\n" +
+            "end\n";
+
+    @Test
+    public void testPrecompiledNetworksAreWired() {
+        Map<String, String> files = generateAlphaNetworks(DRL);
+        KieContainer kieContainer = buildKieContainer(DRL, files);
+        InternalKnowledgeBase kBase = (InternalKnowledgeBase) kieContainer.getKieBase("kbase");
+
+        for (ObjectTypeNode otn : PrecompiledAlphaNetworks.getCompilableObjectTypeNodes(kBase)) {
+            assertNotNull(otn.getCompiledNetwork());
+            assertTrue(otn.getCompiledNetwork().getClass().getName().startsWith(PACKAGE_NAME + "."));
+        }
+        assertEquals(3, fireRules(kieContainer));
+    }
+
+    @Test
+    public void testStaleNetworksAreCompiledAgain() {
+        // the networks generated out of the original rules must not be used for the modified ones
+        Map<String, String> files = generateAlphaNetworks(DRL);
+        String modifiedDrl = DRL.replace("\"Mario\"", "\"Edson\"").replace("age < 18", "age < 40");
+        KieContainer kieContainer = buildKieContainer(modifiedDrl, files);
+        InternalKnowledgeBase kBase = (InternalKnowledgeBase) kieContainer.getKieBase("kbase");
+
+        for (ObjectTypeNode otn : PrecompiledAlphaNetworks.getCompilableObjectTypeNodes(kBase)) {
+            assertNotNull(otn.getCompiledNetwork());
+            assertFalse(otn.getCompiledNetwork().getClass().getName().startsWith(PACKAGE_NAME + "."));
+        }
+        assertEquals(4, fireRules(kieContainer));
+    }
+
+    private static int fireRules(KieContainer kieContainer) {
+        KieSession ksession = kieContainer.newKieSession();
+        try {
+            ksession.insert(new Person("Luca", 15));
+            ksession.insert(new Person("Mario", 35));
+            ksession.insert(new Person("Edson", 40));
+            return ksession.fireAllRules();
+        } finally {
+            ksession.dispose();
+        }
+    }
+
+    /**
+     * Generates the compiled alpha networks as the kie-maven-plugin does, returning the files to be added to the kjar
+     */
+    private static Map<String, String> generateAlphaNetworks(String drl) {
+        InternalKnowledgeBase kBase = (InternalKnowledgeBase) buildKieContainer(drl, new LinkedHashMap<>()).getKieBase("kbase");
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        String registry = PrecompiledAlphaNetworks.generateSources("kbase", kBase, PACKAGE_NAME, sources);
+        assertFalse(sources.isEmpty());
+
+        Map<String, String> files = new LinkedHashMap<>();
+        sources.forEach((path, source) -> files.put("src/main/java/" + path, source));
+        files.put("src/main/resources/" + PrecompiledAlphaNetworks.getRegistryPath("kbase"), registry);
+        return files;
+    }
+
+    private static KieContainer buildKieContainer(String drl, Map<String, String> files) {
+        KieServices ks = KieServices.get();
+        ReleaseId releaseId = ks.newReleaseId("org.kie", "kjar-test-" + UUID.randomUUID(), "1.0");
+
+        KieModuleModel kproj = ks.newKieModuleModel();
+        kproj.setConfigurationProperty(KieContainerImpl.ALPHA_NETWORK_COMPILER_OPTION, "true");
+        kproj.newKieBaseModel("kbase").setDefault(true).newKieSessionModel("ksession").setDefault(true);
+
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.writeKModuleXML(kproj.toXML());
+        kfs.writePomXML(KJARUtils.getPom(releaseId));
+        kfs.write("src/main/resources/r0.drl", drl);
+        files.forEach(kfs::write);
+
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll(ExecutableModelProject.class);
+        assertTrue(kieBuilder.getResults().getMessages().toString(), kieBuilder.getResults().getMessages().isEmpty());
+        return ks.newKieContainer(releaseId);
+    }
+}
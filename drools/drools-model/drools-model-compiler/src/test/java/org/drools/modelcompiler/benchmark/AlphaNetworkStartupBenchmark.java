@@ -0,0 +1,152 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
+import org.drools.compiler.reteoo.compiled.PrecompiledAlphaNetworks;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.drools.modelcompiler.KJARUtils;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of a kie base out of an executable model kjar, and the insertion of facts in its sessions,
+ * without compiled alpha network, with the alpha network compiled when the kie base is created, and with the
+ * alpha network compiled together with the kjar.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AlphaNetworkStartupBenchmark {
+
+    public enum AlphaNetwork { NONE, RUNTIME, PRECOMPILED }
+
+    @Param({"NONE", "RUNTIME", "PRECOMPILED"})
+    private AlphaNetwork alphaNetwork;
+
+    @Param({"100"})
+    private int numberOfRules;
+
+    @Param({"10000"})
+    private int numberOfFacts;
+
+    private KieServices kieServices;
+    private ReleaseId releaseId;
+    private KieBase kieBase;
+    private Person[] persons;
+
+    @Setup(Level.Trial)
+    public void setUpKJar() {
+        kieServices = KieServices.get();
+        String drl = getDrl();
+
+        Map<String, String> files = new LinkedHashMap<>();
+        if (alphaNetwork == AlphaNetwork.PRECOMPILED) {
+            // the same generation performed by the kie-maven-plugin
+            ReleaseId modelReleaseId = buildKJar("alpha-network-model", drl, true, files);
+            InternalKnowledgeBase kBase = (InternalKnowledgeBase) kieServices.newKieContainer(modelReleaseId).getKieBase("kbase");
+            Map<String, String> sources = new LinkedHashMap<>();
+            String registry = PrecompiledAlphaNetworks.generateSources("kbase", kBase, "org.drools.benchmark.alphanetworks", sources);
+            sources.forEach((path, source) -> files.put("src/main/java/" + path, source));
+            files.put("src/main/resources/" + PrecompiledAlphaNetworks.getRegistryPath("kbase"), registry);
+        }
+        releaseId = buildKJar("alpha-network", drl, alphaNetwork != AlphaNetwork.NONE, files);
+
+        kieBase = kieServices.newKieContainer(releaseId).getKieBase("kbase");
+        persons = new Person[numberOfFacts];
+        for (int i = 0; i < numberOfFacts; i++) {
+            persons[i] = new Person("name" + (i % (numberOfRules * 2)), i % 100);
+        }
+    }
+
+    @Benchmark
+    public KieBase createKieBase() {
+        return kieServices.newKieContainer(releaseId).getKieBase("kbase");
+    }
+
+    @Benchmark
+    public int insertFacts() {
+        KieSession kieSession = kieBase.newKieSession();
+        try {
+            for (Person person : persons) {
+                kieSession.insert(person);
+            }
+            return kieSession.fireAllRules();
+        } finally {
+            kieSession.dispose();
+        }
+    }
+
+    private String getDrl() {
+        StringBuilder drl = new StringBuilder("import " + Person.class.getCanonicalName() + ";\n");
+        for (int i = 0; i < numberOfRules; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+                    .append("  Person( name == \"name").append(i).append("\", age > ").append(i % 50).append(" )\n")
+                    .append("then\n")
+                    .append("end\n");
+        }
+        return drl.toString();
+    }
+
+    private ReleaseId buildKJar(String artifactId, String drl, boolean alphaNetworkCompiler, Map<String, String> files) {
+        ReleaseId kjarReleaseId = kieServices.newReleaseId("org.kie", artifactId, "1.0");
+
+        KieModuleModel kproj = kieServices.newKieModuleModel();
+        if (alphaNetworkCompiler) {
+            kproj.setConfigurationProperty(KieContainerImpl.ALPHA_NETWORK_COMPILER_OPTION, "true");
+        }
+        kproj.newKieBaseModel("kbase").setDefault(true).newKieSessionModel("ksession").setDefault(true);
+
+        KieFileSystem kfs = kieServices.newKieFileSystem();
+        kfs.writeKModuleXML(kproj.toXML());
+        kfs.writePomXML(KJARUtils.getPom(kjarReleaseId));
+        kfs.write("src/main/resources/rules.drl", drl);
+        files.forEach(kfs::write);
+
+        KieBuilder kieBuilder = kieServices.newKieBuilder(kfs).buildAll(ExecutableModelProject.class);
+        if (!kieBuilder.getResults().getMessages().isEmpty()) {
+            throw new IllegalStateException(kieBuilder.getResults().getMessages().toString());
+        }
+        return kjarReleaseId;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.drools.modelcompiler.ExecutableModelProject;
+import org.drools.modelcompiler.KJARUtils;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieBuilder;
+import org.kie.api.builder.KieFileSystem;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rebuilds with the executable model a kjar made of many packages, one of which changes at each build, with and
+ * without the compilation cache restoring the classes generated out of the unchanged packages.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ExecutableModelRebuildBenchmark {
+
+    @Param({"20"})
+    private int numberOfPackages;
+
+    @Param({"100"})
+    private int rulesPerPackage;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private File cacheDir;
+    private int build;
+
+    @Setup(Level.Trial)
+    public void setUpCache() throws IOException {
+        if (cached) {
+            cacheDir = Files.createTempDirectory("drools-compilation-cache").toFile();
+            rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCache() throws IOException {
+        if (cacheDir != null) {
+            try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Benchmark
+    public KieBuilder rebuild() {
+        KieServices ks = KieServices.get();
+        ReleaseId releaseId = ks.newReleaseId("org.kie", "model-rebuild-benchmark", "1.0." + build);
+
+        KieModuleModel kproj = ks.newKieModuleModel();
+        if (cacheDir != null) {
+            kproj.setConfigurationProperty(CompilationCacheDirOption.PROPERTY_NAME, cacheDir.getAbsolutePath());
+        }
+        kproj.newKieBaseModel("kbase").setDefault(true).newKieSessionModel("ksession").setDefault(true);
+
+        KieFileSystem kfs = ks.newKieFileSystem();
+        kfs.writeKModuleXML(kproj.toXML());
+        kfs.writePomXML(KJARUtils.getPom(releaseId));
+        for (int i = 0; i < numberOfPackages; i++) {
+            // the first package is different at each build
+            kfs.write("src/main/resources/p" + i + ".drl", getDrl(i, i == 0 ? build : 0));
+        }
+        build++;
+
+        KieBuilder kieBuilder = ks.newKieBuilder(kfs).buildAll(ExecutableModelProject.class);
+        if (!kieBuilder.getResults().getMessages().isEmpty()) {
+            throw new IllegalStateException(kieBuilder.getResults().getMessages().toString());
+        }
+        return kieBuilder;
+    }
+
+    private String getDrl(int pkg, int version) {
+        StringBuilder drl = new StringBuilder("package org.drools.benchmark.p").append(pkg).append(";\n");
+        drl.append("import ").append(Person.class.getCanonicalName()).append(";\n");
+        drl.append("global java.util.List list\n");
+        for (int i = 0; i < rulesPerPackage; i++) {
+            drl.append("rule R").append(i).append(" when\n")
+                    .append("  $p : Person( age > ").append(i + version).append(" )\n")
+                    .append("then\n")
+                    .append("  list.add( $p.getName() );\n")
+                    .append("end\n");
+        }
+        return drl.toString();
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.CompilationCacheDirOption;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rebuilds a large DRL project in which a single rule changed at each build, with and without the persistent
+ * compilation cache of the java dialect.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3, time = 10, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 10, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class IncrementalRebuildBenchmark {
+
+    @Param({"10000"})
+    private int numberOfRules;
+
+    @Param({"true", "false"})
+    private boolean cached;
+
+    private File cacheDir;
+    private int build;
+
+    @Setup(Level.Trial)
+    public void setUpCache() throws IOException {
+        if (cached) {
+            cacheDir = Files.createTempDirectory("drools-compilation-cache").toFile();
+            // fills the cache with all the unchanged rules
+            rebuild();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteCache() throws IOException {
+        if (cacheDir != null) {
+            try (Stream<Path> files = Files.walk(cacheDir.toPath())) {
+                files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Benchmark
+    public KnowledgeBuilder rebuild() {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        if (cacheDir != null) {
+            conf.setOption(CompilationCacheDirOption.get(cacheDir));
+        }
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        kbuilder.add(ResourceFactory.newByteArrayResource(getDrl(build++).getBytes()), ResourceType.DRL);
+        if (kbuilder.hasErrors()) {
+            throw new IllegalStateException(kbuilder.getErrors().toString());
+        }
+        return kbuilder;
+    }
+
+    private String getDrl(int build) {
+        StringBuilder drl = new StringBuilder("import " + Person.class.getCanonicalName() + ";\n");
+        drl.append("global java.util.List list\n");
+        for (int i = 0; i < numberOfRules; i++) {
+            // the consequence of the first rule is different at each build
+            int increment = i == 0 ? build : i;
+            drl.append("rule R").append(i).append(" when\n")
+                    .append("  $p : Person( age > ").append(i % 100).append(" )\n")
+                    .append("then\n")
+                    .append("  list.add( $p.getName() + ").append(increment).append(" );\n")
+                    .append("end\n");
+        }
+        return drl.toString();
+    }
+}
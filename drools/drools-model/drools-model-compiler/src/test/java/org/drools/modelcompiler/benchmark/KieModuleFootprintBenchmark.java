@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
+import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
+import org.drools.compiler.kie.builder.impl.MappedZipKieModule;
+import org.drools.compiler.kie.builder.impl.ZipKieModule;
+import org.drools.modelcompiler.benchmark.BuildFromKJarBenchmark.BenchmarkType;
+import org.kie.api.KieServices;
+import org.kie.api.builder.KieRepository;
+import org.kie.api.builder.ReleaseId;
+import org.kie.api.builder.model.KieModuleModel;
+import org.kie.api.runtime.KieContainer;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Deploys many containers of the same kjar, each one resolving its own kie module as it happens when they are
+ * created by different clients, and reports the heap retained by all of them in the retainedKiloBytes counter.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KieModuleFootprintBenchmark {
+
+    @Param({"50"})
+    private int numberOfContainers;
+
+    @Param({"1000"})
+    private int numberOfRules;
+
+    @Param({"false", "true"})
+    private boolean memoryMapped;
+
+    private KieRepository kieRepository;
+    private ReleaseId releaseId;
+    private KJarWithKnowledgeFiles kjarFiles;
+    private KieModuleModel kieModuleModel;
+
+    private final List<KieContainer> containers = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedKiloBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUpKJar() {
+        KieServices kieServices = KieServices.get();
+        kieRepository = kieServices.getRepository();
+        releaseId = kieServices.newReleaseId("org.kie", "kjar-footprint", "1.0");
+        kjarFiles = BenchmarkUtil.createJarFile( kieServices, releaseId, numberOfRules, 50, BenchmarkType.DRL );
+        kieModuleModel = BenchmarkUtil.getDefaultKieModuleModel( kieServices );
+    }
+
+    @TearDown(Level.Invocation)
+    public void disposeContainers() {
+        containers.forEach( KieContainer::dispose );
+        containers.clear();
+    }
+
+    @Benchmark
+    public List<KieContainer> deployContainers(Footprint footprint) throws Exception {
+        long usedBefore = usedHeap();
+        for (int i = 0; i < numberOfContainers; i++) {
+            InternalKieModule kieModule = memoryMapped ?
+                                          new MappedZipKieModule( releaseId, kieModuleModel, kjarFiles.getJarFile() ) :
+                                          new ZipKieModule( releaseId, kieModuleModel, kjarFiles.getJarFile() );
+            KieContainer kieContainer = new KieContainerImpl( new KieModuleKieProject( kieModule ), kieRepository );
+            kieContainer.getKieBase();
+            containers.add( kieContainer );
+        }
+        footprint.retainedKiloBytes = ( usedHeap() - usedBefore ) / 1024;
+        return containers;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
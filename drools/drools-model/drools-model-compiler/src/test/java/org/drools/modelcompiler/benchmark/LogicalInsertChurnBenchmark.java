@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSession;
+import org.kie.api.runtime.rule.FactHandle;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Inserts and then deletes a batch of facts, each one logically justifying a few others, some of them
+ * shared, so that both the creation and the retraction cascade of the belief sets are measured.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LogicalInsertChurnBenchmark {
+
+    private static final String DRL =
+            "rule Justify when\n" +
+            "    $i : Integer()\n" +
+            "then\n" +
+            "    insertLogical( \"own\" + $i );\n" +
+            "    insertLogical( \"shared\" + ($i % 100) );\n" +
+            "end\n";
+
+    @Param({"10000"})
+    private int numberOfFacts;
+
+    private KieBase kieBase;
+    private KieSession kieSession;
+    private FactHandle[] handles;
+
+    @Setup(Level.Trial)
+    public void setUpKieBase() {
+        kieBase = new KieHelper().addContent( DRL, ResourceType.DRL ).build();
+        handles = new FactHandle[numberOfFacts];
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpSession() {
+        kieSession = kieBase.newKieSession();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownSession() {
+        kieSession.dispose();
+    }
+
+    @Benchmark
+    public long insertAndDelete() {
+        for (int i = 0; i < numberOfFacts; i++) {
+            handles[i] = kieSession.insert( i );
+        }
+        kieSession.fireAllRules();
+        long count = kieSession.getFactCount();
+        for (int i = 0; i < numberOfFacts; i++) {
+            kieSession.delete( handles[i] );
+        }
+        kieSession.fireAllRules();
+        return count;
+    }
+}
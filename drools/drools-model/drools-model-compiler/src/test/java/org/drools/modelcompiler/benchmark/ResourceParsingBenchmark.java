@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.drools.compiler.builder.impl.CompositeKnowledgeBuilderImpl;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.builder.KnowledgeBuilder;
+import org.kie.internal.builder.KnowledgeBuilderConfiguration;
+import org.kie.internal.builder.KnowledgeBuilderFactory;
+import org.kie.internal.builder.conf.ParallelRulesBuildThresholdOption;
+import org.kie.internal.io.ResourceFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses a project made of many DRL files, building only its packages and declared types, with and
+ * without the parallel parsing of the resources.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ResourceParsingBenchmark {
+
+    @Param({"200"})
+    private int numberOfResources;
+
+    @Param({"50"})
+    private int rulesPerResource;
+
+    @Param({"true", "false"})
+    private boolean parallel;
+
+    private byte[][] drls;
+
+    @Setup
+    public void setUpDrls() {
+        drls = new byte[numberOfResources][];
+        for (int i = 0; i < numberOfResources; i++) {
+            drls[i] = getDrl(i).getBytes();
+        }
+    }
+
+    @Benchmark
+    public KnowledgeBuilder parse() {
+        KnowledgeBuilderConfiguration conf = KnowledgeBuilderFactory.newKnowledgeBuilderConfiguration();
+        conf.setOption(ParallelRulesBuildThresholdOption.get(parallel ? 1 : -1));
+        KnowledgeBuilder kbuilder = KnowledgeBuilderFactory.newKnowledgeBuilder(conf);
+        CompositeKnowledgeBuilderImpl batch = (CompositeKnowledgeBuilderImpl) kbuilder.batch();
+        for (byte[] drl : drls) {
+            batch.add(ResourceFactory.newByteArrayResource(drl), ResourceType.DRL);
+        }
+        batch.build(false);
+        if (kbuilder.hasErrors()) {
+            throw new IllegalStateException(kbuilder.getErrors().toString());
+        }
+        return kbuilder;
+    }
+
+    private String getDrl(int resource) {
+        StringBuilder drl = new StringBuilder("package org.drools.benchmark.p").append(resource % 10).append(";\n");
+        drl.append("import ").append(Person.class.getCanonicalName()).append(";\n");
+        for (int i = 0; i < rulesPerResource; i++) {
+            drl.append("rule R").append(resource).append("_").append(i).append(" when\n")
+                    .append("  $p : Person( age > ").append(i).append(", name != \"").append(resource).append("\" )\n")
+                    .append("  not String( this == $p.name )\n")
+                    .append("then\n")
+                    .append("  System.out.println( $p.getName() );\n")
+                    .append("end\n");
+        }
+        return drl.toString();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.management.RuleFootprintReport;
+import org.drools.core.reteoo.builder.RuleBaseInterner;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.KieBase;
+import org.kie.api.io.ResourceType;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Builds many kie bases out of the same rules, with and without the interning of their definitions, and reports
+ * the heap retained by all of them in the retainedKiloBytes counter. At the end of the trial it prints the rules of
+ * the last kie base retaining the most memory.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RuleBaseFootprintBenchmark {
+
+    @Param({"10"})
+    private int numberOfKieBases;
+
+    @Param({"2000"})
+    private int numberOfRules;
+
+    @Param({"false", "true"})
+    private boolean interning;
+
+    private String drl;
+
+    private final List<KieBase> kieBases = new ArrayList<>();
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Footprint {
+        public long retainedKiloBytes;
+    }
+
+    @Setup(Level.Trial)
+    public void setUpRules() {
+        System.setProperty( RuleBaseInterner.PROPERTY_NAME, String.valueOf( interning ) );
+        StringBuilder rules = new StringBuilder();
+        rules.append( "import " ).append( Person.class.getCanonicalName() ).append( ";\n" );
+        for (int i = 0; i < numberOfRules; i++) {
+            // the rules share their metadata and the constraint on the age, each one has its own constraint on the name
+            rules.append( "rule R" ).append( i ).append( " @Owner(\"pricing\") @Category(\"discount\") when\n" )
+                 .append( "    $p : Person( age > 18, name == \"Mark" ).append( i ).append( "\" )\n" )
+                 .append( "then\n" )
+                 .append( "    $p.setAge( $p.getAge() + 1 );\n" )
+                 .append( "end\n" );
+        }
+        drl = rules.toString();
+    }
+
+    @TearDown(Level.Invocation)
+    public void releaseKieBases() {
+        kieBases.clear();
+    }
+
+    @TearDown(Level.Trial)
+    public void printReport() {
+        RuleFootprintReport.of( new KieHelper().addContent( drl, ResourceType.DRL ).build() ).print( System.out, 10 );
+        System.clearProperty( RuleBaseInterner.PROPERTY_NAME );
+    }
+
+    @Benchmark
+    public List<KieBase> buildKieBases(Footprint footprint) {
+        long usedBefore = usedHeap();
+        for (int i = 0; i < numberOfKieBases; i++) {
+            kieBases.add( new KieHelper().addContent( drl, ResourceType.DRL ).build() );
+        }
+        footprint.retainedKiloBytes = ( usedHeap() - usedBefore ) / 1024;
+        return kieBases;
+    }
+
+    private static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
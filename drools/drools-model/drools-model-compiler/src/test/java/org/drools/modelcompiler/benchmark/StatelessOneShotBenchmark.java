@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.drools.modelcompiler.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.drools.core.SessionConfiguration;
+import org.drools.modelcompiler.domain.Person;
+import org.kie.api.KieBase;
+import org.kie.api.KieServices;
+import org.kie.api.io.ResourceType;
+import org.kie.api.runtime.KieSessionConfiguration;
+import org.kie.api.runtime.StatelessKieSession;
+import org.kie.internal.utils.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of a single stateless execution, comparing the one-shot mode, that recycles the working
+ * memories and inserts the facts without any lookup, with a working memory created from scratch at each execution.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StatelessOneShotBenchmark {
+
+    private static final String DRL =
+            "import " + Person.class.getCanonicalName() + ";\n" +
+            "rule Adult when\n" +
+            "    $p : Person( age >= 18 )\n" +
+            "then\n" +
+            "    modify( $p ) { setName( $p.getName() + \" (adult)\" ) };\n" +
+            "end\n" +
+            "rule SameAge when\n" +
+            "    $p1 : Person()\n" +
+            "    $p2 : Person( this != $p1, age == $p1.age )\n" +
+            "then\n" +
+            "end\n";
+
+    @Param({"false", "true"})
+    private boolean oneShot;
+
+    @Param({"10"})
+    private int numberOfFacts;
+
+    private StatelessKieSession session;
+
+    @Setup(Level.Trial)
+    public void setUpSession() {
+        KieBase kieBase = new KieHelper().addContent( DRL, ResourceType.DRL ).build();
+        KieSessionConfiguration conf = KieServices.Factory.get().newKieSessionConfiguration();
+        conf.setProperty( SessionConfiguration.ONE_SHOT_PROPERTY_NAME, String.valueOf( oneShot ) );
+        session = kieBase.newStatelessKieSession( conf );
+    }
+
+    @Benchmark
+    public void execute() {
+        List<Person> persons = new ArrayList<>( numberOfFacts );
+        for (int i = 0; i < numberOfFacts; i++) {
+            persons.add( new Person( "Person" + i, 10 + i % 20 ) );
+        }
+        session.execute( persons );
+    }
+}
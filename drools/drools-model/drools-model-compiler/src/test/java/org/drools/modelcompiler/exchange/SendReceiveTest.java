@@ -76,7 +76,7 @@ public class SendReceiveTest {
         List<String> list = new ArrayList<>();
         ksession.setGlobal( "messages", list );
 
-        assertEquals( 1, AsyncMessagesCoordinator.get().getListeners().size() );
+        assertEquals( 1, AsyncMessagesCoordinator.get().getChannels().size() );
 
         ksession.insert( 10 );
 
@@ -93,7 +93,7 @@ public class SendReceiveTest {
 
         assertEquals( 1, list.size());
         assertEquals( "received message 'Hello World!' longer than 10", list.get(0));
-        assertEquals( 0, AsyncMessagesCoordinator.get().getListeners().size() );
+        assertEquals( 0, AsyncMessagesCoordinator.get().getChannels().size() );
     }
 
     @Test
@@ -98,6 +98,8 @@ public class XStreamMarshaller
 
     private static Logger logger = LoggerFactory.getLogger( XStreamMarshaller.class );
     private List<DMNExtensionRegister> extensionRegisters = new ArrayList<>();
+    // configuring an XStream instance is by far the most expensive part of the unmarshalling, while once configured it is thread safe
+    private volatile XStream xStream;
 
 
     private static StaxDriver staxDriver;
@@ -144,7 +146,7 @@ public class XStreamMarshaller
     @Override
     public Definitions unmarshal(Reader isr) {
         try {
-            XStream xStream = newXStream();
+            XStream xStream = getXStream();
 
             Definitions def = (Definitions) xStream.fromXML( isr );
 
@@ -159,7 +161,7 @@ public class XStreamMarshaller
     public String marshal(Object o) {
         try ( Writer writer = new StringWriter();
               CustomStaxWriter hsWriter = (CustomStaxWriter) staxDriver.createWriter(writer); ) {
-            XStream xStream = newXStream();
+            XStream xStream = getXStream();
             if ( o instanceof DMNModelInstrumentedBase ) {
                 KieDMNModelInstrumentedBase base = (KieDMNModelInstrumentedBase) o;
                 String dmnPrefix = base.getNsContext().entrySet().stream().filter(kv -> KieDMNModelInstrumentedBase.URI_DMN.equals(kv.getValue())).findFirst().map(Map.Entry::getKey).orElse("");
@@ -197,7 +199,7 @@ public class XStreamMarshaller
     @Deprecated
     public void marshalMarshall(Object o, OutputStream out) {
         try {
-            XStream xStream = newXStream();
+            XStream xStream = getXStream();
             out.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n".getBytes());
             OutputStreamWriter ows = new OutputStreamWriter(out, "UTF-8");
             xStream.toXML(o, ows);
@@ -224,6 +226,20 @@ public class XStreamMarshaller
         }
      }
     
+    private XStream getXStream() {
+        XStream result = xStream;
+        if ( result == null ) {
+            synchronized ( this ) {
+                result = xStream;
+                if ( result == null ) {
+                    result = newXStream();
+                    xStream = result;
+                }
+            }
+        }
+        return result;
+    }
+
     private XStream newXStream() {
         XStream xStream = createTrustingXStream( staxDriver, Definitions.class.getClassLoader() );
         
@@ -101,6 +101,8 @@ public class XStreamMarshaller
 
     private static Logger logger = LoggerFactory.getLogger( XStreamMarshaller.class );
     private List<DMNExtensionRegister> extensionRegisters = new ArrayList<>();
+    // configuring an XStream instance is by far the most expensive part of the unmarshalling, while once configured it is thread safe
+    private volatile XStream xStream;
 
 
     private static StaxDriver staxDriver;
@@ -147,7 +149,7 @@ public class XStreamMarshaller
     @Override
     public Definitions unmarshal(Reader isr) {
         try {
-            XStream xStream = newXStream();
+            XStream xStream = getXStream();
 
             Definitions def = (Definitions) xStream.fromXML( isr );
 
@@ -162,7 +164,7 @@ public class XStreamMarshaller
     public String marshal(Object o) {
         try ( Writer writer = new StringWriter();
               CustomStaxWriter hsWriter = (CustomStaxWriter) staxDriver.createWriter(writer); ) {
-            XStream xStream = newXStream();
+            XStream xStream = getXStream();
             if ( o instanceof DMNModelInstrumentedBase ) {
                 KieDMNModelInstrumentedBase base = (KieDMNModelInstrumentedBase) o;
                 String dmnPrefix = base.getNsContext().entrySet().stream().filter(kv -> KieDMNModelInstrumentedBase.URI_DMN.equals(kv.getValue())).findFirst().map(Map.Entry::getKey).orElse("");
@@ -187,6 +189,20 @@ public class XStreamMarshaller
         }
     }
 
+    private XStream getXStream() {
+        XStream result = xStream;
+        if ( result == null ) {
+            synchronized ( this ) {
+                result = xStream;
+                if ( result == null ) {
+                    result = newXStream();
+                    xStream = result;
+                }
+            }
+        }
+        return result;
+    }
+
     private XStream newXStream() {
         XStream xStream = createTrustingXStream( staxDriver, Definitions.class.getClassLoader() );
         
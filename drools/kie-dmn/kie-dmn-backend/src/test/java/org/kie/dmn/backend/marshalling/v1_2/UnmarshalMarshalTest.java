@@ -21,10 +21,16 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.namespace.QName;
 import javax.xml.transform.Source;
@@ -110,6 +116,25 @@ public class UnmarshalMarshalTest {
         assertEquals(21d, shape0sharedStyle.getFontSize(), 0.0d);
     }
 
+    @Test
+    public void testConcurrentUnmarshalling() throws Exception {
+        // the marshaller reuses the same XStream instance for all the models
+        final String xml = new String(Files.readAllBytes(new File(this.getClass().getResource("ch11example.dmn").toURI()).toPath()), StandardCharsets.UTF_8);
+        final String expected = MARSHALLER.marshal(MARSHALLER.unmarshal(xml));
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> MARSHALLER.marshal(MARSHALLER.unmarshal(xml))));
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public void testRoundTripV12(String subdir, String xmlfile) throws Exception {
         testRoundTrip(subdir, xmlfile, MARSHALLER, DMN12_SCHEMA_SOURCE);
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.api;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNResult;
+
+/**
+ * Evaluates all the decisions of a model against many input contexts, resolving once the information that
+ * {@link org.kie.dmn.api.core.DMNRuntime#evaluateAll(org.kie.dmn.api.core.DMNModel, DMNContext)} looks up at each call.
+ *
+ * @see DMNFactory#newBatchEvaluator(org.kie.dmn.api.core.DMNRuntime, org.kie.dmn.api.core.DMNModel)
+ */
+public interface DMNBatchEvaluator {
+
+    /**
+     * Lazily evaluates the given contexts, in the threads consuming the returned stream.
+     */
+    Stream<DMNResult> evaluateAll(Stream<? extends DMNContext> contexts);
+
+    /**
+     * Evaluates the given contexts, handing each result to the consumer as soon as it is available.
+     * When the evaluator has a fork-join pool the contexts are evaluated in parallel on it, and the consumer can be
+     * invoked concurrently, in no particular order.
+     *
+     * @return the statistics of this batch
+     */
+    DMNBatchStatistics evaluateAll(Stream<? extends DMNContext> contexts, Consumer<? super DMNResult> consumer);
+
+    /**
+     * @see #evaluateAll(Stream, Consumer)
+     */
+    DMNBatchStatistics evaluateAll(Iterator<? extends DMNContext> contexts, Consumer<? super DMNResult> consumer);
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The throughput figures of a batch evaluated by a {@link DMNBatchEvaluator}.
+ */
+public final class DMNBatchStatistics {
+
+    private final long evaluatedContexts;
+    private final long failedContexts;
+    private final long elapsedNanos;
+
+    public DMNBatchStatistics(long evaluatedContexts, long failedContexts, long elapsedNanos) {
+        this.evaluatedContexts = evaluatedContexts;
+        this.failedContexts = failedContexts;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * The number of contexts evaluated
+     */
+    public long getEvaluatedContexts() {
+        return evaluatedContexts;
+    }
+
+    /**
+     * The number of contexts whose result has errors
+     */
+    public long getFailedContexts() {
+        return failedContexts;
+    }
+
+    public long getElapsedTime(TimeUnit unit) {
+        return unit.convert(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The number of contexts evaluated per second
+     */
+    public double getThroughput() {
+        return elapsedNanos == 0 ? 0 : evaluatedContexts * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "DMNBatchStatistics{" +
+               "evaluatedContexts=" + evaluatedContexts +
+               ", failedContexts=" + failedContexts +
+               ", elapsedMillis=" + getElapsedTime(TimeUnit.MILLISECONDS) +
+               ", throughput=" + String.format("%.1f/s", getThroughput()) +
+               '}';
+    }
+}
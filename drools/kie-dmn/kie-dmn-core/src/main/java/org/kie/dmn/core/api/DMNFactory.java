@@ -16,11 +16,16 @@
 
 package org.kie.dmn.core.api;
 
+import java.util.concurrent.ForkJoinPool;
+
 import org.kie.dmn.api.core.DMNCompiler;
 import org.kie.dmn.api.core.DMNCompilerConfiguration;
 import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
 import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.core.impl.DMNBatchEvaluatorImpl;
 import org.kie.dmn.core.impl.DMNContextImpl;
 
 public final class DMNFactory {
@@ -39,6 +44,14 @@ public final class DMNFactory {
         return new DMNCompilerConfigurationImpl();
     }
 
+    public static DMNBatchEvaluator newBatchEvaluator(DMNRuntime runtime, DMNModel model) {
+        return new DMNBatchEvaluatorImpl(runtime, model, null);
+    }
+
+    public static DMNBatchEvaluator newBatchEvaluator(DMNRuntime runtime, DMNModel model, ForkJoinPool pool) {
+        return new DMNBatchEvaluatorImpl(runtime, model, pool);
+    }
+
     private DMNFactory() {
         // Constructing instances is not allowed for this Factory
     }
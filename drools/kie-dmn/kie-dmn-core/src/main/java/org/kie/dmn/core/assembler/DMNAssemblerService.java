@@ -90,7 +90,7 @@ public class DMNAssemblerService implements KieAssemblerService {
         DMNMarshaller dmnMarshaller = dmnCompiler.getMarshaller();
         if (resources.size() == 1) {
             // quick path:
-            internalAddResource(kbuilderImpl, dmnCompiler, resources.iterator().next(), Collections.emptyList());
+            internalAddResource(kbuilderImpl, dmnCompiler, resources.iterator().next(), null, Collections.emptyList());
             return;
         }
         List<DMNResource> dmnResources = new ArrayList<>();
@@ -105,7 +105,8 @@ public class DMNAssemblerService implements KieAssemblerService {
         Collection<DMNModel> dmnModels = new ArrayList<>();
 
         for (DMNResource dmnRes : sortedDmnResources) {
-            DMNModel dmnModel = internalAddResource(kbuilderImpl, dmnCompiler, dmnRes.getResAndConfig(), dmnModels);
+            // the definitions are compiled as they have been unmarshalled to sort the resources, to avoid parsing them again
+            DMNModel dmnModel = internalAddResource(kbuilderImpl, dmnCompiler, dmnRes.getResAndConfig(), dmnRes.getDefinitions(), dmnModels);
             dmnModels.add(dmnModel);
         }
     }
@@ -123,9 +124,9 @@ public class DMNAssemblerService implements KieAssemblerService {
         }
     }
 
-    private DMNModel internalAddResource(KnowledgeBuilderImpl kbuilder, DMNCompiler dmnCompiler, ResourceWithConfiguration r, Collection<DMNModel> dmnModels) throws Exception {
+    private DMNModel internalAddResource(KnowledgeBuilderImpl kbuilder, DMNCompilerImpl dmnCompiler, ResourceWithConfiguration r, Definitions definitions, Collection<DMNModel> dmnModels) throws Exception {
         r.getBeforeAdd().accept(kbuilder);
-        DMNModel dmnModel = compileResourceToModel(kbuilder, dmnCompiler, r.getResource(), dmnModels);
+        DMNModel dmnModel = compileResourceToModel(kbuilder, dmnCompiler, r.getResource(), definitions, dmnModels);
         r.getAfterAdd().accept(kbuilder);
         return dmnModel;
     }
@@ -145,11 +146,11 @@ public class DMNAssemblerService implements KieAssemblerService {
             }
         }
 
-        compileResourceToModel(kbuilderImpl, dmnCompiler, resource, dmnModels);
+        compileResourceToModel(kbuilderImpl, dmnCompiler, resource, null, dmnModels);
     }
 
-    private DMNModel compileResourceToModel(KnowledgeBuilderImpl kbuilderImpl, DMNCompiler dmnCompiler, Resource resource, Collection<DMNModel> dmnModels) {
-        DMNModel model = dmnCompiler.compile(resource, dmnModels);
+    private DMNModel compileResourceToModel(KnowledgeBuilderImpl kbuilderImpl, DMNCompiler dmnCompiler, Resource resource, Definitions definitions, Collection<DMNModel> dmnModels) {
+        DMNModel model = definitions != null ? ((DMNCompilerImpl) dmnCompiler).compile(definitions, resource, dmnModels) : dmnCompiler.compile(resource, dmnModels);
         if( model != null ) {
             String namespace = model.getNamespace();
 
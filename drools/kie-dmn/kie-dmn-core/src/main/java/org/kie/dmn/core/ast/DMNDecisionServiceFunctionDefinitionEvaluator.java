@@ -32,6 +32,7 @@ import org.kie.dmn.core.api.DMNExpressionEvaluator;
 import org.kie.dmn.core.api.EvaluatorResult;
 import org.kie.dmn.core.api.EvaluatorResult.ResultType;
 import org.kie.dmn.core.ast.DMNFunctionDefinitionEvaluator.FormalParameter;
+import org.kie.dmn.core.impl.DMNInvocationCache;
 import org.kie.dmn.core.impl.DMNResultImpl;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -46,17 +47,20 @@ public class DMNDecisionServiceFunctionDefinitionEvaluator implements DMNExpress
     private DecisionServiceNode dsNode;
     private List<DSFormalParameter> parameters;
     private boolean coerceSingletonResult;
+    // shared by the functions, it identifies the decision service in the cache of the memoized invocations
+    private DMNDecisionServiceEvaluator dsEvaluator;
 
     public DMNDecisionServiceFunctionDefinitionEvaluator(DecisionServiceNode dsNode, List<DSFormalParameter> parameters, boolean coerceSingletonResult) {
         this.dsNode = dsNode;
         this.parameters = parameters;
         this.coerceSingletonResult = coerceSingletonResult;
+        this.dsEvaluator = new DMNDecisionServiceEvaluator(dsNode, false, coerceSingletonResult);
     }
 
     @Override
     public EvaluatorResult evaluate(DMNRuntimeEventManager eventManager, DMNResult dmnr) {
         DMNResultImpl result = (DMNResultImpl) dmnr;
-        DMNDSFunction function = new DMNDSFunction(dsNode.getName(), parameters, new DMNDecisionServiceEvaluator(dsNode, false, coerceSingletonResult), eventManager, result);
+        DMNDSFunction function = new DMNDSFunction(dsNode.getName(), parameters, dsEvaluator, eventManager, result);
         return new EvaluatorResultImpl(function, ResultType.SUCCESS);
     }
 
@@ -96,6 +100,14 @@ public class DMNDecisionServiceFunctionDefinitionEvaluator implements DMNExpress
         }
 
         public Object invoke(EvaluationContext ctx, Object[] params) {
+            DMNInvocationCache invocationCache = resultContext.getInvocationCache();
+            if (invocationCache != null && invocationCache.isMemoized(getName())) {
+                return invocationCache.invoke(evaluator, params, () -> invokeDecisionService(params));
+            }
+            return invokeDecisionService(params).getResult();
+        }
+
+        private EvaluatorResult invokeDecisionService(Object[] params) {
             DMNContext previousContext = resultContext.getContext();
 
             DMNContext dmnContext = eventManager.getRuntime().newContext();
@@ -118,9 +130,9 @@ public class DMNDecisionServiceFunctionDefinitionEvaluator implements DMNExpress
                 resultContext.setContext(dmnContext);
                 EvaluatorResult result = evaluator.evaluate(eventManager, resultContext);
                 if (result.getResultType() == ResultType.SUCCESS) {
-                    return result.getResult();
+                    return result;
                 }
-                return null;
+                return new EvaluatorResultImpl(null, ResultType.FAILURE);
             } catch (Exception e) {
                 MsgUtil.reportMessage(LOG,
                                       DMNMessage.Severity.ERROR,
@@ -131,7 +143,7 @@ public class DMNDecisionServiceFunctionDefinitionEvaluator implements DMNExpress
                                       Msg.ERR_INVOKING_FUNCTION_ON_NODE,
                                       getName(),
                                       getName());
-                return null;
+                return new EvaluatorResultImpl(null, ResultType.FAILURE);
             } finally {
                 resultContext.setContext(previousContext);
             }
@@ -30,6 +30,7 @@ import org.kie.dmn.core.api.DMNExpressionEvaluator;
 import org.kie.dmn.core.api.EvaluatorResult;
 import org.kie.dmn.core.api.EvaluatorResult.ResultType;
 import org.kie.dmn.core.impl.DMNContextFEELCtxWrapper;
+import org.kie.dmn.core.impl.DMNInvocationCache;
 import org.kie.dmn.core.impl.DMNResultImpl;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -117,7 +118,22 @@ public class DMNFunctionDefinitionEvaluator
             this.resultContext = result;
         }
 
+        /**
+         * @return a copy of this function evaluating its body on the given result and notifying the given event manager
+         */
+        public DMNFunction bind(DMNRuntimeEventManager eventManager, DMNResultImpl result) {
+            return new DMNFunction( getName(), parameters, functionDefinition, evaluator, eventManager, result );
+        }
+
         public Object invoke(EvaluationContext ctx, Object[] params) {
+            DMNInvocationCache invocationCache = resultContext.getInvocationCache();
+            if ( invocationCache != null && invocationCache.isMemoized( getName() ) ) {
+                return invocationCache.invoke( functionDefinition, params, () -> invokeFunction( ctx, params ) );
+            }
+            return invokeFunction( ctx, params ).getResult();
+        }
+
+        private EvaluatorResult invokeFunction(EvaluationContext ctx, Object[] params) {
             DMNContext previousContext = resultContext.getContext();
             // we could be more strict and only set the parameters and the dependencies as values in the new
             // context, but for now, cloning the original context
@@ -132,9 +148,9 @@ public class DMNFunctionDefinitionEvaluator
                     resultContext.setContext( dmnContext );
                     EvaluatorResult result = evaluator.evaluate( eventManager, resultContext );
                     if( result.getResultType() == ResultType.SUCCESS ) {
-                        return result.getResult();
+                        return result;
                     }
-                    return null;
+                    return new EvaluatorResultImpl( null, ResultType.FAILURE );
                 } else {
                     MsgUtil.reportMessage( logger,
                                            DMNMessage.Severity.ERROR,
@@ -144,7 +160,7 @@ public class DMNFunctionDefinitionEvaluator
                                            null,
                                            Msg.MISSING_EXPRESSION_FOR_FUNCTION,
                                            getName() );
-                    return null;
+                    return new EvaluatorResultImpl( null, ResultType.FAILURE );
                 }
             } catch ( Exception e ) {
                 MsgUtil.reportMessage( logger,
@@ -156,7 +172,7 @@ public class DMNFunctionDefinitionEvaluator
                                        Msg.ERR_INVOKING_FUNCTION_ON_NODE,
                                        getName(),
                                        getName() );
-                return null;
+                return new EvaluatorResultImpl( null, ResultType.FAILURE );
             } finally {
                 resultContext.setContext( previousContext );
                 dmnContext.exitFrame();
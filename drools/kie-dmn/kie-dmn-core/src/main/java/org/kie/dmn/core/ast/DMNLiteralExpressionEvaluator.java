@@ -50,6 +50,14 @@ public class DMNLiteralExpressionEvaluator
         }
     }
 
+    /**
+     * Creates the evaluator of an expression that doesn't keep track of its own FEEL AST, as the ones compiled ahead of time
+     */
+    public DMNLiteralExpressionEvaluator(CompiledExpression expression, boolean isFunctionDef) {
+        this.expression = expression;
+        this.isFunctionDef = isFunctionDef;
+    }
+
     public boolean isFunctionDefinition() {
         return isFunctionDef;
     }
@@ -18,6 +18,7 @@ package org.kie.dmn.core.compiler;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
@@ -96,6 +97,7 @@ public class DMNCompilerImpl implements DMNCompiler {
 
     private final DMNEvaluatorCompiler evaluatorCompiler;
     private DMNCompilerConfiguration dmnCompilerConfig;
+    private volatile ConfiguredMarshaller marshaller;
     private Deque<DRGElementCompiler> drgCompilers = new LinkedList<>();
     {
         drgCompilers.add( new InputDataCompiler() );
@@ -143,6 +145,22 @@ public class DMNCompilerImpl implements DMNCompiler {
         return null;
     }
 
+    /**
+     * Compiles the definitions already unmarshalled from the given resource, to avoid parsing it again.
+     */
+    public DMNModel compile(Definitions dmndefs, Resource resource, Collection<DMNModel> dmnModels) {
+        try {
+            DMNModel model = compile(dmndefs, dmnModels);
+            if (model != null) {
+                ((DMNModelImpl) model).setResource(resource);
+            }
+            return model;
+        } catch ( Exception e ) {
+            logger.error( "Error compiling model from resource: " + resource.getSourcePath(), e );
+        }
+        return null;
+    }
+
     @Override
     public DMNModel compile(Reader source, Collection<DMNModel> dmnModels) {
         try {
@@ -155,11 +173,29 @@ public class DMNCompilerImpl implements DMNCompiler {
         return null;
     }
 
+    /**
+     * Returns the marshaller of this compiler, that is reused for all the models, as it is thread safe and
+     * expensive to configure. It is created again when the extensions registered in the configuration change.
+     */
     public DMNMarshaller getMarshaller() {
-        if (dmnCompilerConfig != null && !dmnCompilerConfig.getRegisteredExtensions().isEmpty()) {
-            return DMNMarshallerFactory.newMarshallerWithExtensions(getDmnCompilerConfig().getRegisteredExtensions());
-        } else {
-            return DMNMarshallerFactory.newDefaultMarshaller();
+        List<DMNExtensionRegister> extensions = getRegisteredExtensions();
+        ConfiguredMarshaller configured = marshaller;
+        if (configured == null || !configured.extensions.equals(extensions)) {
+            configured = new ConfiguredMarshaller(extensions);
+            marshaller = configured;
+        }
+        return configured.marshaller;
+    }
+
+    private static class ConfiguredMarshaller {
+        private final List<DMNExtensionRegister> extensions;
+        private final DMNMarshaller marshaller;
+
+        private ConfiguredMarshaller(List<DMNExtensionRegister> extensions) {
+            this.extensions = new ArrayList<>(extensions);
+            this.marshaller = extensions.isEmpty() ?
+                    DMNMarshallerFactory.newDefaultMarshaller() :
+                    DMNMarshallerFactory.newMarshallerWithExtensions(this.extensions);
         }
     }
 
@@ -216,6 +252,7 @@ public class DMNCompilerImpl implements DMNCompiler {
 
         processItemDefinitions(ctx, model, dmndefs);
         processDrgElements(ctx, model, dmndefs);
+        evaluatorCompiler.modelCompiled(ctx, model);
         return model;
     }
 
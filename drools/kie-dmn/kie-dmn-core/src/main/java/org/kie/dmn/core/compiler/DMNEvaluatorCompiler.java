@@ -35,10 +35,12 @@ import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
 import org.kie.dmn.feel.FEEL;
 import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
 import org.kie.dmn.feel.runtime.FEELFunction;
 import org.kie.dmn.feel.runtime.UnaryTest;
 import org.kie.dmn.feel.runtime.decisiontables.DTDecisionRule;
 import org.kie.dmn.feel.runtime.decisiontables.DTInputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DTInputEntry;
 import org.kie.dmn.feel.runtime.decisiontables.DTOutputClause;
 import org.kie.dmn.feel.runtime.decisiontables.DecisionTableImpl;
 import org.kie.dmn.feel.runtime.functions.BaseFEELFunction;
@@ -157,6 +159,13 @@ public class DMNEvaluatorCompiler {
         return null;
     }
 
+    /**
+     * Invoked once all the nodes of the model have been compiled
+     */
+    protected void modelCompiled(DMNCompilerContext ctx, DMNModelImpl model) {
+        // nothing to do by default
+    }
+
     protected ClassLoader getRootClassLoader() {
         return getDmnCompilerConfig().getRootClassLoader();
     }
@@ -538,6 +547,8 @@ public class DMNEvaluatorCompiler {
             dt.getParent() );
         }
         java.util.List<DTDecisionRule> rules = new ArrayList<>();
+        // the context the input entries are compiled in, so that the decision table can understand their text in the same way
+        CompilerContext entriesCompilerContext = ctx.toCompilerContext();
         index = 0;
         for ( DecisionRule dr : dt.getRule() ) {
             DTDecisionRule rule = new DTDecisionRule( index );
@@ -572,10 +583,10 @@ public class DMNEvaluatorCompiler {
                         ctx.exitFrame();
                     }
                 }
-                rule.getInputEntry().add( (c, x) -> tests.stream().anyMatch( t -> {
+                rule.getInputEntry().add( new DTInputEntry( ut != null ? ut.getText() : null, (c, x) -> tests.stream().anyMatch( t -> {
                     Boolean result = t.apply( c, x );
                     return result != null && result;
-                } ) );
+                } ), entriesCompilerContext ) );
             }
             for ( LiteralExpression le : dr.getOutputEntry() ) {
                 String expressionText = le.getText();
@@ -754,7 +765,7 @@ public class DMNEvaluatorCompiler {
         }
     }
 
-    private DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
+    protected DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
         DMNLiteralExpressionEvaluator evaluator = null;
         if (expression.getExpressionLanguage() == null || expression.getExpressionLanguage().equals(expression.getURIFEEL())) {
             String exprText = expression.getText();
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * Enables the memoization of the invocations of the given business knowledge models and decision services, that
+ * must be pure, that is their result must only depend on the values of their parameters.
+ *
+ * The results are cached for the duration of a single evaluation, up to a maximum number of entries, and an
+ * invocation served by the cache doesn't report again the messages and the events of the original one.
+ */
+public class MemoizationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    /**
+     * The property holding the comma separated names of the pure business knowledge models and decision services
+     */
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.memoization";
+
+    /**
+     * The default maximum number of results cached during an evaluation
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    private final Set<String> pureFunctions;
+    private final int maxSize;
+
+    public MemoizationOption(Set<String> pureFunctions, int maxSize) {
+        if ( maxSize < 0 ) {
+            throw new IllegalArgumentException( "The maximum size of the memoization cache can't be negative: " + maxSize );
+        }
+        this.pureFunctions = Collections.unmodifiableSet( new HashSet<>( pureFunctions ) );
+        this.maxSize = maxSize;
+    }
+
+    public MemoizationOption(String value) {
+        this( value == null ? Collections.emptySet() : Arrays.stream( value.split( "," ) )
+                                                              .map( String::trim )
+                                                              .filter( name -> !name.isEmpty() )
+                                                              .collect( Collectors.toSet() ),
+              DEFAULT_MAX_SIZE );
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isMemoization() {
+        return !pureFunctions.isEmpty() && maxSize > 0;
+    }
+
+    public Set<String> getPureFunctions() {
+        return pureFunctions;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.kie.dmn.core.assembler.DMNAssemblerService;
+
+/**
+ * Enables the concurrent evaluation of the decisions not depending on each other, scheduling them on the given executor.
+ */
+public class ParallelEvaluationOption implements DMNOption {
+
+    private static final long serialVersionUID = 510l;
+
+    public static final String PROPERTY_NAME = DMNAssemblerService.ORG_KIE_DMN_PREFIX + ".runtime.parallel";
+
+    /**
+     * The default value for this option
+     */
+    public static final boolean DEFAULT_VALUE = false;
+
+    private final transient Executor executor;
+
+    /**
+     * @param executor the executor the decisions are scheduled on, or null to evaluate them sequentially
+     */
+    public ParallelEvaluationOption(Executor executor) {
+        this.executor = executor;
+    }
+
+    public ParallelEvaluationOption(boolean value) {
+        this.executor = value ? ForkJoinPool.commonPool() : null;
+    }
+
+    public ParallelEvaluationOption(String value) {
+        this( value == null ? DEFAULT_VALUE : Boolean.valueOf( value ) );
+    }
+
+    @Override
+    public String getPropertyName() {
+        return PROPERTY_NAME;
+    }
+
+    public boolean isParallelEvaluation() {
+        return executor != null;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+}
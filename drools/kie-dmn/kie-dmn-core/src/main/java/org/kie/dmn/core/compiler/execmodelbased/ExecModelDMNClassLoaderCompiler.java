@@ -16,15 +16,21 @@
 
 package org.kie.dmn.core.compiler.execmodelbased;
 
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.kie.dmn.core.api.DMNExpressionEvaluator;
 import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
 import org.kie.dmn.core.compiler.DMNCompilerContext;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.compiler.DMNEvaluatorCompiler;
 import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
 import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.LiteralExpression;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +38,8 @@ public class ExecModelDMNClassLoaderCompiler extends DMNEvaluatorCompiler {
 
     private DMNRuleClassFile dmnRuleClassFile;
 
+    private final Map<DMNModelImpl, PrecompiledLiteralExpressions> literalExpressions = new IdentityHashMap<>();
+
     static final Logger logger = LoggerFactory.getLogger(ExecModelDMNEvaluatorCompiler.class);
 
 
@@ -59,11 +67,69 @@ public class ExecModelDMNClassLoaderCompiler extends DMNEvaluatorCompiler {
 
                 evaluatorInstance.initParameters(ctx, execModelDTableModel, node);
 
-                logger.debug("Read compiled evaluator from class loader: " + evaluatorClassName);
+                logger.debug("Read compiled evaluator from class loader: {}", evaluatorClassName);
                 return evaluatorInstance;
             } catch (IllegalAccessException | InstantiationException | ClassNotFoundException e) {
                 throw new RuntimeException("Cannot instantiate class" + e);
             }
         }).orElseThrow(() -> new RuntimeException("No evaluator class found in file: " + dmnRuleClassFile));
     }
+
+    @Override
+    protected DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
+        PrecompiledLiteralExpressions precompiled = literalExpressions.computeIfAbsent(model, this::loadLiteralExpressions);
+        CompiledFEELExpression compiledExpression = precompiled.get(node, exprName, expression.getText());
+        if (compiledExpression != null) {
+            return new DMNLiteralExpressionEvaluator(compiledExpression, false);
+        }
+        return super.compileLiteralExpression(ctx, model, node, exprName, expression);
+    }
+
+    @Override
+    protected void modelCompiled(DMNCompilerContext ctx, DMNModelImpl model) {
+        literalExpressions.remove(model);
+    }
+
+    private PrecompiledLiteralExpressions loadLiteralExpressions(DMNModelImpl model) {
+        String className = ModelLiteralExpressions.getGeneratedClassName(model);
+        Map<String, CompiledFEELExpression> expressions = new HashMap<>();
+        Map<String, String> texts = new HashMap<>();
+        if (dmnRuleClassFile.getCompiledClass(className).isPresent()) {
+            try {
+                Class<?> literalExpressionsClass = getRootClassLoader().loadClass(className);
+                String[] keys = (String[]) literalExpressionsClass.getField(ModelLiteralExpressions.KEYS_ARRAY_NAME).get(null);
+                String[] expressionTexts = (String[]) literalExpressionsClass.getField(ModelLiteralExpressions.TEXTS_ARRAY_NAME).get(null);
+                CompiledFEELExpression[] compiledExpressions = (CompiledFEELExpression[]) literalExpressionsClass.getField(ModelLiteralExpressions.EXPRESSIONS_ARRAY_NAME).get(null);
+                for (int i = 0; i < keys.length; i++) {
+                    expressions.put(keys[i], compiledExpressions[i]);
+                    texts.put(keys[i], expressionTexts[i]);
+                }
+                logger.debug("Read {} compiled literal expressions from class loader: {}", keys.length, className);
+            } catch (ClassNotFoundException | NoSuchFieldException | IllegalAccessException e) {
+                throw new RuntimeException("Cannot read the literal expressions of class " + className, e);
+            }
+        }
+        return new PrecompiledLiteralExpressions(expressions, texts);
+    }
+
+    private static class PrecompiledLiteralExpressions {
+
+        private final ModelLiteralExpressions keys = new ModelLiteralExpressions();
+        private final Map<String, CompiledFEELExpression> expressions;
+        private final Map<String, String> texts;
+
+        private PrecompiledLiteralExpressions(Map<String, CompiledFEELExpression> expressions, Map<String, String> texts) {
+            this.expressions = expressions;
+            this.texts = texts;
+        }
+
+        /**
+         * Returns the expression compiled ahead of time for the given node and name, or null if there is none or
+         * if its text doesn't match, meaning that the model changed after the sources were generated
+         */
+        private CompiledFEELExpression get(DMNBaseNode node, String exprName, String text) {
+            String key = keys.nextKey(node, exprName);
+            return text != null && text.equals(texts.get(key)) ? expressions.get(key) : null;
+        }
+    }
 }
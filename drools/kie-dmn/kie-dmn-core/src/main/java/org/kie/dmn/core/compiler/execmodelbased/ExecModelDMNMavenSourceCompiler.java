@@ -17,17 +17,22 @@
 package org.kie.dmn.core.compiler.execmodelbased;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.kie.dmn.api.core.AfterGeneratingSourcesListener;
 import org.kie.dmn.api.core.GeneratedSource;
 import org.kie.dmn.core.api.DMNExpressionEvaluator;
 import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
 import org.kie.dmn.core.compiler.DMNCompilerContext;
 import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.impl.DMNModelImpl;
 import org.kie.dmn.model.api.DecisionTable;
+import org.kie.dmn.model.api.LiteralExpression;
 
 public class ExecModelDMNMavenSourceCompiler extends ExecModelDMNEvaluatorCompiler {
     private GeneratorsEnum[] ALL_GENERATORS = new GeneratorsEnum[] {
@@ -41,6 +46,8 @@ public class ExecModelDMNMavenSourceCompiler extends ExecModelDMNEvaluatorCompil
 
     List<AfterGeneratingSourcesListener> afterGeneratingSourcesListeners = new ArrayList<>();
 
+    private final Map<DMNModelImpl, LiteralExpressionsSourceGenerator> literalExpressions = new IdentityHashMap<>();
+
     public void register(AfterGeneratingSourcesListener listener) {
         afterGeneratingSourcesListeners.add(listener);
     }
@@ -57,6 +64,27 @@ public class ExecModelDMNMavenSourceCompiler extends ExecModelDMNEvaluatorCompil
         return null;
     }
 
+    @Override
+    protected DMNExpressionEvaluator compileLiteralExpression(DMNCompilerContext ctx, DMNModelImpl model, DMNBaseNode node, String exprName, LiteralExpression expression) {
+        // the expression is still compiled, to report its errors, and then generated unless it defines a function
+        DMNExpressionEvaluator evaluator = super.compileLiteralExpression(ctx, model, node, exprName, expression);
+        boolean include = evaluator != null && !((DMNLiteralExpressionEvaluator) evaluator).isFunctionDefinition();
+        literalExpressions.computeIfAbsent(model, LiteralExpressionsSourceGenerator::new)
+                .addLiteralExpression(ctx, node, exprName, expression.getText(), include);
+        return evaluator;
+    }
+
+    @Override
+    protected void modelCompiled(DMNCompilerContext ctx, DMNModelImpl model) {
+        LiteralExpressionsSourceGenerator generator = literalExpressions.remove(model);
+        if (generator != null && !generator.isEmpty()) {
+            List<GeneratedSource> generatedSources = Collections.singletonList(generator.generate());
+            for(AfterGeneratingSourcesListener listener : afterGeneratingSourcesListeners) {
+                listener.accept(generatedSources);
+            }
+        }
+    }
+
     public AbstractModelEvaluator generateEvaluator( DMNCompilerContext ctx, DTableModel dTableModel ) {
 
         MemoryFileSystem srcMfs = new MemoryFileSystem();
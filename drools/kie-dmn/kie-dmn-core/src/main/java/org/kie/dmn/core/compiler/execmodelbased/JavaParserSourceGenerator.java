@@ -32,6 +32,7 @@ import com.github.javaparser.ast.expr.ArrayInitializerExpr;
 import com.github.javaparser.ast.expr.Expression;
 import com.github.javaparser.ast.expr.NameExpr;
 import com.github.javaparser.ast.expr.ObjectCreationExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
 import com.github.javaparser.ast.type.ArrayType;
 import com.github.javaparser.ast.type.ClassOrInterfaceType;
 
@@ -54,6 +55,10 @@ public class JavaParserSourceGenerator {
         }
     }
 
+    public void addStaticImportsOf(Class<?> clazz) {
+        compilationUnit.addImport(clazz.getCanonicalName(), true, true);
+    }
+
     public void addInnerClassWithName(ClassOrInterfaceDeclaration feelExpressionSource, String name) {
         renameFeelExpressionClass(name, feelExpressionSource);
         firstClass.addMember(feelExpressionSource);
@@ -88,6 +93,29 @@ public class JavaParserSourceGenerator {
         addMember(new FieldDeclaration(PUBLIC_STATIC_FINAL, variable));
     }
 
+    public void addArray(List<String> initializers, String arrayName, Class<?> type) {
+        NodeList<Expression> arrayInitializers = NodeList.nodeList();
+        for(String instanceName : initializers) {
+            arrayInitializers.add(new NameExpr(instanceName));
+        }
+        addArray(arrayInitializers, arrayName, getType(type));
+    }
+
+    public void addStringArray(List<String> values, String arrayName) {
+        NodeList<Expression> arrayInitializers = NodeList.nodeList();
+        for(String value : values) {
+            StringLiteralExpr literal = new StringLiteralExpr();
+            literal.setString(value); // setString escapes the contents Java-style
+            arrayInitializers.add(literal);
+        }
+        addArray(arrayInitializers, arrayName, getType(String.class));
+    }
+
+    private void addArray(NodeList<Expression> arrayInitializers, String arrayName, ClassOrInterfaceType type) {
+        ArrayCreationExpr arrayCreationExpr = new ArrayCreationExpr(type, NodeList.nodeList(new ArrayCreationLevel()), new ArrayInitializerExpr(arrayInitializers));
+        VariableDeclarator variable = new VariableDeclarator(new ArrayType(type), arrayName, arrayCreationExpr);
+        addMember(new FieldDeclaration(PUBLIC_STATIC_FINAL, variable));
+    }
 
     private ClassOrInterfaceType getType(String canonicalName) {
         return JavaParser.parseClassOrInterfaceType(canonicalName);
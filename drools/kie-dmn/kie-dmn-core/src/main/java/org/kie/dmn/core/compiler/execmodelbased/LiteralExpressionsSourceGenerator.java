@@ -0,0 +1,104 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler.execmodelbased;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import org.kie.dmn.api.core.GeneratedSource;
+import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.compiler.DMNCompilerContext;
+import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELExpression;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.kie.dmn.core.compiler.execmodelbased.FeelExpressionSourceGenerator.instanceName;
+
+/**
+ * Collects the FEEL literal expressions of a model while it is compiled, and generates a single class holding
+ * all of them compiled to Java, together with the keys and the texts needed to read them back.
+ */
+public class LiteralExpressionsSourceGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(LiteralExpressionsSourceGenerator.class);
+
+    private final DMNModelImpl model;
+    private final ModelLiteralExpressions keys = new ModelLiteralExpressions();
+    private final JavaParserSourceGenerator sourceGenerator;
+
+    private final List<String> expressionKeys = new ArrayList<>();
+    private final List<String> expressionTexts = new ArrayList<>();
+    private final List<String> instanceNames = new ArrayList<>();
+
+    public LiteralExpressionsSourceGenerator(DMNModelImpl model) {
+        this.model = model;
+        this.sourceGenerator = new JavaParserSourceGenerator(ModelLiteralExpressions.getGeneratedSimpleClassName(model), "", CodegenStringUtil.escapeIdentifier(model.getNamespace()));
+        sourceGenerator.addImports(org.kie.dmn.feel.codegen.feel11.CompiledCustomFEELFunction.class,
+                                   org.kie.dmn.feel.codegen.feel11.CompiledFEELSemanticMappings.class,
+                                   org.kie.dmn.feel.codegen.feel11.CompiledFEELSupport.class,
+                                   EvaluationContext.class,
+                                   CompiledFEELExpression.class);
+        // as in the template of the compiled FEEL expressions
+        sourceGenerator.addStaticImportsOf(org.kie.dmn.feel.codegen.feel11.CompiledFEELSemanticMappings.class);
+    }
+
+    /**
+     * Adds the expression compiled for the given node and name. A key is consumed even when the expression is
+     * skipped, so that the following ones are keyed in the same way at runtime.
+     */
+    public void addLiteralExpression(DMNCompilerContext ctx, DMNBaseNode node, String exprName, String text, boolean include) {
+        String key = keys.nextKey(node, exprName);
+        if (!include) {
+            return;
+        }
+        ClassOrInterfaceDeclaration expressionSource;
+        try {
+            expressionSource = ctx.getFeelHelper().generateFeelExpressionSource(text, ctx.toCompilerContext());
+        } catch (RuntimeException e) {
+            // the expression will be compiled at runtime
+            logger.debug("Unable to generate the source of the expression {} of node {}", text, node.getIdentifierString(), e);
+            return;
+        }
+        String className = ModelLiteralExpressions.LITERAL_EXPRESSION_CLASS_PREFIX + instanceNames.size();
+        sourceGenerator.addInnerClassWithName(expressionSource, className);
+        sourceGenerator.addField(className, CompiledFEELExpression.class, instanceName(className));
+        expressionKeys.add(key);
+        expressionTexts.add(text);
+        instanceNames.add(instanceName(className));
+    }
+
+    public boolean isEmpty() {
+        return instanceNames.isEmpty();
+    }
+
+    public GeneratedSource generate() {
+        sourceGenerator.addStringArray(expressionKeys, ModelLiteralExpressions.KEYS_ARRAY_NAME);
+        sourceGenerator.addStringArray(expressionTexts, ModelLiteralExpressions.TEXTS_ARRAY_NAME);
+        sourceGenerator.addArray(instanceNames, ModelLiteralExpressions.EXPRESSIONS_ARRAY_NAME, CompiledFEELExpression.class);
+
+        String className = ModelLiteralExpressions.getGeneratedClassName(model);
+        String source = sourceGenerator.getSource();
+        if (logger.isDebugEnabled()) {
+            logger.debug(className + ":\n" + source);
+        }
+        return new GeneratedSource("src/main/java/" + className.replace('.', '/') + ".java", source);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler.execmodelbased;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.feel.codegen.feel11.CodegenStringUtil;
+
+/**
+ * Identifies the FEEL literal expressions of a model that are compiled ahead of time in a single generated class.
+ *
+ * Each expression is keyed by the node and the name it is compiled for, plus the number of the expressions already
+ * found with the same node and name, so that the keys assigned while generating the sources and the ones assigned
+ * while reading them back are the same, as long as the model is compiled walking its nodes in the same order.
+ */
+public class ModelLiteralExpressions {
+
+    static final String GENERATED_CLASS_SUFFIX = "LiteralExpressions";
+    static final String LITERAL_EXPRESSION_CLASS_PREFIX = "LiteralExpression";
+    static final String KEYS_ARRAY_NAME = "KEYS";
+    static final String TEXTS_ARRAY_NAME = "TEXTS";
+    static final String EXPRESSIONS_ARRAY_NAME = "EXPRESSIONS";
+
+    private final Map<String, Integer> occurrences = new HashMap<>();
+
+    public String nextKey(DMNBaseNode node, String exprName) {
+        String key = node.getId() + "/" + exprName;
+        int occurrence = occurrences.merge(key, 1, Integer::sum);
+        return key + "#" + occurrence;
+    }
+
+    public static String getGeneratedClassName(DMNModelImpl model) {
+        return CodegenStringUtil.escapeIdentifier(model.getNamespace()) + "." + getGeneratedSimpleClassName(model);
+    }
+
+    static String getGeneratedSimpleClassName(DMNModelImpl model) {
+        String name = CodegenStringUtil.escapeIdentifier(model.getName());
+        // the model name can start with a digit, as in "0001-input-data-string"
+        return (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0)) ? "_" + name : name) + GENERATED_CLASS_SUFFIX;
+    }
+}
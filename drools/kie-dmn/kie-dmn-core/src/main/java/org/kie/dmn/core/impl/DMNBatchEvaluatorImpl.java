@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.api.DMNBatchEvaluator;
+import org.kie.dmn.core.api.DMNBatchStatistics;
+import org.kie.dmn.core.util.Msg;
+import org.kie.dmn.core.util.MsgUtil;
+
+public class DMNBatchEvaluatorImpl implements DMNBatchEvaluator {
+
+    private final DMNRuntimeImpl runtime;
+    private final DMNModel model;
+    private final ForkJoinPool pool;
+
+    // resolved once for the whole batch
+    private final Collection<DecisionNode> decisions;
+    private final boolean typeCheck;
+
+    public DMNBatchEvaluatorImpl(DMNRuntime runtime, DMNModel model, ForkJoinPool pool) {
+        Objects.requireNonNull(runtime, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "runtime"));
+        Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
+        this.runtime = (DMNRuntimeImpl) runtime;
+        this.model = model;
+        this.pool = pool;
+        this.decisions = DMNRuntimeImpl.getLocalDecisions(model);
+        this.typeCheck = this.runtime.performRuntimeTypeCheck(model);
+    }
+
+    @Override
+    public Stream<DMNResult> evaluateAll(Stream<? extends DMNContext> contexts) {
+        return contexts.map(this::evaluate);
+    }
+
+    @Override
+    public DMNBatchStatistics evaluateAll(Stream<? extends DMNContext> contexts, Consumer<? super DMNResult> consumer) {
+        LongAdder evaluated = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long start = System.nanoTime();
+        if (pool == null) {
+            contexts.sequential().forEach(context -> accept(evaluate(context), consumer, evaluated, failed));
+        } else {
+            // the tasks of a parallel stream run in the pool its terminal operation is invoked from
+            pool.submit(() -> contexts.parallel().forEach(context -> accept(evaluate(context), consumer, evaluated, failed))).join();
+        }
+        return new DMNBatchStatistics(evaluated.sum(), failed.sum(), System.nanoTime() - start);
+    }
+
+    @Override
+    public DMNBatchStatistics evaluateAll(Iterator<? extends DMNContext> contexts, Consumer<? super DMNResult> consumer) {
+        return evaluateAll(StreamSupport.stream(Spliterators.spliteratorUnknownSize(contexts, Spliterator.ORDERED | Spliterator.NONNULL), false), consumer);
+    }
+
+    private DMNResult evaluate(DMNContext context) {
+        Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
+        return runtime.evaluateAll(model, context, decisions, typeCheck);
+    }
+
+    private static void accept(DMNResult result, Consumer<? super DMNResult> consumer, LongAdder evaluated, LongAdder failed) {
+        evaluated.increment();
+        if (result.hasErrors()) {
+            failed.increment();
+        }
+        consumer.accept(result);
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.kie.dmn.core.api.EvaluatorResult;
+import org.kie.dmn.core.api.EvaluatorResult.ResultType;
+
+/**
+ * Caches, for the duration of an evaluation, the results of the invocations of the business knowledge models and
+ * decision services declared pure by the {@link org.kie.dmn.core.compiler.MemoizationOption}.
+ *
+ * Only the successful invocations are cached, and once the maximum size is reached the new results are no longer
+ * added. The cache is shared by the decisions evaluated concurrently, so it is thread safe.
+ */
+public class DMNInvocationCache {
+
+    private static final Object NULL_RESULT = new Object();
+
+    private final Set<String> pureFunctions;
+    private final int maxSize;
+    private final Map<InvocationKey, Object> results = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public DMNInvocationCache(Set<String> pureFunctions, int maxSize) {
+        this.pureFunctions = pureFunctions;
+        this.maxSize = maxSize;
+    }
+
+    public boolean isMemoized(String functionName) {
+        return pureFunctions.contains( functionName );
+    }
+
+    /**
+     * Returns the cached result of the invocation of the given function with the given parameters, performing the
+     * invocation when there is none
+     *
+     * @param function identifies the function, as its definition in the model
+     */
+    public Object invoke(Object function, Object[] params, Supplier<EvaluatorResult> invocation) {
+        InvocationKey key = new InvocationKey( function, params );
+        Object cached = results.get( key );
+        if ( cached != null ) {
+            hits.increment();
+            return cached == NULL_RESULT ? null : cached;
+        }
+        misses.increment();
+        EvaluatorResult result = invocation.get();
+        if ( result.getResultType() != ResultType.SUCCESS ) {
+            return null;
+        }
+        if ( results.size() < maxSize ) {
+            results.putIfAbsent( key, result.getResult() == null ? NULL_RESULT : result.getResult() );
+        }
+        return result.getResult();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return results.size();
+    }
+
+    @Override
+    public String toString() {
+        return "DMNInvocationCache{size=" + size() + ", hits=" + getHits() + ", misses=" + getMisses() + "}";
+    }
+
+    private static class InvocationKey {
+
+        private final Object function;
+        private final Object[] params;
+        private final int hashCode;
+
+        private InvocationKey(Object function, Object[] params) {
+            this.function = function;
+            this.params = params.clone();
+            this.hashCode = 31 * System.identityHashCode( function ) + Arrays.hashCode( this.params );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if ( this == o ) {
+                return true;
+            }
+            if ( !(o instanceof InvocationKey) ) {
+                return false;
+            }
+            InvocationKey that = (InvocationKey) o;
+            return function == that.function && Arrays.equals( params, that.params );
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -49,8 +49,6 @@ import org.kie.dmn.api.core.ast.DecisionServiceNode;
 import org.kie.dmn.api.core.ast.InputDataNode;
 import org.kie.dmn.api.core.ast.ItemDefNode;
 import org.kie.dmn.api.feel.runtime.events.FEELEvent;
-import org.kie.dmn.api.marshalling.DMNExtensionRegister;
-import org.kie.dmn.backend.marshalling.v1x.DMNMarshallerFactory;
 import org.kie.dmn.core.api.DMNMessageManager;
 import org.kie.dmn.core.assembler.DMNAssemblerService;
 import org.kie.dmn.core.ast.BusinessKnowledgeModelNodeImpl;
@@ -411,9 +409,7 @@ public class DMNModelImpl
         
         DroolsObjectOutputStream os = (DroolsObjectOutputStream) out;
         DMNCompilerImpl compiler = (DMNCompilerImpl) os.getCustomExtensions().get(DMNAssemblerService.DMN_COMPILER_CACHE_KEY);
-        List<DMNExtensionRegister> dmnRegisteredExtensions = compiler.getRegisteredExtensions();
-        
-        String output = DMNMarshallerFactory.newMarshallerWithExtensions(dmnRegisteredExtensions).marshal(this.definitions);
+        String output = compiler.getMarshaller().marshal(this.definitions);
 
         out.writeObject(output);
     }
@@ -431,9 +427,7 @@ public class DMNModelImpl
         
         DroolsObjectInputStream is = (DroolsObjectInputStream) in;
         DMNCompilerImpl compiler = (DMNCompilerImpl) is.getCustomExtensions().get(DMNAssemblerService.DMN_COMPILER_CACHE_KEY);
-        List<DMNExtensionRegister> dmnRegisteredExtensions = compiler.getRegisteredExtensions();
-        
-        Definitions definitions = DMNMarshallerFactory.newMarshallerWithExtensions(dmnRegisteredExtensions).unmarshal(xml);
+        Definitions definitions = compiler.getMarshaller().unmarshal(xml);
         
         this.definitions = definitions;
         this.wireTypeRegistry(definitions);
@@ -37,6 +37,7 @@ public class DMNResultImpl implements DMNResult, DMNMessageManager {
     private DMNMessageManager messages;
     private Map<String, DMNDecisionResult> decisionResults;
     private final DMNModel model;
+    private DMNInvocationCache invocationCache;
 
     public DMNResultImpl(DMNModel model) {
         this.model = model;
@@ -124,4 +125,16 @@ public class DMNResultImpl implements DMNResult, DMNMessageManager {
         return model;
     }
 
+    /**
+     * Returns the cache of the invocations of the pure functions made during this evaluation, or null if the
+     * memoization is not enabled.
+     */
+    public DMNInvocationCache getInvocationCache() {
+        return invocationCache;
+    }
+
+    public void setInvocationCache(DMNInvocationCache invocationCache) {
+        this.invocationCache = invocationCache;
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.kie.dmn.core.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import javax.xml.namespace.QName;
@@ -50,6 +52,7 @@ import org.kie.dmn.api.core.ast.DecisionNode;
 import org.kie.dmn.api.core.ast.DecisionServiceNode;
 import org.kie.dmn.api.core.ast.InputDataNode;
 import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
 import org.kie.dmn.core.api.DMNFactory;
 import org.kie.dmn.core.api.EvaluatorResult;
 import org.kie.dmn.core.ast.BusinessKnowledgeModelNodeImpl;
@@ -60,6 +63,8 @@ import org.kie.dmn.core.ast.DecisionServiceNodeImpl;
 import org.kie.dmn.core.ast.InputDataNodeImpl;
 import org.kie.dmn.core.compiler.DMNOption;
 import org.kie.dmn.core.compiler.DMNProfile;
+import org.kie.dmn.core.compiler.MemoizationOption;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
 import org.kie.dmn.core.compiler.RuntimeTypeCheckOption;
 import org.kie.dmn.core.util.Msg;
 import org.kie.dmn.core.util.MsgUtil;
@@ -79,10 +84,14 @@ public class DMNRuntimeImpl
     private final InternalKnowledgeBase        knowledgeBase;
 
     private boolean overrideRuntimeTypeCheck = false;
+    private Executor parallelExecutor;
+    private MemoizationOption memoization;
 
     public DMNRuntimeImpl(InternalKnowledgeBase knowledgeBase) {
         this.knowledgeBase = knowledgeBase;
         this.eventManager = new DMNRuntimeEventManagerImpl();
+        setOption( new ParallelEvaluationOption( System.getProperty( ParallelEvaluationOption.PROPERTY_NAME ) ) );
+        setOption( new MemoizationOption( System.getProperty( MemoizationOption.PROPERTY_NAME ) ) );
     }
 
     @Override
@@ -127,16 +136,31 @@ public class DMNRuntimeImpl
     public DMNResult evaluateAll(DMNModel model, DMNContext context) {
         Objects.requireNonNull(model, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "model"));
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
-        boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
-        DMNResultImpl result = createResult( model, context );
-        // the engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
-        Set<DecisionNode> decisions = model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+        return evaluateAll(model, context, getLocalDecisions(model), performRuntimeTypeCheck(model));
+    }
+
+    /**
+     * Evaluates the given decisions, that must be the ones returned by {@link #getLocalDecisions(DMNModel)},
+     * allowing a caller evaluating the same model many times to look them up only once.
+     */
+    DMNResultImpl evaluateAll(DMNModel model, DMNContext context, Collection<DecisionNode> decisions, boolean performRuntimeTypeCheck) {
+        DMNResultImpl result = createResult( model, context, decisions );
+        if (evaluateInParallel(model, context, result, decisions, performRuntimeTypeCheck)) {
+            return result;
+        }
         for( DecisionNode decision : decisions ) {
-            evaluateDecision(context, result, decision, performRuntimeTypeCheck);
+            evaluateDecision(context, result, decision, performRuntimeTypeCheck, this);
         }
         return result;
     }
 
+    /**
+     * The engine should evaluate all Decisions belonging to the "local" model namespace, not imported decision explicitly.
+     */
+    static Set<DecisionNode> getLocalDecisions(DMNModel model) {
+        return model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet());
+    }
+
     @Override
     @Deprecated
     public DMNResult evaluateDecisionByName(DMNModel model, String decisionName, DMNContext context) {
@@ -161,6 +185,12 @@ public class DMNRuntimeImpl
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
         Objects.requireNonNull(decisionNames, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "decisionNames"));
         final DMNResultImpl result = createResult( model, context );
+        if (parallelExecutor != null) {
+            List<DecisionNode> decisions = Arrays.stream(decisionNames).map(model::getDecisionByName).collect(Collectors.toList());
+            if (!decisions.contains(null) && evaluateInParallel(model, context, result, decisions, performRuntimeTypeCheck(model))) {
+                return result;
+            }
+        }
         for (String name : decisionNames) {
             evaluateByNameInternal( model, context, result, name );
         }
@@ -171,7 +201,7 @@ public class DMNRuntimeImpl
         boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
         Optional<DecisionNode> decision = Optional.ofNullable(model.getDecisionByName(name));
         if (decision.isPresent()) {
-            evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck);
+            evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck, this);
         } else {
             MsgUtil.reportMessage( logger,
                                    DMNMessage.Severity.ERROR,
@@ -190,6 +220,12 @@ public class DMNRuntimeImpl
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
         Objects.requireNonNull(decisionIds, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "decisionIds"));
         final DMNResultImpl result = createResult( model, context );
+        if (parallelExecutor != null) {
+            List<DecisionNode> decisions = Arrays.stream(decisionIds).map(model::getDecisionById).collect(Collectors.toList());
+            if (!decisions.contains(null) && evaluateInParallel(model, context, result, decisions, performRuntimeTypeCheck(model))) {
+                return result;
+            }
+        }
         for ( String id : decisionIds ) {
             evaluateByIdInternal( model, context, result, id );
         }
@@ -200,7 +236,7 @@ public class DMNRuntimeImpl
         boolean performRuntimeTypeCheck = performRuntimeTypeCheck(model);
         Optional<DecisionNode> decision = Optional.ofNullable(model.getDecisionById(id));
         if (decision.isPresent()) {
-            evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck);
+            evaluateDecision(context, result, decision.get(), performRuntimeTypeCheck, this);
         } else {
             MsgUtil.reportMessage( logger,
                                    DMNMessage.Severity.ERROR,
@@ -213,6 +249,22 @@ public class DMNRuntimeImpl
         }
     }
 
+    /**
+     * Evaluates the decisions through a {@link ParallelDecisionEvaluation}, if enabled and if the model allows it.
+     * Returns false when the decisions are left to the sequential evaluation.
+     */
+    private boolean evaluateInParallel(DMNModel model, DMNContext context, DMNResultImpl result, Collection<DecisionNode> decisions, boolean typeCheck) {
+        if (parallelExecutor == null) {
+            return false;
+        }
+        ParallelDecisionEvaluation evaluation = ParallelDecisionEvaluation.plan(model, decisions);
+        if (evaluation == null) {
+            return false;
+        }
+        evaluation.evaluate(this, parallelExecutor, context, result, typeCheck);
+        return true;
+    }
+
     @Override
     public void addListener(DMNRuntimeEventListener listener) {
         this.eventManager.addListener( listener );
@@ -234,10 +286,22 @@ public class DMNRuntimeImpl
     }
 
     private DMNResultImpl createResult(DMNModel model, DMNContext context) {
+        return createResult( model, context, getLocalDecisions( model ) );
+    }
+
+    private DMNResultImpl newResult(DMNModel model) {
         DMNResultImpl result = new DMNResultImpl(model);
+        if (memoization != null) {
+            result.setInvocationCache(new DMNInvocationCache(memoization.getPureFunctions(), memoization.getMaxSize()));
+        }
+        return result;
+    }
+
+    private DMNResultImpl createResult(DMNModel model, DMNContext context, Collection<DecisionNode> decisions) {
+        DMNResultImpl result = newResult(model);
         result.setContext( context.clone() );
 
-        for (DecisionNode decision : model.getDecisions().stream().filter(d -> d.getModelNamespace().equals(model.getNamespace())).collect(Collectors.toSet())) {
+        for (DecisionNode decision : decisions) {
             result.addDecisionResult(new DMNDecisionResultImpl(decision.getId(), decision.getName()));
         }
         return result;
@@ -249,7 +313,7 @@ public class DMNRuntimeImpl
         Objects.requireNonNull(context, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "context"));
         Objects.requireNonNull(decisionServiceName, () -> MsgUtil.createMessage(Msg.PARAM_CANNOT_BE_NULL, "decisionServiceName"));
         boolean typeCheck = performRuntimeTypeCheck(model);
-        DMNResultImpl result = new DMNResultImpl(model);
+        DMNResultImpl result = newResult(model);
         result.setContext(context.clone());
         // the engine should evaluate all belonging to the "local" model namespace, not imported nodes explicitly.
         Optional<DecisionServiceNode> lookupDS = ((DMNModelImpl) model).getDecisionServices().stream()
@@ -286,7 +350,7 @@ public class DMNRuntimeImpl
         return result;
     }
 
-    private void evaluateDecisionService(DMNContext context, DMNResultImpl result, DecisionServiceNode d, boolean typeCheck) {
+    private void evaluateDecisionService(DMNContext context, DMNResultImpl result, DecisionServiceNode d, boolean typeCheck, DMNRuntimeEventManager events) {
         DecisionServiceNodeImpl ds = (DecisionServiceNodeImpl) d;
         if (isNodeValueDefined(result, ds, ds)) {
             // already resolved
@@ -296,7 +360,7 @@ public class DMNRuntimeImpl
         try {
             // a Decision Service when is evaluated as a function does not require any dependency check, as they will be passed as params.
 
-            EvaluatorResult er = ds.getEvaluator().evaluate(this, result);
+            EvaluatorResult er = ds.getEvaluator().evaluate(events, result);
             if (er.getResultType() == EvaluatorResult.ResultType.SUCCESS) {
                 FEELFunction resultFn = (FEELFunction) er.getResult();
                 result.getContext().set(ds.getName(), resultFn);
@@ -314,7 +378,7 @@ public class DMNRuntimeImpl
         }
     }
 
-    private void evaluateBKM(DMNContext context, DMNResultImpl result, BusinessKnowledgeModelNode b, boolean typeCheck) {
+    void evaluateBKM(DMNContext context, DMNResultImpl result, BusinessKnowledgeModelNode b, boolean typeCheck, DMNRuntimeEventManager events) {
         BusinessKnowledgeModelNodeImpl bkm = (BusinessKnowledgeModelNodeImpl) b;
         if (isNodeValueDefined(result, bkm, bkm)) {
             // already resolved
@@ -334,7 +398,7 @@ public class DMNRuntimeImpl
             return;
         }
         try {
-            DMNRuntimeEventManagerUtils.fireBeforeEvaluateBKM( eventManager, bkm, result );
+            DMNRuntimeEventManagerUtils.fireBeforeEvaluateBKM( events, bkm, result );
             for( DMNNode dep : bkm.getDependencies().values() ) {
                 if (typeCheck && !checkDependencyValueIsValid(dep, result)) {
                     MsgUtil.reportMessage( logger,
@@ -354,9 +418,9 @@ public class DMNRuntimeImpl
                 if (!isNodeValueDefined(result, bkm, dep)) {
                     boolean walkingIntoScope = walkIntoImportScope(result, bkm, dep);
                     if( dep instanceof BusinessKnowledgeModelNode ) {
-                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
+                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck, events);
                     } else if (dep instanceof DecisionServiceNode) {
-                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck);
+                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck, events);
                     } else {
                         MsgUtil.reportMessage( logger,
                                                DMNMessage.Severity.ERROR,
@@ -376,7 +440,7 @@ public class DMNRuntimeImpl
                 }
             }
 
-            EvaluatorResult er = bkm.getEvaluator().evaluate( this, result );
+            EvaluatorResult er = bkm.getEvaluator().evaluate( events, result );
             if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
                 FEELFunction resultFn = (FEELFunction) er.getResult();
                 result.getContext().set(bkm.getBusinessKnowledModel().getVariable().getName(), resultFn);
@@ -392,7 +456,7 @@ public class DMNRuntimeImpl
                                    getIdentifier( bkm ),
                                    t.getMessage() );
         } finally {
-            DMNRuntimeEventManagerUtils.fireAfterEvaluateBKM( eventManager, bkm, result );
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateBKM( events, bkm, result );
         }
     }
 
@@ -460,7 +524,7 @@ public class DMNRuntimeImpl
 
     }
 
-    private boolean evaluateDecision(DMNContext context, DMNResultImpl result, DecisionNode d, boolean typeCheck) {
+    boolean evaluateDecision(DMNContext context, DMNResultImpl result, DecisionNode d, boolean typeCheck, DMNRuntimeEventManager events) {
         DecisionNodeImpl decision = (DecisionNodeImpl) d;
         String decisionId = d.getModelNamespace().equals(result.getModel().getNamespace()) ? decision.getId() : decision.getModelNamespace() + "#" + decision.getId();
         if (isNodeValueDefined(result, decision, decision)) {
@@ -476,7 +540,7 @@ public class DMNRuntimeImpl
             }
         }
         try {
-            DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision( eventManager, decision, result );
+            DMNRuntimeEventManagerUtils.fireBeforeEvaluateDecision( events, decision, result );
             boolean missingInput = false;
             DMNDecisionResultImpl dr = (DMNDecisionResultImpl) result.getDecisionResultById(decisionId);
             if (dr == null) { // an imported Decision now evaluated, requires the creation of the decision result:
@@ -523,7 +587,7 @@ public class DMNRuntimeImpl
                 if (!isNodeValueDefined(result, decision, dep)) {
                     boolean walkingIntoScope = walkIntoImportScope(result, decision, dep);
                     if( dep instanceof DecisionNode ) {
-                        if (!evaluateDecision(context, result, (DecisionNode) dep, typeCheck)) {
+                        if (!evaluateDecision(context, result, (DecisionNode) dep, typeCheck, events)) {
                             missingInput = true;
                             DMNMessage message = MsgUtil.reportMessage( logger,
                                                                         DMNMessage.Severity.ERROR,
@@ -537,9 +601,9 @@ public class DMNRuntimeImpl
                             reportFailure( dr, message, DMNDecisionResult.DecisionEvaluationStatus.SKIPPED );
                         }
                     } else if( dep instanceof BusinessKnowledgeModelNode ) {
-                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck);
+                        evaluateBKM(context, result, (BusinessKnowledgeModelNode) dep, typeCheck, events);
                     } else if (dep instanceof DecisionServiceNode) {
-                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck);
+                        evaluateDecisionService(context, result, (DecisionServiceNode) dep, typeCheck, events);
                     } else {
                         missingInput = true;
                         DMNMessage message = MsgUtil.reportMessage( logger,
@@ -576,7 +640,7 @@ public class DMNRuntimeImpl
                 return false;
             }
             try {
-                EvaluatorResult er = decision.getEvaluator().evaluate( this, result );
+                EvaluatorResult er = decision.getEvaluator().evaluate( events, result );
                 if( er.getResultType() == EvaluatorResult.ResultType.SUCCESS ) {
                     Object value = er.getResult();
                     if( ! decision.getResultType().isCollection() && value instanceof Collection &&
@@ -636,7 +700,7 @@ public class DMNRuntimeImpl
             }
             return true;
         } finally {
-            DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision( eventManager, decision, result );
+            DMNRuntimeEventManagerUtils.fireAfterEvaluateDecision( events, decision, result );
         }
     }
 
@@ -676,6 +740,10 @@ public class DMNRuntimeImpl
     public final <T extends DMNOption> void setOption(T option) {
         if (option instanceof RuntimeTypeCheckOption) {
             this.overrideRuntimeTypeCheck = ((RuntimeTypeCheckOption) option).isRuntimeTypeCheck();
+        } else if (option instanceof ParallelEvaluationOption) {
+            this.parallelExecutor = ((ParallelEvaluationOption) option).getExecutor();
+        } else if (option instanceof MemoizationOption) {
+            this.memoization = ((MemoizationOption) option).isMemoization() ? (MemoizationOption) option : null;
         }
     }
 
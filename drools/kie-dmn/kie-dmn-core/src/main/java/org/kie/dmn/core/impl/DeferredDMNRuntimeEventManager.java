@@ -0,0 +1,140 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateContextEntryEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.api.core.event.DMNRuntimeEventManager;
+
+/**
+ * Records the events fired while a decision is evaluated on a worker thread, so that they can be delivered
+ * later to the listeners of the runtime, on the calling thread and in a deterministic order.
+ */
+final class DeferredDMNRuntimeEventManager implements DMNRuntimeEventManager {
+
+    private final DMNRuntime runtime;
+    private final List<Consumer<DMNRuntimeEventListener>> events = new ArrayList<>();
+    private final Set<DMNRuntimeEventListener> recorder = Collections.singleton( new EventRecorder() );
+
+    DeferredDMNRuntimeEventManager(DMNRuntime runtime) {
+        this.runtime = runtime;
+    }
+
+    @Override
+    public void addListener(DMNRuntimeEventListener listener) {
+        throw new UnsupportedOperationException( "The listeners must be added to the runtime" );
+    }
+
+    @Override
+    public void removeListener(DMNRuntimeEventListener listener) {
+        throw new UnsupportedOperationException( "The listeners must be removed from the runtime" );
+    }
+
+    @Override
+    public Set<DMNRuntimeEventListener> getListeners() {
+        return recorder;
+    }
+
+    @Override
+    public boolean hasListeners() {
+        return runtime.hasListeners();
+    }
+
+    @Override
+    public DMNRuntime getRuntime() {
+        return runtime;
+    }
+
+    /**
+     * Notifies the recorded events to the listeners of the runtime, in the order they were fired.
+     */
+    void deliver() {
+        for ( Consumer<DMNRuntimeEventListener> event : events ) {
+            DMNRuntimeEventManagerUtils.notifyListeners( runtime, event );
+        }
+        events.clear();
+    }
+
+    private class EventRecorder implements DMNRuntimeEventListener {
+
+        @Override
+        public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+            events.add( l -> l.beforeEvaluateDecision( event ) );
+        }
+
+        @Override
+        public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+            events.add( l -> l.afterEvaluateDecision( event ) );
+        }
+
+        @Override
+        public void beforeEvaluateBKM(BeforeEvaluateBKMEvent event) {
+            events.add( l -> l.beforeEvaluateBKM( event ) );
+        }
+
+        @Override
+        public void afterEvaluateBKM(AfterEvaluateBKMEvent event) {
+            events.add( l -> l.afterEvaluateBKM( event ) );
+        }
+
+        @Override
+        public void beforeEvaluateContextEntry(BeforeEvaluateContextEntryEvent event) {
+            events.add( l -> l.beforeEvaluateContextEntry( event ) );
+        }
+
+        @Override
+        public void afterEvaluateContextEntry(AfterEvaluateContextEntryEvent event) {
+            events.add( l -> l.afterEvaluateContextEntry( event ) );
+        }
+
+        @Override
+        public void beforeEvaluateDecisionTable(BeforeEvaluateDecisionTableEvent event) {
+            events.add( l -> l.beforeEvaluateDecisionTable( event ) );
+        }
+
+        @Override
+        public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+            events.add( l -> l.afterEvaluateDecisionTable( event ) );
+        }
+
+        @Override
+        public void beforeEvaluateDecisionService(BeforeEvaluateDecisionServiceEvent event) {
+            events.add( l -> l.beforeEvaluateDecisionService( event ) );
+        }
+
+        @Override
+        public void afterEvaluateDecisionService(AfterEvaluateDecisionServiceEvent event) {
+            events.add( l -> l.afterEvaluateDecisionService( event ) );
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.ast.BusinessKnowledgeModelNode;
+import org.kie.dmn.api.core.ast.DMNNode;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.ast.DMNBaseNode;
+import org.kie.dmn.core.ast.DMNFunctionDefinitionEvaluator.DMNFunction;
+
+/**
+ * Evaluates a set of decisions, together with the decisions they depend on, scheduling on an executor the ones
+ * that don't depend on each other.
+ *
+ * The decisions are grouped in levels, each one depending only on the decisions of the previous levels, and the
+ * decisions of the same level are evaluated concurrently. Each of them is evaluated on its own copy of the result,
+ * where it collects its messages and events, and once the whole level is completed the copies are merged into the
+ * shared result by the calling thread, in the order of the decision ids. In this way the shared result is never
+ * accessed concurrently, and the outcome and the events delivered to the listeners don't depend on the scheduling.
+ *
+ * The functions of the business knowledge models are created on the shared result before the level is scheduled,
+ * as the sequential evaluation creates them once, and each task binds them to its own copy, so that their
+ * invocations report their messages and events in the copy of the invoking decision.
+ */
+final class ParallelDecisionEvaluation {
+
+    private final List<List<DecisionNode>> levels;
+
+    private ParallelDecisionEvaluation(List<List<DecisionNode>> levels) {
+        this.levels = levels;
+    }
+
+    /**
+     * Plans the evaluation of the given decisions, returning null when they must be evaluated sequentially, that is
+     * when the model imports other models, whose scopes are shared by the copies of the result, when it has decision
+     * services, that are evaluated through the runtime notifying its listeners directly, or when it has a cycle.
+     */
+    static ParallelDecisionEvaluation plan(DMNModel model, Collection<DecisionNode> decisions) {
+        DMNModelImpl modelImpl = (DMNModelImpl) model;
+        if ( !modelImpl.getImportAliasesForNS().isEmpty() || !modelImpl.getDecisionServices().isEmpty() ) {
+            return null;
+        }
+        Map<DecisionNode, Integer> levelByDecision = new HashMap<>();
+        for ( DecisionNode decision : decisions ) {
+            if ( computeLevel( model, decision, levelByDecision, new HashSet<>() ) < 0 ) {
+                return null;
+            }
+        }
+
+        List<List<DecisionNode>> levels = new ArrayList<>();
+        levelByDecision.forEach( (decision, level) -> {
+            while ( levels.size() <= level ) {
+                levels.add( new ArrayList<>() );
+            }
+            levels.get( level ).add( decision );
+        } );
+        for ( List<DecisionNode> level : levels ) {
+            level.sort( Comparator.comparing( DecisionNode::getId ) );
+        }
+        return new ParallelDecisionEvaluation( levels );
+    }
+
+    private static int computeLevel(DMNModel model, DecisionNode decision, Map<DecisionNode, Integer> levelByDecision, Set<DecisionNode> visiting) {
+        Integer known = levelByDecision.get( decision );
+        if ( known != null ) {
+            return known;
+        }
+        if ( !decision.getModelNamespace().equals( model.getNamespace() ) || !visiting.add( decision ) ) {
+            return -1;
+        }
+        int level = 0;
+        for ( DMNNode dep : ((DMNBaseNode) decision).getDependencies().values() ) {
+            if ( !dep.getModelNamespace().equals( model.getNamespace() ) ) {
+                return -1;
+            }
+            if ( dep instanceof DecisionNode ) {
+                int depLevel = computeLevel( model, (DecisionNode) dep, levelByDecision, visiting );
+                if ( depLevel < 0 ) {
+                    return -1;
+                }
+                level = Math.max( level, depLevel + 1 );
+            } else if ( dep instanceof BusinessKnowledgeModelNode && !isLocal( model, dep, new HashSet<>() ) ) {
+                return -1;
+            }
+        }
+        visiting.remove( decision );
+        levelByDecision.put( decision, level );
+        return level;
+    }
+
+    private static boolean isLocal(DMNModel model, DMNNode node, Set<DMNNode> visited) {
+        if ( !node.getModelNamespace().equals( model.getNamespace() ) ) {
+            return false;
+        }
+        if ( visited.add( node ) ) {
+            for ( DMNNode dep : ((DMNBaseNode) node).getDependencies().values() ) {
+                if ( !isLocal( model, dep, visited ) ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    void evaluate(DMNRuntimeImpl runtime, Executor executor, DMNContext context, DMNResultImpl result, boolean typeCheck) {
+        for ( List<DecisionNode> level : levels ) {
+            if ( level.size() == 1 ) {
+                // nothing to run concurrently
+                runtime.evaluateDecision( context, result, level.get( 0 ), typeCheck, runtime );
+                continue;
+            }
+
+            for ( DecisionNode decision : level ) {
+                for ( DMNNode dep : ((DMNBaseNode) decision).getDependencies().values() ) {
+                    if ( dep instanceof BusinessKnowledgeModelNode ) {
+                        runtime.evaluateBKM( context, result, (BusinessKnowledgeModelNode) dep, typeCheck, runtime );
+                    }
+                }
+            }
+
+            List<DecisionTask> tasks = new ArrayList<>( level.size() );
+            for ( DecisionNode decision : level ) {
+                tasks.add( new DecisionTask( runtime, decision, result, typeCheck ) );
+            }
+            List<CompletableFuture<Void>> futures = new ArrayList<>( tasks.size() - 1 );
+            for ( int i = 0; i < tasks.size() - 1; i++ ) {
+                futures.add( CompletableFuture.runAsync( tasks.get( i ), executor ) );
+            }
+            // the calling thread takes part in the evaluation of the level
+            tasks.get( tasks.size() - 1 ).run();
+            for ( CompletableFuture<Void> future : futures ) {
+                join( future );
+            }
+
+            for ( DecisionTask task : tasks ) {
+                task.mergeInto( result );
+            }
+        }
+    }
+
+    private static void join(CompletableFuture<Void> future) {
+        try {
+            future.join();
+        } catch ( CompletionException e ) {
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException ) {
+                throw (RuntimeException) cause;
+            }
+            if ( cause instanceof Error ) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class DecisionTask implements Runnable {
+
+        private final DMNRuntimeImpl runtime;
+        private final DecisionNode decision;
+        private final DMNResultImpl result;
+        private final boolean typeCheck;
+        private final DeferredDMNRuntimeEventManager events;
+
+        private DMNResultImpl copy;
+
+        private DecisionTask(DMNRuntimeImpl runtime, DecisionNode decision, DMNResultImpl result, boolean typeCheck) {
+            this.runtime = runtime;
+            this.decision = decision;
+            this.result = result;
+            this.typeCheck = typeCheck;
+            this.events = new DeferredDMNRuntimeEventManager( runtime );
+        }
+
+        @Override
+        public void run() {
+            // the shared result is only read while the level is evaluated
+            copy = new DMNResultImpl( result.getModel() );
+            copy.setContext( result.getContext().clone() );
+            copy.setInvocationCache( result.getInvocationCache() );
+            for ( DMNDecisionResult decisionResult : result.getDecisionResults() ) {
+                copy.addDecisionResult( decisionResult );
+            }
+            for ( Map.Entry<String, Object> entry : copy.getContext().getAll().entrySet() ) {
+                if ( entry.getValue() instanceof DMNFunction ) {
+                    entry.setValue( ((DMNFunction) entry.getValue()).bind( events, copy ) );
+                }
+            }
+            runtime.evaluateDecision( copy.getContext(), copy, decision, typeCheck, events );
+        }
+
+        private void mergeInto(DMNResultImpl result) {
+            events.deliver();
+            result.addAll( copy.getMessages() );
+            // the decision results are shared with the copy, only the new context entries have to be transferred
+            DMNContext context = result.getContext();
+            for ( Map.Entry<String, Object> entry : copy.getContext().getAll().entrySet() ) {
+                if ( !context.isDefined( entry.getKey() ) ) {
+                    Object value = entry.getValue();
+                    if ( value instanceof DMNFunction ) {
+                        // the copy is not used after the merge
+                        value = ((DMNFunction) value).bind( runtime, result );
+                    }
+                    context.set( entry.getKey(), value );
+                }
+            }
+        }
+    }
+}
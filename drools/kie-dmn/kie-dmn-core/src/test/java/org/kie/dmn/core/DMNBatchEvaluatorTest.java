@@ -0,0 +1,136 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.api.DMNBatchEvaluator;
+import org.kie.dmn.core.api.DMNBatchStatistics;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class DMNBatchEvaluatorTest extends BaseInterpretedVsCompiledTest {
+
+    // age, years of service, expected vacation days
+    private static final int[][] CASES = {
+            { 16, 1, 27 },
+            { 25, 5, 22 },
+            { 44, 20, 24 },
+            { 44, 30, 30 },
+            { 50, 20, 24 },
+            { 50, 30, 30 },
+            { 60, 20, 30 },
+    };
+
+    public DMNBatchEvaluatorTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Test
+    public void testSequentialStream() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        final DMNModel dmnModel = getModel(runtime);
+
+        final DMNBatchEvaluator evaluator = DMNFactory.newBatchEvaluator(runtime, dmnModel);
+        final List<DMNResult> results = evaluator.evaluateAll(contexts(100).stream()).collect(Collectors.toList());
+
+        assertThat(results.size(), is(100 * CASES.length));
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).getContext().get("Total Vacation Days"), is(BigDecimal.valueOf(CASES[i % CASES.length][2])));
+        }
+    }
+
+    @Test
+    public void testParallelConsumer() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        final DMNModel dmnModel = getModel(runtime);
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final DMNBatchEvaluator evaluator = DMNFactory.newBatchEvaluator(runtime, dmnModel, pool);
+            final Map<Object, Integer> vacationDays = new ConcurrentHashMap<>();
+            final DMNBatchStatistics statistics = evaluator.evaluateAll(contexts(100).iterator(), r -> {
+                final DMNContext context = r.getContext();
+                vacationDays.merge(Arrays.asList(context.get("Age"), context.get("Years of Service"), context.get("Total Vacation Days")), 1, Integer::sum);
+            });
+
+            assertThat(statistics.getEvaluatedContexts(), is(100L * CASES.length));
+            assertThat(statistics.getFailedContexts(), is(0L));
+            assertTrue(statistics.getThroughput() > 0);
+            assertThat(vacationDays.size(), is(CASES.length));
+            for (int[] c : CASES) {
+                assertThat(vacationDays.get(Arrays.asList(c[0], c[1], BigDecimal.valueOf(c[2]))), is(100));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testFailedContexts() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0020-vacation-days.dmn", this.getClass());
+        final DMNModel dmnModel = getModel(runtime);
+
+        final List<DMNContext> contexts = contexts(1);
+        final DMNContext invalid = DMNFactory.newContext();
+        invalid.set("Age", "not a number");
+        invalid.set("Years of Service", 10);
+        contexts.add(invalid);
+
+        final List<DMNResult> results = new ArrayList<>();
+        final DMNBatchStatistics statistics = DMNFactory.newBatchEvaluator(runtime, dmnModel).evaluateAll(contexts.stream(), results::add);
+        assertThat(statistics.getEvaluatedContexts(), is((long) CASES.length + 1));
+        assertThat(statistics.getFailedContexts(), is(1L));
+        assertTrue(results.get(CASES.length).hasErrors());
+    }
+
+    private DMNModel getModel(DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+        assertThat(dmnModel, notNullValue());
+        return dmnModel;
+    }
+
+    private List<DMNContext> contexts(int repetitions) {
+        final List<DMNContext> contexts = new ArrayList<>();
+        for (int i = 0; i < repetitions; i++) {
+            for (int[] c : CASES) {
+                final DMNContext context = DMNFactory.newContext();
+                context.set("Age", c[0]);
+                context.set("Years of Service", c[1]);
+                contexts.add(context);
+            }
+        }
+        return contexts;
+    }
+}
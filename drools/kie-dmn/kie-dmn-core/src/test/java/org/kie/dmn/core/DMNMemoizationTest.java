@@ -0,0 +1,142 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionServiceEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.MemoizationOption;
+import org.kie.dmn.core.impl.DMNInvocationCache;
+import org.kie.dmn.core.impl.DMNResultImpl;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class DMNMemoizationTest extends BaseInterpretedVsCompiledTest {
+
+    private static final List<BigDecimal> EXPECTED_SQUARES = Arrays.asList(BigDecimal.valueOf(1), BigDecimal.valueOf(4), BigDecimal.valueOf(1), BigDecimal.valueOf(4), BigDecimal.valueOf(1));
+
+    public DMNMemoizationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Test
+    public void testNotMemoizedByDefault() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("Memoization.dmn", getClass());
+        final DMNResult dmnResult = evaluate(runtime);
+
+        assertThat(dmnResult.getContext().get("squares"), is(EXPECTED_SQUARES));
+        assertThat(((DMNResultImpl) dmnResult).getInvocationCache(), nullValue());
+    }
+
+    @Test
+    public void testMemoizedBKM() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("Memoization.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new MemoizationOption("square"));
+        final DMNResult dmnResult = evaluate(runtime);
+
+        assertThat(dmnResult.getContext().get("squares"), is(EXPECTED_SQUARES));
+        final DMNInvocationCache invocationCache = ((DMNResultImpl) dmnResult).getInvocationCache();
+        assertThat(invocationCache.getMisses(), is(2L));
+        assertThat(invocationCache.getHits(), is(3L));
+        assertThat(invocationCache.size(), is(2));
+
+        // the cache lasts for a single evaluation
+        final DMNResult otherResult = evaluate(runtime);
+        assertThat(((DMNResultImpl) otherResult).getInvocationCache().getMisses(), is(2L));
+    }
+
+    @Test
+    public void testBoundedCache() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("Memoization.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new MemoizationOption(Collections.singleton("square"), 1));
+        final DMNResult dmnResult = evaluate(runtime);
+
+        assertThat(dmnResult.getContext().get("squares"), is(EXPECTED_SQUARES));
+        final DMNInvocationCache invocationCache = ((DMNResultImpl) dmnResult).getInvocationCache();
+        // only the invocation with 1 fits the cache, the ones with 2 are always performed
+        assertThat(invocationCache.size(), is(1));
+        assertThat(invocationCache.getHits(), is(2L));
+        assertThat(invocationCache.getMisses(), is(3L));
+    }
+
+    @Test
+    public void testOtherFunctionsNotMemoized() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("Memoization.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new MemoizationOption("cube, other"));
+        final DMNResult dmnResult = evaluate(runtime);
+
+        assertThat(dmnResult.getContext().get("squares"), is(EXPECTED_SQUARES));
+        final DMNInvocationCache invocationCache = ((DMNResultImpl) dmnResult).getInvocationCache();
+        assertThat(invocationCache.getHits() + invocationCache.getMisses(), is(0L));
+    }
+
+    @Test
+    public void testMemoizedDecisionService() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("MemoizationDecisionService.dmn", getClass());
+        ((DMNRuntimeImpl) runtime).setOption(new MemoizationOption("cube service"));
+        final DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/drools/kie-dmn/memoization-decision-service", "memoization decision service");
+        assertThat(dmnModel, notNullValue());
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+        final AtomicInteger evaluations = new AtomicInteger();
+        runtime.addListener(new DMNRuntimeEventListener() {
+            @Override
+            public void beforeEvaluateDecisionService(BeforeEvaluateDecisionServiceEvent event) {
+                evaluations.incrementAndGet();
+            }
+        });
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("values", Arrays.asList(1, 2, 1, 2, 1));
+        final DMNResult dmnResult = runtime.evaluateByName(dmnModel, context, "cubes");
+        assertThat(DMNRuntimeUtil.formatMessages(dmnResult.getMessages()), dmnResult.hasErrors(), is(false));
+
+        assertThat(dmnResult.getContext().get("cubes"), is(Arrays.asList(BigDecimal.valueOf(1), BigDecimal.valueOf(8), BigDecimal.valueOf(1), BigDecimal.valueOf(8), BigDecimal.valueOf(1))));
+        // the decision service is evaluated only once for each distinct argument
+        assertThat(evaluations.get(), is(2));
+        final DMNInvocationCache invocationCache = ((DMNResultImpl) dmnResult).getInvocationCache();
+        assertThat(invocationCache.getMisses(), is(2L));
+        assertThat(invocationCache.getHits(), is(3L));
+    }
+
+    private DMNResult evaluate(DMNRuntime runtime) {
+        final DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/drools/kie-dmn/memoization", "memoization");
+        assertThat(dmnModel, notNullValue());
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("values", Arrays.asList(1, 2, 1, 2, 1));
+        final DMNResult dmnResult = runtime.evaluateAll(dmnModel, context);
+        assertThat(DMNRuntimeUtil.formatMessages(dmnResult.getMessages()), dmnResult.hasErrors(), is(false));
+        return dmnResult;
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNDecisionResult;
+import org.kie.dmn.api.core.DMNMessage;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNResult;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.core.event.AfterEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.AfterEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateBKMEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionEvent;
+import org.kie.dmn.api.core.event.BeforeEvaluateDecisionTableEvent;
+import org.kie.dmn.api.core.event.DMNRuntimeEventListener;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.DMNRuntimeUtil;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class DMNParallelEvaluationTest extends BaseInterpretedVsCompiledTest {
+
+    private ExecutorService executor;
+
+    public DMNParallelEvaluationTest(final boolean useExecModelCompiler) {
+        super(useExecModelCompiler);
+    }
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @After
+    public void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDependentDecisions() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0004-lending.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_4e0f0b70-d31c-471c-bd52-5ca709ed362b", "Lending1");
+        assertThat(dmnModel, notNullValue());
+
+        final DMNContext context = DMNFactory.newContext();
+        final Map<String, Object> applicant = new HashMap<>();
+        final Map<String, Object> monthly = new HashMap<>();
+        monthly.put("Income", 6000);
+        monthly.put("Expenses", 2000);
+        monthly.put("Repayments", 0);
+        applicant.put("Monthly", monthly);
+        applicant.put("Age", 35);
+        applicant.put("ExistingCustomer", true);
+        applicant.put("MaritalStatus", "M");
+        applicant.put("EmploymentStatus", "EMPLOYED");
+        final Map<String, Object> product = new HashMap<>();
+        product.put("ProductType", "STANDARD LOAN");
+        product.put("Amount", 350000);
+        product.put("Rate", new BigDecimal("0.0395"));
+        product.put("Term", 360);
+        final Map<String, Object> bureau = new HashMap<>();
+        bureau.put("CreditScore", 649);
+        bureau.put("Bankrupt", false);
+        context.set("ApplicantData", applicant);
+        context.set("RequestedProduct", product);
+        context.set("BureauData", bureau);
+        context.set("SupportingDocuments", "yes");
+
+        checkParallelEvaluation(runtime, dmnModel, context);
+    }
+
+    @Test
+    public void testIndependentDecisions() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("0007-date-time.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel("http://www.trisotech.com/definitions/_69430b3e-17b8-430d-b760-c505bf6469f9", "dateTime Table 58");
+        assertThat(dmnModel, notNullValue());
+
+        final DMNContext context = DMNFactory.newContext();
+        context.set("dateString", "2015-12-24");
+        context.set("timeString", "00:00:01-01:00");
+        context.set("dateTimeString", "2016-12-24T23:59:00-05:00");
+        context.set("Hours", 12);
+        context.set("Minutes", 59);
+        context.set("Seconds", new BigDecimal("1.3"));
+        context.set("Timezone", "PT-1H");
+        context.set("Year", 1999);
+        context.set("Month", 11);
+        context.set("Day", 22);
+        context.set("oneHour", Duration.parse("PT1H"));
+        context.set("durationString", "P13DT2H14S");
+
+        checkParallelEvaluation(runtime, dmnModel, context);
+    }
+
+    @Test
+    public void testKnowledgeModelInvokedInParallelLevels() {
+        final DMNRuntime runtime = DMNRuntimeUtil.createRuntime("ParallelBKM.dmn", getClass());
+        final DMNModel dmnModel = runtime.getModel("https://github.com/kiegroup/drools/kie-dmn/parallel-bkm", "parallel bkm");
+        assertThat(dmnModel, notNullValue());
+        assertThat(DMNRuntimeUtil.formatMessages(dmnModel.getMessages()), dmnModel.hasErrors(), is(false));
+
+        final List<String> events = new ArrayList<>();
+        runtime.addListener(new RecordingListener(events));
+        final List<DMNResult> sequentialResults = new ArrayList<>();
+        final List<List<String>> sequentialEvents = new ArrayList<>();
+        for (int n = 1; n <= 10; n++) {
+            events.clear();
+            sequentialResults.add(runtime.evaluateAll(dmnModel, newContext(n)));
+            sequentialEvents.add(sorted(events));
+        }
+        // the knowledge model reports a warning for each negative argument
+        assertThat(sequentialResults.get(0).getContext().get("c"), is("positive"));
+        assertThat(sequentialResults.get(0).getContext().get("d"), nullValue());
+        assertThat(sequentialResults.get(0).getMessages().size(), is(2));
+
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        for (int i = 0; i < 5; i++) {
+            for (int n = 1; n <= 10; n++) {
+                events.clear();
+                final DMNResult sequential = sequentialResults.get(n - 1);
+                final DMNResult parallel = runtime.evaluateAll(dmnModel, newContext(n));
+                assertThat(messageTexts(parallel), is(messageTexts(sequential)));
+                for (DMNDecisionResult expected : sequential.getDecisionResults()) {
+                    final DMNDecisionResult actual = parallel.getDecisionResultById(expected.getDecisionId());
+                    assertThat(expected.getDecisionName(), actual.getEvaluationStatus(), is(expected.getEvaluationStatus()));
+                    assertThat(expected.getDecisionName(), actual.getResult(), is(expected.getResult()));
+                }
+                assertThat(sorted(events), is(sequentialEvents.get(n - 1)));
+            }
+        }
+    }
+
+    private static DMNContext newContext(int n) {
+        final DMNContext context = DMNFactory.newContext();
+        context.set("n", n);
+        return context;
+    }
+
+    private static List<String> messageTexts(DMNResult result) {
+        final List<String> texts = new ArrayList<>();
+        for (DMNMessage message : result.getMessages()) {
+            texts.add(message.getSeverity() + " " + message.getText());
+        }
+        return sorted(texts);
+    }
+
+    private static List<String> sorted(List<String> list) {
+        final List<String> sorted = new ArrayList<>(list);
+        Collections.sort(sorted);
+        return sorted;
+    }
+
+    private void checkParallelEvaluation(DMNRuntime runtime, DMNModel dmnModel, DMNContext context) {
+        final DMNResult sequential = runtime.evaluateAll(dmnModel, context);
+
+        final AtomicInteger scheduled = new AtomicInteger();
+        ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(task -> {
+            scheduled.incrementAndGet();
+            executor.execute(task);
+        }));
+        final List<String> events = new ArrayList<>();
+        runtime.addListener(new RecordingListener(events));
+
+        final DMNResult parallel = runtime.evaluateAll(dmnModel, context);
+        assertTrue(scheduled.get() > 0);
+        assertThat(DMNRuntimeUtil.formatMessages(parallel.getMessages()), parallel.getMessages().size(), is(sequential.getMessages().size()));
+        assertThat(parallel.getDecisionResults().size(), is(sequential.getDecisionResults().size()));
+        for (DMNDecisionResult expected : sequential.getDecisionResults()) {
+            final DMNDecisionResult actual = parallel.getDecisionResultById(expected.getDecisionId());
+            assertThat(expected.getDecisionName(), actual.getEvaluationStatus(), is(expected.getEvaluationStatus()));
+            assertThat(expected.getDecisionName(), actual.getResult(), is(expected.getResult()));
+            assertThat(expected.getDecisionName(), parallel.getContext().get(expected.getDecisionName()), is(sequential.getContext().get(expected.getDecisionName())));
+        }
+
+        // the events are delivered on the calling thread, in the same order at each evaluation
+        for (int i = 0; i < 10; i++) {
+            final List<String> firstEvents = new ArrayList<>(events);
+            events.clear();
+            runtime.evaluateAll(dmnModel, context);
+            assertThat(events, is(firstEvents));
+        }
+        for (DMNDecisionResult decisionResult : sequential.getDecisionResults()) {
+            final String decisionName = decisionResult.getDecisionName();
+            assertThat(Collections.frequency(events, "before " + decisionName), is(1));
+            assertTrue(events.indexOf("before " + decisionName) < events.indexOf("after " + decisionName));
+        }
+    }
+
+    private static class RecordingListener implements DMNRuntimeEventListener {
+
+        private final Thread thread = Thread.currentThread();
+        private final List<String> events;
+
+        private RecordingListener(List<String> events) {
+            this.events = events;
+        }
+
+        private void record(String event) {
+            assertThat(Thread.currentThread(), is(thread));
+            events.add(event);
+        }
+
+        @Override
+        public void beforeEvaluateDecision(BeforeEvaluateDecisionEvent event) {
+            record("before " + event.getDecision().getName());
+        }
+
+        @Override
+        public void afterEvaluateDecision(AfterEvaluateDecisionEvent event) {
+            record("after " + event.getDecision().getName());
+        }
+
+        @Override
+        public void beforeEvaluateBKM(BeforeEvaluateBKMEvent event) {
+            record("before BKM " + event.getBusinessKnowledgeModel().getName());
+        }
+
+        @Override
+        public void afterEvaluateBKM(AfterEvaluateBKMEvent event) {
+            record("after BKM " + event.getBusinessKnowledgeModel().getName());
+        }
+
+        @Override
+        public void beforeEvaluateDecisionTable(BeforeEvaluateDecisionTableEvent event) {
+            record("before DT " + event.getNodeName());
+        }
+
+        @Override
+        public void afterEvaluateDecisionTable(AfterEvaluateDecisionTableEvent event) {
+            record("after DT " + event.getNodeName());
+        }
+    }
+}
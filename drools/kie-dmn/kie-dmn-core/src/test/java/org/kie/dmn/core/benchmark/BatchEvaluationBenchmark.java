@@ -0,0 +1,118 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieContainer;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.VacationDaysTest;
+import org.kie.dmn.core.api.DMNBatchEvaluator;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.util.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scores a batch of records against the vacation days model, one call per record and through a DMNBatchEvaluator.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BatchEvaluationBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private List<DMNContext> contexts;
+    private ForkJoinPool pool;
+    private DMNBatchEvaluator sequentialEvaluator;
+    private DMNBatchEvaluator parallelEvaluator;
+
+    @Setup(Level.Trial)
+    public void setUpBatch() {
+        KieServices ks = KieServices.Factory.get();
+        KieContainer kieContainer = KieHelper.getKieContainer(ks.newReleaseId("org.kie", "dmn-benchmark-" + UUID.randomUUID(), "1.0"),
+                                                              ks.getResources().newClassPathResource("0020-vacation-days.dmn", VacationDaysTest.class));
+        runtime = kieContainer.newKieSession().getKieRuntime(DMNRuntime.class);
+        model = runtime.getModel("https://www.drools.org/kie-dmn", "0020-vacation-days");
+
+        Random random = new Random(0);
+        contexts = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            DMNContext context = DMNFactory.newContext();
+            context.set("Age", 18 + random.nextInt(50));
+            context.set("Years of Service", random.nextInt(40));
+            contexts.add(context);
+        }
+
+        pool = new ForkJoinPool();
+        sequentialEvaluator = DMNFactory.newBatchEvaluator(runtime, model);
+        parallelEvaluator = DMNFactory.newBatchEvaluator(runtime, model, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownPool() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public long evaluateEachContext() {
+        LongAdder days = new LongAdder();
+        for (DMNContext context : contexts) {
+            days.add(((Number) runtime.evaluateAll(model, context).getContext().get("Total Vacation Days")).longValue());
+        }
+        return days.sum();
+    }
+
+    @Benchmark
+    public long evaluateSequentialBatch() {
+        LongAdder days = new LongAdder();
+        sequentialEvaluator.evaluateAll(contexts.stream(), r -> days.add(((Number) r.getContext().get("Total Vacation Days")).longValue()));
+        return days.sum();
+    }
+
+    @Benchmark
+    public long evaluateParallelBatch() {
+        LongAdder days = new LongAdder();
+        parallelEvaluator.evaluateAll(contexts.stream(), r -> days.add(((Number) r.getContext().get("Total Vacation Days")).longValue()));
+        return days.sum();
+    }
+}
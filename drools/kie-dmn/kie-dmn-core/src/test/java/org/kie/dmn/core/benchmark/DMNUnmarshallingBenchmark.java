@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.benchmark;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.marshalling.DMNMarshaller;
+import org.kie.dmn.backend.marshalling.v1x.DMNMarshallerFactory;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.DMNCompilerImpl;
+import org.kie.dmn.model.api.Definitions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the loading of a DMN model: unmarshalling it with a new marshaller, as it was done for each model,
+ * with a marshaller reused across the models, and compiling it with a compiler reused across the models.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DMNUnmarshallingBenchmark {
+
+    @Param({"0004-lending.dmn", "0020-vacation-days.dmn", "0019-flight-rebooking.dmn"})
+    private String resource;
+
+    private String xml;
+    private DMNMarshaller sharedMarshaller;
+    private DMNCompilerImpl compiler;
+
+    @Setup(Level.Trial)
+    public void setUpModel() throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(DMNCompilerImpl.class.getResourceAsStream("/org/kie/dmn/core/" + resource), StandardCharsets.UTF_8))) {
+            xml = reader.lines().collect(Collectors.joining("\n"));
+        }
+        sharedMarshaller = DMNMarshallerFactory.newDefaultMarshaller();
+        compiler = (DMNCompilerImpl) DMNFactory.newCompiler();
+    }
+
+    @Benchmark
+    public Definitions unmarshalWithNewMarshaller() {
+        return DMNMarshallerFactory.newDefaultMarshaller().unmarshal(xml);
+    }
+
+    @Benchmark
+    public Definitions unmarshalWithSharedMarshaller() {
+        return sharedMarshaller.unmarshal(xml);
+    }
+
+    @Benchmark
+    public DMNModel compileWithSharedCompiler() {
+        return compiler.compile(new StringReader(xml));
+    }
+}
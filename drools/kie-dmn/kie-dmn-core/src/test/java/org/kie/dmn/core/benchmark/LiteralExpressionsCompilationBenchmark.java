@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.benchmark;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.GeneratedSource;
+import org.kie.dmn.api.core.ast.DecisionNode;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
+import org.kie.dmn.core.ast.DecisionNodeImpl;
+import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
+import org.kie.dmn.core.util.GeneratedSourcesClassLoader;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the literal expressions of a model compiled when the model is loaded, with the ones generated ahead of
+ * time by the kie-maven-plugin: compileModel measures the startup, evaluateExpressions the throughput.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LiteralExpressionsCompilationBenchmark {
+
+    private static final String NAMESPACE = "https://www.drools.org/kie-dmn/benchmark";
+
+    @Param({"8", "64"})
+    private int numberOfDecisions;
+
+    @Param({"true", "false"})
+    private boolean aheadOfTime;
+
+    private FEEL feel;
+    private String xml;
+    private DMNCompilerConfigurationImpl config;
+    private List<CompiledExpression> expressions;
+    private Map<String, Object> inputs;
+
+    @Setup(Level.Trial)
+    public void setUpModel() {
+        feel = FEEL.newInstance();
+        xml = createModel();
+        config = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+        if (aheadOfTime) {
+            final List<GeneratedSource> generatedSources = new ArrayList<>();
+            final DMNCompilerConfigurationImpl generatingConfig = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+            generatingConfig.setDeferredCompilation(true);
+            generatingConfig.addListener(generatedSources::addAll);
+            DMNFactory.newCompiler(generatingConfig).compile(new StringReader(xml));
+            config.setRootClassLoader(new GeneratedSourcesClassLoader(generatedSources, getClass().getClassLoader()));
+        }
+
+        expressions = new ArrayList<>();
+        for (DecisionNode decision : compileModel().getDecisions()) {
+            expressions.add(((DMNLiteralExpressionEvaluator) ((DecisionNodeImpl) decision).getEvaluator()).getExpression());
+        }
+        inputs = Collections.singletonMap("x", BigDecimal.valueOf(3));
+    }
+
+    private String createModel() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+           .append("<definitions id=\"benchmark\" name=\"benchmark\" namespace=\"").append(NAMESPACE).append("\"\n")
+           .append("    xmlns=\"http://www.omg.org/spec/DMN/20151101/dmn.xsd\" xmlns:feel=\"http://www.omg.org/spec/FEEL/20140401\">\n")
+           .append("  <inputData id=\"i_x\" name=\"x\"><variable name=\"x\" typeRef=\"feel:number\"/></inputData>\n");
+        for (int i = 0; i < numberOfDecisions; i++) {
+            String expression = "if x &gt; " + i + " then x * " + (i + 1) + " + sum(for j in 1..20 return j * x) else -x";
+            xml.append("  <decision id=\"d_").append(i).append("\" name=\"d").append(i).append("\">\n")
+               .append("    <variable name=\"d").append(i).append("\" typeRef=\"feel:number\"/>\n")
+               .append("    <informationRequirement><requiredInput href=\"#i_x\"/></informationRequirement>\n")
+               .append("    <literalExpression><text>").append(expression).append("</text></literalExpression>\n")
+               .append("  </decision>\n");
+        }
+        return xml.append("</definitions>\n").toString();
+    }
+
+    @Benchmark
+    public DMNModel compileModel() {
+        return DMNFactory.newCompiler(config).compile(new StringReader(xml));
+    }
+
+    @Benchmark
+    public Object evaluateExpressions() {
+        Object result = null;
+        for (CompiledExpression expression : expressions) {
+            result = feel.evaluate(expression, inputs);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.benchmark;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.api.KieServices;
+import org.kie.api.runtime.KieContainer;
+import org.kie.dmn.api.core.DMNContext;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.core.compiler.ParallelEvaluationOption;
+import org.kie.dmn.core.impl.DMNRuntimeImpl;
+import org.kie.dmn.core.util.KieHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates a wide model, whose decisions only depend on the same input data, and a deep one, whose decisions
+ * form a chain, sequentially and in parallel.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelEvaluationBenchmark {
+
+    private static final String NAMESPACE = "https://www.drools.org/kie-dmn/benchmark";
+
+    @Param({"WIDE", "DEEP"})
+    private String shape;
+
+    @Param({"8", "32"})
+    private int numberOfDecisions;
+
+    @Param({"true", "false"})
+    private boolean parallel;
+
+    private ExecutorService executor;
+    private DMNRuntime runtime;
+    private DMNModel model;
+    private DMNContext context;
+
+    @Setup(Level.Trial)
+    public void setUpRuntime() {
+        KieServices ks = KieServices.Factory.get();
+        KieContainer kieContainer = KieHelper.getKieContainer(ks.newReleaseId("org.kie", "dmn-benchmark-" + UUID.randomUUID(), "1.0"),
+                                                              ks.getResources()
+                                                                .newByteArrayResource(createModel().getBytes(StandardCharsets.UTF_8))
+                                                                .setSourcePath("benchmark.dmn"));
+        runtime = kieContainer.newKieSession().getKieRuntime(DMNRuntime.class);
+        if (parallel) {
+            executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+            ((DMNRuntimeImpl) runtime).setOption(new ParallelEvaluationOption(executor));
+        }
+        model = runtime.getModel(NAMESPACE, "benchmark");
+        context = runtime.newContext();
+        context.set("x", BigDecimal.valueOf(3));
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownExecutor() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private String createModel() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+           .append("<definitions id=\"benchmark\" name=\"benchmark\" namespace=\"").append(NAMESPACE).append("\"\n")
+           .append("    xmlns=\"http://www.omg.org/spec/DMN/20151101/dmn.xsd\" xmlns:feel=\"http://www.omg.org/spec/FEEL/20140401\">\n")
+           .append("  <inputData id=\"i_x\" name=\"x\"><variable name=\"x\" typeRef=\"feel:number\"/></inputData>\n");
+        for (int i = 0; i < numberOfDecisions; i++) {
+            boolean chained = "DEEP".equals(shape) && i > 0;
+            String requirement = chained ? "<requiredDecision href=\"#d_" + (i - 1) + "\"/>" : "<requiredInput href=\"#i_x\"/>";
+            String expression = (chained ? "d" + (i - 1) : "x") + " + sum(for j in 1..200 return j * " + (i + 1) + ")";
+            xml.append("  <decision id=\"d_").append(i).append("\" name=\"d").append(i).append("\">\n")
+               .append("    <variable name=\"d").append(i).append("\" typeRef=\"feel:number\"/>\n")
+               .append("    <informationRequirement>").append(requirement).append("</informationRequirement>\n")
+               .append("    <literalExpression><text>").append(expression).append("</text></literalExpression>\n")
+               .append("  </decision>\n");
+        }
+        return xml.append("</definitions>\n").toString();
+    }
+
+    @Benchmark
+    public Object evaluateAll() {
+        return runtime.evaluateAll(model, context);
+    }
+}
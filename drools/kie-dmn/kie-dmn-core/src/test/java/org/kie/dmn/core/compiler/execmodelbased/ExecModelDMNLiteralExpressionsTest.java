@@ -0,0 +1,80 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.compiler.execmodelbased;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.api.core.DMNModel;
+import org.kie.dmn.api.core.GeneratedSource;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.ast.DMNLiteralExpressionEvaluator;
+import org.kie.dmn.core.ast.DecisionNodeImpl;
+import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
+import org.kie.dmn.core.impl.DMNModelImpl;
+import org.kie.dmn.core.util.GeneratedSourcesClassLoader;
+import org.kie.dmn.feel.FEEL;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ExecModelDMNLiteralExpressionsTest {
+
+    private static final String DMN_FILE = "/org/kie/dmn/core/0008-LX-arithmetic.dmn";
+
+    @Test
+    public void testLiteralExpressionsCompiledAheadOfTime() throws Exception {
+        final List<GeneratedSource> generatedSources = new ArrayList<>();
+        final DMNCompilerConfigurationImpl generatingConfig = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+        generatingConfig.setDeferredCompilation(true);
+        generatingConfig.addListener(generatedSources::addAll);
+
+        final DMNModel generatingModel = compile(generatingConfig);
+        assertThat(generatingModel.getMessages().toString(), generatingModel.hasErrors(), is(false));
+        final String className = ModelLiteralExpressions.getGeneratedClassName((DMNModelImpl) generatingModel);
+        assertThat(generatedSources.size(), is(1));
+        assertThat(generatedSources.get(0).getFileName(), is("src/main/java/" + className.replace('.', '/') + ".java"));
+
+        final DMNCompilerConfigurationImpl loadingConfig = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+        loadingConfig.setRootClassLoader(new GeneratedSourcesClassLoader(generatedSources, getClass().getClassLoader()));
+
+        final DMNModel loadedModel = compile(loadingConfig);
+        assertThat(loadedModel.getMessages().toString(), loadedModel.hasErrors(), is(false));
+        final DMNLiteralExpressionEvaluator evaluator = (DMNLiteralExpressionEvaluator) ((DecisionNodeImpl) loadedModel.getDecisionByName("payment")).getEvaluator();
+        assertThat(evaluator.getExpression().getClass().getEnclosingClass().getName(), is(className));
+
+        final Map<String, Object> loan = new HashMap<>();
+        loan.put("principal", 600000);
+        loan.put("rate", 0.0375);
+        loan.put("termMonths", 360);
+        final Object payment = FEEL.newInstance().evaluate(evaluator.getExpression(), Collections.singletonMap("loan", loan));
+        assertThat(payment, is(new BigDecimal("2778.693549432766768088520383236299")));
+    }
+
+    private DMNModel compile(DMNCompilerConfigurationImpl config) throws Exception {
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream(DMN_FILE))) {
+            return DMNFactory.newCompiler(config).compile(reader);
+        }
+    }
+}
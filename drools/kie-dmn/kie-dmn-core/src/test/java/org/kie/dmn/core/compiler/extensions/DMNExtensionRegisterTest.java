@@ -16,6 +16,9 @@
 
 package org.kie.dmn.core.compiler.extensions;
 
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,8 +33,13 @@ import org.kie.api.runtime.KieContainer;
 import org.kie.dmn.api.core.DMNMessage;
 import org.kie.dmn.api.core.DMNModel;
 import org.kie.dmn.api.core.DMNRuntime;
+import org.kie.dmn.api.marshalling.DMNMarshaller;
+import org.kie.dmn.core.api.DMNFactory;
+import org.kie.dmn.core.compiler.DMNCompilerConfigurationImpl;
+import org.kie.dmn.core.compiler.DMNCompilerImpl;
 import org.kie.dmn.core.util.DMNRuntimeUtil;
 import org.kie.dmn.model.api.DMNElement;
+import org.kie.dmn.model.api.Definitions;
 import org.kie.dmn.model.api.InputData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,7 +48,9 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -169,6 +179,34 @@ public class DMNExtensionRegisterTest {
         assertEquals(0, id2elements.getAny().size());
     }
 
+    @Test
+    public void testMarshallerFollowsRegisteredExtensions() throws Exception {
+        final DMNCompilerConfigurationImpl config = (DMNCompilerConfigurationImpl) DMNFactory.newCompilerConfiguration();
+        final DMNCompilerImpl compiler = new DMNCompilerImpl(config);
+
+        final DMNMarshaller defaultMarshaller = compiler.getMarshaller();
+        assertSame(defaultMarshaller, compiler.getMarshaller());
+        assertEquals(0, getFirstNameExtensions(defaultMarshaller).getAny().size());
+
+        // the extensions registered after the first use of the marshaller are taken into account
+        config.addExtension(new FirstNameDescriptionRegister());
+        final DMNMarshaller extendedMarshaller = compiler.getMarshaller();
+        assertNotSame(defaultMarshaller, extendedMarshaller);
+        assertSame(extendedMarshaller, compiler.getMarshaller());
+        final DMNElement.ExtensionElements extensions = getFirstNameExtensions(extendedMarshaller);
+        assertEquals(1, extensions.getAny().size());
+        assertEquals("First name in latin characters", ((FirstNameDescription) extensions.getAny().get(0)).getContent());
+    }
+
+    private DMNElement.ExtensionElements getFirstNameExtensions(final DMNMarshaller marshaller) throws Exception {
+        try (Reader reader = new InputStreamReader(getClass().getResourceAsStream("0001-input-data-string-with-extensions.dmn"), StandardCharsets.UTF_8)) {
+            final Definitions definitions = marshaller.unmarshal(reader);
+            final InputData inputData = (InputData) definitions.getDrgElement().get(1);
+            assertEquals("First Name", inputData.getName());
+            return inputData.getExtensionElements();
+        }
+    }
+
     private String formatMessages(final List<DMNMessage> messages) {
         return messages.stream().map(Object::toString).collect(Collectors.joining("\n" ) );
     }
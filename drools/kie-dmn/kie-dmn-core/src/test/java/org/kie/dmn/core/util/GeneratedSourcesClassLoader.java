@@ -0,0 +1,73 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.core.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.drools.compiler.commons.jci.compilers.CompilationResult;
+import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
+import org.kie.dmn.api.core.GeneratedSource;
+import org.kie.dmn.core.compiler.execmodelbased.DMNRuleClassFile;
+
+import static org.drools.modelcompiler.builder.JavaParserCompiler.getCompiler;
+
+/**
+ * Plays the role of the kjar built by the kie-maven-plugin, holding the compiled generated sources of the DMN models
+ * and the file listing the classes to be used by the ExecModelDMNClassLoaderCompiler
+ */
+public class GeneratedSourcesClassLoader extends ClassLoader {
+
+    private final MemoryFileSystem classes = new MemoryFileSystem();
+    private final String compiledClasses;
+
+    public GeneratedSourcesClassLoader(List<GeneratedSource> generatedSources, ClassLoader parent) {
+        super(parent);
+        final MemoryFileSystem sources = new MemoryFileSystem();
+        final String[] fileNames = new String[generatedSources.size()];
+        final StringBuilder classNames = new StringBuilder();
+        for (int i = 0; i < fileNames.length; i++) {
+            fileNames[i] = generatedSources.get(i).getFileName();
+            sources.write(fileNames[i], generatedSources.get(i).getSourceContent().getBytes());
+            classNames.append(fileNames[i], "src/main/java/".length(), fileNames[i].length() - ".java".length()).append('\n');
+        }
+        final CompilationResult result = getCompiler().compile(fileNames, sources, classes, parent);
+        if (result.getErrors().length > 0) {
+            throw new IllegalStateException("Unable to compile the generated sources: " + Arrays.toString(result.getErrors()));
+        }
+        this.compiledClasses = classNames.toString().replace('/', '.');
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        final byte[] bytes = classes.getBytes(name.replace('.', '/') + ".class");
+        if (bytes == null) {
+            throw new ClassNotFoundException(name);
+        }
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+
+    @Override
+    public InputStream getResourceAsStream(String name) {
+        if (DMNRuleClassFile.RULE_CLASS_FILE_NAME.equals(name)) {
+            return new ByteArrayInputStream(compiledClasses.getBytes());
+        }
+        return super.getResourceAsStream(name);
+    }
+}
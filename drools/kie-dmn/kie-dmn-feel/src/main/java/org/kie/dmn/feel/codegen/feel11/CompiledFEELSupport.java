@@ -69,6 +69,7 @@ import org.kie.dmn.feel.runtime.events.ASTEventBase;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
 import org.kie.dmn.feel.runtime.events.SyntaxErrorEvent;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.IntegralArithmetic;
 import org.kie.dmn.feel.util.Msg;
 
 public class CompiledFEELSupport {
@@ -523,6 +524,21 @@ public class CompiledFEELSupport {
         public FEELEvent event() { return event; }
     }
 
+    public static BigDecimal add(BigDecimal l, BigDecimal r) {
+        BigDecimal integral = IntegralArithmetic.add( l, r );
+        return integral != null ? integral : l.add( r, MathContext.DECIMAL128 );
+    }
+
+    public static BigDecimal sub(BigDecimal l, BigDecimal r) {
+        BigDecimal integral = IntegralArithmetic.sub( l, r );
+        return integral != null ? integral : l.subtract( r, MathContext.DECIMAL128 );
+    }
+
+    public static BigDecimal mult(BigDecimal l, BigDecimal r) {
+        BigDecimal integral = IntegralArithmetic.mult( l, r );
+        return integral != null ? integral : l.multiply( r, MathContext.DECIMAL128 );
+    }
+
     public static BigDecimal pow(BigDecimal l, BigDecimal r) {
         return BigDecimalMath.pow( l, r, MathContext.DECIMAL128 );
     }
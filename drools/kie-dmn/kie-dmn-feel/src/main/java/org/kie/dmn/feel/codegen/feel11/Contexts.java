@@ -31,6 +31,7 @@ import org.kie.dmn.feel.lang.CompositeType;
 import org.kie.dmn.feel.lang.impl.JavaBackedType;
 import org.kie.dmn.feel.lang.impl.MapBackedType;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.PropertyAccessor;
 
 public class Contexts {
 
@@ -45,6 +46,10 @@ public class Contexts {
             JavaBackedType javaBackedType = (JavaBackedType) contextType;
             Class<?> wrappedType = javaBackedType.getWrapped();
             Method accessor = EvalHelper.getGenericAccessor(wrappedType, key);
+            if (accessor == null || !PropertyAccessor.isAccessible(wrappedType)) {
+                // the generated code can't call the accessor directly, so it is resolved at runtime
+                return Expressions.path(currentContext, new StringLiteralExpr(key));
+            }
             Type type = JavaParser.parseType(wrappedType.getCanonicalName());
             return new MethodCallExpr(Expressions.castTo(type, currentContext), accessor.getName());
         } else {
@@ -88,6 +88,7 @@ import org.kie.dmn.feel.runtime.UnaryTest;
 import org.kie.dmn.feel.runtime.impl.RangeImpl;
 import org.kie.dmn.feel.util.EvalHelper;
 import org.kie.dmn.feel.util.Msg;
+import org.kie.dmn.feel.util.PropertyAccessor;
 
 import static com.github.javaparser.ast.Modifier.finalModifier;
 import static com.github.javaparser.ast.Modifier.publicModifier;
@@ -347,9 +348,10 @@ public class DirectCompilerVisitor extends FEEL_1_1BaseVisitor<DirectCompilerRes
         } else if ( left.resultType == BuiltInType.NUMBER && right.resultType == BuiltInType.NUMBER ) {
             Expression l = castToBigDecimal(left.getExpression());
             Expression r = castToBigDecimal(right.getExpression());
-            MethodCallExpr addCall = new MethodCallExpr(l, "add");
+            // the integral operands are added on longs, see IntegralArithmetic
+            MethodCallExpr addCall = new MethodCallExpr(new NameExpr(CompiledFEELSupport.class.getSimpleName()), "add");
+            addCall.addArgument(l);
             addCall.addArgument(r);
-            addCall.addArgument(DECIMAL_128);
             Expression result = groundToNullIfAnyIsNull(addCall, l, r);
             return DirectCompilerResult.of(result, BuiltInType.NUMBER, DirectCompilerResult.mergeFDs(left, right));
         } else {
@@ -378,9 +380,9 @@ public class DirectCompilerVisitor extends FEEL_1_1BaseVisitor<DirectCompilerRes
         } else if ( left.resultType == BuiltInType.NUMBER && right.resultType == BuiltInType.NUMBER ) {
             Expression l = castToBigDecimal(left.getExpression());
             Expression r = castToBigDecimal(right.getExpression());
-            MethodCallExpr subtractCall = new MethodCallExpr(l, "subtract");
+            MethodCallExpr subtractCall = new MethodCallExpr(new NameExpr(CompiledFEELSupport.class.getSimpleName()), "sub");
+            subtractCall.addArgument(l);
             subtractCall.addArgument(r);
-            subtractCall.addArgument(DECIMAL_128);
             Expression result = groundToNullIfAnyIsNull(subtractCall, l, r);
             return DirectCompilerResult.of(result, BuiltInType.NUMBER, DirectCompilerResult.mergeFDs(left, right));
         } else {
@@ -400,9 +402,9 @@ public class DirectCompilerVisitor extends FEEL_1_1BaseVisitor<DirectCompilerRes
         } else if (left.resultType == BuiltInType.NUMBER && right.resultType == BuiltInType.NUMBER) {
             Expression l = castToBigDecimal(left.getExpression());
             Expression r = castToBigDecimal(right.getExpression());
-            MethodCallExpr addCall = new MethodCallExpr(l, "multiply");
+            MethodCallExpr addCall = new MethodCallExpr(new NameExpr(CompiledFEELSupport.class.getSimpleName()), "mult");
+            addCall.addArgument(l);
             addCall.addArgument(r);
-            addCall.addArgument(DECIMAL_128);
             Expression result = groundToNullIfAnyIsNull(addCall, l, r);
             return DirectCompilerResult.of(result, BuiltInType.NUMBER, DirectCompilerResult.mergeFDs(left, right));
         } else {
@@ -1271,9 +1273,14 @@ public class DirectCompilerVisitor extends FEEL_1_1BaseVisitor<DirectCompilerRes
                 } else if (compositeType instanceof JavaBackedType) {
                     JavaBackedType javaBackedType = (JavaBackedType) compositeType;
                     Method accessor = EvalHelper.getGenericAccessor(javaBackedType.getWrapped(), accText);
-                    CastExpr castExpr = new CastExpr(JavaParser.parseType(javaBackedType.getWrapped().getCanonicalName()), exprCursor);
-                    EnclosedExpr enclosedExpr = new EnclosedExpr(castExpr);
-                    exprCursor = new MethodCallExpr(enclosedExpr, accessor.getName());
+                    if (accessor == null || !PropertyAccessor.isAccessible(javaBackedType.getWrapped())) {
+                        // the generated code can't call the accessor directly, so it is resolved at runtime
+                        exprCursor = telescopePathAccessor(DirectCompilerResult.of(exprCursor, compositeType), Arrays.asList(accText)).getExpression();
+                    } else {
+                        CastExpr castExpr = new CastExpr(JavaParser.parseType(javaBackedType.getWrapped().getCanonicalName()), exprCursor);
+                        EnclosedExpr enclosedExpr = new EnclosedExpr(castExpr);
+                        exprCursor = new MethodCallExpr(enclosedExpr, accessor.getName());
+                    }
                 } else {
                     throw new UnsupportedOperationException("A Composite type is either MapBacked or JavaBAcked");
                 }
@@ -37,6 +37,7 @@ import org.kie.dmn.feel.lang.EvaluationContext;
 import org.kie.dmn.feel.lang.Type;
 import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.IntegralArithmetic;
 
 public class InfixOpNode
         extends BaseNode {
@@ -203,7 +204,10 @@ public class InfixOpNode
     }
 
     public static Object add(Object left, Object right, EvaluationContext ctx) {
-        if ( left == null || right == null ) {
+        BigDecimal integral = IntegralArithmetic.add( left, right );
+        if ( integral != null ) {
+            return integral;
+        } else if ( left == null || right == null ) {
             return null;
         } else if ( left instanceof String && right instanceof String ) {
             return ((String) left) + ((String) right);
@@ -257,7 +261,10 @@ public class InfixOpNode
     }
 
     public static Object sub(Object left, Object right, EvaluationContext ctx) {
-        if ( left == null || right == null ) {
+        BigDecimal integral = IntegralArithmetic.sub( left, right );
+        if ( integral != null ) {
+            return integral;
+        } else if ( left == null || right == null ) {
             return null;
         } else if ( left instanceof Temporal && right instanceof Temporal ) {
             if( left instanceof ZonedDateTime || left instanceof OffsetDateTime ) {
@@ -302,7 +309,10 @@ public class InfixOpNode
     }
 
     public static Object mult(Object left, Object right, EvaluationContext ctx) {
-        if ( left == null || right == null ) {
+        BigDecimal integral = IntegralArithmetic.mult( left, right );
+        if ( integral != null ) {
+            return integral;
+        } else if ( left == null || right == null ) {
             return null;
         } else if ( left instanceof Duration && right instanceof Number ) {
             return ((Duration)left).multipliedBy( ((Number) right).longValue() );
@@ -322,7 +332,10 @@ public class InfixOpNode
     }
 
     public static Object div(Object left, Object right, EvaluationContext ctx) {
-        if ( left == null || right == null ) {
+        BigDecimal integral = IntegralArithmetic.div( left, right );
+        if ( integral != null ) {
+            return integral;
+        } else if ( left == null || right == null ) {
             return null;
         } else if ( left instanceof Duration && right instanceof Number ) {
             return ((Duration)left).dividedBy( ((Number) right).longValue() );
@@ -37,6 +37,8 @@ public class EvaluationContextImpl implements EvaluationContext {
     private DMNRuntime dmnRuntime;
     private boolean performRuntimeTypeCheck = false;
     private ClassLoader rootClassLoader;
+    // the frames exited by this context, reused by the next ones it enters
+    private ArrayDeque<ExecutionFrameImpl> recycledFrames;
 
     private EvaluationContextImpl(ClassLoader cl, FEELEventListenersManager eventsManager, Deque<ExecutionFrame> stack) {
         this.eventsManager = eventsManager;
@@ -66,6 +68,12 @@ public class EvaluationContextImpl implements EvaluationContext {
 
     @Override
     public EvaluationContext current() {
+        // the frames are now shared with the copy, that can outlive them on this context
+        for ( ExecutionFrame frame : stack ) {
+            if ( frame instanceof ExecutionFrameImpl ) {
+                ((ExecutionFrameImpl) frame).setRecyclable( false );
+            }
+        }
         return new EvaluationContextImpl(rootClassLoader, eventsManager, new ArrayDeque<>(stack));
     }
 
@@ -87,12 +95,27 @@ public class EvaluationContextImpl implements EvaluationContext {
 
     @Override
     public void enterFrame() {
-        push( new ExecutionFrameImpl( peek() /*, symbols, scope*/ ) );
+        ExecutionFrameImpl frame = recycledFrames != null ? recycledFrames.poll() : null;
+        if ( frame == null ) {
+            frame = new ExecutionFrameImpl( peek() /*, symbols, scope*/ );
+        } else {
+            frame.setParentFrame( peek() );
+        }
+        frame.setRecyclable( true );
+        push( frame );
     }
 
     @Override
     public void exitFrame() {
-        pop();
+        ExecutionFrame frame = pop();
+        if ( frame instanceof ExecutionFrameImpl && ((ExecutionFrameImpl) frame).isRecyclable() ) {
+            ExecutionFrameImpl exited = (ExecutionFrameImpl) frame;
+            exited.clear();
+            if ( recycledFrames == null ) {
+                recycledFrames = new ArrayDeque<>();
+            }
+            recycledFrames.push( exited );
+        }
     }
 
     @Override
@@ -157,11 +180,20 @@ public class EvaluationContextImpl implements EvaluationContext {
         if (stack.peek().getRootObject() != null) {
             throw new RuntimeException();
         }
-        int initialCapacity = (stack.peek().getAllValues().size() + stack.peekLast().getAllValues().size()) * 2;
-        Map<String, Object> values = new HashMap<>(initialCapacity);
+        int initialCapacity = 0;
+        for ( ExecutionFrame frame : stack ) {
+            initialCapacity += frame instanceof ExecutionFrameImpl ? ((ExecutionFrameImpl) frame).size() : frame.getAllValues().size();
+        }
+        Map<String, Object> values = new HashMap<>(initialCapacity * 2);
         Iterator<ExecutionFrame> it = stack.descendingIterator();
         while ( it.hasNext() ) {
-            values.putAll( it.next().getAllValues() );
+            ExecutionFrame frame = it.next();
+            if ( frame instanceof ExecutionFrameImpl ) {
+                // avoids the intermediate copy of the variables of the frame
+                ((ExecutionFrameImpl) frame).copyValuesInto( values );
+            } else {
+                values.putAll( frame.getAllValues() );
+            }
         }
         return values;
     }
@@ -16,28 +16,46 @@
 
 package org.kie.dmn.feel.lang.impl;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import org.kie.dmn.feel.util.EvalHelper;
 import org.kie.dmn.feel.util.EvalHelper.PropertyValueResult;
 
+/**
+ * A frame holding its variables in two parallel arrays, in the order they are set.
+ *
+ * Most of the frames, like the ones of the iterations and of the function invocations, hold just a few variables,
+ * that are looked up faster by scanning the names than by hashing them, so an index is built only when the
+ * frame grows beyond {@link #MAX_LINEAR_SCAN} variables.
+ */
 public class ExecutionFrameImpl
         implements ExecutionFrame {
 
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int MAX_LINEAR_SCAN = 8;
+
     private ExecutionFrame parentFrame;
 
-    private Map<String, Object> variables;
+    private String[] names;
+    private Object[] values;
+    private int size;
+    private Map<String, Integer> index;
     private Object rootObject;
 
+    // true when the frame has been entered by an EvaluationContextImpl that can reuse it once exited
+    private boolean recyclable;
+
     public ExecutionFrameImpl(ExecutionFrame parentFrame) {
-        this.parentFrame = parentFrame;
-        this.variables = new HashMap<>();
+        this(parentFrame, DEFAULT_CAPACITY);
     }
 
     public ExecutionFrameImpl(ExecutionFrame parentFrame, int size) {
         this.parentFrame = parentFrame;
-        this.variables = new HashMap<>(size);
+        this.names = new String[Math.max( size, 1 )];
+        this.values = new Object[this.names.length];
     }
 
     public ExecutionFrame getParentFrame() {
@@ -51,17 +69,24 @@ public class ExecutionFrameImpl
     @Override
     public Object getValue(String symbol) {
         symbol = EvalHelper.normalizeVariableName( symbol );
-        if (rootObject != null) {
-            PropertyValueResult dv = EvalHelper.getDefinedValue(rootObject, symbol);
-            if (dv.isDefined()) {
-                return dv.getValueResult().getOrElse(null);
+        // the symbol is normalized only once for all the frames of the chain
+        ExecutionFrame frame = this;
+        while ( frame instanceof ExecutionFrameImpl ) {
+            ExecutionFrameImpl current = (ExecutionFrameImpl) frame;
+            if ( current.rootObject != null ) {
+                PropertyValueResult dv = EvalHelper.getDefinedValue( current.rootObject, symbol );
+                if ( dv.isDefined() ) {
+                    return dv.getValueResult().getOrElse( null );
+                }
             }
+            int i = current.indexOf( symbol );
+            if ( i >= 0 ) {
+                return current.values[i];
+            }
+            frame = current.parentFrame;
         }
-        if ( variables.containsKey( symbol ) ) {
-            return variables.get( symbol );
-        }
-        if ( parentFrame != null ) {
-            return parentFrame.getValue( symbol );
+        if ( frame != null ) {
+            return frame.getValue( symbol );
         }
         return null;
     }
@@ -69,30 +94,77 @@ public class ExecutionFrameImpl
     @Override
     public boolean isDefined(String symbol) {
         symbol = EvalHelper.normalizeVariableName( symbol );
-        if (rootObject != null) {
-            if (EvalHelper.getDefinedValue(rootObject, symbol).isDefined()) {
+        ExecutionFrame frame = this;
+        while ( frame instanceof ExecutionFrameImpl ) {
+            ExecutionFrameImpl current = (ExecutionFrameImpl) frame;
+            if ( current.rootObject != null && EvalHelper.getDefinedValue( current.rootObject, symbol ).isDefined() ) {
                 return true;
-            } else {
-                // do nothing! it might be shaded at this level for "item" or being in the parent frame.
             }
+            // otherwise it might be shaded at this level for "item" or being in the parent frame.
+            if ( current.indexOf( symbol ) >= 0 ) {
+                return true;
+            }
+            frame = current.parentFrame;
         }
-        if ( variables.containsKey( symbol ) ) {
-            return true;
-        }
-        if ( parentFrame != null ) {
-            return parentFrame.isDefined( symbol );
+        if ( frame != null ) {
+            return frame.isDefined( symbol );
         }
         return false;
     }
 
     @Override
     public void setValue(String symbol, Object value) {
-        this.variables.put( EvalHelper.normalizeVariableName( symbol ), value );
+        symbol = EvalHelper.normalizeVariableName( symbol );
+        int i = indexOf( symbol );
+        if ( i >= 0 ) {
+            values[i] = value;
+            return;
+        }
+        if ( size == names.length ) {
+            names = Arrays.copyOf( names, size * 2 );
+            values = Arrays.copyOf( values, size * 2 );
+        }
+        names[size] = symbol;
+        values[size] = value;
+        size++;
+        if ( index != null ) {
+            index.put( symbol, size - 1 );
+        } else if ( size > MAX_LINEAR_SCAN ) {
+            index = new HashMap<>( size * 2 );
+            for ( int j = 0; j < size; j++ ) {
+                index.put( names[j], j );
+            }
+        }
+    }
+
+    private int indexOf(String symbol) {
+        if ( index != null ) {
+            Integer i = index.get( symbol );
+            return i != null ? i : -1;
+        }
+        for ( int i = 0; i < size; i++ ) {
+            if ( Objects.equals( names[i], symbol ) ) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    int size() {
+        return size;
     }
 
     @Override
     public Map<String, Object> getAllValues() {
-        return this.variables;
+        Map<String, Object> variables = new HashMap<>( size * 2 );
+        copyValuesInto( variables );
+        return variables;
+    }
+
+    void copyValuesInto(Map<String, Object> variables) {
+        for ( int i = 0; i < size; i++ ) {
+            variables.put( names[i], values[i] );
+        }
     }
 
     @Override
@@ -104,4 +176,24 @@ public class ExecutionFrameImpl
     public Object getRootObject() {
         return rootObject;
     }
+
+    boolean isRecyclable() {
+        return recyclable;
+    }
+
+    void setRecyclable(boolean recyclable) {
+        this.recyclable = recyclable;
+    }
+
+    /**
+     * Empties the frame, so that it can be entered again by the context that exited it.
+     */
+    void clear() {
+        Arrays.fill( names, 0, size, null );
+        Arrays.fill( values, 0, size, null );
+        size = 0;
+        index = null;
+        rootObject = null;
+        parentFrame = null;
+    }
 }
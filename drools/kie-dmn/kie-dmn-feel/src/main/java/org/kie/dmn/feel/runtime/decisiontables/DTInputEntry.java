@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.dmn.feel.codegen.feel11.ASTUnaryTestTransform;
+import org.kie.dmn.feel.codegen.feel11.CompiledFEELSupport;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.lang.Type;
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestListNode;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.parser.feel11.ASTBuilderVisitor;
+import org.kie.dmn.feel.parser.feel11.FEELParser;
+import org.kie.dmn.feel.parser.feel11.FEEL_1_1Parser;
+import org.kie.dmn.feel.runtime.FEELFunction;
+import org.kie.dmn.feel.runtime.UnaryTest;
+
+/**
+ * An input entry of a decision rule that also retains the text of the unary tests it has been compiled from,
+ * so that the decision table can index its literal values and ranges, and compile them into a predicate.
+ */
+public class DTInputEntry implements UnaryTest {
+
+    private final String text;
+    private final UnaryTest test;
+    private List<BaseNode> tests;
+    private boolean parsed;
+
+    // the variables and functions in scope of the entry
+    private Map<String, Type> variableTypes;
+    private Collection<FEELFunction> functions;
+
+    public DTInputEntry(String text, UnaryTest test) {
+        this( text, test, null );
+    }
+
+    /**
+     * @param compilerContext the context the unary tests of the entry have been compiled in, providing the variables
+     *                        and the functions they can reference
+     */
+    public DTInputEntry(String text, UnaryTest test, CompilerContext compilerContext) {
+        this.text = text;
+        this.test = test;
+        this.variableTypes = compilerContext != null ? compilerContext.getInputVariableTypes() : Collections.emptyMap();
+        this.functions = compilerContext != null ? compilerContext.getFEELFunctions() : Collections.emptyList();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Returns the unary tests of this entry, parsed in the context it has been compiled in, or null if the text can't
+     * be understood as a plain list of tests (e.g. because the tests are negated)
+     */
+    List<BaseNode> getTests() {
+        if ( !parsed ) {
+            tests = parse( text, variableTypes, functions );
+            parsed = true;
+        }
+        return tests;
+    }
+
+    /**
+     * Returns true if the given name, when invoked by the tests of this entry, resolves to the built-in function
+     * with that name, because the context of the entry defines neither a variable nor a function named that way
+     */
+    boolean isBuiltInFunction(String name) {
+        if ( variableTypes.containsKey( name ) ) {
+            return false;
+        }
+        for ( FEELFunction function : functions ) {
+            if ( name.equals( function.getName() ) ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<BaseNode> parse(String text, Map<String, Type> variableTypes, Collection<FEELFunction> functions) {
+        if ( text == null || text.isEmpty() ) {
+            return null;
+        }
+        try {
+            CompiledFEELSupport.SyntaxErrorListener errorListener = new CompiledFEELSupport.SyntaxErrorListener();
+            FEELEventListenersManager eventsManager = new FEELEventListenersManager();
+            eventsManager.addListener( errorListener );
+            FEEL_1_1Parser parser = FEELParser.parse( eventsManager, text, variableTypes, Collections.emptyMap(), functions, Collections.emptyList() );
+            BaseNode ast = parser.unaryTestsRoot().accept( new ASTBuilderVisitor( variableTypes ) );
+            if ( errorListener.isError() ) {
+                return null;
+            }
+            BaseNode transformed = ast.accept( new ASTUnaryTestTransform() ).node();
+            if ( !(transformed instanceof UnaryTestListNode) || ((UnaryTestListNode) transformed).isNegated() ) {
+                return null;
+            }
+            return ((UnaryTestListNode) transformed).getElements();
+        } catch ( RuntimeException e ) {
+            // anything that can't be understood is left to the unary tests
+            return null;
+        }
+    }
+
+    @Override
+    public Boolean apply(EvaluationContext ctx, Object value) {
+        return test.apply( ctx, value );
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.ast.BooleanNode;
+import org.kie.dmn.feel.lang.ast.DashNode;
+import org.kie.dmn.feel.lang.ast.FunctionInvocationNode;
+import org.kie.dmn.feel.lang.ast.NameRefNode;
+import org.kie.dmn.feel.lang.ast.NumberNode;
+import org.kie.dmn.feel.lang.ast.RangeNode;
+import org.kie.dmn.feel.lang.ast.StringNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestNode;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.functions.DateFunction;
+import org.kie.dmn.feel.util.EvalHelper;
+
+/**
+ * Compiles the input entries of a decision table into predicates specialized for the type of their column.
+ *
+ * An input entry made only of comparisons with constants (numbers, strings, booleans or dates) and of ranges
+ * with constant endpoints, all of the same type, is compiled into a predicate comparing the input directly with
+ * those constants, instead of evaluating the unary tests and dispatching on the types of their operands for each
+ * cell. The type of the input of each column is checked once per evaluation of the table: when it is null or of
+ * another type, as well as for the entries that can't be compiled, the original unary tests are evaluated, so that
+ * the semantics of the null and mismatching inputs are the ones of the unary tests.
+ */
+class DecisionTableColumns {
+
+    private static final Predicate<Object> ALWAYS = x -> true;
+
+    private static final DateFunction DATE = new DateFunction();
+
+    private final Class<?>[] types;
+    private final Predicate<Object>[][] predicates;
+
+    private DecisionTableColumns(Class<?>[] types, Predicate<Object>[][] predicates) {
+        this.types = types;
+        this.predicates = predicates;
+    }
+
+    /**
+     * Compiles the input entries of the given rules, or returns null if none of them can be compiled
+     */
+    static DecisionTableColumns build(int inputsCount, List<DTDecisionRule> rules) {
+        if ( inputsCount == 0 ) {
+            return null;
+        }
+        Class<?>[] types = new Class<?>[inputsCount];
+        Predicate<Object>[][] predicates = new Predicate[rules.size()][];
+        boolean compiled = false;
+        for ( int row = 0; row < rules.size(); row++ ) {
+            List<UnaryTest> entries = rules.get( row ).getInputEntry();
+            if ( entries.size() != inputsCount ) {
+                continue;
+            }
+            predicates[row] = new Predicate[inputsCount];
+            for ( int column = 0; column < inputsCount; column++ ) {
+                CompiledEntry entry = compile( entries.get( column ) );
+                if ( entry == null ) {
+                    continue;
+                }
+                if ( entry.type != null ) {
+                    if ( types[column] == null ) {
+                        types[column] = entry.type;
+                    } else if ( types[column] != entry.type ) {
+                        // left to the unary tests, that will never match an input of the type of the column
+                        continue;
+                    }
+                }
+                predicates[row][column] = entry.predicate;
+                compiled = true;
+            }
+        }
+        return compiled ? new DecisionTableColumns( types, predicates ) : null;
+    }
+
+    /**
+     * Returns which columns can evaluate their compiled predicates for the given inputs, or null if none can
+     */
+    boolean[] compiledColumns(Object[] inputs) {
+        boolean[] compiled = null;
+        for ( int column = 0; column < types.length; column++ ) {
+            if ( types[column] != null && inputs[column] != null && inputs[column].getClass() == types[column] ) {
+                if ( compiled == null ) {
+                    compiled = new boolean[types.length];
+                }
+                compiled[column] = true;
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Returns the compiled predicate of an input entry, or null if the entry has to be evaluated through its unary tests
+     */
+    Predicate<Object> predicate(int row, int column) {
+        return predicates[row] != null ? predicates[row][column] : null;
+    }
+
+    private static CompiledEntry compile(UnaryTest entry) {
+        if ( !(entry instanceof DTInputEntry) ) {
+            return null;
+        }
+        DTInputEntry inputEntry = (DTInputEntry) entry;
+        List<BaseNode> tests = inputEntry.getTests();
+        if ( tests == null || tests.isEmpty() ) {
+            return null;
+        }
+
+        Class<?> type = null;
+        List<Predicate<Object>> predicates = new ArrayList<>( tests.size() );
+        for ( BaseNode test : tests ) {
+            if ( test instanceof DashNode ) {
+                return new CompiledEntry( null, ALWAYS );
+            }
+            if ( !(test instanceof UnaryTestNode) ) {
+                return null;
+            }
+            UnaryTestNode unaryTest = (UnaryTestNode) test;
+            Comparable constant;
+            Predicate<Object> predicate;
+            if ( unaryTest.getOperator() == UnaryTestNode.UnaryOperator.IN ) {
+                RangeNode range = unaryTest.getValue() instanceof RangeNode ? (RangeNode) unaryTest.getValue() : null;
+                constant = range != null ? constantOf( inputEntry, range.getStart() ) : null;
+                Comparable end = range != null ? constantOf( inputEntry, range.getEnd() ) : null;
+                predicate = constant == null || end == null || constant.getClass() != end.getClass() ? null : rangePredicate( range, constant, end );
+            } else {
+                constant = constantOf( inputEntry, unaryTest.getValue() );
+                predicate = constant == null ? null : comparisonPredicate( unaryTest.getOperator(), constant );
+            }
+            if ( predicate == null || ( type != null && type != constant.getClass() ) ) {
+                return null;
+            }
+            type = constant.getClass();
+            predicates.add( predicate );
+        }
+
+        if ( predicates.size() == 1 ) {
+            return new CompiledEntry( type, predicates.get( 0 ) );
+        }
+        Predicate<Object>[] any = predicates.toArray( new Predicate[predicates.size()] );
+        return new CompiledEntry( type, x -> {
+            for ( Predicate<Object> predicate : any ) {
+                if ( predicate.test( x ) ) {
+                    return true;
+                }
+            }
+            return false;
+        } );
+    }
+
+    /**
+     * Same comparisons of {@link EvalHelper#compare(Object, Object, org.kie.dmn.feel.lang.EvaluationContext, java.util.function.BiPredicate)}
+     * and {@link EvalHelper#isEqual(Object, Object, org.kie.dmn.feel.lang.EvaluationContext)} for two operands of the same class
+     */
+    private static Predicate<Object> comparisonPredicate(UnaryTestNode.UnaryOperator operator, Comparable constant) {
+        switch ( operator ) {
+            case EQ:
+                return x -> ((Comparable) x).compareTo( constant ) == 0;
+            case LT:
+                return x -> ((Comparable) x).compareTo( constant ) < 0;
+            case LTE:
+                return x -> ((Comparable) x).compareTo( constant ) <= 0;
+            case GT:
+                return x -> ((Comparable) x).compareTo( constant ) > 0;
+            case GTE:
+                return x -> ((Comparable) x).compareTo( constant ) >= 0;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Same comparisons of {@link org.kie.dmn.feel.runtime.impl.RangeImpl#includes(Object)}
+     */
+    private static Predicate<Object> rangePredicate(RangeNode range, Comparable start, Comparable end) {
+        boolean openStart = range.getLowerBound() == RangeNode.IntervalBoundary.OPEN;
+        boolean openEnd = range.getUpperBound() == RangeNode.IntervalBoundary.OPEN;
+        if ( openStart && openEnd ) {
+            return x -> start.compareTo( x ) < 0 && end.compareTo( x ) > 0;
+        } else if ( openStart ) {
+            return x -> start.compareTo( x ) < 0 && end.compareTo( x ) >= 0;
+        } else if ( openEnd ) {
+            return x -> start.compareTo( x ) <= 0 && end.compareTo( x ) > 0;
+        }
+        return x -> start.compareTo( x ) <= 0 && end.compareTo( x ) >= 0;
+    }
+
+    private static Comparable constantOf(DTInputEntry entry, BaseNode node) {
+        if ( node instanceof NumberNode ) {
+            return ((NumberNode) node).getValue();
+        } else if ( node instanceof StringNode ) {
+            return EvalHelper.unescapeString( node.getText() );
+        } else if ( node instanceof BooleanNode ) {
+            return ((BooleanNode) node).getValue();
+        } else if ( node instanceof FunctionInvocationNode ) {
+            return dateOf( entry, (FunctionInvocationNode) node );
+        }
+        return null;
+    }
+
+    /**
+     * The date("...") literals are folded only when date resolves to the built-in function, and not to a variable
+     * or a function of the context of the entry, that the unary tests would invoke instead
+     */
+    private static LocalDate dateOf(DTInputEntry entry, FunctionInvocationNode node) {
+        if ( !(node.getName() instanceof NameRefNode) || !"date".equals( node.getName().getText() ) || !entry.isBuiltInFunction( "date" )
+             || node.getParams().getElements().size() != 1 || !(node.getParams().getElements().get( 0 ) instanceof StringNode) ) {
+            return null;
+        }
+        String text = EvalHelper.unescapeString( node.getParams().getElements().get( 0 ).getText() );
+        Object date = DATE.invoke( text ).getOrElse( null );
+        return date instanceof LocalDate ? (LocalDate) date : null;
+    }
+
+    private static class CompiledEntry {
+        private final Class<?> type;
+        private final Predicate<Object> predicate;
+
+        private CompiledEntry(Class<?> type, Predicate<Object> predicate) {
+            this.type = type;
+            this.predicate = predicate;
+        }
+    }
+}
@@ -17,12 +17,14 @@
 package org.kie.dmn.feel.runtime.decisiontables;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -56,6 +58,8 @@ public class DecisionTableImpl implements DecisionTable {
     private List<DTDecisionRule> decisionRules;
     private HitPolicy            hitPolicy;
     private boolean              hasDefaultValues;
+    private DecisionTableIndex   index;
+    private DecisionTableColumns columns;
 
     private FEEL feel;
 
@@ -73,6 +77,8 @@ public class DecisionTableImpl implements DecisionTable {
         this.decisionRules = decisionRules;
         this.hitPolicy = hitPolicy;
         this.hasDefaultValues = outputs.stream().allMatch( o -> o.getDefaultValue() != null );
+        this.index = DecisionTableIndex.build( inputs.size(), decisionRules );
+        this.columns = DecisionTableColumns.build( inputs.size(), decisionRules );
         this.feel = feel;
     }
 
@@ -242,9 +248,23 @@ public class DecisionTableImpl implements DecisionTable {
      */
     private List<DTDecisionRule> findMatches(EvaluationContext ctx, Object[] params) {
         List<DTDecisionRule> matchingDecisionRules = new ArrayList<>();
-        for ( DTDecisionRule decisionRule : decisionRules ) {
-            if ( matches( ctx, params, decisionRule ) ) {
-                matchingDecisionRules.add( decisionRule );
+        Object[] wildcardValues = resolveWildcardValues( ctx );
+        BitSet candidates = index != null ? index.candidates( params ) : null;
+        boolean[] compiledColumns = columns != null ? columns.compiledColumns( params ) : null;
+        if ( candidates == null ) {
+            for ( int i = 0; i < decisionRules.size(); i++ ) {
+                DTDecisionRule decisionRule = decisionRules.get( i );
+                if ( matches( ctx, params, wildcardValues, compiledColumns, i, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
+            }
+        } else {
+            // the candidates are visited in the order of the table, so the hit policies see the same matches of a full scan
+            for ( int i = candidates.nextSetBit( 0 ); i >= 0; i = candidates.nextSetBit( i + 1 ) ) {
+                DTDecisionRule decisionRule = decisionRules.get( i );
+                if ( matches( ctx, params, wildcardValues, compiledColumns, i, decisionRule ) ) {
+                    matchingDecisionRules.add( decisionRule );
+                }
             }
         }
         ctx.notifyEvt( () -> {
@@ -259,18 +279,45 @@ public class DecisionTableImpl implements DecisionTable {
         return matchingDecisionRules;
     }
 
+    /**
+     * Evaluates once for all the rules the values bound to the "?" symbol by the compiled input expressions
+     * @param ctx
+     * @return
+     */
+    private Object[] resolveWildcardValues(EvaluationContext ctx) {
+        Object[] wildcardValues = new Object[ inputs.size() ];
+        for( int i = 0; i < inputs.size(); i++ ) {
+            CompiledExpression compiledInput = inputs.get( i ).getCompiledInput();
+            if ( compiledInput instanceof CompiledFEELExpression ) {
+                wildcardValues[i] = ((CompiledFEELExpression) compiledInput).apply( ctx );
+            }
+        }
+        return wildcardValues;
+    }
+
     /**
      * Checks if the parameters match a single rule
      * @param ctx
      * @param params
+     * @param wildcardValues
+     * @param compiledColumns the columns whose input can be checked by the compiled predicates, or null if none
+     * @param row the position of the rule in the table
      * @param rule
      * @return
      */
-    private boolean matches(EvaluationContext ctx, Object[] params, DTDecisionRule rule) {
+    private boolean matches(EvaluationContext ctx, Object[] params, Object[] wildcardValues, boolean[] compiledColumns, int row, DTDecisionRule rule) {
         for( int i = 0; i < params.length; i++ ) {
-            CompiledExpression compiledInput = inputs.get(i).getCompiledInput();
-            if ( compiledInput instanceof CompiledFEELExpression) {
-                ctx.setValue("?", ((CompiledFEELExpression) compiledInput).apply(ctx));
+            if ( compiledColumns != null && compiledColumns[i] ) {
+                Predicate<Object> predicate = columns.predicate( row, i );
+                if ( predicate != null ) {
+                    if ( !predicate.test( params[i] ) ) {
+                        return false;
+                    }
+                    continue;
+                }
+            }
+            if ( inputs.get( i ).getCompiledInput() instanceof CompiledFEELExpression ) {
+                ctx.setValue( "?", wildcardValues[i] );
             }
             if( ! satisfies( ctx, params[i], rule.getInputEntry().get( i ) ) ) {
                 return false;
@@ -0,0 +1,387 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.kie.dmn.feel.lang.ast.BaseNode;
+import org.kie.dmn.feel.lang.ast.BooleanNode;
+import org.kie.dmn.feel.lang.ast.DashNode;
+import org.kie.dmn.feel.lang.ast.NumberNode;
+import org.kie.dmn.feel.lang.ast.RangeNode;
+import org.kie.dmn.feel.lang.ast.StringNode;
+import org.kie.dmn.feel.lang.ast.UnaryTestNode;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.util.EvalHelper;
+
+/**
+ * Narrows down the rules of a decision table that can match a given set of inputs.
+ *
+ * Each input entry made only of literal values (numbers, strings or booleans), of comparisons with a number
+ * or of ranges with numeric endpoints is indexed by its column: the literal values in a hash map and the
+ * comparisons and ranges in an interval tree, both pointing to the bitset of the rules containing them.
+ * The candidate rules are the intersection of the bitsets found for the input of each indexed column,
+ * and they still have to be checked by the decision table with their original unary tests.
+ *
+ * A rule is pruned only when all of its input entries preceding the one that excludes it are indexed
+ * or wildcards, so that the entries skipped by the index are exactly the ones that would have been
+ * evaluated without side effects (i.e. without notifying any event) by a full scan of the table.
+ */
+class DecisionTableIndex {
+
+    // below this size a full scan of the table is cheaper than looking up the index
+    static final int MIN_INDEXED_RULES = 8;
+
+    private enum EntryKind {
+        WILDCARD, INDEXED, OTHER
+    }
+
+    private final ColumnIndex[] columns;
+
+    private DecisionTableIndex(ColumnIndex[] columns) {
+        this.columns = columns;
+    }
+
+    /**
+     * Builds the index of the given rules, or returns null if the table is too small or none of its columns can be indexed
+     */
+    static DecisionTableIndex build(int inputsCount, List<DTDecisionRule> rules) {
+        if ( inputsCount == 0 || rules.size() < MIN_INDEXED_RULES ) {
+            return null;
+        }
+
+        int rulesCount = rules.size();
+        ColumnIndex[] columns = new ColumnIndex[inputsCount];
+        for ( int column = 0; column < inputsCount; column++ ) {
+            columns[column] = new ColumnIndex( rulesCount );
+        }
+
+        EntryKind[][] kinds = new EntryKind[rulesCount][inputsCount];
+        for ( int row = 0; row < rulesCount; row++ ) {
+            List<UnaryTest> entries = rules.get( row ).getInputEntry();
+            for ( int column = 0; column < inputsCount; column++ ) {
+                kinds[row][column] = entries.size() == inputsCount ? columns[column].add( row, entries.get( column ) ) : EntryKind.OTHER;
+            }
+        }
+
+        boolean indexed = false;
+        for ( int column = 0; column < inputsCount; column++ ) {
+            if ( columns[column].isIndexed() ) {
+                indexed = true;
+            } else {
+                columns[column] = null;
+            }
+        }
+        if ( !indexed ) {
+            return null;
+        }
+
+        for ( int row = 0; row < rulesCount; row++ ) {
+            boolean afterOther = false;
+            for ( int column = 0; column < inputsCount; column++ ) {
+                afterOther |= kinds[row][column] == EntryKind.OTHER;
+                if ( columns[column] != null && ( afterOther || kinds[row][column] == EntryKind.WILDCARD ) ) {
+                    columns[column].always.set( row );
+                }
+            }
+        }
+        for ( ColumnIndex column : columns ) {
+            if ( column != null ) {
+                column.seal();
+            }
+        }
+        return new DecisionTableIndex( columns );
+    }
+
+    /**
+     * Returns the positions of the rules that can match the given inputs, or null if the inputs can't be
+     * looked up in the index and then all the rules have to be checked
+     */
+    BitSet candidates(Object[] inputs) {
+        BitSet candidates = null;
+        for ( int column = 0; column < columns.length; column++ ) {
+            ColumnIndex columnIndex = columns[column];
+            if ( columnIndex == null ) {
+                continue;
+            }
+            BitSet columnCandidates = columnIndex.candidates( inputs[column] );
+            if ( columnCandidates == null ) {
+                return null;
+            }
+            if ( candidates == null ) {
+                candidates = columnCandidates;
+            } else {
+                candidates.and( columnCandidates );
+            }
+        }
+        return candidates;
+    }
+
+    private static class ColumnIndex {
+
+        private final BitSet always;
+        private final Map<Object, BitSet> literals = new HashMap<>();
+        private final List<Interval> intervals = new ArrayList<>();
+        private Class<?> type;
+        private IntervalTree tree;
+
+        private ColumnIndex(int rulesCount) {
+            this.always = new BitSet( rulesCount );
+        }
+
+        private boolean isIndexed() {
+            return type != null;
+        }
+
+        private EntryKind add(int row, UnaryTest entry) {
+            if ( !(entry instanceof DTInputEntry) ) {
+                return EntryKind.OTHER;
+            }
+            List<BaseNode> tests = ((DTInputEntry) entry).getTests();
+            if ( tests == null ) {
+                return EntryKind.OTHER;
+            }
+
+            List<Object> entryLiterals = new ArrayList<>();
+            List<Interval> entryIntervals = new ArrayList<>();
+            Class<?> entryType = type;
+            for ( BaseNode test : tests ) {
+                if ( test instanceof DashNode ) {
+                    return EntryKind.WILDCARD;
+                }
+                if ( !(test instanceof UnaryTestNode) ) {
+                    return EntryKind.OTHER;
+                }
+                UnaryTestNode unaryTest = (UnaryTestNode) test;
+                BaseNode value = unaryTest.getValue();
+                Object literal = null;
+                Interval interval = null;
+                switch ( unaryTest.getOperator() ) {
+                    case EQ:
+                        literal = literalOf( value );
+                        break;
+                    case LT:
+                    case LTE:
+                        interval = value instanceof NumberNode ? new Interval( null, ((NumberNode) value).getValue(), row ) : null;
+                        break;
+                    case GT:
+                    case GTE:
+                        interval = value instanceof NumberNode ? new Interval( ((NumberNode) value).getValue(), null, row ) : null;
+                        break;
+                    case IN:
+                        interval = intervalOf( value, row );
+                        break;
+                    default:
+                        break;
+                }
+                Class<?> testType = literal != null ? literal.getClass() : interval != null ? BigDecimal.class : null;
+                if ( testType == null || ( entryType != null && entryType != testType ) ) {
+                    return EntryKind.OTHER;
+                }
+                entryType = testType;
+                if ( literal != null ) {
+                    entryLiterals.add( literal );
+                } else {
+                    entryIntervals.add( interval );
+                }
+            }
+            if ( entryType == null ) {
+                return EntryKind.OTHER;
+            }
+
+            type = entryType;
+            for ( Object literal : entryLiterals ) {
+                literals.computeIfAbsent( literal, k -> new BitSet() ).set( row );
+            }
+            intervals.addAll( entryIntervals );
+            return EntryKind.INDEXED;
+        }
+
+        private void seal() {
+            tree = IntervalTree.build( intervals );
+            intervals.clear();
+        }
+
+        private BitSet candidates(Object input) {
+            if ( input == null || input.getClass() != type ) {
+                return null;
+            }
+            Object key = normalize( input );
+            BitSet candidates = (BitSet) always.clone();
+            BitSet matching = literals.get( key );
+            if ( matching != null ) {
+                candidates.or( matching );
+            }
+            if ( tree != null ) {
+                tree.collect( (BigDecimal) key, candidates );
+            }
+            return candidates;
+        }
+    }
+
+    private static Object literalOf(BaseNode node) {
+        if ( node instanceof NumberNode ) {
+            return normalize( ((NumberNode) node).getValue() );
+        } else if ( node instanceof StringNode ) {
+            return EvalHelper.unescapeString( node.getText() );
+        } else if ( node instanceof BooleanNode ) {
+            return ((BooleanNode) node).getValue();
+        }
+        return null;
+    }
+
+    private static Interval intervalOf(BaseNode node, int row) {
+        if ( node instanceof RangeNode ) {
+            RangeNode range = (RangeNode) node;
+            if ( range.getStart() instanceof NumberNode && range.getEnd() instanceof NumberNode ) {
+                // the boundaries are always considered closed: the index has to return a superset of the matching rules
+                return new Interval( ((NumberNode) range.getStart()).getValue(), ((NumberNode) range.getEnd()).getValue(), row );
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Numbers are compared by value in FEEL, so 1 and 1.00 must map to the same key
+     */
+    private static Object normalize(Object value) {
+        if ( value instanceof BigDecimal ) {
+            BigDecimal number = (BigDecimal) value;
+            return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+        }
+        return value;
+    }
+
+    /**
+     * A closed interval, where a null boundary stands for infinity
+     */
+    private static class Interval {
+        private final BigDecimal low;
+        private final BigDecimal high;
+        private final int row;
+
+        private Interval(BigDecimal low, BigDecimal high, int row) {
+            this.low = low;
+            this.high = high;
+            this.row = row;
+        }
+
+        private boolean isBefore(BigDecimal value) {
+            return high != null && high.compareTo( value ) < 0;
+        }
+
+        private boolean isAfter(BigDecimal value) {
+            return low != null && low.compareTo( value ) > 0;
+        }
+    }
+
+    /**
+     * A centered interval tree: each node keeps the intervals containing its center, sorted both by their
+     * lower and by their higher boundary, while the ones entirely before or after it go in the subtrees.
+     */
+    private static class IntervalTree {
+
+        private static final Comparator<Interval> BY_LOW =
+                Comparator.comparing( (Interval i) -> i.low, Comparator.nullsFirst( Comparator.<BigDecimal>naturalOrder() ) );
+        private static final Comparator<Interval> BY_HIGH_DESCENDING =
+                Comparator.comparing( (Interval i) -> i.high, Comparator.nullsFirst( Comparator.<BigDecimal>reverseOrder() ) );
+
+        private final BigDecimal center;
+        private final Interval[] byLow;
+        private final Interval[] byHigh;
+        private final IntervalTree before;
+        private final IntervalTree after;
+
+        private IntervalTree(BigDecimal center, List<Interval> overlapping, IntervalTree before, IntervalTree after) {
+            this.center = center;
+            this.byLow = overlapping.toArray( new Interval[overlapping.size()] );
+            this.byHigh = overlapping.toArray( new Interval[overlapping.size()] );
+            Arrays.sort( byLow, BY_LOW );
+            Arrays.sort( byHigh, BY_HIGH_DESCENDING );
+            this.before = before;
+            this.after = after;
+        }
+
+        private static IntervalTree build(List<Interval> intervals) {
+            if ( intervals.isEmpty() ) {
+                return null;
+            }
+            List<BigDecimal> endpoints = new ArrayList<>();
+            for ( Interval interval : intervals ) {
+                if ( interval.low != null ) {
+                    endpoints.add( interval.low );
+                }
+                if ( interval.high != null ) {
+                    endpoints.add( interval.high );
+                }
+            }
+            // the center is one of the endpoints, so at least one interval contains it and the recursion always ends
+            endpoints.sort( Comparator.naturalOrder() );
+            BigDecimal center = endpoints.isEmpty() ? BigDecimal.ZERO : endpoints.get( endpoints.size() / 2 );
+
+            List<Interval> before = new ArrayList<>();
+            List<Interval> after = new ArrayList<>();
+            List<Interval> overlapping = new ArrayList<>();
+            for ( Interval interval : intervals ) {
+                if ( interval.isBefore( center ) ) {
+                    before.add( interval );
+                } else if ( interval.isAfter( center ) ) {
+                    after.add( interval );
+                } else {
+                    overlapping.add( interval );
+                }
+            }
+            return new IntervalTree( center, overlapping, build( before ), build( after ) );
+        }
+
+        private void collect(BigDecimal value, BitSet result) {
+            int comparison = value.compareTo( center );
+            if ( comparison < 0 ) {
+                for ( Interval interval : byLow ) {
+                    if ( interval.isAfter( value ) ) {
+                        break;
+                    }
+                    result.set( interval.row );
+                }
+                if ( before != null ) {
+                    before.collect( value, result );
+                }
+            } else if ( comparison > 0 ) {
+                for ( Interval interval : byHigh ) {
+                    if ( interval.isBefore( value ) ) {
+                        break;
+                    }
+                    result.set( interval.row );
+                }
+                if ( after != null ) {
+                    after.collect( value, result );
+                }
+            } else {
+                for ( Interval interval : byLow ) {
+                    result.set( interval.row );
+                }
+            }
+        }
+    }
+}
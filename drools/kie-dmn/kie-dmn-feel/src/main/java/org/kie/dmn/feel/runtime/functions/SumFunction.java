@@ -25,6 +25,7 @@ import org.kie.dmn.api.feel.runtime.events.FEELEvent.Severity;
 import org.kie.dmn.feel.runtime.events.InvalidParametersEvent;
 import org.kie.dmn.feel.runtime.functions.FEELFnResult;
 import org.kie.dmn.feel.util.EvalHelper;
+import org.kie.dmn.feel.util.IntegralArithmetic;
 
 public class SumFunction
         extends BaseFEELFunction {
@@ -37,8 +38,21 @@ public class SumFunction
         if ( list == null ) {
             return FEELFnResult.ofError(new InvalidParametersEvent(Severity.ERROR, "list", "the list cannot be null"));
         }
-        BigDecimal sum = BigDecimal.ZERO;
+        // the integral elements are summed as longs, until an overflow or an element of another kind is found
+        long integralSum = 0;
+        BigDecimal sum = null;
         for ( Object element : list ) {
+            if ( sum == null ) {
+                if ( IntegralArithmetic.isIntegral( element ) ) {
+                    long value = ((Number) element).longValue();
+                    long result = integralSum + value;
+                    if ( ( ( integralSum ^ result ) & ( value ^ result ) ) >= 0 ) {
+                        integralSum = result;
+                        continue;
+                    }
+                }
+                sum = BigDecimal.valueOf( integralSum );
+            }
             if ( element instanceof BigDecimal ) {
                 sum = sum.add( (BigDecimal) element );
             } else if ( element instanceof Number ) {
@@ -52,7 +66,7 @@ public class SumFunction
                 return FEELFnResult.ofError(new InvalidParametersEvent(Severity.ERROR, "list", "an element in the list is not a number"));
             }
         }
-        return FEELFnResult.ofResult( sum );
+        return FEELFnResult.ofResult( sum != null ? sum : BigDecimal.valueOf( integralSum ) );
     }
 
     public FEELFnResult<BigDecimal> invoke(@ParameterName("list") Number single) {
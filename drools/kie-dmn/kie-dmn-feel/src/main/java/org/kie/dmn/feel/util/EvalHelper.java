@@ -52,7 +52,8 @@ import org.slf4j.LoggerFactory;
 public class EvalHelper {
     public static final Logger LOG = LoggerFactory.getLogger( EvalHelper.class );
 
-    private static final Map<String, Method> accessorCache = new ConcurrentHashMap<>();
+    // accessors cached by class and then by property name, also for the properties not defined on a class
+    private static final Map<Class<?>, Map<String, PropertyAccessor>> accessorCache = new ConcurrentHashMap<>();
 
     public static String normalizeVariableName(String name) {
         // private static final Pattern SPACES_PATTERN = Pattern.compile( "[\\s\u00A0]+" );
@@ -368,10 +369,10 @@ public class EvalHelper {
                     return PropertyValueResult.notDefined();
             }
         } else {
-            Method getter = getGenericAccessor( current.getClass(), property );
-            if ( getter != null ) {
+            PropertyAccessor accessor = getPropertyAccessor( current.getClass(), property );
+            if ( accessor.isDefined() ) {
                 try {
-                    result = getter.invoke(current);
+                    result = accessor.get(current);
                 } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
                     e.printStackTrace();
                     return PropertyValueResult.of(Either.ofLeft(e));
@@ -404,19 +405,38 @@ public class EvalHelper {
      * @return
      */
     public static Method getGenericAccessor(Class<?> clazz, String field) {
-        LOG.trace( "getGenericAccessor({}, {})", clazz, field );
+        return getPropertyAccessor( clazz, field ).getMethod();
+    }
+
+    /**
+     * The cached accessor of the FEEL annotated or else Java property of the given class; never null,
+     * see {@link PropertyAccessor#isDefined()} for the properties that the class doesn't have.
+     * @param clazz
+     * @param field
+     * @return
+     */
+    public static PropertyAccessor getPropertyAccessor(Class<?> clazz, String field) {
+        Map<String, PropertyAccessor> classAccessors = accessorCache.get( clazz );
+        if ( classAccessors == null ) {
+            classAccessors = accessorCache.computeIfAbsent( clazz, c -> new ConcurrentHashMap<>() );
+        }
+        PropertyAccessor accessor = classAccessors.get( field );
+        if ( accessor == null ) {
+            accessor = classAccessors.computeIfAbsent( field, f -> PropertyAccessor.of( lookupGenericAccessor( clazz, f ) ) );
+        }
+        return accessor;
+    }
 
-        String accessorQualifiedName = new StringBuilder(clazz.getCanonicalName())
-			.append(".").append(field).toString();
+    private static Method lookupGenericAccessor(Class<?> clazz, String field) {
+        LOG.trace( "getGenericAccessor({}, {})", clazz, field );
 
-        return accessorCache.computeIfAbsent(accessorQualifiedName, key ->
-        	Stream.of( clazz.getMethods() )
+        return Stream.of( clazz.getMethods() )
             .filter( m -> Optional.ofNullable( m.getAnnotation( FEELProperty.class ) )
                     .map( ann -> ann.value().equals( field ) )
                     .orElse( false )
             )
             .findFirst()
-            .orElse( getAccessor( clazz, field ) ));
+            .orElseGet( () -> getAccessor( clazz, field ) );
     }
 
     public static void clearGenericAccessorCache() {
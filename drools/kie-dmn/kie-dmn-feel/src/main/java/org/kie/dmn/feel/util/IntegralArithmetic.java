@@ -0,0 +1,97 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.math.BigDecimal;
+
+/**
+ * Fast path of the FEEL arithmetic operations for the numbers holding an integral value that fits a long.
+ *
+ * The operations are performed on longs and the result is returned as a BigDecimal with scale 0, which is
+ * exactly what the same operation performed on BigDecimals with MathContext.DECIMAL128 would return, given
+ * that a long never needs more than 34 digits. Each method returns null when its operands aren't eligible, or
+ * when the result would overflow a long or have a fractional part, meaning that the caller has to widen
+ * the operation to BigDecimal.
+ */
+public final class IntegralArithmetic {
+
+    // a BigDecimal with scale 0 and at most 18 digits is always held in compact form and fits a long
+    private static final int MAX_LONG_PRECISION = 18;
+
+    private IntegralArithmetic() {
+        // only static methods
+    }
+
+    public static boolean isIntegral(Object value) {
+        if ( value instanceof BigDecimal ) {
+            BigDecimal number = (BigDecimal) value;
+            return number.scale() == 0 && number.precision() <= MAX_LONG_PRECISION;
+        }
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    public static BigDecimal add(Object left, Object right) {
+        if ( isIntegral( left ) && isIntegral( right ) ) {
+            long l = ((Number) left).longValue();
+            long r = ((Number) right).longValue();
+            long result = l + r;
+            // overflow iff both operands have a sign different from the one of the result
+            if ( ( ( l ^ result ) & ( r ^ result ) ) >= 0 ) {
+                return BigDecimal.valueOf( result );
+            }
+        }
+        return null;
+    }
+
+    public static BigDecimal sub(Object left, Object right) {
+        if ( isIntegral( left ) && isIntegral( right ) ) {
+            long l = ((Number) left).longValue();
+            long r = ((Number) right).longValue();
+            long result = l - r;
+            // overflow iff the operands have different signs and the sign of the result differs from the one of the left
+            if ( ( ( l ^ r ) & ( l ^ result ) ) >= 0 ) {
+                return BigDecimal.valueOf( result );
+            }
+        }
+        return null;
+    }
+
+    public static BigDecimal mult(Object left, Object right) {
+        if ( isIntegral( left ) && isIntegral( right ) ) {
+            long l = ((Number) left).longValue();
+            long r = ((Number) right).longValue();
+            try {
+                return BigDecimal.valueOf( Math.multiplyExact( l, r ) );
+            } catch ( ArithmeticException e ) {
+                // overflow
+            }
+        }
+        return null;
+    }
+
+    public static BigDecimal div(Object left, Object right) {
+        if ( isIntegral( left ) && isIntegral( right ) ) {
+            long l = ((Number) left).longValue();
+            long r = ((Number) right).longValue();
+            // the division by 0 and the fractional results are left to the BigDecimal arithmetic
+            if ( r != 0 && l % r == 0 && !( l == Long.MIN_VALUE && r == -1 ) ) {
+                return BigDecimal.valueOf( l / r );
+            }
+        }
+        return null;
+    }
+}
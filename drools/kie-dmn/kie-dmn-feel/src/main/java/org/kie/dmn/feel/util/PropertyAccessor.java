@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.util;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Reads a property of a Java object through the accessor method resolved by {@link EvalHelper#getGenericAccessor(Class, String)}.
+ *
+ * When the accessor is visible from this class, it is invoked through a Function generated with the LambdaMetafactory,
+ * that the JIT can inline as a plain getter call, otherwise it falls back to reflection.
+ */
+public final class PropertyAccessor {
+
+    /**
+     * The accessor of a property that is not defined on a class
+     */
+    static final PropertyAccessor UNDEFINED = new PropertyAccessor( null, null );
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Method method;
+    private final Function<Object, Object> getter;
+
+    private PropertyAccessor(Method method, Function<Object, Object> getter) {
+        this.method = method;
+        this.getter = getter;
+    }
+
+    static PropertyAccessor of(Method method) {
+        return method == null ? UNDEFINED : new PropertyAccessor( method, createGetter( method ) );
+    }
+
+    public boolean isDefined() {
+        return method != null;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Object get(Object target) throws IllegalAccessException, InvocationTargetException {
+        if ( getter == null ) {
+            return method.invoke( target );
+        }
+        try {
+            return getter.apply( target );
+        } catch ( RuntimeException e ) {
+            // same outcome of the reflective invocation for the exceptions thrown by the accessor itself
+            throw new InvocationTargetException( e );
+        }
+    }
+
+    private static Function<Object, Object> createGetter(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if ( method.getParameterCount() != 0 || method.getReturnType() == void.class || Modifier.isStatic( method.getModifiers() ) || !isVisible( declaringClass ) ) {
+            return null;
+        }
+        try {
+            MethodHandle handle = LOOKUP.unreflect( method );
+            CallSite site = LambdaMetafactory.metafactory( LOOKUP,
+                                                           "apply",
+                                                           MethodType.methodType( Function.class ),
+                                                           MethodType.methodType( Object.class, Object.class ),
+                                                           handle,
+                                                           MethodType.methodType( method.getReturnType().isPrimitive() ? wrap( method.getReturnType() ) : method.getReturnType(), declaringClass ) );
+            return (Function<Object, Object>) site.getTarget().invoke();
+        } catch ( Throwable t ) {
+            EvalHelper.LOG.debug( "Unable to generate the accessor for {}, falling back to reflection", method, t );
+            return null;
+        }
+    }
+
+    /**
+     * Whether the code generated outside of the package of the given class can refer to it, that is when the class
+     * is public, named, and enclosed only in public classes
+     */
+    public static boolean isAccessible(Class<?> clazz) {
+        for ( Class<?> c = clazz; c != null; c = c.getEnclosingClass() ) {
+            if ( !Modifier.isPublic( c.getModifiers() ) ) {
+                return false;
+            }
+        }
+        return clazz.getCanonicalName() != null;
+    }
+
+    /**
+     * The generated class links the accessor through the class loader of this class, so the declaring class
+     * must be accessible and loaded by the same class loader it delegates to.
+     */
+    private static boolean isVisible(Class<?> clazz) {
+        if ( !isAccessible( clazz ) ) {
+            return false;
+        }
+        try {
+            return Class.forName( clazz.getName(), false, PropertyAccessor.class.getClassLoader() ) == clazz;
+        } catch ( ClassNotFoundException | LinkageError e ) {
+            return false;
+        }
+    }
+
+    private static Class<?> wrap(Class<?> primitive) {
+        return MethodType.methodType( primitive ).wrap().returnType();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.decisiontables.DTDecisionRule;
+import org.kie.dmn.feel.runtime.decisiontables.DTInputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DTInputEntry;
+import org.kie.dmn.feel.runtime.decisiontables.DTOutputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DecisionTableImpl;
+import org.kie.dmn.feel.runtime.decisiontables.HitPolicy;
+import org.kie.dmn.feel.util.ClassLoaderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates a decision table whose rules test a numeric range and a string literal, comparing the indexed
+ * evaluation with the full scan of the rules, that is still used for the input entries not retaining their text.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DecisionTableBenchmark {
+
+    private static final String[] CATEGORIES = { "A", "B", "C", "D" };
+
+    @Param({"10", "100", "1000"})
+    private int numberOfRules;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    @Param({"FIRST", "COLLECT"})
+    private HitPolicy hitPolicy;
+
+    private DecisionTableImpl decisionTable;
+    private EvaluationContextImpl[] contexts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpDecisionTable() {
+        FEEL feel = FEEL.newInstance();
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for ( int i = 0; i < numberOfRules; i++ ) {
+            DTDecisionRule rule = new DTDecisionRule( i );
+            rule.getInputEntry().add( inputEntry( feel, "[" + ( i / CATEGORIES.length * 10 ) + ".." + ( i / CATEGORIES.length * 10 + 10 ) + ")" ) );
+            rule.getInputEntry().add( inputEntry( feel, "\"" + CATEGORIES[i % CATEGORIES.length] + "\"" ) );
+            rule.getOutputEntry().add( feel.compile( String.valueOf( i ), feel.newCompilerContext() ) );
+            rules.add( rule );
+        }
+        decisionTable = new DecisionTableImpl( "benchmark",
+                                               Arrays.asList( "amount", "category" ),
+                                               Arrays.asList( new DTInputClause( "amount", null, null, null ),
+                                                              new DTInputClause( "category", null, null, null ) ),
+                                               Arrays.asList( new DTOutputClause( "result", null ) ),
+                                               rules,
+                                               hitPolicy,
+                                               feel );
+
+        Random random = new Random( 0 );
+        contexts = new EvaluationContextImpl[1024];
+        for ( int i = 0; i < contexts.length; i++ ) {
+            contexts[i] = new EvaluationContextImpl( ClassLoaderUtil.findDefaultClassLoader(), new FEELEventListenersManager() );
+            contexts[i].setValue( "amount", BigDecimal.valueOf( random.nextInt( numberOfRules / CATEGORIES.length * 10 + 10 ) ) );
+            contexts[i].setValue( "category", CATEGORIES[random.nextInt( CATEGORIES.length )] );
+        }
+    }
+
+    private UnaryTest inputEntry(FEEL feel, String text) {
+        List<UnaryTest> tests = feel.evaluateUnaryTests( text );
+        UnaryTest entry = (c, x) -> tests.stream().anyMatch( t -> {
+            Boolean result = t.apply( c, x );
+            return result != null && result;
+        } );
+        return indexed ? new DTInputEntry( text, entry ) : entry;
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        EvaluationContextImpl ctx = contexts[next++ & ( contexts.length - 1 )];
+        return decisionTable.evaluate( ctx, new Object[0] );
+    }
+}
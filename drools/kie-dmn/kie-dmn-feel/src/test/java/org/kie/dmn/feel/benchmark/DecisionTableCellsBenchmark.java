@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.runtime.decisiontables.DTDecisionRule;
+import org.kie.dmn.feel.runtime.decisiontables.DTInputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DTInputEntry;
+import org.kie.dmn.feel.runtime.decisiontables.DTOutputClause;
+import org.kie.dmn.feel.runtime.decisiontables.DecisionTableImpl;
+import org.kie.dmn.feel.runtime.decisiontables.HitPolicy;
+import org.kie.dmn.feel.util.ClassLoaderUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates a decision table too small to be indexed, whose cells test numbers, strings, dates and ranges,
+ * comparing the predicates compiled for the type of each column with the evaluation of the unary tests.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DecisionTableCellsBenchmark {
+
+    // amount, category, day -> result
+    private static final String[][] RULES = {
+            { "< 100", "\"A\", \"B\"", "< date(\"2019-01-01\")" },
+            { "[100..500)", "\"A\"", ">= date(\"2019-01-01\")" },
+            { "[100..500)", "\"B\", \"C\"", "[date(\"2019-01-01\")..date(\"2019-06-30\")]" },
+            { "[500..1000]", "\"C\"", "> date(\"2019-06-30\")" },
+            { "> 1000", "\"A\", \"C\"", "date(\"2019-12-24\"), date(\"2019-12-31\")" },
+            { ">= 0", "\"D\"", ">= date(\"2018-01-01\")" },
+    };
+
+    @Param({"true", "false"})
+    private boolean compiled;
+
+    private DecisionTableImpl decisionTable;
+    private EvaluationContextImpl[] contexts;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUpDecisionTable() {
+        FEEL feel = FEEL.newInstance();
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for ( int i = 0; i < RULES.length; i++ ) {
+            DTDecisionRule rule = new DTDecisionRule( i );
+            for ( String text : RULES[i] ) {
+                rule.getInputEntry().add( inputEntry( feel, text ) );
+            }
+            rule.getOutputEntry().add( feel.compile( String.valueOf( i ), feel.newCompilerContext() ) );
+            rules.add( rule );
+        }
+        decisionTable = new DecisionTableImpl( "benchmark",
+                                               Arrays.asList( "amount", "category", "day" ),
+                                               Arrays.asList( new DTInputClause( "amount", null, null, null ),
+                                                              new DTInputClause( "category", null, null, null ),
+                                                              new DTInputClause( "day", null, null, null ) ),
+                                               Arrays.asList( new DTOutputClause( "result", null ) ),
+                                               rules,
+                                               HitPolicy.COLLECT,
+                                               feel );
+
+        String[] categories = { "A", "B", "C", "D" };
+        contexts = new EvaluationContextImpl[256];
+        for ( int i = 0; i < contexts.length; i++ ) {
+            contexts[i] = new EvaluationContextImpl( ClassLoaderUtil.findDefaultClassLoader(), new FEELEventListenersManager() );
+            contexts[i].setValue( "amount", BigDecimal.valueOf( i * 7 ) );
+            contexts[i].setValue( "category", categories[i % categories.length] );
+            contexts[i].setValue( "day", LocalDate.of( 2018, 10, 1 ).plusDays( i * 3 ) );
+        }
+    }
+
+    private UnaryTest inputEntry(FEEL feel, String text) {
+        List<UnaryTest> tests = feel.evaluateUnaryTests( text );
+        UnaryTest entry = (c, x) -> tests.stream().anyMatch( t -> {
+            Boolean result = t.apply( c, x );
+            return result != null && result;
+        } );
+        return compiled ? new DTInputEntry( text, entry ) : entry;
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        EvaluationContextImpl ctx = contexts[next++ & ( contexts.length - 1 )];
+        return decisionTable.evaluate( ctx, new Object[0] );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates an arithmetic expression and a sum over a list, with integral operands, that take the long fast path,
+ * and with fractional ones, that are computed with the BigDecimal arithmetic.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FEELArithmeticBenchmark {
+
+    @Param({"true", "false"})
+    private boolean integral;
+
+    private FEEL feel;
+    private CompiledExpression arithmetic;
+    private CompiledExpression sum;
+    private Map<String, Object> inputs;
+
+    @Setup(Level.Trial)
+    public void setUpExpressions() {
+        feel = FEEL.newInstance();
+        CompilerContext ctx = feel.newCompilerContext();
+        ctx.addInputVariableType( "a", BuiltInType.NUMBER );
+        ctx.addInputVariableType( "b", BuiltInType.NUMBER );
+        ctx.addInputVariableType( "c", BuiltInType.NUMBER );
+        ctx.addInputVariableType( "values", BuiltInType.LIST );
+        arithmetic = feel.compile( "(a + b) * c - a / b", ctx );
+        sum = feel.compile( "sum( values )", ctx );
+
+        inputs = new HashMap<>();
+        inputs.put( "a", integral ? BigDecimal.valueOf( 1200 ) : new BigDecimal( "1200.5" ) );
+        inputs.put( "b", integral ? BigDecimal.valueOf( 40 ) : new BigDecimal( "40.25" ) );
+        inputs.put( "c", integral ? BigDecimal.valueOf( 7 ) : new BigDecimal( "7.125" ) );
+        List<BigDecimal> values = new ArrayList<>();
+        for ( int i = 0; i < 100; i++ ) {
+            values.add( integral ? BigDecimal.valueOf( i * 37 ) : BigDecimal.valueOf( i * 37, 2 ) );
+        }
+        inputs.put( "values", values );
+    }
+
+    @Benchmark
+    public Object evaluateArithmetic() {
+        return feel.evaluate( arithmetic, inputs );
+    }
+
+    @Benchmark
+    public Object evaluateSum() {
+        return feel.evaluate( sum, inputs );
+    }
+}
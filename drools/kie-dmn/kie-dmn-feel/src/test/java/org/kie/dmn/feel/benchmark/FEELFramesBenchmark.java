@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.parser.feel11.profiles.DoCompileFEELProfile;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates the expressions entering a frame for each nested context, iteration and function invocation, where
+ * most of the time is spent looking up and setting the variables of the frames.
+ */
+@Fork(1)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 5, timeUnit = TimeUnit.SECONDS)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FEELFramesBenchmark {
+
+    @Param({"true", "false"})
+    private boolean compiled;
+
+    private FEEL feel;
+    private CompiledExpression nestedContexts;
+    private CompiledExpression forExpression;
+    private CompiledExpression someExpression;
+    private CompiledExpression everyExpression;
+    private Map<String, Object> inputs;
+
+    @Setup(Level.Trial)
+    public void setUpExpressions() {
+        feel = compiled ? FEEL.newInstance( Collections.singletonList( new DoCompileFEELProfile() ) ) : FEEL.newInstance();
+        CompilerContext ctx = feel.newCompilerContext();
+        ctx.addInputVariableType( "a", BuiltInType.NUMBER );
+        ctx.addInputVariableType( "values", BuiltInType.LIST );
+        nestedContexts = feel.compile( "{ x: a + 1, y: { z: x * 2, w: { v: z + x, u: v - a }.u }, r: y.w + x }.r", ctx );
+        forExpression = feel.compile( "for i in values, j in 1..3 return i * j + a", ctx );
+        someExpression = feel.compile( "some i in values, j in values satisfies i + j = a * 1000", ctx );
+        everyExpression = feel.compile( "every i in values satisfies i >= 0 and i < a * 100", ctx );
+
+        inputs = new HashMap<>();
+        inputs.put( "a", BigDecimal.valueOf( 10 ) );
+        List<BigDecimal> values = new ArrayList<>();
+        for ( int i = 0; i < 50; i++ ) {
+            values.add( BigDecimal.valueOf( i ) );
+        }
+        inputs.put( "values", values );
+    }
+
+    @Benchmark
+    public Object evaluateNestedContexts() {
+        return feel.evaluate( nestedContexts, inputs );
+    }
+
+    @Benchmark
+    public Object evaluateFor() {
+        return feel.evaluate( forExpression, inputs );
+    }
+
+    @Benchmark
+    public Object evaluateSome() {
+        return feel.evaluate( someExpression, inputs );
+    }
+
+    @Benchmark
+    public Object evaluateEvery() {
+        return feel.evaluate( everyExpression, inputs );
+    }
+}
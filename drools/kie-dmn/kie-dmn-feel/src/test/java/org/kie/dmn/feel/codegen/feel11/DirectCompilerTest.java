@@ -43,6 +43,7 @@ import org.kie.dmn.feel.runtime.FEELTernaryLogicTest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -167,6 +168,25 @@ public class DirectCompilerTest {
         assertThat(parseCompileEvaluate("10 / null"), nullValue());
     }
 
+    @Test
+    public void test_integralArithmeticOnLongs() {
+        // the typed number operations of both the compilers go through IntegralArithmetic
+        assertThat(directCompile("1 + 2").getExpression().toString(), containsString("CompiledFEELSupport.add("));
+        assertThat(directCompile("1 - 2").getExpression().toString(), containsString("CompiledFEELSupport.sub("));
+        assertThat(directCompile("3 * 5").getExpression().toString(), containsString("CompiledFEELSupport.mult("));
+
+        assertThat(directCompileEvaluate("1 + 2"), is(BigDecimal.valueOf(3)));
+        assertThat(directCompileEvaluate("1 - 2"), is(BigDecimal.valueOf(-1)));
+        assertThat(directCompileEvaluate("3 * 5"), is(BigDecimal.valueOf(15)));
+        assertThat(directCompileEvaluate("10 / 4"), is(new BigDecimal("2.5")));
+        assertThat(parseCompileEvaluate("10 / 4"), is(new BigDecimal("2.5")));
+
+        // an overflow of the long widens the operation to BigDecimal
+        assertThat(directCompileEvaluate("999999999999999999 * 100"), is(new BigDecimal("99999999999999999900")));
+        assertThat(parseCompileEvaluate("999999999999999999 * 100"), is(new BigDecimal("99999999999999999900")));
+        assertThat(directCompileEvaluate("1.5 + 2"), is(new BigDecimal("3.5")));
+    }
+
     @Test
     public void test_exponentiationExpression() {
         assertThat(parseCompileEvaluate("3 ** 3"), is(BigDecimal.valueOf(27)));
@@ -473,6 +493,17 @@ public class DirectCompilerTest {
         assertThat(result, is(BigDecimal.valueOf(2016)));
     }
 
+    private DirectCompilerResult directCompile(String input) {
+        FEEL_1_1Parser parser = FEELParser.parse(null, input, Collections.emptyMap(), Collections.emptyMap(), Collections.emptyList(), Collections.emptyList());
+        return new DirectCompilerVisitor(Collections.emptyMap()).visit(parser.compilation_unit());
+    }
+
+    private Object directCompileEvaluate(String input) {
+        DirectCompilerResult directResult = directCompile(input);
+        CompiledFEELExpression compiledExpression = new CompilerBytecodeLoader().makeFromJPExpression(input, directResult.getExpression(), directResult.getFieldDeclarations());
+        return compiledExpression.apply(CodegenTestUtil.newEmptyEvaluationContext());
+    }
+
     private CompiledFEELExpression parse(String input) {
         return parse( input, Collections.emptyMap() );
     }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.lang.impl;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.kie.dmn.feel.lang.EvaluationContext;
+import org.kie.dmn.feel.util.ClassLoaderUtil;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EvaluationContextImplTest {
+
+    private final EvaluationContextImpl ctx = new EvaluationContextImpl( ClassLoaderUtil.findDefaultClassLoader(), new FEELEventListenersManager() );
+
+    @Test
+    public void testFrameShadowsItsParents() {
+        ctx.setValue( "a", 1 );
+        ctx.setValue( "b", 2 );
+        ctx.enterFrame();
+        ctx.setValue( "a", 3 );
+        assertThat( ctx.getValue( "a" ), is( 3 ) );
+        assertThat( ctx.getValue( "b" ), is( 2 ) );
+        ctx.exitFrame();
+        assertThat( ctx.getValue( "a" ), is( 1 ) );
+    }
+
+    @Test
+    public void testFrameWithManyVariables() {
+        ctx.enterFrame();
+        for ( int i = 0; i < 100; i++ ) {
+            ctx.setValue( "v " + i, i );
+        }
+        ctx.setValue( "v  42", -42 );
+        for ( int i = 0; i < 100; i++ ) {
+            assertThat( ctx.getValue( "v " + i ), is( i == 42 ? -42 : i ) );
+        }
+        assertTrue( ctx.isDefined( "v 99" ) );
+        assertFalse( ctx.isDefined( "v 100" ) );
+
+        Map<String, Object> values = ctx.getAllValues();
+        assertThat( values.get( "v 0" ), is( 0 ) );
+        assertThat( values.get( "v 42" ), is( -42 ) );
+        ctx.exitFrame();
+        assertFalse( ctx.isDefined( "v 0" ) );
+    }
+
+    @Test
+    public void testRecycledFrameIsEmpty() {
+        ctx.enterFrame();
+        ctx.setValue( "a", 1 );
+        ctx.exitFrame();
+        ctx.enterFrame();
+        assertThat( ctx.getValue( "a" ), nullValue() );
+        assertFalse( ctx.isDefined( "a" ) );
+        ctx.exitFrame();
+    }
+
+    @Test
+    public void testCapturedFrameIsNotRecycled() {
+        ctx.enterFrame();
+        ctx.setValue( "a", 1 );
+        EvaluationContext closure = ctx.current();
+        ctx.exitFrame();
+        ctx.enterFrame();
+        ctx.setValue( "a", 2 );
+        assertThat( closure.getValue( "a" ), is( 1 ) );
+        assertThat( ctx.getValue( "a" ), is( 2 ) );
+        ctx.exitFrame();
+    }
+}
@@ -67,6 +67,17 @@ public class FEELMathOperationsTest extends BaseFEELTest {
                 { "-1", BigDecimal.valueOf( -1 ), null },
                 { "--1", BigDecimal.valueOf( 1 ), null },
                 { "---1", BigDecimal.valueOf( -1 ), null },
+                { "9223372036854775807 + 1", new BigDecimal( "9223372036854775808" ), null },
+                { "-9223372036854775807 - 2", new BigDecimal( "-9223372036854775809" ), null },
+                { "9223372036854775807 * 2", new BigDecimal( "18446744073709551614" ), null },
+                { "123456789012345678 * 10", new BigDecimal( "1234567890123456780" ), null },
+                { "1234567890123456789 + 1", new BigDecimal( "1234567890123456790" ), null },
+                { "7 / 2", BigDecimal.valueOf( 3.5 ), null },
+                { "-9 / 3", BigDecimal.valueOf( -3 ), null },
+                { "0 / 5", BigDecimal.ZERO, null },
+                { "5 / 0", null, null },
+                { "2.50 + 1", new BigDecimal( "3.50" ), null },
+                { "10.0 - 5", new BigDecimal( "5.0" ), null },
         };
         return addAdditionalParameters(cases, false);
     }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.util.ClassLoaderUtil;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DecisionTableColumnsTest {
+
+    // day, flag -> code
+    private static final String[][] RULES = {
+            { "< date(\"2019-01-01\")", "true", "1" },
+            { "[date(\"2019-01-01\")..date(\"2019-06-30\"))", "false", "2" },
+            { "(date(\"2019-06-30\")..date(\"2019-12-31\")]", "-", "3" },
+            { "date(\"2020-02-29\"), date(\"2020-03-01\")", "true, false", "4" },
+            { ">= date(\"2021-01-01\")", "-", "5" },
+            { "not(date(\"2020-01-01\"))", "true", "6" },
+            { "date(\"2019-01-01\"), \"today\"", "-", "7" },
+            { "-", "false", "8" },
+    };
+
+    private final FEEL feel = FEEL.newInstance();
+
+    @Test
+    public void testCompiledTableMatchesUnaryTests() {
+        List<Object> days = new ArrayList<>();
+        for ( LocalDate day = LocalDate.of( 2018, 12, 30 ); day.isBefore( LocalDate.of( 2021, 1, 3 ) ); day = day.plusDays( 1 ) ) {
+            days.add( day );
+        }
+        days.addAll( Arrays.asList( null, "2019-01-01", "today", LocalDateTime.of( 2019, 1, 1, 0, 0 ), BigDecimal.ONE ) );
+        List<Object> flags = Arrays.asList( true, false, null, "true", BigDecimal.ZERO );
+
+        for ( HitPolicy hitPolicy : HitPolicy.values() ) {
+            DecisionTableImpl compiled = createTable( hitPolicy, true );
+            DecisionTableImpl interpreted = createTable( hitPolicy, false );
+            for ( Object day : days ) {
+                for ( Object flag : flags ) {
+                    assertEquals( "hit policy " + hitPolicy + " with day " + day + " and flag " + flag,
+                                  evaluate( interpreted, day, flag ),
+                                  evaluate( compiled, day, flag ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompiledEntries() {
+        DecisionTableColumns columns = DecisionTableColumns.build( 2, rules( true ) );
+        assertNotNull( columns );
+
+        assertNotNull( columns.predicate( 0, 0 ) );
+        assertNotNull( columns.predicate( 3, 0 ) );
+        assertNotNull( columns.predicate( 3, 1 ) );
+        assertNotNull( columns.predicate( 7, 0 ) );
+        // negated tests and entries mixing types are left to the unary tests
+        assertNull( columns.predicate( 5, 0 ) );
+        assertNull( columns.predicate( 6, 0 ) );
+
+        assertTrue( columns.predicate( 1, 0 ).test( LocalDate.of( 2019, 1, 1 ) ) );
+        assertFalse( columns.predicate( 1, 0 ).test( LocalDate.of( 2019, 6, 30 ) ) );
+        assertTrue( columns.predicate( 2, 0 ).test( LocalDate.of( 2019, 12, 31 ) ) );
+
+        assertArrayEquals( new boolean[] { true, true }, columns.compiledColumns( new Object[] { LocalDate.of( 2019, 1, 1 ), true } ) );
+        assertArrayEquals( new boolean[] { false, true }, columns.compiledColumns( new Object[] { "2019-01-01", false } ) );
+        assertNull( columns.compiledColumns( new Object[] { null, "true" } ) );
+
+        assertNull( DecisionTableColumns.build( 2, rules( false ) ) );
+    }
+
+    @Test
+    public void testShadowedDateIsNotFolded() {
+        UnaryTest entry = (c, x) -> true;
+        String text = "< date(\"2019-01-01\")";
+
+        CompilerContext builtInDate = feel.newCompilerContext();
+        assertNotNull( compileSingleEntry( new DTInputEntry( text, entry, builtInDate ) ) );
+
+        // a date variable, like a business knowledge model named that way, takes the place of the built-in function
+        CompilerContext dateVariable = feel.newCompilerContext();
+        dateVariable.addInputVariableType( "date", BuiltInType.FUNCTION );
+        assertNull( compileSingleEntry( new DTInputEntry( text, entry, dateVariable ) ) );
+    }
+
+    private DecisionTableColumns compileSingleEntry(DTInputEntry entry) {
+        DTDecisionRule rule = new DTDecisionRule( 0 );
+        rule.getInputEntry().add( entry );
+        return DecisionTableColumns.build( 1, Arrays.asList( rule ) );
+    }
+
+    private String evaluate(DecisionTableImpl table, Object day, Object flag) {
+        List<String> events = new ArrayList<>();
+        FEELEventListenersManager eventsManager = new FEELEventListenersManager();
+        eventsManager.addListener( e -> events.add( e.getSeverity() + " " + e.getMessage() ) );
+        EvaluationContextImpl ctx = new EvaluationContextImpl( ClassLoaderUtil.findDefaultClassLoader(), eventsManager );
+        ctx.setValue( "day", day );
+        ctx.setValue( "flag", flag );
+        String result = table.evaluate( ctx, new Object[0] ).cata( e -> "error: " + e.getMessage(), r -> String.valueOf( r ) );
+        return events.isEmpty() ? result : result + " " + events;
+    }
+
+    private DecisionTableImpl createTable(HitPolicy hitPolicy, boolean compilable) {
+        List<DTInputClause> inputs = Arrays.asList( new DTInputClause( "day", null, null, null ),
+                                                    new DTInputClause( "flag", null, null, null ) );
+        List<DTOutputClause> outputs = Arrays.asList( new DTOutputClause( "code", null ) );
+        return new DecisionTableImpl( "codes", Arrays.asList( "day", "flag" ), inputs, outputs, rules( compilable ), hitPolicy, feel );
+    }
+
+    private List<DTDecisionRule> rules(boolean compilable) {
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for ( int i = 0; i < RULES.length; i++ ) {
+            DTDecisionRule rule = new DTDecisionRule( i );
+            for ( int column = 0; column < 2; column++ ) {
+                String text = RULES[i][column];
+                List<UnaryTest> tests = feel.evaluateUnaryTests( text );
+                UnaryTest entry = (c, x) -> tests.stream().anyMatch( t -> {
+                    Boolean result = t.apply( c, x );
+                    return result != null && result;
+                } );
+                rule.getInputEntry().add( compilable ? new DTInputEntry( text, entry ) : entry );
+            }
+            rule.getOutputEntry().add( feel.compile( RULES[i][2], feel.newCompilerContext() ) );
+            rules.add( rule );
+        }
+        return rules;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.dmn.feel.runtime.decisiontables;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.impl.EvaluationContextImpl;
+import org.kie.dmn.feel.lang.impl.FEELEventListenersManager;
+import org.kie.dmn.feel.runtime.UnaryTest;
+import org.kie.dmn.feel.util.ClassLoaderUtil;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DecisionTableIndexTest {
+
+    // age, category -> score
+    private static final String[][] RULES = {
+            { "< 18", "\"A\", \"B\"", "1" },
+            { "< 18", "-", "2" },
+            { "[18..30]", "\"A\"", "3" },
+            { "(18..30)", "\"B\"", "4" },
+            { "(30..50]", "-", "5" },
+            { "> 50", "\"C\"", "1" },
+            { ">= 50", "\"A\", \"C\"", "2" },
+            { "18, 30, 50", "\"D\"", "3" },
+            { "-", "\"D\"", "4" },
+            { "not(< 65)", "-", "5" },
+            { "? > 40", "\"B\"", "1" },
+            { "[0..100]", "not(\"A\")", "2" },
+            { "25", "\"E\"", "3" },
+            { "25.00", "\"F\"", "4" },
+            { "0", "\"G\"", "5" },
+            { "-", "-", "1" },
+    };
+
+    private final FEEL feel = FEEL.newInstance();
+
+    @Test
+    public void testIndexedTableMatchesFullScan() {
+        List<Object> ages = new ArrayList<>();
+        for ( int age = -5; age <= 75; age++ ) {
+            ages.add( BigDecimal.valueOf( age ) );
+        }
+        ages.addAll( Arrays.asList( new BigDecimal( "18.0" ), new BigDecimal( "30.5" ), new BigDecimal( "25.0" ),
+                                    new BigDecimal( "0.00" ), new BigDecimal( "-0" ), null, "18", 18 ) );
+        List<Object> categories = Arrays.asList( "A", "B", "C", "D", "E", "F", "G", "Z", null, BigDecimal.ONE );
+
+        for ( HitPolicy hitPolicy : HitPolicy.values() ) {
+            DecisionTableImpl indexed = createTable( hitPolicy, true );
+            DecisionTableImpl scanned = createTable( hitPolicy, false );
+            for ( Object age : ages ) {
+                for ( Object category : categories ) {
+                    assertEquals( "hit policy " + hitPolicy + " with age " + age + " and category " + category,
+                                  evaluate( scanned, age, category ),
+                                  evaluate( indexed, age, category ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCandidates() {
+        DecisionTableImpl table = createTable( HitPolicy.COLLECT, true );
+        DecisionTableIndex index = DecisionTableIndex.build( 2, rules( true ) );
+        assertNotNull( index );
+
+        BitSet candidates = index.candidates( new Object[] { BigDecimal.valueOf( 25 ), "E" } );
+        assertFalse( candidates.get( 0 ) );
+        assertFalse( candidates.get( 1 ) );
+        // [18..30] "A" and (18..30) "B" are pruned by the category
+        assertFalse( candidates.get( 2 ) );
+        assertFalse( candidates.get( 3 ) );
+        assertFalse( candidates.get( 8 ) );
+        assertFalse( candidates.get( 13 ) );
+        assertFalse( candidates.get( 14 ) );
+        assertTrue( candidates.get( 12 ) );
+        assertTrue( candidates.get( 15 ) );
+        // the rules with a not indexable entry are always checked
+        assertTrue( candidates.get( 9 ) );
+        assertTrue( candidates.get( 10 ) );
+        assertTrue( candidates.get( 11 ) );
+
+        // inputs of a type different from the one of the indexed values can't be looked up
+        assertNull( index.candidates( new Object[] { "25", "E" } ) );
+        assertNull( index.candidates( new Object[] { null, "E" } ) );
+
+        assertTrue( evaluate( table, BigDecimal.valueOf( 25 ), "F" ).startsWith( "[2, 4, 1] " ) );
+    }
+
+    @Test
+    public void testSmallOrNotIndexableTables() {
+        assertNull( DecisionTableIndex.build( 2, rules( true ).subList( 0, DecisionTableIndex.MIN_INDEXED_RULES - 1 ) ) );
+        assertNull( DecisionTableIndex.build( 2, rules( false ) ) );
+    }
+
+    private String evaluate(DecisionTableImpl table, Object age, Object category) {
+        List<String> events = new ArrayList<>();
+        FEELEventListenersManager eventsManager = new FEELEventListenersManager();
+        eventsManager.addListener( e -> events.add( e.getSeverity() + " " + e.getMessage() ) );
+        EvaluationContextImpl ctx = new EvaluationContextImpl( ClassLoaderUtil.findDefaultClassLoader(), eventsManager );
+        ctx.setValue( "age", age );
+        ctx.setValue( "category", category );
+        String result = table.evaluate( ctx, new Object[0] ).cata( e -> "error: " + e.getMessage(), r -> String.valueOf( r ) );
+        return events.isEmpty() ? result : result + " " + events;
+    }
+
+    private DecisionTableImpl createTable(HitPolicy hitPolicy, boolean indexable) {
+        List<DTInputClause> inputs = Arrays.asList( new DTInputClause( "age", null, null, null ),
+                                                    new DTInputClause( "category", null, null, null ) );
+        List<DTOutputClause> outputs = Arrays.asList( new DTOutputClause( "score", feel.evaluateUnaryTests( "5, 4, 3, 2, 1" ) ) );
+        return new DecisionTableImpl( "scores", Arrays.asList( "age", "category" ), inputs, outputs, rules( indexable ), hitPolicy, feel );
+    }
+
+    private List<DTDecisionRule> rules(boolean indexable) {
+        List<DTDecisionRule> rules = new ArrayList<>();
+        for ( int i = 0; i < RULES.length; i++ ) {
+            DTDecisionRule rule = new DTDecisionRule( i );
+            for ( int column = 0; column < 2; column++ ) {
+                String text = RULES[i][column];
+                List<UnaryTest> tests = feel.evaluateUnaryTests( text );
+                UnaryTest entry = (c, x) -> tests.stream().anyMatch( t -> {
+                    Boolean result = t.apply( c, x );
+                    return result != null && result;
+                } );
+                rule.getInputEntry().add( indexable ? new DTInputEntry( text, entry ) : entry );
+            }
+            rule.getOutputEntry().add( feel.compile( RULES[i][2], feel.newCompilerContext() ) );
+            rules.add( rule );
+        }
+        return rules;
+    }
+}
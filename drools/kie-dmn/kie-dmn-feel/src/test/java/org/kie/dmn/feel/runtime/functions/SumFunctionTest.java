@@ -70,6 +70,16 @@ public class SumFunctionTest {
         FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList(4, -1, 12.1, (long) 5, BigDecimal.TEN)), BigDecimal.valueOf(30.1));
     }
 
+    @Test
+    public void invokeListParamIntegralTypes() {
+        FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList()), BigDecimal.ZERO);
+        FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList(4, -1, (long) 5, BigDecimal.TEN)), BigDecimal.valueOf(18));
+        FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList(Long.MAX_VALUE, 1, BigDecimal.ONE)), new BigDecimal("9223372036854775809"));
+        FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList(Long.MIN_VALUE, -1)), new BigDecimal("-9223372036854775809"));
+        FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList(1, new BigDecimal("1.50"), 2)), new BigDecimal("4.50"));
+        FunctionTestUtil.assertResult(sumFunction.invoke(Arrays.asList(1, new BigDecimal("12345678901234567890"))), new BigDecimal("12345678901234567891"));
+    }
+
     @Test
     public void invokeArrayParam() {
         FunctionTestUtil.assertResultError(sumFunction.invoke((Object[]) null), InvalidParametersEvent.class);
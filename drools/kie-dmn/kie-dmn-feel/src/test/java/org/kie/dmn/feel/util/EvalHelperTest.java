@@ -16,10 +16,16 @@
 
 package org.kie.dmn.feel.util;
 
+import java.math.BigDecimal;
+
 import org.junit.Test;
+import org.kie.dmn.feel.lang.FEELProperty;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.kie.dmn.feel.util.EvalHelper.normalizeVariableName;
 
 public class EvalHelperTest {
@@ -49,4 +55,52 @@ public class EvalHelperTest {
         assertEquals("ab c", normalizeVariableName("ab c  "));
         assertEquals("a b", normalizeVariableName("a\u00A0b"));
     }
+
+    @Test
+    public void testGetDefinedValueOfJavaProperties() {
+        Applicant applicant = new Applicant();
+        assertEquals("John", EvalHelper.getDefinedValue(applicant, "name").getValueResult().getOrElse(null));
+        assertEquals(new BigDecimal(47), EvalHelper.getDefinedValue(applicant, "age").getValueResult().getOrElse(null));
+        assertEquals(Boolean.TRUE, EvalHelper.getDefinedValue(applicant, "adult").getValueResult().getOrElse(null));
+        assertEquals("12345", EvalHelper.getDefinedValue(applicant, "zip code").getValueResult().getOrElse(null));
+        assertFalse(EvalHelper.getDefinedValue(applicant, "surname").isDefined());
+        assertTrue(EvalHelper.getDefinedValue(applicant, "failing").getValueResult().isLeft());
+    }
+
+    @Test
+    public void testPropertyAccessorsAreCached() {
+        PropertyAccessor accessor = EvalHelper.getPropertyAccessor(Applicant.class, "name");
+        assertTrue(accessor.isDefined());
+        assertSame(accessor, EvalHelper.getPropertyAccessor(Applicant.class, "name"));
+        assertEquals("getName", EvalHelper.getGenericAccessor(Applicant.class, "name").getName());
+
+        PropertyAccessor undefined = EvalHelper.getPropertyAccessor(Applicant.class, "surname");
+        assertFalse(undefined.isDefined());
+        assertSame(undefined, EvalHelper.getPropertyAccessor(Applicant.class, "surname"));
+        assertNull(EvalHelper.getGenericAccessor(Applicant.class, "surname"));
+    }
+
+    public static class Applicant {
+
+        public String getName() {
+            return "John";
+        }
+
+        public int getAge() {
+            return 47;
+        }
+
+        public boolean isAdult() {
+            return true;
+        }
+
+        @FEELProperty("zip code")
+        public String getZip() {
+            return "12345";
+        }
+
+        public String getFailing() {
+            throw new IllegalStateException();
+        }
+    }
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2019 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.kie.maven.plugin;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.logging.Log;
+import org.drools.compiler.kie.builder.impl.InternalKieModule;
+import org.drools.compiler.kie.builder.impl.KieModuleKieProject;
+import org.drools.compiler.kie.builder.impl.ResultsImpl;
+import org.drools.compiler.kproject.models.KieBaseModelImpl;
+import org.drools.compiler.reteoo.compiled.PrecompiledAlphaNetworks;
+import org.drools.core.impl.InternalKnowledgeBase;
+import org.kie.api.builder.model.KieBaseModel;
+
+/**
+ * Writes the sources of the compiled alpha networks of all the kie bases of a kjar, so that they are compiled
+ * together with the rest of the project, along with the resources used to wire them at runtime.
+ */
+public class AlphaNetworkWriter {
+
+    private final InternalKieModule kieModule;
+    private final String packageName;
+    private final String droolsModelCompilerOutputDirectory;
+    private final String targetDirectory;
+    private final Log log;
+
+    public AlphaNetworkWriter(
+            InternalKieModule kieModule,
+            String packageName,
+            String droolsModelCompilerOutputDirectory,
+            String targetDirectory,
+            Log log) {
+        this.kieModule = kieModule;
+        this.packageName = packageName;
+        this.droolsModelCompilerOutputDirectory = droolsModelCompilerOutputDirectory;
+        this.targetDirectory = targetDirectory;
+        this.log = log;
+    }
+
+    public void write() throws MojoExecutionException {
+        KieModuleKieProject kieProject = new KieModuleKieProject(kieModule, Thread.currentThread().getContextClassLoader());
+        kieProject.init();
+
+        for (KieBaseModel kBaseModel : kieModule.getKieModuleModel().getKieBaseModels().values()) {
+            ResultsImpl messages = new ResultsImpl();
+            InternalKnowledgeBase kBase = kieModule.createKieBase((KieBaseModelImpl) kBaseModel, kieProject, messages, null);
+            if (kBase == null) {
+                throw new MojoExecutionException("Unable to create the kie base " + kBaseModel.getName() + ": " + messages.getMessages());
+            }
+
+            Map<String, String> sources = new LinkedHashMap<>();
+            String registry = PrecompiledAlphaNetworks.generateSources(kBaseModel.getName(), kBase, packageName, sources);
+            log.info(String.format("Found %d compiled alpha networks in kie base %s", sources.size(), kBaseModel.getName()));
+
+            for (Map.Entry<String, String> source : sources.entrySet()) {
+                Path newFile = Paths.get(droolsModelCompilerOutputDirectory, source.getKey());
+                write(newFile, source.getValue());
+                log.info("Generating " + newFile);
+            }
+            write(Paths.get(targetDirectory, "classes", PrecompiledAlphaNetworks.getRegistryPath(kBaseModel.getName())), registry);
+        }
+    }
+
+    private void write(Path file, String content) throws MojoExecutionException {
+        try {
+            Files.createDirectories(file.getParent());
+            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new MojoExecutionException("Unable to write file", e);
+        }
+    }
+}
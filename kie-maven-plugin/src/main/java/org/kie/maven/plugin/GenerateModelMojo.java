@@ -29,15 +29,20 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.apache.maven.project.MavenProject;
+import org.drools.compiler.commons.jci.compilers.CompilationResult;
 import org.drools.compiler.compiler.io.memory.MemoryFileSystem;
 import org.drools.compiler.kie.builder.impl.InternalKieModule;
 import org.drools.compiler.kie.builder.impl.KieBuilderImpl;
+import org.drools.compiler.kie.builder.impl.KieContainerImpl;
 import org.drools.compiler.kie.builder.impl.MemoryKieModule;
 import org.drools.compiler.kie.builder.impl.ZipKieModule;
 import org.drools.compiler.kproject.ReleaseIdImpl;
 import org.drools.compiler.kproject.models.KieModuleModelImpl;
+import org.drools.compiler.reteoo.compiled.PrecompiledAlphaNetworks;
 import org.drools.modelcompiler.CanonicalKieModule;
 import org.drools.modelcompiler.ExecutableModelCodeGenerationProject;
+import org.drools.modelcompiler.builder.CanonicalModelKieProject;
+import org.drools.modelcompiler.builder.JavaParserCompiler;
 import org.kie.api.KieServices;
 import org.kie.api.builder.ReleaseId;
 import org.kie.api.builder.model.KieModuleModel;
@@ -125,6 +130,10 @@ public class GenerateModelMojo extends AbstractKieMojo {
                     mfs,
                     targetDirectory.getPath()).write();
 
+            if (isAlphaNetworkCompilerEnabled(kieModule)) {
+                generateAlphaNetworks(kieModule, mfs, projectClassLoader, modelCompilerOutputPath);
+            }
+
             if (ExecModelMode.shouldDeleteFile(generateModel)) {
                 deleteDrlFiles();
             }
@@ -135,6 +144,52 @@ public class GenerateModelMojo extends AbstractKieMojo {
         getLog().info("DSL successfully generated");
     }
 
+    private boolean isAlphaNetworkCompilerEnabled(InternalKieModule kieModule) {
+        return Boolean.valueOf(kieModule.getKieModuleModel().getConfigurationProperty(KieContainerImpl.ALPHA_NETWORK_COMPILER_OPTION));
+    }
+
+    private void generateAlphaNetworks(InternalKieModule kieModule, MemoryFileSystem mfs, ClassLoader projectClassLoader, String modelCompilerOutputPath) throws MojoExecutionException {
+        getLog().info("Begin alpha network generation");
+
+        // the kie bases can be created only out of the compiled executable model
+        compileExecutableModel(mfs, projectClassLoader);
+
+        new AlphaNetworkWriter(
+                kieModule,
+                getAlphaNetworkPackageName(),
+                modelCompilerOutputPath,
+                targetDirectory.getPath(),
+                getLog()).write();
+    }
+
+    private void compileExecutableModel(MemoryFileSystem mfs, ClassLoader projectClassLoader) throws MojoExecutionException {
+        // the sources generated by the code generation build are compiled in the same file system, without building
+        // the whole project again; the project runtime isn't needed to create the kie bases
+        String projectRuntimeSource = CanonicalModelKieProject.PROJECT_RUNTIME_CLASS.replace('.', '/') + ".java";
+        MemoryFileSystem srcMfs = new MemoryFileSystem();
+        List<String> sources = new ArrayList<>();
+        for (String fileName : mfs.getFileNames()) {
+            if (fileName.endsWith(".java") && !fileName.equals(projectRuntimeSource)) {
+                String sourceName = "src/main/java/" + fileName;
+                srcMfs.write(sourceName, mfs.getBytes(fileName));
+                sources.add(sourceName);
+            }
+        }
+
+        CompilationResult result = JavaParserCompiler.getCompiler().compile(sources.toArray(new String[0]), srcMfs, mfs, projectClassLoader);
+        if (result.getErrors().length > 0) {
+            throw new MojoExecutionException("Unable to compile the executable model: " + Arrays.toString(result.getErrors()));
+        }
+    }
+
+    private String getAlphaNetworkPackageName() {
+        StringBuilder packageName = new StringBuilder();
+        for (String segment : project.getGroupId().split("\\.")) {
+            packageName.append(PrecompiledAlphaNetworks.toIdentifier(segment)).append('.');
+        }
+        return packageName.append(PrecompiledAlphaNetworks.toIdentifier(project.getArtifactId())).append(".alphanetworks").toString();
+    }
+
     private ClassLoader createProjectClassLoader() throws MojoExecutionException {
         try {
             List<InternalKieModule> kmoduleDeps = new ArrayList<>();